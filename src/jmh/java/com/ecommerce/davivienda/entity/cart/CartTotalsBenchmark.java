@@ -0,0 +1,88 @@
+package com.ecommerce.davivienda.entity.cart;
+
+import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.cart.CartItemMapper;
+import com.ecommerce.davivienda.mapper.cart.CartItemMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de los cálculos de totales del carrito.
+ * Mide {@link CartItem#calculateTotal()} por línea y {@link CartItemMapper#toCartSummaryDto(List)}
+ * sobre carritos de 1 a 500 líneas, mezclando productos con y sin IVA.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartTotalsBenchmark {
+
+    private static final BigDecimal[] IVA_RATES = {
+            BigDecimal.ZERO, new BigDecimal("5.00"), new BigDecimal("19.00")
+    };
+
+    @Param({"1", "10", "100", "500"})
+    private int lines;
+
+    private final CartItemMapper cartItemMapper = new CartItemMapperImpl();
+
+    private List<CartItem> cartItems;
+
+    /**
+     * Construye un carrito con {@code lines} productos distintos.
+     */
+    @Setup
+    public void setUp() {
+        Category category = Category.builder().categoriaId(1).nombre("Tecnología").build();
+        Cart cart = Cart.builder().carritoId(1).usuarioRolId(1).build();
+
+        cartItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Product product = Product.builder()
+                    .productoId(i + 1)
+                    .nombre("Producto " + i)
+                    .descripcion("Descripción del producto " + i)
+                    .valorUnitario(new BigDecimal(1_000 + (i * 137) % 250_000).setScale(2))
+                    .iva(IVA_RATES[i % IVA_RATES.length])
+                    .imagen("https://cdn.ecommerce.test/productos/" + i + ".png")
+                    .estadoProductoId(1)
+                    .categoria(category)
+                    .build();
+
+            cartItems.add(CartItem.builder()
+                    .productosCarritoId(i + 1)
+                    .cart(cart)
+                    .product(product)
+                    .cantidad(1 + i % 5)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void calculateTotal(Blackhole blackhole) {
+        for (CartItem item : cartItems) {
+            blackhole.consume(item.calculateTotal());
+        }
+    }
+
+    @Benchmark
+    public CartSummaryDto toCartSummaryDto() {
+        return cartItemMapper.toCartSummaryDto(cartItems);
+    }
+}
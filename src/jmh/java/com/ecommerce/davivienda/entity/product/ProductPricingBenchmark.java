@@ -0,0 +1,65 @@
+package com.ecommerce.davivienda.entity.product;
+
+import com.ecommerce.davivienda.mapper.product.ProductMapper;
+import com.ecommerce.davivienda.mapper.product.ProductMapperImpl;
+import com.ecommerce.davivienda.models.product.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del precio con IVA y del mapeo de productos a respuesta.
+ * El parámetro {@code iva} cubre el atajo sin IVA y el cálculo con división.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductPricingBenchmark {
+
+    @Param({"0.00", "19.00"})
+    private String iva;
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private Product product;
+
+    /**
+     * Construye un producto activo con categoría.
+     */
+    @Setup
+    public void setUp() {
+        product = Product.builder()
+                .productoId(42)
+                .nombre("Portátil 14 pulgadas")
+                .descripcion("Portátil de 14 pulgadas con 16 GB de RAM")
+                .valorUnitario(new BigDecimal("2499900.00"))
+                .iva(new BigDecimal(iva))
+                .imagen("https://cdn.ecommerce.test/productos/42.png")
+                .estadoProductoId(1)
+                .categoria(Category.builder().categoriaId(3).nombre("Tecnología").build())
+                .creationDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal getPrecioConIva() {
+        return product.getPrecioConIva();
+    }
+
+    @Benchmark
+    public ProductResponse toResponseDto() {
+        return productMapper.toResponseDto(product);
+    }
+}
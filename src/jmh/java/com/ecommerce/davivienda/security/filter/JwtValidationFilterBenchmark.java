@@ -0,0 +1,58 @@
+package com.ecommerce.davivienda.security.filter;
+
+import com.ecommerce.davivienda.security.response.AuthenticationResponseBuilder;
+import com.ecommerce.davivienda.security.token.JwtTokenExtractor;
+import com.ecommerce.davivienda.security.token.JwtTokenValidator;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la detección de endpoints públicos en {@link JwtValidationFilter}.
+ * Se evalúa en cada petición antes de validar el token: las URIs cubren un prefijo con
+ * wildcard, una coincidencia exacta y una ruta protegida que recorre toda la lista.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtValidationFilterBenchmark {
+
+    @Param({"/api/v1/auth/login", "/api/v1/products/list-active", "/api/v1/payments/history"})
+    private String requestUri;
+
+    private JwtValidationFilter filter;
+    private MockHttpServletRequest request;
+
+    /**
+     * Construye el filtro con sus componentes reales y un AuthenticationManager inerte.
+     */
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        filter = new JwtValidationFilter(
+                authentication -> authentication,
+                new JwtTokenExtractor(),
+                new JwtTokenValidator(objectMapper),
+                new AuthenticationResponseBuilder(new JsonUtils(objectMapper)));
+
+        request = new MockHttpServletRequest("GET", requestUri);
+    }
+
+    @Benchmark
+    public boolean shouldSkipValidation() {
+        return filter.shouldSkipValidation(request);
+    }
+}
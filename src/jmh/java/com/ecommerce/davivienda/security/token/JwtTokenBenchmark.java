@@ -0,0 +1,71 @@
+package com.ecommerce.davivienda.security.token;
+
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de generación, validación y extracción de authorities de tokens JWT.
+ * Usa las mismas implementaciones que la cadena de seguridad con un ObjectMapper por defecto.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private static final String USER_NAME = "cliente.benchmark@ecommerce.test";
+
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("Cliente"));
+
+    private JwtTokenGenerator tokenGenerator;
+    private JwtTokenValidator tokenValidator;
+    private String token;
+    private Claims claims;
+
+    /**
+     * Genera un token válido y sus claims para los benchmarks de lectura.
+     *
+     * @throws Exception si falla la generación del token
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        tokenGenerator = new JwtTokenGenerator(new JsonUtils(objectMapper));
+        tokenValidator = new JwtTokenValidator(objectMapper);
+
+        token = tokenGenerator.generateToken(USER_NAME, authorities);
+        claims = tokenValidator.validateAndParseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() throws Exception {
+        return tokenGenerator.generateToken(USER_NAME, authorities);
+    }
+
+    @Benchmark
+    public Claims validateAndParseToken() {
+        return tokenValidator.validateAndParseToken(token);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> extractAuthorities() throws IOException {
+        return tokenValidator.extractAuthorities(claims);
+    }
+}
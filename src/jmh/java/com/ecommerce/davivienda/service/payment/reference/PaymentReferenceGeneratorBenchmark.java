@@ -0,0 +1,126 @@
+package com.ecommerce.davivienda.service.payment.reference;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark de {@link PaymentReferenceGenerator} frente a UUID aleatorios: costo de generación y
+ * páginas hoja de un índice B-tree simulado al insertar las claves (contadores {@code pages} y
+ * {@code splits}; el llenado es claves / (pages × capacidad de página)).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentReferenceGeneratorBenchmark {
+
+    private static final int INDEX_KEYS = 100_000;
+    private static final int PAGE_CAPACITY = 128;
+
+    @Param({"snowflake", "uuid"})
+    private String keyType;
+
+    private Supplier<String> keys;
+
+    /**
+     * Prepara el generador de claves del tipo indicado.
+     */
+    @Setup
+    public void setUp() {
+        PaymentReferenceGenerator generator = new PaymentReferenceGenerator(3, System::currentTimeMillis);
+        keys = "snowflake".equals(keyType)
+                ? generator::nextReference
+                : () -> UUID.randomUUID().toString().toUpperCase();
+    }
+
+    @Benchmark
+    public String nextKey() {
+        return keys.get();
+    }
+
+    /**
+     * Inserta {@value #INDEX_KEYS} claves en el índice simulado y reporta su tamaño final.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int fillIndex(IndexCounters counters) {
+        SimulatedIndex index = new SimulatedIndex();
+        for (int i = 0; i < INDEX_KEYS; i++) {
+            index.insert(keys.get());
+        }
+        counters.record(index);
+        return index.pages.size();
+    }
+
+    /**
+     * Contadores auxiliares que JMH agrega al resultado de {@link #fillIndex(IndexCounters)}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexCounters {
+
+        public long pages;
+        public long splits;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pages = 0;
+            splits = 0;
+        }
+
+        private void record(SimulatedIndex index) {
+            pages = index.pages.size();
+            splits = index.splits;
+        }
+    }
+
+    /**
+     * Páginas hoja de un índice B-tree: división 50/50, salvo inserción en el extremo derecho,
+     * donde (como PostgreSQL) la página izquierda queda llena y se abre una nueva.
+     */
+    private static final class SimulatedIndex {
+
+        private final TreeMap<String, List<String>> pages = new TreeMap<>();
+        private int splits;
+
+        private SimulatedIndex() {
+            pages.put("", new ArrayList<>());
+        }
+
+        private void insert(String key) {
+            Map.Entry<String, List<String>> entry = pages.floorEntry(key);
+            List<String> page = entry.getValue();
+            int position = -Collections.binarySearch(page, key) - 1;
+            page.add(position, key);
+
+            if (page.size() > PAGE_CAPACITY) {
+                splits++;
+                boolean rightmost = entry.getKey().equals(pages.lastKey()) && position == page.size() - 1;
+                int splitAt = rightmost ? page.size() - 1 : page.size() / 2;
+                List<String> right = new ArrayList<>(page.subList(splitAt, page.size()));
+                page.subList(splitAt, page.size()).clear();
+                pages.put(right.get(0), right);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.davivienda.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link Base64DecryptionService} con cargas del tamaño de una contraseña
+ * y de un documento pequeño.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Base64DecryptionServiceBenchmark {
+
+    @Param({"16", "1024"})
+    private int length;
+
+    private final Base64DecryptionService service = new Base64DecryptionService();
+
+    private String plain;
+    private String encoded;
+
+    /**
+     * Prepara un texto de {@code length} caracteres y su versión codificada.
+     */
+    @Setup
+    public void setUp() {
+        plain = "Clave#2024-ñ".repeat(length / 12 + 1).substring(0, length);
+        encoded = service.encrypt(plain);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return service.decrypt(encoded);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return service.encrypt(plain);
+    }
+
+    @Benchmark
+    public boolean isValidBase64() {
+        return service.isValidBase64(encoded);
+    }
+}
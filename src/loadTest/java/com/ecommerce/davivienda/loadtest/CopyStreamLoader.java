@@ -0,0 +1,212 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga filas con {@code COPY ... FROM STDIN} en varios flujos paralelos, cada uno con su conexión
+ * y su transacción.
+ *
+ * <p>El rango de elementos se parte en bloques de tamaño fijo que se reparten entre los flujos;
+ * como el contenido de cada fila depende solo de su índice, el resultado no depende del número de
+ * flujos ni del orden en que terminan. Un bloque fallido no revierte los ya confirmados: la carga
+ * se repite sobre una base recién creada.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CopyStreamLoader {
+
+    private static final int CHUNK_ITEMS = 50_000;
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private final DataSource dataSource;
+    private final String schema;
+    private final int streams;
+
+    /**
+     * Escribe las filas de un elemento (una o varias, o ninguna).
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+
+        /**
+         * @param item Índice del elemento, de 0 a items - 1
+         * @param out Filas de COPY en curso
+         */
+        void write(int item, CopyRows out);
+    }
+
+    /**
+     * Carga una tabla.
+     *
+     * @param table Tabla destino
+     * @param columns Columnas en el orden en que el writer las escribe
+     * @param items Número de elementos
+     * @param writer Escritor de filas por elemento
+     * @return Filas cargadas
+     * @throws SQLException si falla algún bloque
+     */
+    public long load(String table, String columns, int items, RowWriter writer) throws SQLException {
+        long startedAt = System.nanoTime();
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN";
+        ExecutorService executor = Executors.newFixedThreadPool(streams);
+        long rows = 0;
+
+        try {
+            List<Future<Long>> chunks = new ArrayList<>();
+            for (int from = 0; from < items; from += CHUNK_ITEMS) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(items, from + CHUNK_ITEMS);
+                chunks.add(executor.submit(() -> copyChunk(sql, chunkFrom, chunkTo, writer)));
+            }
+            for (Future<Long> chunk : chunks) {
+                rows += chunk.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException("Falló la carga de " + table, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga de " + table + " interrumpida", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("{}: {} filas en {} ms ({} flujos)", table, rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), streams);
+        return rows;
+    }
+
+    private long copyChunk(String sql, int from, int to, RowWriter writer) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET search_path TO " + schema);
+            }
+
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            CopyRows out = new CopyRows();
+            try {
+                for (int item = from; item < to; item++) {
+                    writer.write(item, out);
+                    if (out.buffer.length() >= FLUSH_CHARS) {
+                        out.flushTo(copy);
+                    }
+                }
+                out.flushTo(copy);
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+            connection.commit();
+            return out.rows;
+        }
+    }
+
+    /**
+     * Filas en formato texto de COPY: campos separados por tabulador, {@code \N} para null.
+     */
+    public static final class CopyRows {
+
+        private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+        private boolean firstField = true;
+        private long rows;
+
+        public CopyRows add(long value) {
+            separator().append(value);
+            return this;
+        }
+
+        public CopyRows add(BigDecimal value) {
+            separator().append(value.toPlainString());
+            return this;
+        }
+
+        public CopyRows add(LocalDate value) {
+            separator().append(value);
+            return this;
+        }
+
+        public CopyRows add(LocalDateTime value) {
+            TIMESTAMP.formatTo(value, separator());
+            return this;
+        }
+
+        public CopyRows add(String value) {
+            if (value == null) {
+                return addNull();
+            }
+            StringBuilder field = separator();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> field.append("\\\\");
+                    case '\t' -> field.append("\\t");
+                    case '\n' -> field.append("\\n");
+                    case '\r' -> field.append("\\r");
+                    default -> field.append(c);
+                }
+            }
+            return this;
+        }
+
+        public CopyRows addNull() {
+            separator().append("\\N");
+            return this;
+        }
+
+        /**
+         * Termina la fila en curso.
+         */
+        public void endRow() {
+            buffer.append('\n');
+            firstField = true;
+            rows++;
+        }
+
+        private StringBuilder separator() {
+            if (!firstField) {
+                buffer.append('\t');
+            }
+            firstField = false;
+            return buffer;
+        }
+
+        private void flushTo(CopyIn copy) throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Volúmenes predefinidos de datos sintéticos. Cada valor se puede sobrescribir con su
+ * propiedad {@code loadtest.*} (products, users, carts, ...).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DataPreset {
+
+    /**
+     * Segundos de carga; el valor por defecto de la prueba de carga.
+     */
+    SMALL("small", 20, 2_000, 1_000, 1_000, 3_000, 500),
+
+    /**
+     * Unos minutos de carga; suficiente para que aparezcan planes con índices.
+     */
+    MEDIUM("medium", 100, 100_000, 500_000, 400_000, 1_000_000, 300_000),
+
+    /**
+     * Volumen de producción: 1M productos, 5M clientes, 10M líneas de carrito y 3M pagos.
+     */
+    PROD_LIKE("prod-like", 500, 1_000_000, 5_000_000, 4_000_000, 10_000_000, 3_000_000);
+
+    private final String key;
+    private final int categories;
+    private final int products;
+    private final int users;
+    private final int carts;
+    private final int cartLines;
+    private final int payments;
+
+    /**
+     * Busca un preset por su clave.
+     *
+     * @param key Clave (small, medium, prod-like)
+     * @return Preset
+     * @throws IllegalArgumentException si la clave no existe
+     */
+    public static DataPreset fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(preset -> preset.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Preset de datos desconocido: " + key));
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.davivienda.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * PostgreSQL embebido (binarios reales, sin Docker) con el esquema {@code ecommerce}
+ * creado desde {@code db/init-ecommerce.sql}, igual que en un ambiente desplegado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public class EmbeddedDatabase implements AutoCloseable {
+
+    private static final String SCHEMA = "ecommerce";
+    private static final String DATABASE = "postgres";
+    private static final String USERNAME = "postgres";
+    private static final String INIT_SCRIPT = "db/init-ecommerce.sql";
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    /**
+     * Inicia PostgreSQL en un puerto libre y crea el esquema de la aplicación.
+     *
+     * @return Base de datos lista para sembrar datos
+     * @throws IOException si no se puede iniciar PostgreSQL o leer el script
+     * @throws SQLException si falla el script de inicialización
+     */
+    public static EmbeddedDatabase start() throws IOException, SQLException {
+        long startedAt = System.currentTimeMillis();
+        EmbeddedDatabase database = new EmbeddedDatabase(EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .start());
+
+        database.runInitScript();
+        log.info("PostgreSQL embebido listo en {} ({} ms)", database.getJdbcUrl(),
+                System.currentTimeMillis() - startedAt);
+        return database;
+    }
+
+    /**
+     * URL JDBC con el esquema de la aplicación en el search_path.
+     *
+     * @return URL JDBC
+     */
+    public String getJdbcUrl() {
+        return postgres.getJdbcUrl(USERNAME, DATABASE) + "&currentSchema=" + SCHEMA;
+    }
+
+    /**
+     * Usuario de conexión.
+     *
+     * @return Usuario
+     */
+    public String getUsername() {
+        return USERNAME;
+    }
+
+    /**
+     * DataSource sin pool para la siembra de datos.
+     *
+     * @return DataSource
+     */
+    public DataSource getDataSource() {
+        return postgres.getDatabase(USERNAME, DATABASE);
+    }
+
+    private void runInitScript() throws IOException, SQLException {
+        String script = readClasspathResource(INIT_SCRIPT);
+
+        try (Connection connection = getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute(script);
+        }
+    }
+
+    private static String readClasspathResource(String path) throws IOException {
+        try (InputStream input = EmbeddedDatabase.class.getClassLoader().getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IOException("No se encontró " + path + " en el classpath");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,211 @@
+package com.ecommerce.davivienda.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula latencias (HdrHistogram, resolución de microsegundos) y errores por endpoint y por escenario.
+ * La latencia del escenario se mide desde su instante de llegada programado, por lo que incluye
+ * la espera cuando el sistema no da abasto (sin omisión coordinada).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Series> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Series> scenarios = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Registra una petición HTTP.
+     *
+     * @param endpoint Método y ruta plantilla (ej: "GET /api/v1/products/get-by-id/{id}")
+     * @param nanos Duración de la petición
+     * @param success Si la respuesta fue 2xx
+     */
+    public void recordRequest(String endpoint, long nanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, key -> new Series()).record(nanos, success);
+    }
+
+    /**
+     * Registra un escenario completo.
+     *
+     * @param scenario Escenario
+     * @param nanos Duración desde la llegada programada
+     * @param success Si todas sus peticiones fueron exitosas
+     */
+    public void recordScenario(Scenario scenario, long nanos, boolean success) {
+        scenarios.computeIfAbsent(scenario.getKey(), key -> new Series()).record(nanos, success);
+    }
+
+    /**
+     * Registra una llegada descartada por superar el máximo de escenarios simultáneos.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Descarta lo medido hasta ahora (fin del calentamiento).
+     */
+    public void reset() {
+        endpoints.values().forEach(Series::reset);
+        scenarios.values().forEach(Series::reset);
+        dropped.reset();
+    }
+
+    /**
+     * Cierra la ventana medida y calcula las estadísticas.
+     *
+     * @param elapsedNanos Duración real de la ventana medida
+     * @return Resumen de la ejecución
+     */
+    public Summary summarize(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000d;
+        return Summary.builder()
+                .durationSeconds(seconds)
+                .droppedArrivals(dropped.sum())
+                .endpoints(toStats(endpoints, seconds))
+                .scenarios(toStats(scenarios, seconds))
+                .build();
+    }
+
+    /**
+     * Imprime la tabla de resultados y escribe el reporte JSON.
+     *
+     * @param summary Resumen de la ejecución
+     * @param properties Configuración usada
+     * @throws IOException si no se puede escribir el reporte
+     */
+    public void publish(Summary summary, LoadTestProperties properties) throws IOException {
+        StringBuilder table = new StringBuilder(System.lineSeparator());
+        table.append(String.format("%-58s %8s %7s %9s %9s %9s %9s %9s%n",
+                "ENDPOINT / ESCENARIO", "REQ", "ERR", "REQ/S", "P50 ms", "P95 ms", "P99 ms", "MAX ms"));
+        summary.getEndpoints().forEach(stats -> appendRow(table, stats));
+        table.append(System.lineSeparator());
+        summary.getScenarios().forEach(stats -> appendRow(table, stats));
+        table.append(String.format("%nLlegadas descartadas (max-in-flight): %d%n", summary.getDroppedArrivals()));
+        log.info(table.toString());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("virtualThreads", properties.isVirtualThreads());
+        report.put("dbPoolSize", properties.getDbPoolSize());
+        report.put("seed", properties.getSeed());
+        report.put("preset", properties.getPreset().getKey());
+        report.put("rate", properties.getRate());
+        report.put("weights", properties.getWeights());
+        report.put("products", properties.getProducts());
+        report.put("users", properties.getUsers());
+        report.put("summary", summary);
+
+        Path reportFile = properties.getReportFile();
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        log.info("Reporte JSON escrito en {}", reportFile.toAbsolutePath());
+    }
+
+    private static void appendRow(StringBuilder table, Stats stats) {
+        table.append(String.format("%-58s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                stats.getName(), stats.getCount(), stats.getErrors(), stats.getThroughput(),
+                stats.getP50Ms(), stats.getP95Ms(), stats.getP99Ms(), stats.getMaxMs()));
+    }
+
+    private static List<Stats> toStats(Map<String, Series> series, double seconds) {
+        List<Stats> stats = new ArrayList<>();
+        series.forEach((name, values) -> {
+            Histogram histogram = values.recorder.getIntervalHistogram();
+            long errors = values.errors.sumThenReset();
+            stats.add(Stats.builder()
+                    .name(name)
+                    .count(histogram.getTotalCount())
+                    .errors(errors)
+                    .throughput(histogram.getTotalCount() / seconds)
+                    .p50Ms(toMillis(histogram.getValueAtPercentile(50)))
+                    .p95Ms(toMillis(histogram.getValueAtPercentile(95)))
+                    .p99Ms(toMillis(histogram.getValueAtPercentile(99)))
+                    .maxMs(toMillis(histogram.getMaxValue()))
+                    .build());
+        });
+        stats.sort(Comparator.comparing(Stats::getName));
+        return stats;
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000d;
+    }
+
+    /**
+     * Serie de latencias y errores. El Recorder permite grabar desde muchos hilos sin bloqueo.
+     */
+    private static final class Series {
+
+        private final Recorder recorder = new Recorder(MAX_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long nanos, boolean success) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        private void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+
+    /**
+     * Resumen de una ejecución.
+     */
+    @Getter
+    @Builder
+    public static class Summary {
+
+        private final double durationSeconds;
+        private final long droppedArrivals;
+        private final List<Stats> endpoints;
+        private final List<Stats> scenarios;
+    }
+
+    /**
+     * Estadísticas de un endpoint o escenario.
+     */
+    @Getter
+    @Builder
+    public static class Stats {
+
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final double throughput;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final double maxMs;
+    }
+}
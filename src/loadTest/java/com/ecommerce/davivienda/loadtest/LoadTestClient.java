@@ -0,0 +1,168 @@
+package com.ecommerce.davivienda.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP de la prueba de carga. Cada petición se registra en {@link LatencyReport}
+ * con su ruta plantilla, de modo que los ids concretos no fragmenten las estadísticas.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String CONTENT_TYPE_JSON = "application/json";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final LatencyReport report;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param baseUrl URL base de la aplicación (ej: http://localhost:8080)
+     * @param report Reporte donde se registran las peticiones
+     */
+    public LoadTestClient(String baseUrl, LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.report = report;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Inicia sesión y retorna el token JWT.
+     *
+     * @param email Correo del cliente
+     * @param password Contraseña
+     * @return Token JWT
+     * @throws IOException si el login falla
+     */
+    public String login(String email, String password) throws IOException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+        Result result = post("POST /api/v1/auth/login", "/api/v1/auth/login", null, body, Map.of());
+        if (!result.isSuccess()) {
+            throw new IOException("Login fallido para " + email + ": HTTP " + result.getStatus());
+        }
+        return objectMapper.readTree(result.getBody()).path("token").asText();
+    }
+
+    /**
+     * Ejecuta un GET.
+     *
+     * @param endpoint Ruta plantilla para el reporte
+     * @param path Ruta concreta con query string
+     * @param token Token JWT o null
+     * @return Resultado de la petición
+     */
+    public Result get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    /**
+     * Ejecuta un POST con cuerpo JSON.
+     *
+     * @param endpoint Ruta plantilla para el reporte
+     * @param path Ruta concreta
+     * @param token Token JWT o null
+     * @param json Cuerpo JSON
+     * @param headers Headers adicionales
+     * @return Resultado de la petición
+     */
+    public Result post(String endpoint, String path, String token, String json, Map<String, String> headers) {
+        HttpRequest.Builder builder = request(path, token)
+                .header("Content-Type", CONTENT_TYPE_JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        headers.forEach(builder::header);
+        return send(endpoint, builder.build());
+    }
+
+    /**
+     * Serializa un objeto a JSON.
+     *
+     * @param value Objeto
+     * @return JSON
+     */
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo serializar el cuerpo de la petición", e);
+        }
+    }
+
+    /**
+     * Parsea un cuerpo JSON.
+     *
+     * @param json JSON
+     * @return Árbol JSON, vacío si no es válido
+     */
+    public JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", CONTENT_TYPE_JSON);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Result send(String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            report.recordRequest(endpoint, System.nanoTime() - startedAt, success);
+            if (!success) {
+                log.debug("{} -> HTTP {}: {}", endpoint, response.statusCode(), response.body());
+            }
+            return new Result(response.statusCode(), response.body());
+        } catch (IOException e) {
+            report.recordRequest(endpoint, System.nanoTime() - startedAt, false);
+            log.debug("{} -> {}", endpoint, e.getMessage());
+            return new Result(0, "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(0, "");
+        }
+    }
+
+    /**
+     * Resultado de una petición; status 0 indica error de red.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+
+        private final int status;
+        private final String body;
+
+        public boolean isSuccess() {
+            return status / 100 == 2;
+        }
+    }
+}
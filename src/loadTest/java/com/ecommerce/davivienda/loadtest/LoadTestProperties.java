@@ -0,0 +1,198 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parámetros de una ejecución de carga.
+ * Se leen de propiedades del sistema {@code loadtest.*}; las tareas Gradle {@code loadTest} y
+ * {@code syntheticData} reenvían las propiedades {@code -Ploadtest.*}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class LoadTestProperties {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String DEFAULT_WEIGHTS = "browse:45,search:25,cart:15,stock:10,pay:5";
+
+    /**
+     * Semilla del generador de datos y de la selección de escenarios.
+     */
+    private final long seed;
+
+    /**
+     * Volúmenes por defecto de los datos sintéticos (small, medium, prod-like).
+     */
+    private final DataPreset preset;
+
+    /**
+     * Productos sintéticos a generar.
+     */
+    private final int products;
+
+    /**
+     * Categorías sintéticas adicionales a las del script de inicialización.
+     */
+    private final int categories;
+
+    /**
+     * Clientes sintéticos, con credenciales y rol Cliente.
+     */
+    private final int users;
+
+    /**
+     * Clientes que inician sesión una vez y se reutilizan en los escenarios (los primeros generados).
+     */
+    private final int sessions;
+
+    /**
+     * Carritos sintéticos; los primeros {@code payments} están pagados y el resto activos.
+     */
+    private final int carts;
+
+    /**
+     * Líneas de carrito objetivo en total; el resultado es aproximado (tamaño al azar por carrito).
+     */
+    private final int cartLines;
+
+    /**
+     * Pagos sintéticos, uno por carrito pagado.
+     */
+    private final int payments;
+
+    /**
+     * Meses anteriores al mes en curso en que se reparten los pagos.
+     */
+    private final int paymentMonths;
+
+    /**
+     * Flujos COPY paralelos de la carga de datos sintéticos.
+     */
+    private final int copyStreams;
+
+    /**
+     * Base destino de {@link SyntheticDataRunner}; la prueba de carga usa PostgreSQL embebido.
+     */
+    private final String jdbcUrl;
+
+    /**
+     * Usuario de {@link #jdbcUrl}.
+     */
+    private final String jdbcUsername;
+
+    /**
+     * Contraseña de {@link #jdbcUrl}.
+     */
+    private final String jdbcPassword;
+
+    /**
+     * Escenarios iniciados por segundo (modelo abierto).
+     */
+    private final int rate;
+
+    /**
+     * Duración de la ventana medida en segundos.
+     */
+    private final int durationSeconds;
+
+    /**
+     * Calentamiento previo en segundos; sus mediciones se descartan.
+     */
+    private final int warmupSeconds;
+
+    /**
+     * Escenarios simultáneos máximos; las llegadas por encima se cuentan como descartadas.
+     */
+    private final int maxInFlight;
+
+    /**
+     * Peso relativo de cada escenario.
+     */
+    private final Map<Scenario, Integer> weights;
+
+    /**
+     * Archivo del reporte JSON.
+     */
+    private final Path reportFile;
+
+    /**
+     * Si la aplicación arranca con el perfil virtual-threads (hilos virtuales) o con hilos de plataforma.
+     */
+    private final boolean virtualThreads;
+
+    /**
+     * Conexiones del pool de Hikari (mínimo y máximo), iguales en ambos modos para comparar.
+     */
+    private final int dbPoolSize;
+
+    /**
+     * Si se inicia una segunda instancia embebida como réplica de lectura (datasource.replica).
+     * Se siembra con la misma semilla; las escrituras de la prueba no se replican.
+     */
+    private final boolean replica;
+
+    /**
+     * Construye la configuración desde propiedades del sistema.
+     *
+     * @return Configuración con valores por defecto para las propiedades ausentes
+     */
+    public static LoadTestProperties fromSystemProperties() {
+        DataPreset preset = DataPreset.fromKey(property("preset", DataPreset.SMALL.getKey()));
+        return LoadTestProperties.builder()
+                .seed(Long.parseLong(property("seed", "42")))
+                .preset(preset)
+                .products(Integer.parseInt(property("products", String.valueOf(preset.getProducts()))))
+                .categories(Integer.parseInt(property("categories", String.valueOf(preset.getCategories()))))
+                .users(Integer.parseInt(property("users", String.valueOf(preset.getUsers()))))
+                .sessions(Integer.parseInt(property("sessions", "200")))
+                .carts(Integer.parseInt(property("carts", String.valueOf(preset.getCarts()))))
+                .cartLines(Integer.parseInt(property("cart-lines", String.valueOf(preset.getCartLines()))))
+                .payments(Integer.parseInt(property("payments", String.valueOf(preset.getPayments()))))
+                .paymentMonths(Integer.parseInt(property("payment-months", "12")))
+                .copyStreams(Integer.parseInt(property("copy-streams",
+                        String.valueOf(Math.min(4, Runtime.getRuntime().availableProcessors())))))
+                .jdbcUrl(property("jdbc-url", null))
+                .jdbcUsername(property("jdbc-username", "postgres"))
+                .jdbcPassword(property("jdbc-password", ""))
+                .rate(Integer.parseInt(property("rate", "50")))
+                .durationSeconds(Integer.parseInt(property("duration-seconds", "60")))
+                .warmupSeconds(Integer.parseInt(property("warmup-seconds", "10")))
+                .maxInFlight(Integer.parseInt(property("max-in-flight", "500")))
+                .weights(parseWeights(property("weights", DEFAULT_WEIGHTS)))
+                .reportFile(Path.of(property("report-file", "build/reports/loadtest/report.json")))
+                .virtualThreads(Boolean.parseBoolean(property("virtual-threads", "false")))
+                .dbPoolSize(Integer.parseInt(property("db-pool-size", "10")))
+                .replica(Boolean.parseBoolean(property("replica", "false")))
+                .build();
+    }
+
+    /**
+     * Parsea pesos con formato {@code escenario:peso,...}; los escenarios omitidos quedan en 0.
+     *
+     * @param value Pesos en texto
+     * @return Pesos por escenario
+     */
+    static Map<Scenario, Integer> parseWeights(String value) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Peso inválido: '" + entry + "' (formato escenario:peso)");
+            }
+            weights.put(Scenario.fromKey(parts[0].trim().toLowerCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
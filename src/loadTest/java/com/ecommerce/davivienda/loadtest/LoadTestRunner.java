@@ -0,0 +1,161 @@
+package com.ecommerce.davivienda.loadtest;
+
+import com.ecommerce.davivienda.DaviviendaApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Punto de entrada de la prueba de carga.
+ * Inicia PostgreSQL embebido, siembra datos sintéticos, levanta la aplicación con el perfil
+ * {@code loadtest} y reproduce escenarios ponderados a una tasa fija (modelo abierto): cada
+ * llegada se atiende en su propio hilo virtual, sin esperar a que termine la anterior.
+ *
+ * <p>Ejecución: {@code ./gradlew loadTest -Ploadtest.rate=100 -Ploadtest.duration-seconds=120}</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             EmbeddedDatabase replica = properties.isReplica() ? EmbeddedDatabase.start() : null) {
+            SyntheticDataSet dataSet = new SyntheticDataGenerator(database.getDataSource(), properties).generate();
+            if (replica != null) {
+                new SyntheticDataGenerator(replica.getDataSource(), properties).generate();
+            }
+
+            try (ConfigurableApplicationContext context = startApplication(database, replica, properties)) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                LatencyReport report = new LatencyReport();
+                LoadTestClient client = new LoadTestClient("http://localhost:" + port, report);
+
+                LinkedBlockingQueue<String> sessions = new LinkedBlockingQueue<>(login(client, dataSet));
+                ScenarioRunner scenarioRunner = new ScenarioRunner(client, dataSet, sessions);
+
+                if (properties.getWarmupSeconds() > 0) {
+                    log.info("Calentamiento: {} s a {} escenarios/s", properties.getWarmupSeconds(), properties.getRate());
+                    drive(scenarioRunner, report, properties, properties.getWarmupSeconds(), properties.getSeed() + 1);
+                }
+                report.reset();
+
+                log.info("Medición: {} s a {} escenarios/s, pesos {}", properties.getDurationSeconds(),
+                        properties.getRate(), properties.getWeights());
+                long elapsed = drive(scenarioRunner, report, properties, properties.getDurationSeconds(),
+                        properties.getSeed());
+                report.publish(report.summarize(elapsed), properties);
+            }
+        }
+    }
+
+    /**
+     * Levanta la aplicación; los argumentos de línea de comandos tienen prioridad sobre application.yml.
+     */
+    private static ConfigurableApplicationContext startApplication(EmbeddedDatabase database,
+                                                                   EmbeddedDatabase replica,
+                                                                   LoadTestProperties properties) {
+        String[] profiles = properties.isVirtualThreads()
+                ? new String[]{"loadtest", "virtual-threads"}
+                : new String[]{"loadtest"};
+        log.info("Modo de hilos: {}", properties.isVirtualThreads() ? "virtuales" : "plataforma");
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + database.getJdbcUrl(),
+                "--spring.datasource.username=" + database.getUsername(),
+                "--spring.datasource.password=" + database.getUsername(),
+                "--spring.datasource.hikari.maximum-pool-size=" + properties.getDbPoolSize(),
+                "--spring.datasource.hikari.minimum-idle=" + properties.getDbPoolSize(),
+                "--server.port=0"));
+        if (replica != null) {
+            log.info("Réplica de lectura embebida en {}", replica.getJdbcUrl());
+            args.addAll(List.of(
+                    "--datasource.replica.enabled=true",
+                    "--datasource.replica.url=" + replica.getJdbcUrl(),
+                    "--datasource.replica.username=" + replica.getUsername(),
+                    "--datasource.replica.password=" + replica.getUsername(),
+                    "--datasource.replica.maximum-pool-size=" + properties.getDbPoolSize(),
+                    "--datasource.replica.minimum-idle=" + properties.getDbPoolSize()));
+        }
+
+        return new SpringApplicationBuilder(DaviviendaApplication.class)
+                .profiles(profiles)
+                .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Inicia sesión con todos los clientes en paralelo (BCrypt domina el costo del login).
+     */
+    private static List<String> login(LoadTestClient client, SyntheticDataSet dataSet) throws Exception {
+        long startedAt = System.currentTimeMillis();
+        List<String> tokens = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> logins = new ArrayList<>();
+            for (String email : dataSet.getUserEmails()) {
+                logins.add(executor.submit(() -> client.login(email, dataSet.getPassword())));
+            }
+            for (Future<String> login : logins) {
+                tokens.add(login.get());
+            }
+        }
+        log.info("{} sesiones iniciadas en {} ms", tokens.size(), System.currentTimeMillis() - startedAt);
+        return tokens;
+    }
+
+    /**
+     * Genera llegadas a tasa fija durante la ventana y espera a que terminen los escenarios en curso.
+     *
+     * @return Duración real en nanosegundos
+     */
+    private static long drive(ScenarioRunner scenarioRunner, LatencyReport report, LoadTestProperties properties,
+                              int seconds, long seed) {
+        WeightedScenarioPicker picker = new WeightedScenarioPicker(properties.getWeights());
+        SplittableRandom arrivals = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRate();
+        long startedAt = System.nanoTime();
+        long endsAt = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduledAt = startedAt; scheduledAt < endsAt; scheduledAt += intervalNanos) {
+                LockSupport.parkNanos(scheduledAt - System.nanoTime());
+
+                Scenario scenario = picker.next(arrivals);
+                SplittableRandom random = arrivals.split();
+                if (!inFlight.tryAcquire()) {
+                    report.recordDropped();
+                    continue;
+                }
+
+                long arrival = scheduledAt;
+                executor.submit(() -> {
+                    try {
+                        boolean success = scenarioRunner.run(scenario, random);
+                        report.recordScenario(scenario, System.nanoTime() - arrival, success);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Escenarios de usuario reproducidos por la prueba de carga.
+ * Siguen los flujos de las colecciones Postman del directorio {@code postman/}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Scenario {
+
+    /**
+     * Categorías, una página del catálogo y el detalle de algunos productos.
+     */
+    BROWSE("browse"),
+
+    /**
+     * Búsqueda paginada por término y, a veces, por categoría.
+     */
+    SEARCH("search"),
+
+    /**
+     * Agrega un producto al carrito del cliente.
+     */
+    ADD_TO_CART("cart"),
+
+    /**
+     * Valida el stock del carrito del cliente.
+     */
+    VALIDATE_STOCK("stock"),
+
+    /**
+     * Agrega productos, valida stock y paga con tarjeta débito o crédito.
+     */
+    PAY("pay");
+
+    private final String key;
+
+    /**
+     * Busca un escenario por su clave corta.
+     *
+     * @param key Clave (browse, search, cart, stock, pay)
+     * @return Escenario
+     * @throws IllegalArgumentException si la clave no existe
+     */
+    public static Scenario fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Escenario desconocido: " + key));
+    }
+}
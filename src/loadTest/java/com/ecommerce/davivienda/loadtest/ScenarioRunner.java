@@ -0,0 +1,160 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.ecommerce.davivienda.constants.Constants.HEADER_IDEMPOTENCY_KEY;
+
+/**
+ * Ejecuta los escenarios contra la API. Los escenarios de catálogo son anónimos; los de carrito
+ * y pago toman en exclusiva la sesión de un cliente, de modo que dos escenarios simultáneos
+ * no compitan por el mismo carrito.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ScenarioRunner {
+
+    private static final long SESSION_WAIT_SECONDS = 5;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String GET_CATEGORIES = "GET /api/v1/categories/list-all";
+    private static final String GET_PRODUCTS_PAGE = "GET /api/v1/products/search/paginated";
+    private static final String GET_PRODUCTS_SEARCH = "GET /api/v1/products/search/paginated?searchTerm";
+    private static final String GET_PRODUCT = "GET /api/v1/products/get-by-id/{id}";
+    private static final String POST_CART_ADD = "POST /api/v1/cart-items/add";
+    private static final String GET_CART_SUMMARY = "GET /api/v1/cart-items/summary";
+    private static final String GET_STOCK_VALIDATE = "GET /api/v1/stock/validate";
+    private static final String POST_PAYMENT = "POST /api/v1/payments/process";
+
+    private final LoadTestClient client;
+    private final SyntheticDataSet dataSet;
+    private final BlockingQueue<String> sessionTokens;
+
+    /**
+     * Ejecuta un escenario.
+     *
+     * @param scenario Escenario a ejecutar
+     * @param random Aleatoriedad propia de esta llegada (derivada de la semilla)
+     * @return true si todas las peticiones fueron exitosas
+     */
+    public boolean run(Scenario scenario, SplittableRandom random) {
+        return switch (scenario) {
+            case BROWSE -> browse(random);
+            case SEARCH -> search(random);
+            case ADD_TO_CART -> withSession(token -> addToCart(token, random));
+            case VALIDATE_STOCK -> withSession(token ->
+                    client.get(GET_STOCK_VALIDATE, "/api/v1/stock/validate", token).isSuccess());
+            case PAY -> withSession(token -> pay(token, random));
+        };
+    }
+
+    private boolean browse(SplittableRandom random) {
+        boolean success = client.get(GET_CATEGORIES, "/api/v1/categories/list-all", null).isSuccess();
+
+        int pages = Math.max(1, dataSet.getActiveProductIds().size() / PAGE_SIZE);
+        success &= client.get(GET_PRODUCTS_PAGE, "/api/v1/products/search/paginated?active=true&size=" + PAGE_SIZE
+                + "&page=" + random.nextInt(pages), null).isSuccess();
+
+        int details = 1 + random.nextInt(3);
+        for (int i = 0; i < details; i++) {
+            success &= client.get(GET_PRODUCT, "/api/v1/products/get-by-id/" + randomProductId(random), null)
+                    .isSuccess();
+        }
+        return success;
+    }
+
+    private boolean search(SplittableRandom random) {
+        List<String> terms = dataSet.getSearchTerms();
+        StringBuilder path = new StringBuilder("/api/v1/products/search/paginated?active=true&size=")
+                .append(PAGE_SIZE)
+                .append("&searchTerm=")
+                .append(URLEncoder.encode(terms.get(random.nextInt(terms.size())), StandardCharsets.UTF_8));
+        if (random.nextInt(3) == 0) {
+            List<Integer> categoryIds = dataSet.getCategoryIds();
+            path.append("&categoryId=").append(categoryIds.get(random.nextInt(categoryIds.size())));
+        }
+        return client.get(GET_PRODUCTS_SEARCH, path.toString(), null).isSuccess();
+    }
+
+    private boolean addToCart(String token, SplittableRandom random) {
+        Map<String, Object> body = Map.of("productId", randomProductId(random), "quantity", 1 + random.nextInt(3));
+        return client.post(POST_CART_ADD, "/api/v1/cart-items/add", token, client.toJson(body), Map.of())
+                .isSuccess();
+    }
+
+    private boolean pay(String token, SplittableRandom random) {
+        boolean success = true;
+        int lines = 1 + random.nextInt(3);
+        for (int i = 0; i < lines; i++) {
+            success &= addToCart(token, random);
+        }
+        success &= client.get(GET_CART_SUMMARY, "/api/v1/cart-items/summary", token).isSuccess();
+        success &= client.get(GET_STOCK_VALIDATE, "/api/v1/stock/validate", token).isSuccess();
+
+        boolean credit = random.nextBoolean();
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("cardNumber", credit ? "5555555555554444" : "4111111111111111");
+        card.put("cardHolderName", "Cliente Prueba Carga");
+        card.put("expirationDate", "12/30");
+        card.put("cvv", "123");
+        card.put("paymentType", credit ? "credito" : "debito");
+        if (credit) {
+            card.put("installments", 1 + random.nextInt(12));
+        }
+        String encryptedCardData = Base64.getEncoder()
+                .encodeToString(client.toJson(card).getBytes(StandardCharsets.UTF_8));
+
+        success &= client.post(POST_PAYMENT, "/api/v1/payments/process", token,
+                client.toJson(Map.of("encryptedCardData", encryptedCardData)),
+                Map.of(HEADER_IDEMPOTENCY_KEY, UUID.randomUUID().toString())).isSuccess();
+        return success;
+    }
+
+    private int randomProductId(SplittableRandom random) {
+        List<Integer> productIds = dataSet.getActiveProductIds();
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    private boolean withSession(SessionAction action) {
+        String token;
+        try {
+            token = sessionTokens.poll(SESSION_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (token == null) {
+            log.debug("Sin sesiones libres tras {} s", SESSION_WAIT_SECONDS);
+            return false;
+        }
+
+        try {
+            return action.run(token);
+        } finally {
+            sessionTokens.offer(token);
+        }
+    }
+
+    /**
+     * Acción que se ejecuta con la sesión exclusiva de un cliente.
+     */
+    @FunctionalInterface
+    private interface SessionAction {
+
+        boolean run(String token);
+    }
+}
@@ -0,0 +1,654 @@
+package com.ecommerce.davivienda.loadtest;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.service.payment.reference.PaymentReferenceGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Siembra catálogo, stock, clientes, carritos y pagos sintéticos de forma determinista a partir
+ * de una semilla. Usa ids explícitos y ajusta las secuencias al final, de modo que Hibernate
+ * (pooled-lo) siga asignando ids sin colisiones.
+ *
+ * <p>Cada fila se calcula solo con la semilla y su índice ({@link #random(long, long)}), así la
+ * misma semilla produce los mismos datos con cualquier número de flujos de COPY. Las tablas se
+ * cargan en orden de FKs con {@link CopyStreamLoader}; la FK circular usuarios → usuario_rol se
+ * elimina durante la carga y se vuelve a crear (validada) al final.</p>
+ *
+ * <ul>
+ *   <li>Los primeros {@code sessions} clientes son los que inician sesión en la prueba de carga y
+ *       no reciben carritos sintéticos.</li>
+ *   <li>Los primeros {@code payments} carritos están pagados (estado Procesando) y pertenecen a
+ *       clientes al azar; los demás están activos, uno por cliente.</li>
+ *   <li>Los pagos se reparten en los {@code payment-months} meses anteriores al mes en curso, con
+ *       referencias en el formato de {@link PaymentReferenceGenerator}; los aprobados tienen sus
+ *       líneas en lineas_pedido.</li>
+ * </ul>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String SCHEMA = "ecommerce";
+    private static final String PASSWORD = "password123";
+    private static final int ROLE_CLIENT_ID = 2;
+    private static final int DOCUMENT_TYPE_CC_ID = 1;
+    private static final int STATUS_ACTIVE_ID = 1;
+    private static final int PRODUCT_STATUS_ACTIVE_ID = 1;
+    private static final int PRODUCT_STATUS_INACTIVE_ID = 2;
+    private static final int CART_STATUS_ACTIVE_ID = 1;
+    private static final int CART_STATUS_PROCESSING_ID = 2;
+    private static final int PAYMENT_STATUS_PENDING_ID = 1;
+    private static final int PAYMENT_STATUS_APPROVED_ID = 3;
+    private static final int PAYMENT_STATUS_REJECTED_ID = 4;
+    private static final String PAYMENT_TYPE_DEBIT = "debito";
+    private static final String PAYMENT_TYPE_CREDIT = "credito";
+    private static final int INITIAL_STOCK = 1_000_000;
+    private static final int REFERENCE_NODE_ID = 1023;
+    private static final int REFERENCE_SEQUENCE_MASK = 0xFFF;
+
+    private static final long PRODUCT_SALT = 1;
+    private static final long USER_SALT = 2;
+    private static final long CART_SALT = 3;
+    private static final long PAYMENT_SALT = 4;
+
+    private static final String[] NOUNS = {
+            "Portátil", "Audífonos", "Camiseta", "Chaqueta", "Licuadora", "Sartén", "Balón", "Bicicleta",
+            "Novela", "Cuaderno", "Monitor", "Teclado", "Zapatillas", "Lámpara", "Cafetera", "Mochila"
+    };
+    private static final String[] ADJECTIVES = {
+            "Pro", "Básico", "Premium", "Compacto", "Deportivo", "Clásico", "Inalámbrico", "Ecológico"
+    };
+    private static final String[] FIRST_NAMES = {
+            "María", "Juan", "Ana", "Carlos", "Laura", "Pedro", "Sofía", "Diego", "Valentina", "Andrés"
+    };
+    private static final String[] LAST_NAMES = {
+            "García", "Rodríguez", "Martínez", "López", "Fernández", "Sánchez", "Ramírez", "Torres"
+    };
+    private static final BigDecimal[] IVA_RATES = {
+            BigDecimal.ZERO, new BigDecimal("5.00"), new BigDecimal("19.00"), new BigDecimal("19.00")
+    };
+    private static final int[] INSTALLMENTS = {1, 3, 6, 12, 24, 36};
+
+    private final DataSource dataSource;
+    private final LoadTestProperties properties;
+
+    private List<Integer> categoryIds;
+    private int sessions;
+    private int maxExtraLines;
+    private int firstProductId;
+    private int firstStockId;
+    private int firstCredentialsId;
+    private int firstUserId;
+    private int firstUserRoleId;
+    private int firstCartId;
+    private int firstCartLineId;
+    private int firstReferenceId;
+    private int firstPaymentId;
+    private int firstDebitId;
+    private int firstCreditId;
+    private int firstOrderLineId;
+    private int[] activeProducts;
+    private int[] firstCartLine;
+    private int[] firstOrderLine;
+    private long windowStartMillis;
+    private long paymentSpacingMillis;
+    private LocalDateTime createdAt;
+    private String passwordHash;
+
+    /**
+     * Genera y carga los datos sintéticos.
+     *
+     * @return Datos que los escenarios necesitan
+     * @throws SQLException si falla la carga
+     */
+    public SyntheticDataSet generate() throws SQLException {
+        long startedAt = System.currentTimeMillis();
+        plan();
+        CopyStreamLoader loader = new CopyStreamLoader(dataSource, SCHEMA, properties.getCopyStreams());
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET search_path TO " + SCHEMA);
+            }
+            assignFirstIds(connection);
+            categoryIds = insertCategories(connection);
+            createPaymentPartitions(connection);
+            connection.commit();
+
+            loadCatalog(loader);
+            String[] userRoleForeignKey = dropUserRoleForeignKey(connection);
+            try {
+                loadUsers(loader);
+            } catch (SQLException | RuntimeException e) {
+                log.error("Carga de clientes fallida; la FK {} de usuarios queda sin restaurar", userRoleForeignKey[0]);
+                throw e;
+            }
+            restoreForeignKey(connection, userRoleForeignKey);
+            loadCarts(loader);
+            loadPayments(loader);
+
+            resetSequences(connection);
+            connection.commit();
+            analyze(connection);
+        }
+
+        log.info("Datos sintéticos (semilla {}): {} productos ({} activos), {} clientes, {} carritos "
+                        + "({} líneas), {} pagos en {} ms", properties.getSeed(), properties.getProducts(),
+                activeProducts.length, properties.getUsers(), properties.getCarts(),
+                firstCartLine[properties.getCarts()], properties.getPayments(),
+                System.currentTimeMillis() - startedAt);
+
+        List<Integer> activeProductIds = new ArrayList<>(activeProducts.length);
+        for (int product : activeProducts) {
+            activeProductIds.add(firstProductId + product);
+        }
+        List<String> userEmails = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            userEmails.add(email(i));
+        }
+        return SyntheticDataSet.builder()
+                .activeProductIds(activeProductIds)
+                .categoryIds(categoryIds)
+                .userEmails(userEmails)
+                .password(PASSWORD)
+                .searchTerms(List.of(NOUNS))
+                .build();
+    }
+
+    /**
+     * Valida los volúmenes y precalcula lo que las filas necesitan compartir: productos activos,
+     * líneas por carrito y ventana de pagos.
+     */
+    private void plan() {
+        int users = properties.getUsers();
+        int carts = properties.getCarts();
+        int payments = properties.getPayments();
+        sessions = Math.min(properties.getSessions(), users);
+
+        if (payments > carts) {
+            throw new IllegalArgumentException("Cada pago necesita su carrito: payments (" + payments
+                    + ") > carts (" + carts + ")");
+        }
+        if (carts - payments > users - sessions || (payments > 0 && users == sessions)) {
+            throw new IllegalArgumentException("Clientes insuficientes para " + (carts - payments)
+                    + " carritos activos sin usar los " + sessions + " clientes de sesión");
+        }
+
+        activeProducts = activeProducts();
+        if (carts > 0 && activeProducts.length == 0) {
+            throw new IllegalArgumentException("Los carritos necesitan productos activos");
+        }
+        double linesPerCart = carts == 0 ? 1 : (double) properties.getCartLines() / carts;
+        maxExtraLines = Math.min((int) Math.round(Math.max(0, 2 * (linesPerCart - 1))), activeProducts.length - 1);
+
+        firstCartLine = new int[carts + 1];
+        for (int c = 0; c < carts; c++) {
+            firstCartLine[c + 1] = firstCartLine[c] + cartLineCount(c);
+        }
+
+        LocalDate windowEnd = LocalDate.now().withDayOfMonth(1);
+        LocalDate windowStart = windowEnd.minusMonths(properties.getPaymentMonths());
+        windowStartMillis = epochMillis(windowStart.atStartOfDay());
+        paymentSpacingMillis = payments == 0 ? 1 : (epochMillis(windowEnd.atStartOfDay()) - windowStartMillis) / payments;
+        if (paymentSpacingMillis < 1) {
+            throw new IllegalArgumentException("Más de un pago por milisegundo; aumente payment-months");
+        }
+
+        firstOrderLine = new int[payments + 1];
+        for (int p = 0; p < payments; p++) {
+            int lines = payment(p).getStatusId() == PAYMENT_STATUS_APPROVED_ID ? cartLineCount(p) : 0;
+            firstOrderLine[p + 1] = firstOrderLine[p] + lines;
+        }
+
+        createdAt = LocalDateTime.now();
+        passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+    }
+
+    private void assignFirstIds(Connection connection) throws SQLException {
+        firstProductId = maxId(connection, "productos", "producto_id") + 1;
+        firstStockId = maxId(connection, "stock", "stock_id") + 1;
+        firstCredentialsId = maxId(connection, "credenciales", "credenciales_id") + 1;
+        firstUserId = maxId(connection, "usuarios", "usuario_id") + 1;
+        firstUserRoleId = maxId(connection, "usuario_rol", "usuario_rol_id") + 1;
+        firstCartId = maxId(connection, "carrito", "carrito_id") + 1;
+        firstCartLineId = maxId(connection, "productos_carrito", "productos_carrito_id") + 1;
+        firstReferenceId = maxId(connection, "referencias", "referencia_id") + 1;
+        firstPaymentId = maxId(connection, "pago", "pago_id") + 1;
+        firstDebitId = maxId(connection, "pago_debito", "pago_debito_id") + 1;
+        firstCreditId = maxId(connection, "pago_credito", "pago_credito_id") + 1;
+        firstOrderLineId = maxId(connection, "lineas_pedido", "linea_pedido_id") + 1;
+    }
+
+    private List<Integer> insertCategories(Connection connection) throws SQLException {
+        int firstId = maxId(connection, "categorias", "categoria_id") + 1;
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO categorias (categoria_id, nombre, descripcion) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < properties.getCategories(); i++) {
+                insert.setInt(1, firstId + i);
+                insert.setString(2, "Categoría " + (firstId + i));
+                insert.setString(3, "Categoría sintética de prueba de carga");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT categoria_id FROM categorias ORDER BY categoria_id")) {
+            while (rows.next()) {
+                ids.add(rows.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Crea las particiones mensuales de la ventana de pagos (las existentes se conservan).
+     */
+    private void createPaymentPartitions(Connection connection) throws SQLException {
+        if (properties.getPayments() == 0) {
+            return;
+        }
+        try (PreparedStatement partitions = connection.prepareStatement("SELECT crear_particiones_pago(?, ?)")) {
+            partitions.setObject(1, LocalDate.now().withDayOfMonth(1).minusMonths(properties.getPaymentMonths()));
+            partitions.setInt(2, properties.getPaymentMonths() + 1);
+            partitions.execute();
+        }
+    }
+
+    private void loadCatalog(CopyStreamLoader loader) throws SQLException {
+        loader.load("productos", "producto_id, nombre, estado_producto_id, categoria_id, valor_unitario, iva, "
+                + "imagen, descripcion, creation_date", properties.getProducts(), (i, out) -> {
+            SyntheticProduct product = product(i);
+            int productId = firstProductId + i;
+            out.add(productId)
+                    .add(product.getName())
+                    .add(product.isActive() ? PRODUCT_STATUS_ACTIVE_ID : PRODUCT_STATUS_INACTIVE_ID)
+                    .add(categoryIds.get(product.getCategorySlot() % categoryIds.size()))
+                    .add(product.getPrice())
+                    .add(product.getIva())
+                    .add("https://cdn.ecommerce.test/productos/" + productId + ".png")
+                    .add(product.getDescription())
+                    .add(createdAt)
+                    .endRow();
+        });
+        loader.load("stock", "stock_id, producto_id, cantidad", properties.getProducts(), (i, out) ->
+                out.add(firstStockId + i).add(firstProductId + i).add(INITIAL_STOCK).endRow());
+    }
+
+    private void loadUsers(CopyStreamLoader loader) throws SQLException {
+        loader.load("credenciales", "credenciales_id, correo, contrasena", properties.getUsers(), (i, out) ->
+                out.add(firstCredentialsId + i).add(email(i)).add(passwordHash).endRow());
+        loader.load("usuarios", "usuario_id, nombre, apellido, documento_id, numero_de_doc, credenciales_id, "
+                + "estado_usuario_id, usuario_rol_id, creation_date", properties.getUsers(), (i, out) -> {
+            SplittableRandom random = random(USER_SALT, i);
+            out.add(firstUserId + i)
+                    .add(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                    .add(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .add(DOCUMENT_TYPE_CC_ID)
+                    .add(String.valueOf(2_000_000_000L + i))
+                    .add(firstCredentialsId + i)
+                    .add(STATUS_ACTIVE_ID)
+                    .add(firstUserRoleId + i)
+                    .add(createdAt)
+                    .endRow();
+        });
+        loader.load("usuario_rol", "usuario_rol_id, usuario_id, rol_id", properties.getUsers(), (i, out) ->
+                out.add(firstUserRoleId + i).add(firstUserId + i).add(ROLE_CLIENT_ID).endRow());
+    }
+
+    private void loadCarts(CopyStreamLoader loader) throws SQLException {
+        loader.load("carrito", "carrito_id, usuario_rol_id, estado_carrito_id", properties.getCarts(), (c, out) ->
+                out.add(firstCartId + c)
+                        .add(firstUserRoleId + cartOwner(c))
+                        .add(c < properties.getPayments() ? CART_STATUS_PROCESSING_ID : CART_STATUS_ACTIVE_ID)
+                        .endRow());
+        loader.load("productos_carrito", "productos_carrito_id, carrito_id, producto_id, cantidad",
+                properties.getCarts(), (c, out) -> {
+                    SyntheticCart cart = cart(c);
+                    for (int line = 0; line < cart.getProducts().length; line++) {
+                        out.add(firstCartLineId + firstCartLine[c] + line)
+                                .add(firstCartId + c)
+                                .add(firstProductId + cart.getProducts()[line])
+                                .add(cart.getQuantities()[line])
+                                .endRow();
+                    }
+                });
+    }
+
+    private void loadPayments(CopyStreamLoader loader) throws SQLException {
+        int payments = properties.getPayments();
+        loader.load("referencias", "referencia_id, numero, fecha_pago", payments, (p, out) -> {
+            SyntheticPayment payment = payment(p);
+            out.add(firstReferenceId + p).add(payment.getReference()).add(payment.getDate()).endRow();
+        });
+        loader.load("pago", "pago_id, carrito_id, tipo_pago_id, fecha_pago, referencia_id, estado_pago_id",
+                payments, (p, out) -> {
+                    SyntheticPayment payment = payment(p);
+                    out.add(firstPaymentId + p)
+                            .add(firstCartId + p)
+                            .add(payment.getType())
+                            .add(payment.getDate())
+                            .add(firstReferenceId + p)
+                            .add(payment.getStatusId())
+                            .endRow();
+                });
+        loader.load("pago_debito", "pago_debito_id, pago_id, fecha_pago, fecha_vencimiento, nombre_titular, "
+                + "numero_tarjeta", payments, (p, out) -> {
+            SyntheticPayment payment = payment(p);
+            if (PAYMENT_TYPE_DEBIT.equals(payment.getType())) {
+                out.add(firstDebitId + p)
+                        .add(firstPaymentId + p)
+                        .add(payment.getDate())
+                        .add(payment.getExpirationDate())
+                        .add(encode(payment.getCardHolderName()))
+                        .add(encode(payment.getCardNumber()))
+                        .endRow();
+            }
+        });
+        loader.load("pago_credito", "pago_credito_id, pago_id, fecha_pago, numero_de_cuotas, nombre_titular, "
+                + "numero_tarjeta, fecha_vencimiento", payments, (p, out) -> {
+            SyntheticPayment payment = payment(p);
+            if (PAYMENT_TYPE_CREDIT.equals(payment.getType())) {
+                out.add(firstCreditId + p)
+                        .add(firstPaymentId + p)
+                        .add(payment.getDate())
+                        .add(payment.getInstallments())
+                        .add(encode(payment.getCardHolderName()))
+                        .add(encode(payment.getCardNumber()))
+                        .add(payment.getExpirationDate())
+                        .endRow();
+            }
+        });
+        loader.load("lineas_pedido", "linea_pedido_id, usuario_rol_id, pago_id, numero_referencia, tipo_pago_id, "
+                + "fecha_pago, producto_id, categoria_id, nombre_producto, cantidad, valor_unitario, iva, valor_iva, total",
+                payments, this::writeOrderLines);
+    }
+
+    /**
+     * Líneas de pedido de un pago aprobado, con los mismos cálculos de {@link CartItem} que usa el
+     * snapshot de la aplicación.
+     */
+    private void writeOrderLines(int p, CopyStreamLoader.CopyRows out) {
+        SyntheticPayment payment = payment(p);
+        if (payment.getStatusId() != PAYMENT_STATUS_APPROVED_ID) {
+            return;
+        }
+        SyntheticCart cart = cart(p);
+        for (int line = 0; line < cart.getProducts().length; line++) {
+            SyntheticProduct product = product(cart.getProducts()[line]);
+            CartItem item = CartItem.builder()
+                    .product(Product.builder().valorUnitario(product.getPrice()).iva(product.getIva()).build())
+                    .cantidad(cart.getQuantities()[line])
+                    .build();
+            out.add(firstOrderLineId + firstOrderLine[p] + line)
+                    .add(firstUserRoleId + cart.getOwner())
+                    .add(firstPaymentId + p)
+                    .add(payment.getReference())
+                    .add(payment.getType())
+                    .add(payment.getDate())
+                    .add(firstProductId + cart.getProducts()[line])
+                    .add(categoryIds.get(product.getCategorySlot() % categoryIds.size()))
+                    .add(product.getName())
+                    .add(item.getCantidad())
+                    .add(product.getPrice())
+                    .add(product.getIva())
+                    .add(item.calculateIvaAmount())
+                    .add(item.calculateTotal())
+                    .endRow();
+        }
+    }
+
+    private int[] activeProducts() {
+        int[] active = new int[properties.getProducts()];
+        int count = 0;
+        for (int i = 0; i < properties.getProducts(); i++) {
+            if (product(i).isActive()) {
+                active[count++] = i;
+            }
+        }
+        return Arrays.copyOf(active, count);
+    }
+
+    private SyntheticProduct product(int i) {
+        SplittableRandom random = random(PRODUCT_SALT, i);
+        String noun = NOUNS[random.nextInt(NOUNS.length)];
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        return new SyntheticProduct(
+                noun + " " + adjective + " " + (firstProductId + i),
+                "Producto sintético " + noun.toLowerCase() + " para pruebas de carga",
+                random.nextInt(10) != 0,
+                random.nextInt(Integer.MAX_VALUE),
+                randomPrice(random),
+                IVA_RATES[random.nextInt(IVA_RATES.length)]);
+    }
+
+    /**
+     * Log-uniforme entre 5.000 y 5.000.000: muchos productos baratos y pocos costosos.
+     */
+    private BigDecimal randomPrice(SplittableRandom random) {
+        double price = Math.exp(Math.log(5_000) + random.nextDouble() * (Math.log(5_000_000) - Math.log(5_000)));
+        return BigDecimal.valueOf(price).setScale(0, RoundingMode.HALF_UP).setScale(2);
+    }
+
+    private int cartLineCount(int c) {
+        return 1 + random(CART_SALT, c).nextInt(maxExtraLines + 1);
+    }
+
+    /**
+     * Los carritos pagados son de clientes al azar; cada carrito activo es de un cliente distinto.
+     * Ninguno es de los clientes de sesión.
+     */
+    private int cartOwner(int c) {
+        int payments = properties.getPayments();
+        if (c >= payments) {
+            return sessions + (c - payments);
+        }
+        return sessions + random(CART_SALT, c).split().nextInt(properties.getUsers() - sessions);
+    }
+
+    /**
+     * Productos distintos con sesgo hacia los primeros (u³): unos pocos concentran las ventas.
+     */
+    private SyntheticCart cart(int c) {
+        SplittableRandom random = random(CART_SALT, c);
+        int lines = 1 + random.nextInt(maxExtraLines + 1);
+        int[] products = new int[lines];
+        int[] quantities = new int[lines];
+        for (int line = 0; line < lines; line++) {
+            int product;
+            do {
+                double u = random.nextDouble();
+                product = activeProducts[(int) (u * u * u * activeProducts.length)];
+            } while (contains(products, line, product));
+            products[line] = product;
+            quantities[line] = 1 + random.nextInt(3);
+        }
+        return new SyntheticCart(cartOwner(c), products, quantities);
+    }
+
+    private SyntheticPayment payment(int p) {
+        SplittableRandom random = random(PAYMENT_SALT, p);
+        long millis = windowStartMillis + p * paymentSpacingMillis + random.nextLong(paymentSpacingMillis);
+        LocalDateTime date = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+
+        int outcome = random.nextInt(10);
+        int statusId = outcome < 7 ? PAYMENT_STATUS_APPROVED_ID
+                : outcome < 9 ? PAYMENT_STATUS_PENDING_ID
+                : PAYMENT_STATUS_REJECTED_ID;
+        return new SyntheticPayment(
+                date,
+                PaymentReferenceGenerator.referenceAt(date, REFERENCE_NODE_ID, p & REFERENCE_SEQUENCE_MASK),
+                statusId,
+                random.nextBoolean() ? PAYMENT_TYPE_DEBIT : PAYMENT_TYPE_CREDIT,
+                INSTALLMENTS[random.nextInt(INSTALLMENTS.length)],
+                date.toLocalDate().withDayOfMonth(1).plusMonths(12 + random.nextInt(48)),
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                String.format("4%015d", random.nextLong(1_000_000_000_000_000L)));
+    }
+
+    /**
+     * Generador propio de cada fila: depende solo de la semilla, la tabla y el índice.
+     */
+    private SplittableRandom random(long salt, long index) {
+        return new SplittableRandom(mix64(properties.getSeed() ^ mix64((salt << 40) ^ index)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String email(int i) {
+        return "cliente" + i + "@loadtest.ecommerce.test";
+    }
+
+    /**
+     * Mismo Base64 con que la aplicación guarda titular y número de tarjeta.
+     */
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Elimina la FK usuarios → usuario_rol: con ella los clientes y sus roles no se pueden cargar
+     * en tablas separadas.
+     *
+     * @return Nombre y definición de la FK
+     */
+    private String[] dropUserRoleForeignKey(Connection connection) throws SQLException {
+        String[] foreignKey;
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT conname, pg_get_constraintdef(oid) FROM pg_constraint "
+                     + "WHERE conrelid = 'usuarios'::regclass AND confrelid = 'usuario_rol'::regclass "
+                     + "AND contype = 'f'")) {
+            if (!rows.next()) {
+                throw new IllegalStateException("No se encontró la FK de usuarios a usuario_rol");
+            }
+            foreignKey = new String[]{rows.getString(1), rows.getString(2)};
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE usuarios DROP CONSTRAINT " + foreignKey[0]);
+        }
+        connection.commit();
+        return foreignKey;
+    }
+
+    private void restoreForeignKey(Connection connection, String[] foreignKey) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE usuarios ADD CONSTRAINT " + foreignKey[0] + " " + foreignKey[1]);
+        }
+        connection.commit();
+    }
+
+    /**
+     * Lleva cada secuencia al id máximo cargado; el siguiente bloque pooled-lo empieza después.
+     */
+    private void resetSequences(Connection connection) throws SQLException {
+        String[][] sequences = {
+                {"categorias", "categoria_id"}, {"productos", "producto_id"}, {"stock", "stock_id"},
+                {"credenciales", "credenciales_id"}, {"usuarios", "usuario_id"}, {"usuario_rol", "usuario_rol_id"},
+                {"carrito", "carrito_id"}, {"productos_carrito", "productos_carrito_id"},
+                {"referencias", "referencia_id"}, {"pago", "pago_id"}, {"pago_debito", "pago_debito_id"},
+                {"pago_credito", "pago_credito_id"}, {"lineas_pedido", "linea_pedido_id"}
+        };
+        try (Statement statement = connection.createStatement()) {
+            for (String[] sequence : sequences) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + sequence[0] + "', '" + sequence[1]
+                        + "'), (SELECT MAX(" + sequence[1] + ") FROM " + sequence[0] + "))");
+            }
+        }
+    }
+
+    /**
+     * Estadísticas frescas: sin ellas el planificador asume tablas vacías tras la carga masiva.
+     */
+    private void analyze(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private int maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rows.next();
+            return rows.getInt(1);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class SyntheticProduct {
+        private final String name;
+        private final String description;
+        private final boolean active;
+        private final int categorySlot;
+        private final BigDecimal price;
+        private final BigDecimal iva;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class SyntheticCart {
+        private final int owner;
+        private final int[] products;
+        private final int[] quantities;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class SyntheticPayment {
+        private final LocalDateTime date;
+        private final String reference;
+        private final int statusId;
+        private final String type;
+        private final int installments;
+        private final LocalDate expirationDate;
+        private final String cardHolderName;
+        private final String cardNumber;
+    }
+}
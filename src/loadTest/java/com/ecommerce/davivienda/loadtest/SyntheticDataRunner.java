@@ -0,0 +1,37 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.ds.PGSimpleDataSource;
+
+/**
+ * Carga datos sintéticos en una base PostgreSQL existente con el esquema {@code ecommerce} ya
+ * creado, para medir consultas y planes con volumen de producción fuera de la prueba de carga.
+ *
+ * <p>Ejecución: {@code ./gradlew syntheticData -Ploadtest.preset=prod-like
+ * -Ploadtest.jdbc-url=jdbc:postgresql://host:5432/db -Ploadtest.jdbc-username=...}</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public final class SyntheticDataRunner {
+
+    private SyntheticDataRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+        if (properties.getJdbcUrl() == null) {
+            throw new IllegalArgumentException("Se requiere la propiedad loadtest.jdbc-url");
+        }
+
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(properties.getJdbcUrl());
+        dataSource.setUser(properties.getJdbcUsername());
+        dataSource.setPassword(properties.getJdbcPassword());
+
+        log.info("Preset {} con semilla {} en {}", properties.getPreset().getKey(), properties.getSeed(),
+                properties.getJdbcUrl());
+        new SyntheticDataGenerator(dataSource, properties).generate();
+    }
+}
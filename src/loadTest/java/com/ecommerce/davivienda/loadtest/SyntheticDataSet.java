@@ -0,0 +1,42 @@
+package com.ecommerce.davivienda.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Datos sintéticos generados que los escenarios necesitan conocer.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class SyntheticDataSet {
+
+    /**
+     * Ids de productos activos con stock.
+     */
+    private final List<Integer> activeProductIds;
+
+    /**
+     * Ids de todas las categorías.
+     */
+    private final List<Integer> categoryIds;
+
+    /**
+     * Correos de los clientes de sesión (los primeros generados, sin carritos sintéticos).
+     */
+    private final List<String> userEmails;
+
+    /**
+     * Contraseña en texto plano compartida por los clientes generados.
+     */
+    private final String password;
+
+    /**
+     * Términos presentes en los nombres de producto, para el escenario de búsqueda.
+     */
+    private final List<String> searchTerms;
+}
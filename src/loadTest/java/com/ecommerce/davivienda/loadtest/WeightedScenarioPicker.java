@@ -0,0 +1,55 @@
+package com.ecommerce.davivienda.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Selecciona escenarios según sus pesos relativos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class WeightedScenarioPicker {
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    /**
+     * @param weights Peso por escenario; los de peso 0 nunca se eligen
+     * @throws IllegalArgumentException si ningún escenario tiene peso positivo
+     */
+    public WeightedScenarioPicker(Map<Scenario, Integer> weights) {
+        this.scenarios = weights.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Al menos un escenario debe tener peso positivo");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Elige el siguiente escenario.
+     *
+     * @param random Fuente de aleatoriedad
+     * @return Escenario elegido
+     */
+    public Scenario next(SplittableRandom random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+}
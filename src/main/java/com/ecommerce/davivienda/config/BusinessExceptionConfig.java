@@ -0,0 +1,25 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.BusinessExceptionProperties;
+import com.ecommerce.davivienda.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Aplica exceptions.business.stack-traces a {@link BusinessException} al arrancar.
+ * Por defecto las excepciones de negocio no capturan stack trace.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class BusinessExceptionConfig {
+
+    public BusinessExceptionConfig(BusinessExceptionProperties properties) {
+        BusinessException.setStackTracesEnabled(properties.isStackTraces());
+        if (properties.isStackTraces()) {
+            log.warn("Stack traces de excepciones de negocio habilitados (modo depuración)");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Enrutamiento lectura/escritura con réplica (datasource.replica.enabled=true).
+ *
+ * <p>Crea dos pools Hikari, "primary" (spring.datasource) y "replica" (datasource.replica), con
+ * métricas hikaricp.connections.* etiquetadas por pool. El DataSource de la aplicación es un
+ * {@link LazyConnectionDataSourceProxy} sobre {@link ReadWriteRoutingDataSource}. Sin la propiedad,
+ * Spring Boot crea el DataSource único de siempre.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Pool del primario, configurado con spring.datasource y spring.datasource.hikari.
+     *
+     * @param dataSourceProperties Propiedades spring.datasource
+     * @return Pool Hikari del primario
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    /**
+     * Pool de la réplica, de solo lectura y con el mismo esquema que el primario.
+     *
+     * @param primaryDataSource Pool del primario (ya enlazado a spring.datasource.hikari)
+     * @param properties        Propiedades datasource.replica
+     * @return Pool Hikari de la réplica
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                              ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+        dataSource.setSchema(primaryDataSource.getSchema());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(properties.getMinimumIdle());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        // La réplica caída no debe impedir el arranque: el chequeo de salud la marca y se usa el primario
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    /**
+     * DataSource de enrutamiento entre primario y réplica.
+     *
+     * @param primaryDataSource Pool del primario
+     * @param replicaDataSource Pool de la réplica
+     * @param properties        Propiedades datasource.replica
+     * @param meterRegistry     Registro de métricas
+     * @return DataSource de enrutamiento
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry) {
+        log.info("Enrutamiento lectura/escritura activo: réplica {}, ventana read-your-writes {} ms",
+                properties.getUrl(), properties.getReadYourWritesWindowMs());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, properties, meterRegistry);
+    }
+
+    /**
+     * DataSource de la aplicación (JPA, transacciones): difiere la elección del destino
+     * hasta la primera sentencia, cuando el flag readOnly de la transacción ya está publicado.
+     *
+     * @param routingDataSource DataSource de enrutamiento
+     * @return Proxy perezoso sobre el enrutamiento
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
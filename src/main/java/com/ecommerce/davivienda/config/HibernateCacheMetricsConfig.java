@@ -0,0 +1,60 @@
+package com.ecommerce.davivienda.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Publica en actuator las métricas de cada región de la caché de segundo nivel de Hibernate.
+ * Por región (tag {@code cache}): cache.gets{result=hit|miss}, cache.puts, cache.evictions y cache.removals.
+ * Requiere enable-statistics="true" en ehcache.xml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheMetricsConfig {
+
+    private static final Tags HIBERNATE_CACHE_TAGS = Tags.of("cache.manager", "hibernate");
+
+    /**
+     * Registra un binder JCache por cada región configurada en el CacheManager de Hibernate.
+     *
+     * @param entityManagerFactory Fábrica JPA de la aplicación
+     * @return MeterBinder que Spring Boot enlaza al MeterRegistry
+     */
+    @Bean
+    public MeterBinder hibernateCacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getCache()
+                    .getRegionFactory();
+
+            if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+                log.warn("Caché de segundo nivel no basada en JCache ({}), métricas de región deshabilitadas",
+                        regionFactory.getClass().getSimpleName());
+                return;
+            }
+
+            CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+            for (String regionName : cacheManager.getCacheNames()) {
+                Cache<Object, Object> region = cacheManager.getCache(regionName);
+                JCacheMetrics.monitor(registry, region, HIBERNATE_CACHE_TAGS);
+            }
+
+            log.info("Métricas de caché de segundo nivel registradas para regiones: {}",
+                    String.join(", ", cacheManager.getCacheNames()));
+        };
+    }
+}
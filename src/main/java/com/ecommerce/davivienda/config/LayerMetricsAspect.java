@@ -0,0 +1,194 @@
+package com.ecommerce.davivienda.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_BUSINESS_EXCEPTIONS;
+import static com.ecommerce.davivienda.constants.Constants.METRIC_LAYER_TIMER;
+
+/**
+ * Instrumenta con Micrometer los beans de controller, service (incluidas las subcapacidades
+ * validation y transactional) y repository.
+ *
+ * <p>Timer {@code ecommerce.layer} por método con tags layer, domain, capability, class, method,
+ * outcome y exception. Percentiles y buckets SLO se configuran en
+ * {@code management.metrics.distribution.*.ecommerce.layer}.</p>
+ *
+ * <p>Contador {@code ecommerce.business.exceptions} por cada excepción del paquete {@code exception},
+ * contada una sola vez en el método donde se origina (tags domain, exception, layer, class).</p>
+ *
+ * <p>Se desactiva con metrics.layers.enabled=false.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "metrics.layers", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerMetricsAspect {
+
+    private static final String BASE_PACKAGE = "com.ecommerce.davivienda.";
+    private static final String EXCEPTION_PACKAGE = BASE_PACKAGE + "exception.";
+    private static final String LAYER_CONTROLLER = "controller";
+    private static final String LAYER_SERVICE = "service";
+    private static final String LAYER_REPOSITORY = "repository";
+    private static final String CAPABILITY_VALIDATION = "validation";
+    private static final String CAPABILITY_TRANSACTIONAL = "transactional";
+    private static final String CAPABILITY_ORCHESTRATION = "orchestration";
+    private static final String NONE = "none";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Metadatos por clase de proxy: cada repositorio y cada servicio tiene su propia clase de proxy.
+     */
+    private final Map<Class<?>, Owner> owners = new ConcurrentHashMap<>();
+
+    /**
+     * Última excepción de negocio contada en el hilo; evita contarla otra vez en cada capa que atraviesa.
+     */
+    private final ThreadLocal<WeakReference<Throwable>> lastCountedException = new ThreadLocal<>();
+
+    @Pointcut("within(com.ecommerce.davivienda.controller..*)")
+    void controllerLayer() {
+    }
+
+    @Pointcut("within(com.ecommerce.davivienda.service..*)")
+    void serviceLayer() {
+    }
+
+    @Pointcut("execution(* com.ecommerce.davivienda.repository..*+.*(..))")
+    void repositoryLayer() {
+    }
+
+    /**
+     * Mide la ejecución del método y cuenta las excepciones de negocio que origina.
+     *
+     * @param joinPoint Método interceptado
+     * @return Resultado del método
+     * @throws Throwable La excepción original del método, sin modificar
+     */
+    @Around("controllerLayer() || serviceLayer() || repositoryLayer()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Owner owner = owners.computeIfAbsent(joinPoint.getThis().getClass(), proxyClass -> resolveOwner(joinPoint));
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long startedAt = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+            owner.successTimers.computeIfAbsent(method, key -> timer(owner, key, OUTCOME_SUCCESS, NONE))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(owner, method, OUTCOME_ERROR, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            countBusinessException(owner, e);
+            throw e;
+        }
+    }
+
+    private Timer timer(Owner owner, Method method, String outcome, String exception) {
+        return Timer.builder(METRIC_LAYER_TIMER)
+                .description("Tiempo de ejecución por capa, clase y método")
+                .tags(owner.tags)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private void countBusinessException(Owner owner, Throwable e) {
+        if (!e.getClass().getName().startsWith(EXCEPTION_PACKAGE)) {
+            return;
+        }
+
+        WeakReference<Throwable> last = lastCountedException.get();
+        if (last != null && last.get() == e) {
+            return;
+        }
+        lastCountedException.set(new WeakReference<>(e));
+
+        Counter.builder(METRIC_BUSINESS_EXCEPTIONS)
+                .description("Excepciones de negocio por dominio, contadas donde se originan")
+                .tag("domain", segmentAfter(e.getClass().getName(), EXCEPTION_PACKAGE))
+                .tag("exception", e.getClass().getSimpleName())
+                .tag("layer", owner.layer)
+                .tag("class", owner.name)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Resuelve la clase de negocio detrás del proxy: la interfaz para repositorios (proxies JDK
+     * sobre SimpleJpaRepository) o la clase del bean para controllers y servicios.
+     */
+    private Owner resolveOwner(ProceedingJoinPoint joinPoint) {
+        Class<?> ownerClass = ClassUtils.getUserClass(AopUtils.getTargetClass(joinPoint.getTarget()));
+        for (Class<?> proxiedInterface : AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())) {
+            if (proxiedInterface.getName().startsWith(BASE_PACKAGE + LAYER_REPOSITORY + ".")) {
+                ownerClass = proxiedInterface;
+                break;
+            }
+        }
+
+        String className = ownerClass.getName();
+        String layer = className.startsWith(BASE_PACKAGE + LAYER_CONTROLLER + ".") ? LAYER_CONTROLLER
+                : className.startsWith(BASE_PACKAGE + LAYER_REPOSITORY + ".") ? LAYER_REPOSITORY
+                : LAYER_SERVICE;
+        String capability = !LAYER_SERVICE.equals(layer) ? NONE
+                : className.contains("." + CAPABILITY_VALIDATION + ".") ? CAPABILITY_VALIDATION
+                : className.contains("." + CAPABILITY_TRANSACTIONAL + ".") ? CAPABILITY_TRANSACTIONAL
+                : CAPABILITY_ORCHESTRATION;
+
+        return new Owner(ownerClass.getSimpleName(), layer, Tags.of(
+                "layer", layer,
+                "domain", segmentAfter(className, BASE_PACKAGE + layer + "."),
+                "capability", capability,
+                "class", ownerClass.getSimpleName()));
+    }
+
+    /**
+     * Primer segmento de paquete después del prefijo (ej: "user" en ...service.user.UserServiceImpl).
+     */
+    private static String segmentAfter(String className, String prefix) {
+        if (!className.startsWith(prefix)) {
+            return NONE;
+        }
+        int end = className.indexOf('.', prefix.length());
+        return end < 0 ? NONE : className.substring(prefix.length(), end);
+    }
+
+    /**
+     * Clase instrumentada con sus tags fijos y timers de éxito por método.
+     */
+    @RequiredArgsConstructor
+    private static final class Owner {
+
+        private final String name;
+        private final String layer;
+        private final Tags tags;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    }
+}
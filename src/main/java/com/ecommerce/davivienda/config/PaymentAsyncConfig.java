@@ -0,0 +1,68 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.PaymentAsyncProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuración del pool de workers para el procesamiento asíncrono de pagos.
+ * Pool y cola acotados: la admisión se controla antes de aceptar el pago,
+ * por lo que el executor nunca debería rechazar tareas.
+ * Con spring.threads.virtual.enabled=true (Java 21) los workers son hilos virtuales;
+ * el número de workers sigue acotado para no competir por el pool de conexiones.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Configuration
+public class PaymentAsyncConfig {
+
+    private static final String WORKER_THREAD_PREFIX = "payment-worker-";
+
+    /**
+     * Executor acotado para workers de pago.
+     *
+     * @param properties Propiedades de procesamiento asíncrono
+     * @param environment Entorno, para detectar el modo de hilos virtuales
+     * @return ThreadPoolExecutor con cola de capacidad fija
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor paymentWorkerExecutor(PaymentAsyncProperties properties, Environment environment) {
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor(WORKER_THREAD_PREFIX).getVirtualThreadFactory()
+                : platformThreadFactory();
+
+        return new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Hilos de plataforma daemon con nombre secuencial.
+     *
+     * @return ThreadFactory de hilos de plataforma
+     */
+    private ThreadFactory platformThreadFactory() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
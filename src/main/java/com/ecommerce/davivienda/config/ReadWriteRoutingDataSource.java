@@ -0,0 +1,298 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_DATASOURCE_REPLICA_HEALTHY;
+import static com.ecommerce.davivienda.constants.Constants.METRIC_DATASOURCE_ROUTE;
+
+/**
+ * DataSource que envía las transacciones {@code readOnly} a la réplica y todo lo demás al primario.
+ *
+ * <p>Usa el primario cuando la réplica no está saludable (chequeo periódico o fallo al pedir conexión),
+ * durante la ventana read-your-writes que sigue a una escritura del mismo usuario autenticado, en el
+ * resto de una petición anónima que ya escribió (ej: registro, recuperación de contraseña) y dentro de
+ * {@link #readFromPrimary(Supplier)}, que usan las búsquedas de credenciales.</p>
+ *
+ * <p>Debe envolverse en un {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * el flag readOnly de la transacción se publica después de que el gestor de transacciones pide
+ * la conexión, así que el destino se decide en la primera sentencia.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final String REPLICATION_LAG_QUERY =
+            "SELECT EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final String REQUEST_PINNED_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PINNED";
+
+    /**
+     * Marca del hilo que ejecuta {@link #readFromPrimary(Supplier)}.
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaDataSourceProperties properties;
+    private final LongSupplier clock;
+
+    private final Counter writeRoutes;
+    private final Counter replicaRoutes;
+    private final Counter replicaDownRoutes;
+    private final Counter readYourWritesRoutes;
+    private final Counter primaryReadRoutes;
+
+    /**
+     * Momento de la última escritura por usuario autenticado.
+     */
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaHealthy = true;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        this(primary, replica, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaDataSourceProperties properties,
+                               MeterRegistry meterRegistry, LongSupplier clock) {
+        requireWindowCoversMaxLag(properties);
+        this.primary = primary;
+        this.replica = replica;
+        this.properties = properties;
+        this.clock = clock;
+
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "write");
+        this.replicaRoutes = routeCounter(meterRegistry, REPLICA, "read-only");
+        this.replicaDownRoutes = routeCounter(meterRegistry, PRIMARY, "replica-unhealthy");
+        this.readYourWritesRoutes = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.primaryReadRoutes = routeCounter(meterRegistry, PRIMARY, "primary-read");
+        Gauge.builder(METRIC_DATASOURCE_REPLICA_HEALTHY, this, ds -> ds.replicaHealthy ? 1 : 0)
+                .description("Estado de la réplica de lectura (1 saludable, 0 no saludable)")
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READS.get())) {
+            primaryReadRoutes.increment();
+            return PRIMARY;
+        }
+        if (!replicaHealthy) {
+            replicaDownRoutes.increment();
+            return PRIMARY;
+        }
+        if (isWithinReadYourWritesWindow() || isRequestPinned()) {
+            readYourWritesRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!REPLICA.equals(determineCurrentLookupKey())) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            markReplicaUnhealthy(e.getMessage());
+            replicaDownRoutes.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Valida la conexión y el retraso de replicación de la réplica y limpia las ventanas
+     * read-your-writes vencidas.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markReplicaUnhealthy("conexión no válida");
+            } else if (properties.getMaxLagMs() > 0 && replicationLagMs(connection) > properties.getMaxLagMs()) {
+                markReplicaUnhealthy("retraso de replicación mayor a " + properties.getMaxLagMs() + " ms");
+            } else {
+                markReplicaHealthy();
+            }
+        } catch (SQLException e) {
+            markReplicaUnhealthy(e.getMessage());
+        }
+
+        long expiredBefore = clock.getAsLong() - properties.getReadYourWritesWindowMs();
+        lastWriteByUser.values().removeIf(writtenAt -> writtenAt < expiredBefore);
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    /**
+     * Ejecuta una lectura que debe ver el último estado del primario aunque venga de una petición
+     * anónima, como la búsqueda de credenciales justo después de un registro o un cambio de contraseña.
+     * Solo decide el destino de conexiones que aún no se han pedido: una transacción readOnly que ya
+     * consultó la réplica la sigue usando. Sin enrutamiento (réplica deshabilitada) no tiene efecto.
+     *
+     * @param reader Lectura a ejecutar
+     * @param <T> Tipo del resultado
+     * @return Resultado de la lectura
+     */
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        Boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    /**
+     * Registra la escritura del usuario al pedir la conexión y otra vez al terminar la transacción,
+     * para que la ventana cuente desde el commit aunque la transacción sea larga. Una escritura
+     * anónima no tiene usuario con el que abrir la ventana: fija en el primario el resto de la petición.
+     */
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            pinCurrentRequest();
+            return;
+        }
+        lastWriteByUser.put(user, clock.getAsLong());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lastWriteByUser.put(user, clock.getAsLong());
+                }
+            });
+        }
+    }
+
+    private boolean isWithinReadYourWritesWindow() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByUser.get(user);
+        return writtenAt != null && clock.getAsLong() - writtenAt < properties.getReadYourWritesWindowMs();
+    }
+
+    private static void pinCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean isRequestPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(REQUEST_PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private void markReplicaHealthy() {
+        if (!replicaHealthy) {
+            log.info("Réplica de lectura recuperada, se reanuda el enrutamiento de lecturas");
+        }
+        replicaHealthy = true;
+    }
+
+    private void markReplicaUnhealthy(String reason) {
+        if (replicaHealthy) {
+            log.warn("Réplica de lectura no saludable, las lecturas van al primario: {}", reason);
+        }
+        replicaHealthy = false;
+    }
+
+    /**
+     * Retraso en milisegundos según pg_last_xact_replay_timestamp(); 0 cuando la réplica
+     * no es un standby (ej: instancia embebida local).
+     */
+    private static double replicationLagMs(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+
+    /**
+     * La réplica sigue recibiendo lecturas mientras su retraso no pase de max-lag-ms; una ventana
+     * read-your-writes menor dejaría leer en la réplica una escritura que todavía no llegó.
+     */
+    private static void requireWindowCoversMaxLag(ReplicaDataSourceProperties properties) {
+        if (properties.getMaxLagMs() > 0 && properties.getReadYourWritesWindowMs() < properties.getMaxLagMs()) {
+            throw new IllegalStateException("datasource.replica.read-your-writes-window-ms ("
+                    + properties.getReadYourWritesWindowMs() + ") no puede ser menor que "
+                    + "datasource.replica.max-lag-ms (" + properties.getMaxLagMs() + ")");
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder(METRIC_DATASOURCE_ROUTE)
+                .description("Conexiones entregadas por destino y motivo del enrutamiento")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
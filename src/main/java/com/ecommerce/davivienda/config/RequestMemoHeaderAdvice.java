@@ -0,0 +1,43 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.util.RequestMemo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static com.ecommerce.davivienda.constants.Constants.HEADER_MEMO_SAVED_QUERIES;
+
+/**
+ * Agrega a cada respuesta el header de depuración con las consultas evitadas por {@link RequestMemo}.
+ * Se escribe antes de serializar el cuerpo, cuando los headers aún no se han enviado.
+ * Solo se activa con request-memo.debug-header=true.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "request-memo", name = "debug-header", havingValue = "true")
+public class RequestMemoHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RequestMemo requestMemo;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER_MEMO_SAVED_QUERIES, String.valueOf(requestMemo.getSavedQueries()));
+        return body;
+    }
+}
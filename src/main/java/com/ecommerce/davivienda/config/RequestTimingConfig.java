@@ -0,0 +1,72 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.RequestTimingProperties;
+import com.ecommerce.davivienda.util.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Contabilidad de tiempos y consultas por petición (header Server-Timing).
+ *
+ * <p>Registra {@link RequestTimingFilter} antes de la cadena de seguridad, un interceptor MVC que
+ * marca el fin de los filtros y los hooks de Hibernate que cuentan sentencias y tiempo JDBC.
+ * Se activa con request-timing.enabled=true, solo en entornos internos: el header expone a cualquier
+ * cliente, incluso anónimo, los tiempos internos y el número de consultas.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "request-timing", name = "enabled", havingValue = "true")
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    /**
+     * Filtro de medición, primero de la cadena para incluir CORS y seguridad en el total.
+     *
+     * @param properties Propiedades request-timing
+     * @return FilterRegistrationBean configurado
+     */
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilterRegistrationBean(
+            RequestTimingProperties properties) {
+        FilterRegistrationBean<RequestTimingFilter> filterRegistrationBean =
+                new FilterRegistrationBean<>(new RequestTimingFilter(properties));
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return filterRegistrationBean;
+    }
+
+    /**
+     * Conecta el StatementInspector y el listener de sesión con Hibernate.
+     *
+     * @return Customizer de propiedades de Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestTimingHibernateHooks() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new RequestTimingStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    RequestTimingSessionListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                RequestTimings.markHandlerStart();
+                return true;
+            }
+        });
+    }
+}
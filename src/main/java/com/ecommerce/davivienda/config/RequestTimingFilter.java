@@ -0,0 +1,142 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.RequestTimingProperties;
+import com.ecommerce.davivienda.util.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import static com.ecommerce.davivienda.constants.Constants.HEADER_SERVER_TIMING;
+
+/**
+ * Mide cada petición: tiempo en filtros (seguridad incluida), en la aplicación y en la BD,
+ * y número de sentencias SQL.
+ *
+ * <p>Envía el resultado en el header {@code Server-Timing} justo antes de escribir el cuerpo y lo
+ * registra con campos estructurados (method, path, status, totalMs, filtersMs, dbMs, queries):
+ * en DEBUG normalmente, en WARN con la lista de sentencias cuando la petición supera
+ * request-timing.query-threshold consultas.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start(properties.getMaxRecordedStatements());
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timings);
+
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            // En peticiones asíncronas (long-poll de pagos) el header se escribe con el cuerpo, al despachar
+            if (!request.isAsyncStarted()) {
+                timedResponse.writeServerTiming();
+            }
+            RequestTimings.clear();
+            logTimings(request, response, timings);
+        }
+    }
+
+    private void logTimings(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        boolean overThreshold = timings.getQueries() > properties.getQueryThreshold();
+        if (!overThreshold && !log.isDebugEnabled()) {
+            return;
+        }
+
+        LoggingEventBuilder event = (overThreshold ? log.atWarn() : log.atDebug())
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("totalMs", timings.getTotalMillis())
+                .addKeyValue("filtersMs", timings.getFiltersMillis())
+                .addKeyValue("dbMs", timings.getDbMillis())
+                .addKeyValue("queries", timings.getQueries());
+
+        if (!overThreshold) {
+            event.log("{} {} -> {} en {} ms ({} consultas, {} ms en BD)", request.getMethod(),
+                    request.getRequestURI(), response.getStatus(), timings.getTotalMillis(),
+                    timings.getQueries(), timings.getDbMillis());
+            return;
+        }
+
+        event.log("{} {} ejecutó {} consultas (umbral {}), posible N+1. Sentencias:\n{}", request.getMethod(),
+                request.getRequestURI(), timings.getQueries(), properties.getQueryThreshold(),
+                String.join("\n", timings.getStatements()));
+    }
+
+    /**
+     * Agrega el header Server-Timing la primera vez que se accede al cuerpo o se cierra la
+     * respuesta, cuando los headers todavía no se han enviado.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean written;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+
+        private void writeServerTiming() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(HEADER_SERVER_TIMING, timings.toServerTiming());
+        }
+    }
+}
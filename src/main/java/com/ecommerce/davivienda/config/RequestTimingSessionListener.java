@@ -0,0 +1,37 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.util.RequestTimings;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Suma a la petición en curso el tiempo de ejecución JDBC (sentencias y lotes) de cada sesión
+ * de Hibernate. Hibernate crea una instancia por sesión (hibernate.session.events.auto).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class RequestTimingSessionListener extends BaseSessionEventListener {
+
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.recordDbTime(System.nanoTime() - executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.recordDbTime(System.nanoTime() - batchStartedAt);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.util.RequestTimings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta y guarda cada sentencia SQL que Hibernate prepara durante la petición en curso.
+ * No modifica la sentencia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class RequestTimingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.recordStatement(sql);
+        return sql;
+    }
+}
@@ -7,6 +7,8 @@ import com.ecommerce.davivienda.security.credentials.CredentialsExtractor;
 import com.ecommerce.davivienda.security.filter.JwtAuthenticationFilter;
 import com.ecommerce.davivienda.security.filter.JwtValidationFilter;
 import com.ecommerce.davivienda.security.response.AuthenticationResponseBuilder;
+import com.ecommerce.davivienda.service.guestcart.GuestCartService;
+import com.ecommerce.davivienda.security.token.GuestCartTokenExtractor;
 import com.ecommerce.davivienda.security.token.JwtTokenExtractor;
 import com.ecommerce.davivienda.security.token.JwtTokenGenerator;
 import com.ecommerce.davivienda.security.token.JwtTokenValidator;
@@ -14,6 +16,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -39,6 +42,8 @@ import java.util.List;
 
 import static com.ecommerce.davivienda.constants.ConstantsSecurity.*;
 import static com.ecommerce.davivienda.security.SecurityEndpoints.*;
+import static com.ecommerce.davivienda.constants.Constants.HEADER_IDEMPOTENCY_KEY;
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.HEADER_GUEST_CART;
 
 /**
  * Configuración de seguridad de Spring Security con autenticación JWT.
@@ -73,7 +78,11 @@ public class SecurityConfig {
     );
     
     private static final List<String> ALLOWED_HEADERS = Arrays.asList(
-            "Authorization", "Content-Type", "X-Requested-With"
+            "Authorization", "Content-Type", "X-Requested-With", HEADER_GUEST_CART, HEADER_IDEMPOTENCY_KEY
+    );
+    
+    private static final List<String> EXPOSED_HEADERS = Arrays.asList(
+            HEADER_GUEST_CART
     );
     
     private static final String CORS_PATH_PATTERN = "/**";
@@ -87,6 +96,8 @@ public class SecurityConfig {
     private final AuthenticationResponseBuilder responseBuilder;
     private final UserRepository userRepository;
     private final UserProfileMapper userProfileMapper;
+    private final GuestCartService guestCartService;
+    private final GuestCartTokenExtractor guestCartTokenExtractor;
 
     /**
      * Bean de AuthenticationManager para procesar autenticaciones.
@@ -123,7 +134,9 @@ public class SecurityConfig {
                 tokenGenerator,
                 responseBuilder,
                 userRepository,
-                userProfileMapper
+                userProfileMapper,
+                guestCartService,
+                guestCartTokenExtractor
         );
         filter.setFilterProcessesUrl(JwtAuthenticationFilter.LOGIN_ENDPOINT);
         return filter;
@@ -179,8 +192,13 @@ public class SecurityConfig {
     private void configureAuthorization(
             org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry authz) {
         authz
+                // Despachos ASYNC (long-poll): la solicitud original ya fue autorizada
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Endpoints públicos - NO requieren autenticación
                 .requestMatchers(ENDPOINT_AUTH).permitAll()
+                // Antes del permitAll de actuator: cambia niveles de log en caliente
+                .requestMatchers(ENDPOINT_ACTUATOR_LOG_VERBOSITY).hasAuthority(AUTHORITY_ADMIN)
                 .requestMatchers(ENDPOINT_ACTUATOR).permitAll()
                 .requestMatchers(ENDPOINT_DEBUG).permitAll()                          
 
@@ -190,6 +208,7 @@ public class SecurityConfig {
                 .requestMatchers(ENDPOINT_PRODUCT_SEARCH_PAGINATED).permitAll()       
                 .requestMatchers(ENDPOINT_PRODUCT_SEARCH).permitAll()                 
                 .requestMatchers(ENDPOINT_PRODUCT_GET_BY_ID).permitAll()             
+                .requestMatchers(ENDPOINT_PRODUCT_RELATED).permitAll()
 
                 .requestMatchers(ENDPOINT_CATEGORIES).permitAll()
                 .requestMatchers(ENDPOINT_DOCUMENT_TYPES).permitAll()
@@ -198,6 +217,9 @@ public class SecurityConfig {
                 .requestMatchers(ENDPOINT_USERS_CREATE).permitAll()
                 .requestMatchers(ENDPOINT_USERS_CHANGE_PASSWORD).permitAll()
 
+                // Carrito invitado - no requiere autenticación
+                .requestMatchers(ENDPOINT_GUEST_CART).permitAll()
+
                 
                 .anyRequest().authenticated();
     }
@@ -278,6 +300,7 @@ public class SecurityConfig {
         corsConfiguration.setAllowedOrigins(ALLOWED_ORIGINS);
         corsConfiguration.setAllowedMethods(ALLOWED_METHODS);
         corsConfiguration.setAllowedHeaders(ALLOWED_HEADERS);
+        corsConfiguration.setExposedHeaders(EXPOSED_HEADERS);
         corsConfiguration.setAllowCredentials(true);
         return corsConfiguration;
     }
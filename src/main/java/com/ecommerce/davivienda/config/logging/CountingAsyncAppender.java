@@ -0,0 +1,40 @@
+package com.ecommerce.davivienda.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender de Logback que cuenta los eventos que descarta.
+ *
+ * <p>La cola es acotada (queueSize) y con neverBlock=true el hilo de la petición nunca espera al
+ * appender: con la cola llena se descarta el evento, y por debajo de discardingThreshold se
+ * descartan TRACE, DEBUG e INFO. El conteo se publica como ecommerce.logging.dropped.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining == 0 || (remaining < getDiscardingThreshold() && event.getLevel().toInt() <= Level.INFO_INT)) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * Eventos descartados desde el arranque (aproximado: la capacidad se lee antes de encolar).
+     *
+     * @return Eventos descartados
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.davivienda.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Muestreo de eventos frecuentes por logger: de los eventos de los loggers que empiezan por
+ * loggerPrefix, con nivel hasta maxLevel, deja pasar uno de cada {@code every}.
+ * WARN y ERROR (por encima de maxLevel) siempre pasan. Se declara una instancia por logger
+ * en logback-spring.xml; los descartes se publican como ecommerce.logging.sampled-out.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong seen = new AtomicLong();
+    private final LongAdder sampledOut = new LongAdder();
+
+    @Setter
+    private String loggerPrefix;
+
+    @Setter
+    private int every = 1;
+
+    @Setter
+    private String maxLevel = Level.INFO.levelStr;
+
+    private Level maxSampledLevel = Level.INFO;
+
+    @Override
+    public void start() {
+        if (loggerPrefix == null || loggerPrefix.isBlank()) {
+            addError("loggerPrefix es obligatorio en " + getName());
+            return;
+        }
+        maxSampledLevel = Level.toLevel(maxLevel, Level.INFO);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format null: consulta isXxxEnabled(), no es un evento
+        if (every <= 1 || format == null || level.toInt() > maxSampledLevel.toInt()
+                || !logger.getName().startsWith(loggerPrefix)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (seen.getAndIncrement() % every == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    public String getLoggerPrefix() {
+        return loggerPrefix;
+    }
+
+    /**
+     * Eventos descartados por el muestreo desde el arranque.
+     *
+     * @return Eventos descartados
+     */
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.davivienda.config.logging;
+
+import ch.qos.logback.classic.Level;
+import com.ecommerce.davivienda.config.logging.LogVerbosityOverrideTurboFilter.VerbosityOverride;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint actuator {@code logverbosity}: sube en caliente el nivel de log de la aplicación para un
+ * usuario o un prefijo de ruta, por un tiempo limitado.
+ *
+ * <ul>
+ *   <li>GET /actuator/logverbosity: overrides vigentes</li>
+ *   <li>POST /actuator/logverbosity {"user": "...", "level": "DEBUG", "ttlSeconds": 300}
+ *       o {"path": "/api/v1/cart", ...}</li>
+ *   <li>DELETE /actuator/logverbosity: elimina todos los overrides</li>
+ * </ul>
+ *
+ * <p>No se expone por defecto (management.endpoints.web.exposure.include). Expuesto, requiere
+ * rol administrador (SecurityEndpoints.ADMIN_ENDPOINTS).</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "logverbosity")
+public class LogVerbosityEndpoint {
+
+    private static final long DEFAULT_TTL_SECONDS = 300;
+    private static final long MAX_TTL_SECONDS = 3600;
+
+    @ReadOperation
+    public List<Map<String, Object>> overrides() {
+        return LogVerbosityOverrideTurboFilter.active().stream()
+                .map(LogVerbosityEndpoint::toView)
+                .toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> raise(@Nullable String user, @Nullable String path, String level,
+                                     @Nullable Long ttlSeconds) {
+        if ((user == null) == (path == null)) {
+            throw new InvalidEndpointRequestException("Se requiere exactamente uno de user o path",
+                    "Se requiere exactamente uno de user o path");
+        }
+
+        long ttl = Math.min(ttlSeconds == null ? DEFAULT_TTL_SECONDS : ttlSeconds, MAX_TTL_SECONDS);
+        VerbosityOverride override = VerbosityOverride.builder()
+                .user(user)
+                .path(path)
+                .level(Level.toLevel(level, Level.DEBUG))
+                .expiresAt(Instant.now().plus(Duration.ofSeconds(ttl)))
+                .build();
+        LogVerbosityOverrideTurboFilter.put(override);
+
+        log.warn("Verbosidad {} activada para {} durante {} s", override.getLevel(),
+                user != null ? "usuario " + user : "ruta " + path, ttl);
+        return toView(override);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        LogVerbosityOverrideTurboFilter.clear();
+        log.warn("Overrides de verbosidad eliminados");
+    }
+
+    private static Map<String, Object> toView(VerbosityOverride override) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("user", override.getUser());
+        view.put("path", override.getPath());
+        view.put("level", override.getLevel().levelStr);
+        view.put("expiresAt", override.getExpiresAt().toString());
+        return view;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ecommerce.davivienda.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Builder;
+import lombok.Getter;
+import org.slf4j.Marker;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sube la verbosidad de los logs de la aplicación solo para un usuario o un prefijo de ruta,
+ * sin cambiar el nivel global. Acepta (saltando nivel y muestreo) los eventos de loggers
+ * {@code com.ecommerce.davivienda} con nivel igual o mayor al del override cuando la petición en curso
+ * coincide. Los overrides expiran solos y se administran desde el endpoint actuator logverbosity.
+ *
+ * <p>Debe ser el primer turboFilter de logback-spring.xml. Sin overrides activos no hace nada más
+ * que una consulta a un mapa vacío.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class LogVerbosityOverrideTurboFilter extends TurboFilter {
+
+    private static final String APPLICATION_LOGGER_PREFIX = "com.ecommerce.davivienda";
+
+    private static final Map<String, VerbosityOverride> OVERRIDES = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (OVERRIDES.isEmpty() || !logger.getName().startsWith(APPLICATION_LOGGER_PREFIX)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String path = currentPath();
+        String user = currentUser();
+        long now = System.currentTimeMillis();
+        for (VerbosityOverride override : OVERRIDES.values()) {
+            if (override.getExpiresAt().toEpochMilli() <= now) {
+                OVERRIDES.remove(override.key(), override);
+            } else if (level.isGreaterOrEqual(override.getLevel()) && override.matches(user, path)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Agrega o reemplaza un override.
+     *
+     * @param override Override a activar
+     */
+    public static void put(VerbosityOverride override) {
+        OVERRIDES.put(override.key(), override);
+    }
+
+    /**
+     * Overrides vigentes.
+     *
+     * @return Overrides no expirados
+     */
+    public static Collection<VerbosityOverride> active() {
+        long now = System.currentTimeMillis();
+        OVERRIDES.values().removeIf(override -> override.getExpiresAt().toEpochMilli() <= now);
+        return List.copyOf(OVERRIDES.values());
+    }
+
+    /**
+     * Elimina todos los overrides.
+     */
+    public static void clear() {
+        OVERRIDES.clear();
+    }
+
+    private static String currentPath() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? servletAttributes.getRequest().getRequestURI()
+                : null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+
+    /**
+     * Override de verbosidad para un usuario (email del token) o un prefijo de ruta.
+     */
+    @Getter
+    @Builder
+    public static class VerbosityOverride {
+
+        private final String user;
+        private final String path;
+        private final Level level;
+        private final Instant expiresAt;
+
+        private String key() {
+            return user != null ? "user:" + user : "path:" + path;
+        }
+
+        private boolean matches(String currentUser, String currentPath) {
+            return user != null
+                    ? user.equals(currentUser)
+                    : currentPath != null && currentPath.startsWith(path);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.davivienda.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_LOGGING_DROPPED;
+import static com.ecommerce.davivienda.constants.Constants.METRIC_LOGGING_QUEUE_REMAINING;
+import static com.ecommerce.davivienda.constants.Constants.METRIC_LOGGING_SAMPLED_OUT;
+
+/**
+ * Publica en actuator los descartes del pipeline de logging definido en logback-spring.xml:
+ * eventos descartados por cada {@link CountingAsyncAppender} (cola llena o sobre el umbral),
+ * capacidad libre de su cola y eventos omitidos por cada {@link LogSamplingTurboFilter}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    /**
+     * Registra contadores y gauges del pipeline de logging.
+     *
+     * @return MeterBinder que Spring Boot enlaza al MeterRegistry
+     */
+    @Bean
+    public MeterBinder loggingPipelineMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+                return;
+            }
+
+            Iterator<Appender<ILoggingEvent>> appenders =
+                    loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof CountingAsyncAppender asyncAppender) {
+                    FunctionCounter.builder(METRIC_LOGGING_DROPPED, asyncAppender, CountingAsyncAppender::getDroppedCount)
+                            .description("Eventos de log descartados por el appender asíncrono")
+                            .tag("appender", asyncAppender.getName())
+                            .register(registry);
+                    Gauge.builder(METRIC_LOGGING_QUEUE_REMAINING, asyncAppender, CountingAsyncAppender::getRemainingCapacity)
+                            .description("Capacidad libre de la cola del appender asíncrono")
+                            .tag("appender", asyncAppender.getName())
+                            .register(registry);
+                }
+            }
+
+            for (TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+                if (turboFilter instanceof LogSamplingTurboFilter samplingFilter) {
+                    FunctionCounter.builder(METRIC_LOGGING_SAMPLED_OUT, samplingFilter,
+                                    LogSamplingTurboFilter::getSampledOutCount)
+                            .description("Eventos de log omitidos por muestreo")
+                            .tag("logger", samplingFilter.getLoggerPrefix())
+                            .register(registry);
+                }
+            }
+        };
+    }
+}
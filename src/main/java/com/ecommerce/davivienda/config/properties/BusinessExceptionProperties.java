@@ -0,0 +1,23 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de las excepciones de negocio.
+ * Se enlazan desde el prefijo {@code exceptions.business} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "exceptions.business")
+public class BusinessExceptionProperties {
+
+    /**
+     * Si las excepciones de negocio capturan stack trace (solo para depuración).
+     */
+    private boolean stackTraces = false;
+}
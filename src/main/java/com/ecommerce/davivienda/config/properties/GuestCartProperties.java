@@ -0,0 +1,24 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración del carrito invitado.
+ * Se enlazan desde el prefijo {@code guest-cart} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "guest-cart")
+public class GuestCartProperties {
+
+    /**
+     * Clave HMAC en Base64 (mínimo 32 bytes) para firmar los tokens de carrito invitado.
+     * Debe ser la misma en todas las instancias para que un token emitido por una sea válido en otra.
+     */
+    private String secret;
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración del procesamiento asíncrono de pagos.
+ * Se enlazan desde el prefijo {@code payment.async} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.async")
+public class PaymentAsyncProperties {
+
+    /**
+     * Número de hilos worker que procesan pagos aceptados.
+     */
+    private int workers = 4;
+
+    /**
+     * Capacidad de la cola en memoria. Con la cola llena los nuevos pagos se rechazan (ED-PAY-17).
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Espera máxima en milisegundos permitida para el long-poll de estado.
+     */
+    private long maxWaitMs = 25000;
+
+    /**
+     * Minutos tras los cuales un pago en "Procesando" se considera huérfano (p. ej. reinicio) y se rechaza.
+     */
+    private long staleAfterMinutes = 30;
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración del guard de concurrencia de checkout.
+ * Se enlazan desde el prefijo {@code payment.checkout-guard} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.checkout-guard")
+public class PaymentCheckoutGuardProperties {
+
+    /**
+     * Número de locks (stripes) en memoria. Carritos distintos pueden compartir stripe.
+     */
+    private int stripes = 256;
+
+    /**
+     * Tiempo máximo en milisegundos que una solicitud espera el lock local antes de ser rechazada.
+     */
+    private long waitTimeoutMs = 2000;
+
+    /**
+     * Habilita el advisory lock de PostgreSQL para coordinar varias instancias.
+     */
+    private boolean advisoryLockEnabled = true;
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración del historial de compras.
+ * Se enlazan desde el prefijo {@code payment.history} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.history")
+public class PaymentHistoryProperties {
+
+    /**
+     * Líneas por página cuando no se indica size.
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * Máximo de líneas por página.
+     */
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración de idempotencia de pagos.
+ * Se enlazan desde el prefijo {@code payment.idempotency} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.idempotency")
+public class PaymentIdempotencyProperties {
+
+    /**
+     * Tiempo de vida en minutos de una clave (memoria y base de datos).
+     */
+    private long ttlMinutes = 1440;
+
+    /**
+     * Tiempo máximo en milisegundos que un duplicado concurrente espera el resultado en curso.
+     */
+    private long waitTimeoutMs = 30000;
+
+    /**
+     * Número máximo de entradas en la caché en memoria.
+     */
+    private int maxCachedEntries = 10000;
+}
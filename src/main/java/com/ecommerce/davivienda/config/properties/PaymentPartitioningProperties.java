@@ -0,0 +1,59 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Propiedades del particionamiento mensual de las tablas de pago.
+ * Se enlazan desde el prefijo {@code payment.partitioning} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.partitioning")
+public class PaymentPartitioningProperties {
+
+    /**
+     * Habilita el job de mantenimiento de particiones.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Meses siguientes al actual que deben tener partición creada.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Meses completos que se conservan además del actual; los anteriores se archivan.
+     * Con 0 o menos no se archiva nada.
+     */
+    private int retentionMonths = 24;
+
+    /**
+     * Esquema al que se mueven las particiones archivadas.
+     */
+    private String archiveSchema = "ecommerce_archivo";
+
+    /**
+     * Cron del mantenimiento. También se ejecuta al iniciar la aplicación.
+     */
+    private String maintenanceCron = "0 15 1 * * *";
+
+    /**
+     * Primer día del mes más antiguo que conserva las tablas de pago.
+     *
+     * @param today Fecha actual
+     * @return Primer día conservado, o null si no se archiva
+     */
+    public LocalDate retainedSince(LocalDate today) {
+        if (!enabled || retentionMonths <= 0) {
+            return null;
+        }
+        return today.withDayOfMonth(1).minusMonths(retentionMonths);
+    }
+}
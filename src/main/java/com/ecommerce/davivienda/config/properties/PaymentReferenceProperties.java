@@ -0,0 +1,24 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración del generador de referencias de pago.
+ * Se enlazan desde el prefijo {@code payment.reference} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "payment.reference")
+public class PaymentReferenceProperties {
+
+    /**
+     * Identificador de la instancia (0 a 1023). Obligatorio y único por instancia desplegada:
+     * dos instancias con el mismo nodo pueden generar la misma referencia en el mismo milisegundo.
+     */
+    private Integer nodeId;
+}
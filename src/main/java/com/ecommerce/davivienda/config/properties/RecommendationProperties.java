@@ -0,0 +1,43 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración de las recomendaciones "comprados juntos frecuentemente".
+ * Se enlazan desde el prefijo {@code recommendation} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "recommendation")
+public class RecommendationProperties {
+
+    /**
+     * Productos relacionados guardados por producto (máximo que puede pedir el endpoint).
+     */
+    private int topK = 10;
+
+    /**
+     * Número mínimo de carritos compartidos para recomendar un producto.
+     */
+    private int minSupport = 1;
+
+    /**
+     * Carritos con más productos se ignoran (compras al por mayor; su costo es cuadrático).
+     */
+    private int maxItemsPerCart = 50;
+
+    /**
+     * Intervalo en milisegundos entre publicaciones de los productos cambiados por pagos nuevos.
+     */
+    private long publishIntervalMs = 30000;
+
+    /**
+     * Cron del rebuild completo desde la BD. El primero se ejecuta al iniciar la aplicación.
+     */
+    private String rebuildCron = "0 0 3 * * *";
+}
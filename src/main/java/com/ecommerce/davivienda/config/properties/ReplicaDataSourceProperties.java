@@ -0,0 +1,71 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de la réplica de lectura y del enrutamiento lectura/escritura.
+ * Se enlazan desde el prefijo {@code datasource.replica} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Si las transacciones readOnly se envían a la réplica. Deshabilitado: todo va al primario.
+     */
+    private boolean enabled = false;
+
+    /**
+     * URL JDBC de la réplica.
+     */
+    private String url;
+
+    /**
+     * Usuario de la réplica.
+     */
+    private String username;
+
+    /**
+     * Contraseña de la réplica.
+     */
+    private String password;
+
+    /**
+     * Conexiones máximas del pool de la réplica.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Conexiones mínimas inactivas del pool de la réplica.
+     */
+    private int minimumIdle = 2;
+
+    /**
+     * Espera máxima en milisegundos por una conexión de la réplica antes de usar el primario.
+     */
+    private long connectionTimeoutMs = 2000;
+
+    /**
+     * Intervalo en milisegundos del chequeo de salud de la réplica.
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * Retraso de replicación máximo en milisegundos; por encima la réplica se considera no saludable.
+     * 0 desactiva el chequeo de retraso.
+     */
+    private long maxLagMs = 10000;
+
+    /**
+     * Ventana en milisegundos tras una escritura de un usuario durante la cual sus lecturas van al primario.
+     * No puede ser menor que {@link #maxLagMs}: la réplica se considera saludable hasta ese retraso, así
+     * que una ventana más corta dejaría leer datos anteriores a la escritura.
+     */
+    private long readYourWritesWindowMs = 10000;
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades del header Server-Timing y la contabilidad de consultas por petición.
+ * Se enlazan desde el prefijo {@code request-timing} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "request-timing")
+public class RequestTimingProperties {
+
+    /**
+     * Si se mide cada petición y se envía el header Server-Timing. Deshabilitado por defecto:
+     * el header llega a todos los clientes, así que solo se activa en entornos internos.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Consultas por petición por encima de las cuales se registra la lista completa de sentencias (N+1).
+     */
+    private int queryThreshold = 20;
+
+    /**
+     * Máximo de sentencias guardadas por petición para el log de umbral.
+     */
+    private int maxRecordedStatements = 200;
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades de configuración de los agregados de ventas (analítica para administradores).
+ * Se enlazan desde el prefijo {@code analytics.sales} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "analytics.sales")
+public class SalesAnalyticsProperties {
+
+    /**
+     * Intervalo en milisegundos entre flushes de los incrementos pendientes a los agregados.
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Cron del rebuild programado de los últimos días cerrados.
+     */
+    private String rebuildCron = "0 30 2 * * *";
+
+    /**
+     * Días cerrados (hasta ayer) que recalcula el rebuild programado.
+     */
+    private int rebuildDays = 7;
+
+    /**
+     * Máximo de días por consulta o rebuild.
+     */
+    private int maxRangeDays = 366;
+
+    /**
+     * Productos devueltos por defecto en el ranking.
+     */
+    private int defaultTopProducts = 20;
+
+    /**
+     * Máximo de productos permitidos en el ranking.
+     */
+    private int maxTopProducts = 100;
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.davivienda.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades del diagnóstico de hilos virtuales fijados (pinned) a su carrier.
+ * Se enlazan desde el prefijo {@code virtual-threads.pinning} en application.yml.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "virtual-threads.pinning")
+public class VirtualThreadPinningProperties {
+
+    /**
+     * Si se registran los eventos JFR jdk.VirtualThreadPinned (solo con hilos virtuales activos).
+     */
+    private boolean monitorEnabled = true;
+
+    /**
+     * Duración mínima en milisegundos de un bloqueo fijado para reportarlo.
+     */
+    private long thresholdMs = 20;
+
+    /**
+     * Frames del stack incluidos en el log de cada evento.
+     */
+    private int stackDepth = 8;
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.constants;
 
+import java.util.List;
+
 /**
  * Clase de constantes centralizada para todo el sistema.
  * Define mensajes de error y códigos de error estandarizados.
@@ -59,6 +61,16 @@ public class Constants {
      * Mensaje de éxito al consultar todos los usuarios.
      */
     public static final String SUCCESS_USERS_FOUND = "Usuarios encontrados exitosamente";
+
+    /**
+     * Tamaño máximo de página en el listado paginado de usuarios.
+     */
+    public static final int USER_PAGE_MAX_SIZE = 100;
+
+    /**
+     * Máximo de usuarios que devuelve el listado completo (obsoleto) de usuarios.
+     */
+    public static final int USER_LIST_ALL_MAX_SIZE = 1000;
     
     /**
      * Mensaje de éxito al activar un usuario.
@@ -299,6 +311,11 @@ public class Constants {
      * Mensaje de éxito al consultar un producto.
      */
     public static final String SUCCESS_PRODUCT_FOUND = "Producto encontrado";
+
+    /**
+     * Mensaje de éxito al consultar los productos relacionados de un producto.
+     */
+    public static final String SUCCESS_RELATED_PRODUCTS_FOUND = "Productos relacionados obtenidos exitosamente";
     
     /**
      * Mensaje de éxito al actualizar un producto.
@@ -453,6 +470,16 @@ public class Constants {
      * Mensaje de éxito al agregar múltiples items al carrito.
      */
     public static final String SUCCESS_CART_ITEMS_BATCH_ADDED = "Productos agregados al carrito exitosamente";
+    
+    /**
+     * Mensaje de éxito al eliminar múltiples items del carrito.
+     */
+    public static final String SUCCESS_CART_ITEMS_DELETED = "Productos eliminados del carrito exitosamente";
+    
+    /**
+     * Mensaje de éxito al fusionar el carrito invitado con el carrito del usuario.
+     */
+    public static final String SUCCESS_GUEST_CART_MERGED = "Carrito de invitado fusionado exitosamente";
 
     // ==================== CART - ERROR MESSAGES ====================
     
@@ -515,6 +542,16 @@ public class Constants {
      * Mensaje de error cuando el carrito no pertenece al usuario autenticado.
      */
     public static final String ERROR_CART_UNAUTHORIZED = "Carrito no encontrado";
+    
+    /**
+     * Mensaje de error cuando la lista de productos a eliminar está vacía.
+     */
+    public static final String ERROR_CART_PRODUCT_IDS_REQUIRED = "Debe indicar al menos un producto a eliminar del carrito";
+    
+    /**
+     * Mensaje de error cuando el carrito invitado supera la cantidad máxima de productos.
+     */
+    public static final String ERROR_GUEST_CART_LIMIT_EXCEEDED = "El carrito de invitado alcanzó el máximo de productos. Inicie sesión para continuar";
 
     // ==================== CART - ERROR CODES ====================
     
@@ -595,6 +632,18 @@ public class Constants {
      * Formato: ED-CAR-13 (Ecommerce Davivienda - Cart - 13)
      */
     public static final String CODE_CART_STATUS_NOT_FOUND = "ED-CAR-13";
+    
+    /**
+     * Código de error: Lista de productos a eliminar vacía.
+     * Formato: ED-CAR-14 (Ecommerce Davivienda - Cart - 14)
+     */
+    public static final String CODE_CART_PRODUCT_IDS_REQUIRED = "ED-CAR-14";
+    
+    /**
+     * Código de error: Carrito invitado supera la cantidad máxima de productos.
+     * Formato: ED-CAR-15 (Ecommerce Davivienda - Cart - 15)
+     */
+    public static final String CODE_GUEST_CART_LIMIT_EXCEEDED = "ED-CAR-15";
 
     // ==================== CART STATUS - IDS ====================
     
@@ -634,6 +683,38 @@ public class Constants {
      */
     public static final Integer CART_STATUS_CANCELLED = 6;
 
+    // ==================== PAYMENT STATUS - NAMES ====================
+
+    /**
+     * Nombre del estado "Pendiente" del pago.
+     * Estado del pago registrado completamente, a la espera de confirmación.
+     */
+    public static final String PAYMENT_STATUS_PENDING = "Pendiente";
+
+    /**
+     * Nombre del estado "Procesando" del pago.
+     * Estado de un pago aceptado en modo asíncrono que aún no procesa el worker.
+     */
+    public static final String PAYMENT_STATUS_PROCESSING = "Procesando";
+
+    /**
+     * Nombre del estado "Aprobado" del pago.
+     * Estado de un pago confirmado por la entidad financiera.
+     */
+    public static final String PAYMENT_STATUS_APPROVED = "Aprobado";
+
+    /**
+     * Estados de pago que cuentan como venta: el del checkout completado y su confirmación.
+     * Los usan los agregados de ventas y las recomendaciones.
+     */
+    public static final List<String> SALE_PAYMENT_STATUSES = List.of(PAYMENT_STATUS_PENDING, PAYMENT_STATUS_APPROVED);
+
+    /**
+     * Nombre del estado "Rechazado" del pago.
+     * Estado de un pago asíncrono cuyo procesamiento falló.
+     */
+    public static final String PAYMENT_STATUS_REJECTED = "Rechazado";
+
     // ==================== STOCK - SUCCESS MESSAGES ====================
     
     /**
@@ -852,6 +933,23 @@ public class Constants {
      * Formato: ED-DAT-01 (Ecommerce Davivienda - Data - 01)
      */
     public static final String CODE_DATA_INTEGRITY_VIOLATION = "ED-DAT-01";
+
+    /**
+     * Mensaje de error: Violación de integridad de datos.
+     */
+    public static final String ERROR_DATA_INTEGRITY_VIOLATION =
+            "Error de integridad de datos. Posible duplicado o violación de constraint.";
+
+    /**
+     * Mensaje de error: Sin conexiones disponibles en el pool dentro del tiempo de espera.
+     */
+    public static final String ERROR_DATABASE_BUSY = "El servicio está saturado, intente nuevamente en unos segundos";
+
+    /**
+     * Código de error: Pool de conexiones agotado (límite de concurrencia).
+     * Formato: ED-DAT-02 (Ecommerce Davivienda - Data - 02)
+     */
+    public static final String CODE_DATABASE_BUSY = "ED-DAT-02";
     
     /**
      * Código de error: Acceso denegado.
@@ -859,6 +957,16 @@ public class Constants {
      */
     public static final String CODE_ACCESS_DENIED = "ED-SEC-01";
 
+    /**
+     * Mensaje de error: Acceso denegado a una operación.
+     */
+    public static final String ERROR_ACCESS_DENIED_OPERATION = "Acceso denegado: no tiene permisos para esta operación";
+
+    /**
+     * Mensaje de error: Error interno no controlado.
+     */
+    public static final String ERROR_INTERNAL_SERVER = "Error interno del servidor";
+
     // ==================== PAYMENT - SUCCESS MESSAGES ====================
     
     /**
@@ -876,6 +984,16 @@ public class Constants {
      */
     public static final String SUCCESS_PAYMENT_CANCELLED = "Pago cancelado exitosamente";
 
+    /**
+     * Mensaje de éxito al aceptar un pago para procesamiento asíncrono.
+     */
+    public static final String SUCCESS_PAYMENT_ACCEPTED = "Pago aceptado. Consulte su estado con el número de referencia";
+
+    /**
+     * Mensaje de éxito al consultar el historial de compras.
+     */
+    public static final String SUCCESS_PAYMENT_HISTORY_FOUND = "Historial de compras obtenido exitosamente";
+
     // ==================== PAYMENT - ERROR MESSAGES ====================
     
     /**
@@ -938,6 +1056,36 @@ public class Constants {
      */
     public static final String ERROR_INVALID_CARD_NUMBER = "Número de tarjeta inválido";
 
+    /**
+     * Mensaje de error cuando ya existe un pago en curso para el mismo carrito.
+     */
+    public static final String ERROR_PAYMENT_IN_PROGRESS = "Ya existe un pago en curso para este carrito. Intente nuevamente en unos segundos";
+
+    /**
+     * Mensaje de error cuando el carrito dejó de estar activo mientras se esperaba el pago en curso.
+     */
+    public static final String ERROR_CART_ALREADY_CHECKED_OUT = "El carrito ya fue procesado por otro pago";
+
+    /**
+     * Mensaje de error cuando el header Idempotency-Key es inválido.
+     */
+    public static final String ERROR_IDEMPOTENCY_KEY_INVALID = "El header Idempotency-Key debe tener entre 1 y 100 caracteres";
+
+    /**
+     * Mensaje de error cuando una Idempotency-Key se reutiliza con una solicitud diferente.
+     */
+    public static final String ERROR_IDEMPOTENCY_KEY_REUSED = "La Idempotency-Key ya fue utilizada con una solicitud de pago diferente";
+
+    /**
+     * Mensaje de error cuando la cola de procesamiento asíncrono de pagos está llena.
+     */
+    public static final String ERROR_PAYMENT_QUEUE_FULL = "El sistema de pagos está ocupado. Intente nuevamente en unos segundos";
+
+    /**
+     * Mensaje de error cuando el cursor del historial de compras no es válido.
+     */
+    public static final String ERROR_PAYMENT_HISTORY_INVALID_CURSOR = "El cursor del historial de compras no es válido";
+
     // ==================== PAYMENT - ERROR CODES ====================
     
     /**
@@ -1012,6 +1160,64 @@ public class Constants {
      */
     public static final String CODE_INVALID_CARD_NUMBER = "ED-PAY-12";
 
+    /**
+     * Código de error: Pago en curso para el mismo carrito.
+     * Formato: ED-PAY-13 (Ecommerce Davivienda - Payment - 13)
+     */
+    public static final String CODE_PAYMENT_IN_PROGRESS = "ED-PAY-13";
+
+    /**
+     * Código de error: Carrito ya procesado por otro pago.
+     * Formato: ED-PAY-14 (Ecommerce Davivienda - Payment - 14)
+     */
+    public static final String CODE_CART_ALREADY_CHECKED_OUT = "ED-PAY-14";
+
+    /**
+     * Código de error: Idempotency-Key inválida.
+     * Formato: ED-PAY-15 (Ecommerce Davivienda - Payment - 15)
+     */
+    public static final String CODE_IDEMPOTENCY_KEY_INVALID = "ED-PAY-15";
+
+    /**
+     * Código de error: Idempotency-Key reutilizada con otra solicitud.
+     * Formato: ED-PAY-16 (Ecommerce Davivienda - Payment - 16)
+     */
+    public static final String CODE_IDEMPOTENCY_KEY_REUSED = "ED-PAY-16";
+
+    /**
+     * Código de error: Cola de procesamiento asíncrono llena.
+     * Formato: ED-PAY-17 (Ecommerce Davivienda - Payment - 17)
+     */
+    public static final String CODE_PAYMENT_QUEUE_FULL = "ED-PAY-17";
+
+    /**
+     * Código de error: Cursor del historial de compras inválido.
+     * Formato: ED-PAY-18 (Ecommerce Davivienda - Payment - 18)
+     */
+    public static final String CODE_PAYMENT_HISTORY_INVALID_CURSOR = "ED-PAY-18";
+
+    // ==================== PAYMENT - HEADERS ====================
+
+    /**
+     * Header HTTP con la clave de idempotencia del pago.
+     */
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    // ==================== REQUEST MEMO - HEADERS ====================
+
+    /**
+     * Header de depuración con el número de consultas evitadas por la memoización de la petición.
+     * Solo se envía con request-memo.debug-header=true.
+     */
+    public static final String HEADER_MEMO_SAVED_QUERIES = "X-Memo-Saved-Queries";
+
+    // ==================== REQUEST TIMING - HEADERS ====================
+
+    /**
+     * Header estándar con el desglose de tiempos de la petición (filtros, aplicación, BD).
+     */
+    public static final String HEADER_SERVER_TIMING = "Server-Timing";
+
     // ==================== CART - ERROR MESSAGES ====================
 
     /**
@@ -1078,6 +1284,175 @@ public class Constants {
      */
     public static final String SUCCESS_CART_CREATED = "Carrito creado exitosamente";
 
+    // ==================== ANALYTICS - SUCCESS MESSAGES ====================
+
+    /**
+     * Mensaje de éxito al consultar los agregados de ventas.
+     */
+    public static final String SUCCESS_SALES_ANALYTICS_FOUND = "Agregados de ventas obtenidos exitosamente";
+
+    /**
+     * Mensaje de éxito al reconstruir los agregados de ventas.
+     */
+    public static final String SUCCESS_SALES_ANALYTICS_REBUILT = "Agregados de ventas reconstruidos exitosamente";
+
+    // ==================== ANALYTICS - ERROR MESSAGES ====================
+
+    /**
+     * Mensaje de error cuando el rango de fechas es inválido (fechas nulas o inicio posterior al fin).
+     */
+    public static final String ERROR_ANALYTICS_INVALID_RANGE = "Rango de fechas inválido. La fecha inicial debe ser anterior o igual a la final";
+
+    /**
+     * Mensaje de error cuando el rango de fechas supera el máximo permitido.
+     */
+    public static final String ERROR_ANALYTICS_RANGE_TOO_LARGE = "El rango de fechas supera el máximo de días permitido";
+
+    /**
+     * Mensaje de error cuando el rebuild incluye el día en curso.
+     */
+    public static final String ERROR_ANALYTICS_REBUILD_OPEN_DAY = "Solo se pueden reconstruir días cerrados (hasta ayer)";
+
+    /**
+     * Mensaje de error cuando el rebuild incluye meses cuyos pagos ya fueron archivados.
+     */
+    public static final String ERROR_ANALYTICS_REBUILD_ARCHIVED = "No se pueden reconstruir días cuyos pagos ya fueron archivados";
+
+    // ==================== ANALYTICS - ERROR CODES ====================
+
+    /**
+     * Código de error: Rango de fechas inválido.
+     * Formato: ED-ANA-01 (Ecommerce Davivienda - Analytics - 01)
+     */
+    public static final String CODE_ANALYTICS_INVALID_RANGE = "ED-ANA-01";
+
+    /**
+     * Código de error: Rango de fechas supera el máximo permitido.
+     * Formato: ED-ANA-02 (Ecommerce Davivienda - Analytics - 02)
+     */
+    public static final String CODE_ANALYTICS_RANGE_TOO_LARGE = "ED-ANA-02";
+
+    /**
+     * Código de error: Rebuild sobre el día en curso.
+     * Formato: ED-ANA-03 (Ecommerce Davivienda - Analytics - 03)
+     */
+    public static final String CODE_ANALYTICS_REBUILD_OPEN_DAY = "ED-ANA-03";
+
+    /**
+     * Código de error: Rebuild sobre pagos archivados.
+     * Formato: ED-ANA-04 (Ecommerce Davivienda - Analytics - 04)
+     */
+    public static final String CODE_ANALYTICS_REBUILD_ARCHIVED = "ED-ANA-04";
+
+    // ==================== PERSISTENCE - SEQUENCES ====================
+
+    /**
+     * Tamaño de asignación de las secuencias de identificadores (optimizador pooled-lo).
+     * Debe coincidir con el INCREMENT BY de las secuencias en base de datos y con
+     * hibernate.jdbc.batch_size para que un lote de inserciones consuma una sola llamada a la secuencia.
+     */
+    public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    // ==================== PERSISTENCE - CACHE REGIONS ====================
+
+    /**
+     * Región de caché de segundo nivel para categorías.
+     * Los nombres de región deben coincidir con los alias de ehcache.xml.
+     */
+    public static final String CACHE_REGION_CATEGORY = "ecommerce.category";
+
+    /**
+     * Región de caché de segundo nivel para productos.
+     */
+    public static final String CACHE_REGION_PRODUCT = "ecommerce.product";
+
+    /**
+     * Región de caché de segundo nivel para roles.
+     */
+    public static final String CACHE_REGION_ROLE = "ecommerce.role";
+
+    /**
+     * Región de caché de segundo nivel para tipos de documento.
+     */
+    public static final String CACHE_REGION_DOCUMENT_TYPE = "ecommerce.document-type";
+
+    /**
+     * Región de caché de segundo nivel para estados de usuario.
+     */
+    public static final String CACHE_REGION_USER_STATUS = "ecommerce.user-status";
+
+    /**
+     * Región de caché de segundo nivel para estados de pago.
+     */
+    public static final String CACHE_REGION_PAYMENT_STATUS = "ecommerce.payment-status";
+
+    // ==================== METRICS - LAYERS ====================
+
+    /**
+     * Timer por método de controllers, servicios y repositorios.
+     */
+    public static final String METRIC_LAYER_TIMER = "ecommerce.layer";
+
+    /**
+     * Contador de excepciones de negocio (paquete exception) por dominio.
+     */
+    public static final String METRIC_BUSINESS_EXCEPTIONS = "ecommerce.business.exceptions";
+
+    /**
+     * Contador de hilos virtuales fijados (pinned) a su carrier por encima del umbral.
+     */
+    public static final String METRIC_VIRTUAL_THREAD_PINNED = "ecommerce.virtual-threads.pinned";
+
+    // ==================== METRICS - DATASOURCE ROUTING ====================
+
+    /**
+     * Contador de conexiones entregadas por destino (primary/replica) y motivo.
+     */
+    public static final String METRIC_DATASOURCE_ROUTE = "ecommerce.datasource.route";
+
+    /**
+     * Gauge del estado de la réplica (1 saludable, 0 no saludable).
+     */
+    public static final String METRIC_DATASOURCE_REPLICA_HEALTHY = "ecommerce.datasource.replica.healthy";
+
+    // ==================== METRICS - ERRORS ====================
+
+    /**
+     * Contador de respuestas de error por errorCode y status HTTP.
+     */
+    public static final String METRIC_ERROR_RESPONSES = "ecommerce.errors";
+
+    // ==================== METRICS - LOGGING ====================
+
+    /**
+     * Contador de eventos de log descartados por el appender asíncrono.
+     */
+    public static final String METRIC_LOGGING_DROPPED = "ecommerce.logging.dropped";
+
+    /**
+     * Gauge de la capacidad libre de la cola del appender asíncrono.
+     */
+    public static final String METRIC_LOGGING_QUEUE_REMAINING = "ecommerce.logging.queue.remaining";
+
+    /**
+     * Contador de eventos de log omitidos por muestreo.
+     */
+    public static final String METRIC_LOGGING_SAMPLED_OUT = "ecommerce.logging.sampled-out";
+
+    // ==================== METRICS - ANALYTICS ====================
+
+    /**
+     * Gauge de claves de agregados de ventas pendientes de flush.
+     */
+    public static final String METRIC_ANALYTICS_SALES_PENDING = "ecommerce.analytics.sales.pending";
+
+    // ==================== METRICS - RECOMMENDATIONS ====================
+
+    /**
+     * Gauge de productos con recomendaciones publicadas.
+     */
+    public static final String METRIC_RECOMMENDATION_PRODUCTS = "ecommerce.recommendation.products";
+
     /**
      * Constructor privado para evitar instanciación.
      */
@@ -31,6 +31,13 @@ public class ConstantsSecurity {
      */
     public static final String ERROR_UNKNOWN_USER = "Usuario desconocido";
     
+    // ==================== SECURITY - AUTHORITIES ====================
+
+    /**
+     * Authority del rol administrador (nombre del rol en la tabla roles).
+     */
+    public static final String AUTHORITY_ADMIN = "Administrador";
+
     // ==================== SECURITY - JSON TEMPLATES ====================
     
     /**
@@ -0,0 +1,133 @@
+package com.ecommerce.davivienda.controller.analytics;
+
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.dto.analytics.ProductSalesDto;
+import com.ecommerce.davivienda.models.Response;
+import com.ecommerce.davivienda.service.analytics.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller REST de analítica de ventas para administradores.
+ * Las consultas leen solo los agregados diarios (ventas_diarias, ventas_categoria_diarias,
+ * ventas_producto_diarias), nunca pago ni productos_carrito. Fechas en formato ISO (yyyy-MM-dd).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/analytics/sales")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('Administrador')")
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    /**
+     * Ingresos por día (todos los tipos de pago).
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Response con un elemento por día con ventas
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<Response<List<DailyRevenueDto>>> getDailyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request GET /api/v1/analytics/sales/daily - {} a {}", from, to);
+        return ok(salesAnalyticsService.getDailyRevenue(from, to));
+    }
+
+    /**
+     * Participación de cada tipo de pago (débito, crédito).
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Response con un elemento por tipo de pago
+     */
+    @GetMapping("/payment-types")
+    public ResponseEntity<Response<List<PaymentTypeSalesDto>>> getPaymentTypeMix(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request GET /api/v1/analytics/sales/payment-types - {} a {}", from, to);
+        return ok(salesAnalyticsService.getPaymentTypeMix(from, to));
+    }
+
+    /**
+     * Unidades e ingresos por categoría.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Response con un elemento por categoría
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<Response<List<CategorySalesDto>>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request GET /api/v1/analytics/sales/categories - {} a {}", from, to);
+        return ok(salesAnalyticsService.getCategorySales(from, to));
+    }
+
+    /**
+     * Productos más vendidos por unidades.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @param limit Máximo de productos (opcional)
+     * @return Response con los productos de mayor a menor número de unidades
+     */
+    @GetMapping("/products")
+    public ResponseEntity<Response<List<ProductSalesDto>>> getTopProducts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Request GET /api/v1/analytics/sales/products - {} a {}, limit {}", from, to, limit);
+        return ok(salesAnalyticsService.getTopProducts(from, to, limit));
+    }
+
+    /**
+     * Recalcula los agregados de un rango de días cerrados desde las tablas transaccionales.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive), anterior a hoy
+     * @return Response con el número de filas de agregados escritas
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Response<Integer>> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request POST /api/v1/analytics/sales/rebuild - {} a {}", from, to);
+
+        int rows = salesAnalyticsService.rebuild(from, to);
+
+        return ResponseEntity.ok(Response.<Integer>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_SALES_ANALYTICS_REBUILT)
+                .body(rows)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
+    private static <T> ResponseEntity<Response<T>> ok(T body) {
+        return ResponseEntity.ok(Response.<T>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_SALES_ANALYTICS_FOUND)
+                .body(body)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+}
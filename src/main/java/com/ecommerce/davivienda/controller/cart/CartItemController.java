@@ -11,6 +11,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
@@ -35,16 +37,27 @@ public class CartItemController {
      * El usuario se obtiene automáticamente del token JWT.
      * Endpoint: POST /api/v1/cart-items/add
      *
+     * Con {@code returnSummary=true} retorna el resumen del carrito actualizado,
+     * evitando una llamada adicional a /summary.
+     *
      * @param request DTO con datos del item a agregar
-     * @return Response con mensaje de éxito
+     * @param returnSummary Si es true, el body contiene el resumen del carrito
+     * @return Response con mensaje de éxito o resumen del carrito
      */
     @PostMapping("/add")
-    public ResponseEntity<Response<String>> addItemToCart(
-            @Valid @RequestBody CartItemRequest request) {
+    public ResponseEntity<Response<?>> addItemToCart(
+            @Valid @RequestBody CartItemRequest request,
+            @RequestParam(value = "returnSummary", defaultValue = "false") boolean returnSummary) {
         
         log.info("Request para agregar producto {} al carrito de usuario autenticado", 
                 request.getProductId());
         
+        if (returnSummary) {
+            CartSummaryDto summary = cartItemService.addItemToCartWithSummary(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(buildSummaryResponse(HttpStatus.CREATED, SUCCESS_CART_ITEM_ADDED, summary));
+        }
+        
         Response<String> response = cartItemService.addItemToCart(request);
         
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -56,20 +69,51 @@ public class CartItemController {
      * Elimina un item del carrito.
      * Endpoint: DELETE /api/v1/cart-items/{id}
      *
+     * Con {@code returnSummary=true} retorna el resumen del carrito actualizado.
+     *
      * @param id ID del item a eliminar
-     * @return Response con mensaje de éxito
+     * @param returnSummary Si es true, el body contiene el resumen del carrito
+     * @return Response con mensaje de éxito o resumen del carrito
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Response<String>> removeItemFromCart(
-            @PathVariable("id") Integer id) {
+    public ResponseEntity<Response<?>> removeItemFromCart(
+            @PathVariable("id") Integer id,
+            @RequestParam(value = "returnSummary", defaultValue = "false") boolean returnSummary) {
         
         log.info("Request para eliminar item {} del carrito", id);
         
+        if (returnSummary) {
+            CartSummaryDto summary = cartItemService.removeItemFromCartWithSummary(id);
+            return ResponseEntity.ok(buildSummaryResponse(HttpStatus.OK, SUCCESS_CART_ITEM_DELETED, summary));
+        }
+        
         Response<String> response = cartItemService.removeItemFromCart(id);
         
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Elimina items del carrito del usuario autenticado en una sola sentencia.
+     * Sin {@code productIds} vacía el carrito completo; con {@code productIds}
+     * elimina solo esos productos.
+     * Endpoint: DELETE /api/v1/cart-items[?productIds=1,2,3]
+     *
+     * @param productIds IDs de los productos a eliminar (opcional)
+     * @return Response con la cantidad de items eliminados
+     */
+    @DeleteMapping
+    public ResponseEntity<Response<Integer>> removeItemsFromCart(
+            @RequestParam(value = "productIds", required = false) List<Integer> productIds) {
+        
+        log.info("Request para eliminar productos {} del carrito", productIds == null ? "(todos)" : productIds);
+        
+        Response<Integer> response = productIds == null
+                ? cartItemService.clearCart()
+                : cartItemService.removeItemsFromCart(productIds);
+        
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene un resumen completo del carrito del usuario autenticado con totales agregados.
      * Incluye: lista de items, subtotal, IVA total y precio total.
@@ -85,13 +129,25 @@ public class CartItemController {
         
         CartSummaryDto summary = cartItemService.getCartSummary();
         
-        return ResponseEntity.ok(Response.<CartSummaryDto>builder()
+        return ResponseEntity.ok(buildSummaryResponse(HttpStatus.OK, SUCCESS_CART_ITEMS_FOUND, summary));
+    }
+
+    /**
+     * Construye la respuesta estándar con el resumen del carrito en el body.
+     *
+     * @param status Estado HTTP de la respuesta
+     * @param message Mensaje de éxito
+     * @param summary Resumen del carrito
+     * @return Response con el resumen del carrito
+     */
+    private Response<CartSummaryDto> buildSummaryResponse(HttpStatus status, String message, CartSummaryDto summary) {
+        return Response.<CartSummaryDto>builder()
                 .failure(false)
-                .code(HttpStatus.OK.value())
-                .message(SUCCESS_CART_ITEMS_FOUND)
+                .code(status.value())
+                .message(message)
                 .body(summary)
                 .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build());
+                .build();
     }
 
 
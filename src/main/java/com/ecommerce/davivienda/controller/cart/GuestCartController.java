@@ -0,0 +1,124 @@
+package com.ecommerce.davivienda.controller.cart;
+
+import com.ecommerce.davivienda.dto.cart.guest.GuestCartResultDto;
+import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
+import com.ecommerce.davivienda.models.Response;
+import com.ecommerce.davivienda.models.cart.CartItemRequest;
+import com.ecommerce.davivienda.security.token.GuestCartTokenExtractor;
+import com.ecommerce.davivienda.service.guestcart.GuestCartService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Controlador REST para el carrito de usuarios invitados (no autenticados).
+ * El carrito viaja en la cookie {@code GUEST_CART} (o header {@code X-Guest-Cart})
+ * como token firmado; estos endpoints no escriben en base de datos.
+ * Al iniciar sesión el carrito se fusiona automáticamente con el carrito del usuario.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/guest-cart")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    private final GuestCartService guestCartService;
+    private final GuestCartTokenExtractor tokenExtractor;
+
+    /**
+     * Agrega un producto al carrito invitado.
+     * Si el producto ya existe, actualiza la cantidad con el nuevo valor.
+     * Endpoint: POST /api/v1/guest-cart/add
+     *
+     * @param request DTO con datos del item a agregar
+     * @param httpRequest Request HTTP (lectura del token del carrito)
+     * @param httpResponse Response HTTP (escritura del nuevo token)
+     * @return Response con el resumen del carrito invitado
+     */
+    @PostMapping("/add")
+    public ResponseEntity<Response<CartSummaryDto>> addItem(
+            @Valid @RequestBody CartItemRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        
+        log.info("Request para agregar producto {} al carrito invitado", request.getProductId());
+        
+        GuestCartResultDto result = guestCartService.addItem(tokenExtractor.extractToken(httpRequest), request);
+        
+        return buildResponse(httpResponse, result, HttpStatus.CREATED, SUCCESS_CART_ITEM_ADDED);
+    }
+
+    /**
+     * Elimina un producto del carrito invitado.
+     * Endpoint: DELETE /api/v1/guest-cart/{productId}
+     *
+     * @param productId ID del producto a eliminar
+     * @param httpRequest Request HTTP (lectura del token del carrito)
+     * @param httpResponse Response HTTP (escritura del nuevo token)
+     * @return Response con el resumen del carrito invitado
+     */
+    @DeleteMapping("/{productId}")
+    public ResponseEntity<Response<CartSummaryDto>> removeItem(
+            @PathVariable("productId") Integer productId,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        
+        log.info("Request para eliminar producto {} del carrito invitado", productId);
+        
+        GuestCartResultDto result = guestCartService.removeItem(tokenExtractor.extractToken(httpRequest), productId);
+        
+        return buildResponse(httpResponse, result, HttpStatus.OK, SUCCESS_CART_ITEM_DELETED);
+    }
+
+    /**
+     * Obtiene el resumen del carrito invitado con totales calculados.
+     * Endpoint: GET /api/v1/guest-cart/summary
+     *
+     * @param httpRequest Request HTTP (lectura del token del carrito)
+     * @param httpResponse Response HTTP (escritura del token depurado)
+     * @return Response con el resumen del carrito invitado
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Response<CartSummaryDto>> getSummary(
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        
+        GuestCartResultDto result = guestCartService.getSummary(tokenExtractor.extractToken(httpRequest));
+        
+        return buildResponse(httpResponse, result, HttpStatus.OK, SUCCESS_CART_ITEMS_FOUND);
+    }
+
+    /**
+     * Escribe el nuevo token del carrito y construye la respuesta estándar con el resumen.
+     *
+     * @param httpResponse Response HTTP
+     * @param result Resultado de la operación sobre el carrito invitado
+     * @param status Estado HTTP de la respuesta
+     * @param message Mensaje de éxito
+     * @return ResponseEntity con el resumen del carrito
+     */
+    private ResponseEntity<Response<CartSummaryDto>> buildResponse(HttpServletResponse httpResponse,
+                                                                   GuestCartResultDto result,
+                                                                   HttpStatus status,
+                                                                   String message) {
+        tokenExtractor.writeToken(httpResponse, result.getToken());
+        
+        return ResponseEntity.status(status).body(Response.<CartSummaryDto>builder()
+                .failure(false)
+                .code(status.value())
+                .message(message)
+                .body(result.getSummary())
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+}
@@ -1,24 +1,34 @@
 package com.ecommerce.davivienda.controller.payment;
 
+import com.ecommerce.davivienda.dto.payment.PaymentHistoryResponseDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
 import com.ecommerce.davivienda.models.Response;
-import com.ecommerce.davivienda.service.payment.PaymentService;
+import com.ecommerce.davivienda.service.payment.history.PaymentHistoryService;
+import com.ecommerce.davivienda.service.payment.idempotency.PaymentIdempotencyService;
+import com.ecommerce.davivienda.service.payment.status.PaymentStatusService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_PROCESSED;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
  * Controlador REST para operaciones de procesamiento de pagos.
- * Expone endpoints para procesar pagos con tarjeta débito/crédito.
+ * Expone endpoints para procesar pagos con tarjeta débito/crédito y consultar su estado.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -29,7 +39,9 @@ import static com.ecommerce.davivienda.constants.Constants.SUCCESS_PAYMENT_PROCE
 @RequiredArgsConstructor
 public class PaymentController {
 
-    private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
+    private final PaymentStatusService paymentStatusService;
+    private final PaymentHistoryService paymentHistoryService;
 
     /**
      * Procesa un pago con tarjeta (débito o crédito).
@@ -47,32 +59,97 @@ public class PaymentController {
      *   "installments": 3,                     // Opcional (solo para crédito)
      *   "paymentType": "debito"                // Obligatorio (debito/credito)
      * }
+     * 
+     * El header Idempotency-Key es OPCIONAL: si se envía, los reintentos con la misma clave
+     * retornan el resultado original sin volver a procesar el pago.
+     * 
+     * Con async=true el pago se acepta (202 Accepted, estado "Procesando") y se completa en segundo plano;
+     * el estado se consulta con GET /api/v1/payments/{reference}.
      *
+     * @param idempotencyKey Clave de idempotencia del cliente (opcional)
+     * @param async Si es true, acepta el pago y lo procesa de forma asíncrona (por defecto false)
      * @param request Solicitud con cartId (opcional) y datos encriptados de tarjeta
      * @return Response con PaymentProcessResponseDto
      */
     @PostMapping("/process")
     public ResponseEntity<Response<PaymentProcessResponseDto>> processPayment(
+            @RequestHeader(value = HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             @Valid @RequestBody PaymentProcessRequestDto request) {
 
         log.info("Solicitud de procesamiento de pago recibida - CartId: {}", 
                 request.getCartId() != null ? request.getCartId() : "auto (usuario autenticado)");
 
-        PaymentProcessResponseDto paymentResponse = paymentService.processPayment(request);
+        PaymentProcessResponseDto paymentResponse = paymentIdempotencyService.processPayment(idempotencyKey, request, async);
 
-        log.info("Pago procesado exitosamente - ID: {}, Referencia: {}",
+        log.info("Pago {} - ID: {}, Referencia: {}",
+                async ? "aceptado" : "procesado exitosamente",
                 paymentResponse.getPaymentId(),
                 paymentResponse.getReferenceNumber());
 
+        HttpStatus status = async ? HttpStatus.ACCEPTED : HttpStatus.OK;
         Response<PaymentProcessResponseDto> response = Response.<PaymentProcessResponseDto>builder()
                 .failure(false)
-                .code(HttpStatus.OK.value())
-                .message(SUCCESS_PAYMENT_PROCESSED)
+                .code(status.value())
+                .message(async ? SUCCESS_PAYMENT_ACCEPTED : SUCCESS_PAYMENT_PROCESSED)
                 .body(paymentResponse)
                 .timestamp(String.valueOf(System.currentTimeMillis()))
                 .build();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Consulta el historial de compras del usuario autenticado, de la más reciente a la más antigua,
+     * con los valores cobrados en cada pago.
+     * Para la página siguiente se envía el nextCursor de la respuesta anterior.
+     *
+     * @param cursor Cursor de la página siguiente (opcional, sin él retorna la primera página)
+     * @param size Líneas por página (opcional, por defecto payment.history.default-page-size)
+     * @return Response con PaymentHistoryResponseDto
+     */
+    @GetMapping("/history")
+    public ResponseEntity<Response<PaymentHistoryResponseDto>> getPaymentHistory(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+
+        log.debug("Consulta de historial de compras - size: {}", size);
+
+        PaymentHistoryResponseDto history = paymentHistoryService.getHistory(cursor, size);
+
+        return ResponseEntity.ok(Response.<PaymentHistoryResponseDto>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(SUCCESS_PAYMENT_HISTORY_FOUND)
+                .body(history)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
+    /**
+     * Consulta el estado de un pago del usuario autenticado por número de referencia.
+     * Con waitMs > 0 funciona como long-poll: responde cuando el pago termina de procesarse
+     * o cuando vence la espera (acotada por payment.async.max-wait-ms), lo que ocurra primero.
+     *
+     * @param reference Número de referencia del pago
+     * @param waitMs Espera máxima en milisegundos (por defecto 0, sin espera)
+     * @return Response con PaymentStatusResponseDto
+     */
+    @GetMapping("/{reference}")
+    public CompletableFuture<ResponseEntity<Response<PaymentStatusResponseDto>>> getPaymentStatus(
+            @PathVariable("reference") String reference,
+            @RequestParam(value = "waitMs", defaultValue = "0") long waitMs) {
+
+        log.debug("Consulta de estado de pago - Referencia: {}, waitMs: {}", reference, waitMs);
+
+        return paymentStatusService.awaitPaymentStatus(reference, waitMs)
+                .thenApply(paymentStatus -> ResponseEntity.ok(Response.<PaymentStatusResponseDto>builder()
+                        .failure(false)
+                        .code(HttpStatus.OK.value())
+                        .message(SUCCESS_PAYMENT_FOUND)
+                        .body(paymentStatus)
+                        .timestamp(String.valueOf(System.currentTimeMillis()))
+                        .build()));
     }
 }
 
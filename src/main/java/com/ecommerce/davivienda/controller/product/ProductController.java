@@ -3,11 +3,13 @@ package com.ecommerce.davivienda.controller.product;
 import com.ecommerce.davivienda.constants.Constants;
 import com.ecommerce.davivienda.dto.product.PagedProductResponseDto;
 import com.ecommerce.davivienda.dto.product.ProductFilterDto;
+import com.ecommerce.davivienda.dto.product.RelatedProductDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.product.ProductRequest;
 import com.ecommerce.davivienda.models.product.ProductResponse;
 import com.ecommerce.davivienda.models.product.ProductUpdateRequest;
 import com.ecommerce.davivienda.service.product.ProductService;
+import com.ecommerce.davivienda.service.recommendation.RecommendationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +36,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final RecommendationService recommendationService;
 
     /**
      * Crea un nuevo producto en el catálogo.
@@ -81,6 +84,31 @@ public class ProductController {
                 .build());
     }
 
+    /**
+     * Obtiene los productos comprados frecuentemente junto con un producto.
+     * Se responde desde la tabla en memoria, sin consultar la BD.
+     *
+     * @param id ID del producto
+     * @param limit Máximo de productos (opcional, tope recommendation.top-k)
+     * @return Response con los productos relacionados, de mayor a menor conteo
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<Response<List<RelatedProductDto>>> getRelatedProducts(
+            @PathVariable Integer id,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Request GET /api/v1/products/{}/related - Productos relacionados", id);
+
+        List<RelatedProductDto> related = recommendationService.getRelatedProducts(id, limit);
+
+        return ResponseEntity.ok(Response.<List<RelatedProductDto>>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(Constants.SUCCESS_RELATED_PRODUCTS_FOUND)
+                .body(related)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
     /**
      * Lista todos los productos del catálogo.
      *
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.controller.user;
 
+import com.ecommerce.davivienda.dto.user.PagedUserResponseDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.user.PasswordChangeAuthenticatedRequest;
 import com.ecommerce.davivienda.models.user.PasswordRecoveryRequest;
@@ -10,6 +11,7 @@ import com.ecommerce.davivienda.service.user.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.ecommerce.davivienda.constants.Constants.SUCCESS_USERS_FOUND;
+
 /**
  * Controlador REST para operaciones CRUD sobre usuarios.
  * Expone endpoints para gestión completa de usuarios del sistema.
@@ -48,7 +52,6 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-
     /**
      * Actualiza un usuario existente de forma parcial.
      * Si no se proporciona ID en el body, se actualiza el usuario autenticado del token JWT.
@@ -121,11 +124,13 @@ public class UserController {
     }
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Obtiene todos los usuarios del sistema, hasta 1000 ordenados por ID.
      * Retorna información pública sin datos sensibles como contraseñas.
      *
      * @return Response con lista de usuarios
+     * @deprecated Usar {@code GET /api/v1/users}, paginado y con filtros.
      */
+    @Deprecated
     @GetMapping("/all")
     @PreAuthorize("hasAuthority('Administrador')")
     public ResponseEntity<Response<List<UserResponse>>> getAllUsers() {
@@ -136,6 +141,46 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista usuarios paginados con filtros opcionales.
+     * Requiere rol Administrador. Consultas constantes por página y memoria acotada.
+     *
+     * @param status Nombre del estado de usuario (ej: Activo)
+     * @param role Nombre del rol (ej: Cliente)
+     * @param documentType Código o nombre del tipo de documento (ej: CC)
+     * @param documentNumber Número de documento exacto
+     * @param page Número de página (default: 0)
+     * @param size Tamaño de página (default: 20, máximo: 100)
+     * @param sortBy Campo para ordenar (default: usuarioId).
+     *               <p><b>Valores válidos:</b> usuarioId, nombre, apellido, numeroDeDoc, creationDate</p>
+     * @param sortDir Dirección de orden (asc/desc, default: asc)
+     * @return Response con página de usuarios
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('Administrador')")
+    public ResponseEntity<Response<PagedUserResponseDto>> searchUsers(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String documentType,
+            @RequestParam(required = false) String documentNumber,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "usuarioId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        log.info("GET /api/v1/users - Listar usuarios paginados (page={}, size={})", page, size);
+
+        Page<UserResponse> usersPage = userService.searchUsers(
+                status, role, documentType, documentNumber, page, size, sortBy, sortDir);
+
+        return ResponseEntity.ok(Response.<PagedUserResponseDto>builder()
+                .failure(false)
+                .code(HttpStatus.OK.value())
+                .message(SUCCESS_USERS_FOUND)
+                .body(PagedUserResponseDto.fromPage(usersPage))
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build());
+    }
+
     /**
      * Busca un usuario por su ID.
      *
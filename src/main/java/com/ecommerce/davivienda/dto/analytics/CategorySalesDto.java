@@ -0,0 +1,42 @@
+package com.ecommerce.davivienda.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con las ventas de una categoría en un rango de días.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CategorySalesDto {
+
+    /**
+     * ID de la categoría (0 = productos sin categoría).
+     */
+    @JsonProperty("categoryId")
+    private Integer categoryId;
+
+    /**
+     * Unidades vendidas.
+     */
+    @JsonProperty("units")
+    private Long units;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @JsonProperty("total")
+    private BigDecimal total;
+}
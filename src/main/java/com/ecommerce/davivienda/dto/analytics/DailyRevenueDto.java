@@ -0,0 +1,61 @@
+package com.ecommerce.davivienda.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO con los ingresos de un día (todos los tipos de pago).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DailyRevenueDto {
+
+    /**
+     * Día.
+     */
+    @JsonProperty("date")
+    private LocalDate date;
+
+    /**
+     * Número de pagos.
+     */
+    @JsonProperty("payments")
+    private Long payments;
+
+    /**
+     * Unidades vendidas.
+     */
+    @JsonProperty("units")
+    private Long units;
+
+    /**
+     * Ingresos sin IVA.
+     */
+    @JsonProperty("subtotal")
+    private BigDecimal subtotal;
+
+    /**
+     * IVA cobrado.
+     */
+    @JsonProperty("tax")
+    private BigDecimal tax;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @JsonProperty("total")
+    private BigDecimal total;
+}
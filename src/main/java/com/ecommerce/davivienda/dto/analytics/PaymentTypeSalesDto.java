@@ -0,0 +1,61 @@
+package com.ecommerce.davivienda.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con la participación de un tipo de pago en las ventas de un rango de días.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentTypeSalesDto {
+
+    /**
+     * Tipo de pago (debito o credito).
+     */
+    @JsonProperty("paymentType")
+    private String paymentType;
+
+    /**
+     * Número de pagos.
+     */
+    @JsonProperty("payments")
+    private Long payments;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @JsonProperty("total")
+    private BigDecimal total;
+
+    /**
+     * Porcentaje de los pagos del rango hechos con este tipo (0-100).
+     */
+    @JsonProperty("share")
+    private BigDecimal share;
+
+    /**
+     * Constructor usado por la consulta agregada; el porcentaje lo calcula el servicio.
+     *
+     * @param paymentType Tipo de pago
+     * @param payments Número de pagos
+     * @param total Ingresos con IVA
+     */
+    public PaymentTypeSalesDto(String paymentType, Long payments, BigDecimal total) {
+        this.paymentType = paymentType;
+        this.payments = payments;
+        this.total = total;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.davivienda.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO con las ventas de un producto en un rango de días.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductSalesDto {
+
+    /**
+     * ID del producto.
+     */
+    @JsonProperty("productId")
+    private Integer productId;
+
+    /**
+     * ID de la categoría del producto (0 = sin categoría; la mayor si cambió dentro del rango).
+     */
+    @JsonProperty("categoryId")
+    private Integer categoryId;
+
+    /**
+     * Unidades vendidas.
+     */
+    @JsonProperty("units")
+    private Long units;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @JsonProperty("total")
+    private BigDecimal total;
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.davivienda.dto.cart.guest;
+
+import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de una operación sobre el carrito invitado.
+ * Incluye el nuevo token firmado del carrito y el resumen calculado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GuestCartResultDto {
+
+    /**
+     * Token firmado y comprimido con las líneas del carrito invitado.
+     */
+    @JsonProperty("token")
+    private String token;
+
+    /**
+     * Resumen del carrito invitado con totales calculados.
+     */
+    @JsonProperty("summary")
+    private CartSummaryDto summary;
+}
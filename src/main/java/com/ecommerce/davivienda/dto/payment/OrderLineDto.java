@@ -0,0 +1,93 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un producto comprado en el historial de compras, con los valores cobrados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderLineDto {
+
+    /**
+     * ID del pago.
+     */
+    @JsonProperty("paymentId")
+    private Integer paymentId;
+
+    /**
+     * Número de referencia del pago.
+     */
+    @JsonProperty("referenceNumber")
+    private String referenceNumber;
+
+    /**
+     * Tipo de pago.
+     */
+    @JsonProperty("paymentType")
+    private String paymentType;
+
+    /**
+     * Fecha y hora del pago.
+     */
+    @JsonProperty("paymentDate")
+    private LocalDateTime paymentDate;
+
+    /**
+     * ID del producto.
+     */
+    @JsonProperty("productId")
+    private Integer productId;
+
+    /**
+     * Nombre del producto al momento de la compra.
+     */
+    @JsonProperty("productName")
+    private String productName;
+
+    /**
+     * Cantidad comprada.
+     */
+    @JsonProperty("quantity")
+    private Integer quantity;
+
+    /**
+     * Precio unitario cobrado, sin IVA.
+     */
+    @JsonProperty("unitPrice")
+    private BigDecimal unitPrice;
+
+    /**
+     * Porcentaje de IVA cobrado.
+     */
+    @JsonProperty("ivaRate")
+    private BigDecimal ivaRate;
+
+    /**
+     * IVA total de la línea.
+     */
+    @JsonProperty("ivaAmount")
+    private BigDecimal ivaAmount;
+
+    /**
+     * Total de la línea con IVA.
+     */
+    @JsonProperty("total")
+    private BigDecimal total;
+}
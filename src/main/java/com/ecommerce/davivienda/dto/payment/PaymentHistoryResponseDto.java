@@ -0,0 +1,38 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de una página del historial de compras (paginación keyset).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentHistoryResponseDto {
+
+    /**
+     * Líneas de la página, de la compra más reciente a la más antigua.
+     */
+    @JsonProperty("content")
+    private List<OrderLineDto> content;
+
+    /**
+     * Cursor de la página siguiente (parámetro cursor); null si no hay más líneas.
+     */
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+}
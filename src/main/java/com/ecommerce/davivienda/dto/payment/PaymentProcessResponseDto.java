@@ -31,7 +31,7 @@ public class PaymentProcessResponseDto {
 
     /**
      * Número de referencia único del pago.
-     * Formato: UUID aleatorio
+     * Formato: 13 caracteres Crockford Base32 ordenados por tiempo (ej: "0C8Z4M2K3W000")
      */
     @JsonProperty("referenceNumber")
     private String referenceNumber;
@@ -0,0 +1,63 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para la respuesta de consulta de estado de un pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentStatusResponseDto {
+
+    /**
+     * ID único del pago.
+     */
+    @JsonProperty("paymentId")
+    private Integer paymentId;
+
+    /**
+     * Número de referencia del pago.
+     */
+    @JsonProperty("referenceNumber")
+    private String referenceNumber;
+
+    /**
+     * Estado actual del pago.
+     * Ejemplo: "Procesando", "Pendiente", "Rechazado"
+     */
+    @JsonProperty("status")
+    private String status;
+
+    /**
+     * Tipo de pago.
+     */
+    @JsonProperty("paymentType")
+    private String paymentType;
+
+    /**
+     * Fecha y hora del pago.
+     */
+    @JsonProperty("paymentDate")
+    private LocalDateTime paymentDate;
+
+    /**
+     * Indica si el procesamiento terminó (el estado ya no es "Procesando").
+     */
+    @JsonProperty("completed")
+    private Boolean completed;
+}
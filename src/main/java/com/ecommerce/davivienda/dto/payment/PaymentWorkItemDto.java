@@ -0,0 +1,48 @@
+package com.ecommerce.davivienda.dto.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO interno con el trabajo pendiente de un pago aceptado en modo asíncrono.
+ * Los datos de la tarjeta solo viven en memoria hasta que el worker los procesa;
+ * se persisten encriptados en pago_debito/pago_credito igual que en el flujo síncrono.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWorkItemDto {
+
+    /**
+     * ID del pago aceptado.
+     */
+    private Integer paymentId;
+
+    /**
+     * Fecha del pago aceptado; ubica su partición al releerlo.
+     */
+    private LocalDateTime paymentDate;
+
+    /**
+     * Número de referencia del pago.
+     */
+    private String referenceNumber;
+
+    /**
+     * Datos de la tarjeta ya desencriptados y validados.
+     */
+    private CardDataDto cardData;
+
+    /**
+     * Número de cuotas validado.
+     */
+    private Integer installments;
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.davivienda.dto.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de un producto comprado frecuentemente junto con otro.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedProductDto {
+
+    /**
+     * ID del producto relacionado.
+     */
+    @JsonProperty("productId")
+    private Integer productId;
+
+    /**
+     * Número de carritos pagados en los que aparecen ambos productos.
+     */
+    @JsonProperty("score")
+    private Integer score;
+}
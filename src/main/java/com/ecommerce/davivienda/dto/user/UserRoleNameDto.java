@@ -0,0 +1,27 @@
+package com.ecommerce.davivienda.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proyección plana de la relación usuario-rol: ID del usuario y nombre del rol.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleNameDto {
+
+    /**
+     * ID del usuario.
+     */
+    private Integer usuarioId;
+
+    /**
+     * Nombre del rol.
+     */
+    private String roleName;
+}
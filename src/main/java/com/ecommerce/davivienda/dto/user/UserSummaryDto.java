@@ -0,0 +1,59 @@
+package com.ecommerce.davivienda.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proyección plana de un usuario para el listado paginado.
+ * Se construye directamente en la consulta JPQL (una fila por usuario, sin cargar entidades
+ * ni sus asociaciones EAGER). Los roles se consultan aparte para toda la página.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+
+    /**
+     * ID del usuario.
+     */
+    private Integer usuarioId;
+
+    /**
+     * Nombre del usuario.
+     */
+    private String nombre;
+
+    /**
+     * Apellido del usuario.
+     */
+    private String apellido;
+
+    /**
+     * Nombre del tipo de documento.
+     */
+    private String documentType;
+
+    /**
+     * Número de documento.
+     */
+    private String documentNumber;
+
+    /**
+     * Correo electrónico.
+     */
+    private String email;
+
+    /**
+     * Nombre del estado del usuario.
+     */
+    private String status;
+
+    /**
+     * ID de la relación usuario-rol principal.
+     */
+    private Integer usuarioRolId;
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.davivienda.entity.analytics;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado diario de ventas por categoría.
+ * Mapea la tabla 'ventas_categoria_diarias'; solo se escribe con upserts nativos desde el servicio de analítica.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "ventas_categoria_diarias")
+@IdClass(DailyCategorySales.Key.class)
+public class DailyCategorySales {
+
+    /**
+     * Día del pago.
+     */
+    @Id
+    @Column(name = "fecha")
+    private LocalDate fecha;
+
+    /**
+     * ID de la categoría (0 = producto sin categoría).
+     */
+    @Id
+    @Column(name = "categoria_id")
+    private Integer categoriaId;
+
+    /**
+     * Unidades vendidas.
+     */
+    @Column(name = "unidades", nullable = false)
+    private Integer unidades;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @Column(name = "total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    /**
+     * Clave compuesta (fecha, categoria_id).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate fecha;
+        private Integer categoriaId;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.davivienda.entity.analytics;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado diario de ventas por producto.
+ * Mapea la tabla 'ventas_producto_diarias'; solo se escribe con upserts nativos desde el servicio de analítica.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "ventas_producto_diarias")
+@IdClass(DailyProductSales.Key.class)
+public class DailyProductSales {
+
+    /**
+     * Día del pago.
+     */
+    @Id
+    @Column(name = "fecha")
+    private LocalDate fecha;
+
+    /**
+     * ID del producto.
+     */
+    @Id
+    @Column(name = "producto_id")
+    private Integer productoId;
+
+    /**
+     * ID de la categoría del producto al momento de la venta (0 = sin categoría).
+     */
+    @Column(name = "categoria_id", nullable = false)
+    private Integer categoriaId;
+
+    /**
+     * Unidades vendidas.
+     */
+    @Column(name = "unidades", nullable = false)
+    private Integer unidades;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @Column(name = "total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    /**
+     * Clave compuesta (fecha, producto_id).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate fecha;
+        private Integer productoId;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.davivienda.entity.analytics;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Agregado diario de ventas por tipo de pago.
+ * Mapea la tabla 'ventas_diarias'; solo se escribe con upserts nativos desde el servicio de analítica.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "ventas_diarias")
+@IdClass(DailySales.Key.class)
+public class DailySales {
+
+    /**
+     * Día del pago.
+     */
+    @Id
+    @Column(name = "fecha")
+    private LocalDate fecha;
+
+    /**
+     * Tipo de pago (debito o credito).
+     */
+    @Id
+    @Column(name = "tipo_pago_id", length = 20)
+    private String tipoPagoId;
+
+    /**
+     * Número de pagos.
+     */
+    @Column(name = "pagos", nullable = false)
+    private Integer pagos;
+
+    /**
+     * Unidades vendidas.
+     */
+    @Column(name = "unidades", nullable = false)
+    private Integer unidades;
+
+    /**
+     * Ingresos sin IVA.
+     */
+    @Column(name = "subtotal", nullable = false, precision = 14, scale = 2)
+    private BigDecimal subtotal;
+
+    /**
+     * IVA cobrado.
+     */
+    @Column(name = "iva", nullable = false, precision = 14, scale = 2)
+    private BigDecimal iva;
+
+    /**
+     * Ingresos con IVA.
+     */
+    @Column(name = "total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    /**
+     * Clave compuesta (fecha, tipo_pago_id).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate fecha;
+        private String tipoPagoId;
+    }
+}
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa un carrito de compras.
  * Mapea la tabla 'carrito' en la base de datos.
@@ -29,7 +31,8 @@ public class Cart {
      * Identificador único del carrito.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carrito_carrito_id_seq")
+    @SequenceGenerator(name = "carrito_carrito_id_seq", sequenceName = "carrito_carrito_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "carrito_id")
     private Integer carritoId;
 
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa un producto dentro de un carrito de compras.
  * Mapea la tabla 'productos_carrito' en la base de datos.
@@ -31,7 +33,8 @@ public class CartItem {
      * Identificador único del item del carrito.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_carrito_productos_carrito_id_seq")
+    @SequenceGenerator(name = "productos_carrito_productos_carrito_id_seq", sequenceName = "productos_carrito_productos_carrito_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "productos_carrito_id")
     private Integer productosCarritoId;
 
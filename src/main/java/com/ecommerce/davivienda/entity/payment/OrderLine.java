@@ -0,0 +1,118 @@
+package com.ecommerce.davivienda.entity.payment;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
+/**
+ * Snapshot de un producto cobrado en un pago.
+ * Mapea la tabla 'lineas_pedido'; se inserta una vez al completar el pago y no se actualiza,
+ * así el historial muestra lo cobrado aunque cambien el precio, el IVA o el nombre del producto.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "lineas_pedido")
+public class OrderLine {
+
+    /**
+     * Identificador único de la línea.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lineas_pedido_linea_pedido_id_seq")
+    @SequenceGenerator(name = "lineas_pedido_linea_pedido_id_seq", sequenceName = "lineas_pedido_linea_pedido_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
+    @Column(name = "linea_pedido_id")
+    private Integer orderLineId;
+
+    /**
+     * UserRole del comprador (dueño del carrito).
+     */
+    @Column(name = "usuario_rol_id", nullable = false)
+    private Integer userRoleId;
+
+    /**
+     * ID del pago.
+     */
+    @Column(name = "pago_id", nullable = false)
+    private Integer paymentId;
+
+    /**
+     * Número de referencia del pago (para consultar su estado).
+     */
+    @Column(name = "numero_referencia", nullable = false, length = 100)
+    private String referenceNumber;
+
+    /**
+     * Tipo de pago (debito/credito).
+     */
+    @Column(name = "tipo_pago_id", nullable = false, length = 20)
+    private String paymentType;
+
+    /**
+     * Fecha y hora del pago.
+     */
+    @Column(name = "fecha_pago", nullable = false)
+    private LocalDateTime paymentDate;
+
+    /**
+     * ID del producto.
+     */
+    @Column(name = "producto_id", nullable = false)
+    private Integer productId;
+
+    /**
+     * ID de la categoría del producto al momento del pago (0 = sin categoría).
+     */
+    @Column(name = "categoria_id", nullable = false)
+    private Integer categoryId;
+
+    /**
+     * Nombre del producto al momento del pago.
+     */
+    @Column(name = "nombre_producto", nullable = false, length = 200)
+    private String productName;
+
+    /**
+     * Cantidad cobrada.
+     */
+    @Column(name = "cantidad", nullable = false)
+    private Integer quantity;
+
+    /**
+     * Precio unitario cobrado, sin IVA.
+     */
+    @Column(name = "valor_unitario", nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+
+    /**
+     * Porcentaje de IVA cobrado.
+     */
+    @Column(name = "iva", nullable = false, precision = 5, scale = 2)
+    private BigDecimal ivaRate;
+
+    /**
+     * IVA total de la línea.
+     */
+    @Column(name = "valor_iva", nullable = false, precision = 14, scale = 2)
+    private BigDecimal ivaAmount;
+
+    /**
+     * Total de la línea con IVA.
+     */
+    @Column(name = "total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+}
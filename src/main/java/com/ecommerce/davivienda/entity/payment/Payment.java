@@ -6,12 +6,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDateTime;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa un pago realizado por un usuario.
  * Contiene información general del pago y relaciones con carrito, tipo de pago, referencia y estado.
+ * La tabla se particiona por mes de fecha_pago.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -28,7 +32,8 @@ public class Payment {
      * ID único del pago.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pago_pago_id_seq")
+    @SequenceGenerator(name = "pago_pago_id_seq", sequenceName = "pago_pago_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "pago_id")
     private Integer paymentId;
 
@@ -47,8 +52,9 @@ public class Payment {
     private PaymentType paymentType;
 
     /**
-     * Fecha y hora del pago.
+     * Fecha y hora del pago (clave de partición). Es la misma de la referencia.
      */
+    @PartitionKey
     @Column(name = "fecha_pago", nullable = false)
     private LocalDateTime paymentDate;
 
@@ -73,7 +79,7 @@ public class Payment {
     @PrePersist
     protected void onCreate() {
         if (paymentDate == null) {
-            paymentDate = LocalDateTime.now();
+            paymentDate = reference != null ? reference.getPaymentDate() : LocalDateTime.now();
         }
     }
 }
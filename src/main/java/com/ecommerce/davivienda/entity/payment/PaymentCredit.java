@@ -5,8 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa los detalles específicos de un pago con tarjeta crédito.
@@ -27,7 +31,8 @@ public class PaymentCredit {
      * ID único del pago crédito.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pago_credito_pago_credito_id_seq")
+    @SequenceGenerator(name = "pago_credito_pago_credito_id_seq", sequenceName = "pago_credito_pago_credito_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "pago_credito_id")
     private Integer paymentCreditId;
 
@@ -38,6 +43,13 @@ public class PaymentCredit {
     @JoinColumn(name = "pago_id", nullable = false)
     private Payment payment;
 
+    /**
+     * Fecha del pago asociado (clave de partición).
+     */
+    @PartitionKey
+    @Column(name = "fecha_pago", nullable = false)
+    private LocalDateTime paymentDate;
+
     /**
      * Número de cuotas para el pago a crédito.
      * Mínimo 1 cuota.
@@ -5,8 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa los detalles específicos de un pago con tarjeta débito.
@@ -26,7 +30,8 @@ public class PaymentDebit {
      * ID único del pago débito.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pago_debito_pago_debito_id_seq")
+    @SequenceGenerator(name = "pago_debito_pago_debito_id_seq", sequenceName = "pago_debito_pago_debito_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "pago_debito_id")
     private Integer paymentDebitId;
 
@@ -37,6 +42,13 @@ public class PaymentDebit {
     @JoinColumn(name = "pago_id", nullable = false)
     private Payment payment;
 
+    /**
+     * Fecha del pago asociado (clave de partición).
+     */
+    @PartitionKey
+    @Column(name = "fecha_pago", nullable = false)
+    private LocalDateTime paymentDate;
+
     /**
      * Fecha de vencimiento de la tarjeta.
      */
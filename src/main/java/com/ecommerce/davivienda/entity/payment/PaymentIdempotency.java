@@ -0,0 +1,84 @@
+package com.ecommerce.davivienda.entity.payment;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
+/**
+ * Entidad que registra el resultado de un pago asociado a una Idempotency-Key.
+ * Permite responder reintentos del cliente sin volver a ejecutar el pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "idempotencia_pago",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"correo", "clave"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentIdempotency {
+
+    /**
+     * ID único del registro.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotencia_pago_idempotencia_pago_id_seq")
+    @SequenceGenerator(name = "idempotencia_pago_idempotencia_pago_id_seq", sequenceName = "idempotencia_pago_idempotencia_pago_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
+    @Column(name = "idempotencia_pago_id")
+    private Integer idempotencyId;
+
+    /**
+     * Correo del usuario que envió la solicitud (las claves son por usuario).
+     */
+    @Column(name = "correo", nullable = false, length = 255)
+    private String userEmail;
+
+    /**
+     * Valor del header Idempotency-Key.
+     */
+    @Column(name = "clave", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /**
+     * Hash SHA-256 de la solicitud original, para detectar reutilización con otro payload.
+     */
+    @Column(name = "hash_solicitud", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * Respuesta serializada en JSON (PaymentProcessResponseDto).
+     */
+    @Column(name = "respuesta", nullable = false, columnDefinition = "TEXT")
+    private String responseJson;
+
+    /**
+     * Fecha de creación del registro.
+     */
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Fecha a partir de la cual el registro deja de ser válido.
+     */
+    @Column(name = "fecha_expiracion", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Callback ejecutado antes de persistir la entidad.
+     * Establece la fecha de creación si no está definida.
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -5,10 +5,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
+
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa una referencia de pago única.
  * Cada pago tiene una referencia única para trazabilidad.
+ * La tabla se particiona por mes de la fecha del pago, igual que {@link Payment}.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -25,7 +31,8 @@ public class PaymentReference {
      * ID único de la referencia.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "referencias_referencia_id_seq")
+    @SequenceGenerator(name = "referencias_referencia_id_seq", sequenceName = "referencias_referencia_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "referencia_id")
     private Integer referenceId;
 
@@ -33,7 +40,14 @@ public class PaymentReference {
      * Número de referencia único del pago.
      * Ejemplo: "REF-202511-00001"
      */
-    @Column(name = "numero", nullable = false, unique = true, length = 100)
+    @Column(name = "numero", nullable = false, length = 100)
     private String referenceNumber;
+
+    /**
+     * Fecha del pago de la referencia (clave de partición).
+     */
+    @PartitionKey
+    @Column(name = "fecha_pago", nullable = false)
+    private LocalDateTime paymentDate;
 }
 
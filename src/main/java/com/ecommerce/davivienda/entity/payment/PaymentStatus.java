@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_PAYMENT_STATUS;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa el estado de un pago.
@@ -14,6 +19,8 @@ import lombok.NoArgsConstructor;
  * @since 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_PAYMENT_STATUS)
 @Table(name = "estado_pago")
 @Data
 @Builder
@@ -25,7 +32,8 @@ public class PaymentStatus {
      * ID único del estado de pago.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estado_pago_estado_pago_id_seq")
+    @SequenceGenerator(name = "estado_pago_estado_pago_id_seq", sequenceName = "estado_pago_estado_pago_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "estado_pago_id")
     private Integer paymentStatusId;
 
@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_CATEGORY;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa una categoría de productos.
@@ -18,6 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_CATEGORY)
 @Table(name = "categorias")
 public class Category {
 
@@ -25,7 +32,8 @@ public class Category {
      * Identificador único de la categoría.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categorias_categoria_id_seq")
+    @SequenceGenerator(name = "categorias_categoria_id_seq", sequenceName = "categorias_categoria_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "categoria_id")
     private Integer categoriaId;
 
@@ -5,10 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_PRODUCT;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa un producto del catálogo.
  * Mapea la tabla 'productos' en la base de datos existente.
@@ -21,6 +26,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_PRODUCT)
 @Table(name = "productos")
 public class Product {
 
@@ -28,7 +35,8 @@ public class Product {
      * Identificador único del producto.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_producto_id_seq")
+    @SequenceGenerator(name = "productos_producto_id_seq", sequenceName = "productos_producto_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "producto_id")
     private Integer productoId;
 
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa el inventario/stock de productos.
  * Mapea la tabla 'stock' en la base de datos.
@@ -25,7 +27,8 @@ public class Stock {
      * Identificador único del registro de stock.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_stock_id_seq")
+    @SequenceGenerator(name = "stock_stock_id_seq", sequenceName = "stock_stock_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "stock_id")
     private Integer stockId;
 
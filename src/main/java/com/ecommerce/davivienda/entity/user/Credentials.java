@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa las credenciales de acceso de un usuario.
  * Mapea la tabla 'credenciales' en la base de datos.
@@ -25,7 +27,8 @@ public class Credentials {
      * Identificador único de las credenciales.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credenciales_credenciales_id_seq")
+    @SequenceGenerator(name = "credenciales_credenciales_id_seq", sequenceName = "credenciales_credenciales_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "credenciales_id")
     private Integer credencialesId;
 
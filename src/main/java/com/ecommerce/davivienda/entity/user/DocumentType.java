@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_DOCUMENT_TYPE;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa los tipos de documento de identidad.
@@ -18,6 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_DOCUMENT_TYPE)
 @Table(name = "documentos")
 public class DocumentType {
 
@@ -25,7 +32,8 @@ public class DocumentType {
      * Identificador único del tipo de documento.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documentos_documento_id_seq")
+    @SequenceGenerator(name = "documentos_documento_id_seq", sequenceName = "documentos_documento_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "documento_id")
     private Integer documentoId;
 
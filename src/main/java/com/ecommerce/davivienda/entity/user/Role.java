@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_ROLE;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa los roles de usuario en el sistema.
@@ -18,6 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_ROLE)
 @Table(name = "roles")
 public class Role {
 
@@ -25,7 +32,8 @@ public class Role {
      * Identificador único del rol.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_rol_id_seq")
+    @SequenceGenerator(name = "roles_rol_id_seq", sequenceName = "roles_rol_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "rol_id")
     private Integer rolId;
 
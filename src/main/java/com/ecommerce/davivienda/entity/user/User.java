@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa un usuario del sistema.
  * Mapea la tabla 'usuarios' en la base de datos.
@@ -29,7 +31,8 @@ public class User {
      * Identificador único del usuario.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_usuario_id_seq")
+    @SequenceGenerator(name = "usuarios_usuario_id_seq", sequenceName = "usuarios_usuario_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "usuario_id")
     private Integer usuarioId;
 
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
+
 /**
  * Entidad que representa la relación entre usuarios y roles (tabla intermedia).
  * Mapea la tabla 'usuario_rol' en la base de datos.
@@ -28,7 +30,8 @@ public class UserRole {
      * Identificador único de la relación usuario-rol.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_rol_usuario_rol_id_seq")
+    @SequenceGenerator(name = "usuario_rol_usuario_rol_id_seq", sequenceName = "usuario_rol_usuario_rol_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "usuario_rol_id")
     private Integer usuarioRolId;
 
@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static com.ecommerce.davivienda.constants.Constants.CACHE_REGION_USER_STATUS;
+import static com.ecommerce.davivienda.constants.Constants.SEQUENCE_ALLOCATION_SIZE;
 
 /**
  * Entidad que representa los estados de un usuario en el sistema.
@@ -18,6 +23,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION_USER_STATUS)
 @Table(name = "estado_usuario")
 public class UserStatus {
 
@@ -25,7 +32,8 @@ public class UserStatus {
      * Identificador único del estado de usuario.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estado_usuario_estado_usuario_id_seq")
+    @SequenceGenerator(name = "estado_usuario_estado_usuario_id_seq", sequenceName = "estado_usuario_estado_usuario_id_seq", allocationSize = SEQUENCE_ALLOCATION_SIZE)
     @Column(name = "estado_usuario_id")
     private Integer estadoUsuarioId;
 
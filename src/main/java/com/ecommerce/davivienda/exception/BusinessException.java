@@ -0,0 +1,56 @@
+package com.ecommerce.davivienda.exception;
+
+import lombok.Getter;
+
+/**
+ * Base de las excepciones de negocio (stock insuficiente, nombre duplicado, rol incorrecto, etc.).
+ *
+ * <p>Son errores esperados que viajan como control de flujo hasta {@link ExceptionHandlerController},
+ * así que por defecto no capturan stack trace: llenarlo recorre toda la cadena
+ * service → validation → transactional en cada lanzamiento y nadie lo imprime. La causa, si existe,
+ * conserva el suyo. Con exceptions.business.stack-traces=true se capturan de nuevo (depuración).</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Getter
+public abstract class BusinessException extends RuntimeException {
+
+    private static volatile boolean stackTracesEnabled = false;
+
+    /**
+     * Código de error específico de la excepción.
+     */
+    private final String errorCode;
+
+    /**
+     * Constructor para crear una excepción con mensaje y código de error.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param errorCode Código de error específico (ver Constants.CODE_*)
+     */
+    protected BusinessException(String message, String errorCode) {
+        this(message, errorCode, null);
+    }
+
+    /**
+     * Constructor para crear una excepción con mensaje, código de error y causa.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param errorCode Código de error específico (ver Constants.CODE_*)
+     * @param cause Excepción original que causó este error
+     */
+    protected BusinessException(String message, String errorCode, Throwable cause) {
+        super(message, cause, false, stackTracesEnabled);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Activa o desactiva la captura de stack traces para las excepciones creadas desde ahora.
+     *
+     * @param enabled true para capturar stack traces (modo depuración)
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+}
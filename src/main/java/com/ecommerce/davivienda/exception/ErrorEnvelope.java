@@ -0,0 +1,47 @@
+package com.ecommerce.davivienda.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Sobre de error sin cuerpo de {@link ExceptionHandlerController}.
+ * Se serializa con los mismos campos que {@link com.ecommerce.davivienda.models.Response}
+ * (failure, code, errorCode, message, timestamp).
+ *
+ * <p>Es inmutable, así que {@link ErrorResponseFactory} comparte una instancia entre peticiones
+ * cuando el mensaje es una constante; el timestamp se calcula al serializar.</p>
+ *
+ * @param code Status HTTP
+ * @param errorCode Código de error (ED-XXX-NN)
+ * @param message Mensaje de error
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"failure", "code", "errorCode", "message", "timestamp"})
+public record ErrorEnvelope(
+        @JsonProperty("code") Integer code,
+        @JsonProperty("errorCode") String errorCode,
+        @JsonProperty("message") String message) {
+
+    /**
+     * Un sobre de error siempre es una respuesta fallida.
+     *
+     * @return true
+     */
+    @JsonProperty("failure")
+    public Boolean failure() {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Momento de la serialización en milisegundos.
+     *
+     * @return Timestamp actual
+     */
+    @JsonProperty("timestamp")
+    public String timestamp() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.davivienda.exception;
+
+import com.ecommerce.davivienda.constants.Constants;
+import com.ecommerce.davivienda.models.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_ERROR_RESPONSES;
+
+/**
+ * Construye los sobres de error de {@link ExceptionHandlerController} y cuenta cada respuesta en
+ * {@code ecommerce.errors} (tags errorCode y status).
+ *
+ * <p>Los sobres sin cuerpo son {@link ErrorEnvelope} inmutables. Cuando el mensaje es una constante
+ * de {@link Constants} el sobre se construye una sola vez por combinación (status, código, mensaje)
+ * y se reutiliza; los mensajes dinámicos (con ids, nombres, etc.) se construyen en cada respuesta,
+ * así la caché queda acotada por el número de constantes.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseFactory {
+
+    private static final Set<String> CONSTANT_MESSAGES = constantMessages();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<List<Object>, ErrorEnvelope> envelopes = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Sobre de error sin cuerpo.
+     *
+     * @param status Status HTTP informado en el campo code
+     * @param errorCode Código de error (ED-XXX-NN)
+     * @param message Mensaje de error
+     * @return Sobre de error, compartido si el mensaje es una constante
+     */
+    public ErrorEnvelope failure(HttpStatus status, String errorCode, String message) {
+        return failure(status, errorCode, message, message);
+    }
+
+    /**
+     * Sobre de error con el código como prefijo del mensaje ("[ED-PAY-01] mensaje").
+     *
+     * @param status Status HTTP informado en el campo code
+     * @param errorCode Código de error (ED-XXX-NN)
+     * @param message Mensaje de error sin prefijo
+     * @return Sobre de error, compartido si el mensaje es una constante
+     */
+    public ErrorEnvelope failureWithCodePrefix(HttpStatus status, String errorCode, String message) {
+        return failure(status, errorCode, message, String.format("[%s] %s", errorCode, message));
+    }
+
+    /**
+     * Sobre de error con cuerpo; siempre se construye porque el cuerpo es propio de la petición.
+     *
+     * @param status Status HTTP informado en el campo code
+     * @param errorCode Código de error (ED-XXX-NN)
+     * @param message Mensaje de error
+     * @param body Detalle del error
+     * @param <T> Tipo del cuerpo
+     * @return Sobre de error
+     */
+    public <T> Response<T> failure(HttpStatus status, String errorCode, String message, T body) {
+        count(status, errorCode);
+        return Response.<T>builder()
+                .failure(true)
+                .code(status.value())
+                .errorCode(errorCode)
+                .message(message)
+                .body(body)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build();
+    }
+
+    private ErrorEnvelope failure(HttpStatus status, String errorCode, String message, String displayMessage) {
+        count(status, errorCode);
+        if (!CONSTANT_MESSAGES.contains(message)) {
+            return new ErrorEnvelope(status.value(), errorCode, displayMessage);
+        }
+        return envelopes.computeIfAbsent(List.of(status.value(), String.valueOf(errorCode), displayMessage),
+                key -> new ErrorEnvelope(status.value(), errorCode, displayMessage));
+    }
+
+    private void count(HttpStatus status, String errorCode) {
+        String code = errorCode == null ? "none" : errorCode;
+        counters.computeIfAbsent(List.of(status.value(), code), key -> Counter.builder(METRIC_ERROR_RESPONSES)
+                        .description("Respuestas de error por código de error y status")
+                        .tag("errorCode", code)
+                        .tag("status", String.valueOf(status.value()))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * Valores de las constantes String públicas de {@link Constants} (mensajes de error incluidos).
+     */
+    private static Set<String> constantMessages() {
+        return Arrays.stream(Constants.class.getFields())
+                .filter(field -> Modifier.isStatic(field.getModifiers()) && field.getType() == String.class)
+                .map(ErrorResponseFactory::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static String valueOf(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("No se pudo leer la constante " + field.getName(), e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ecommerce.davivienda.exception;
 
 import com.ecommerce.davivienda.constants.Constants;
 import com.ecommerce.davivienda.dto.stock.StockValidationResponseDto;
+import com.ecommerce.davivienda.exception.analytics.AnalyticsException;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.exception.document.DocumentTypeException;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
@@ -12,10 +13,14 @@ import com.ecommerce.davivienda.exception.stock.StockException;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.models.Response;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -26,23 +31,27 @@ import java.util.stream.Collectors;
 /**
  * Manejador global de excepciones para todos los controladores.
  * Captura y transforma excepciones en respuestas HTTP estandarizadas.
+ * Los sobres de error los construye (y reutiliza) {@link ErrorResponseFactory}.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionHandlerController {
 
+    private final ErrorResponseFactory errorResponseFactory;
+
     /**
      * Maneja excepciones de usuario personalizadas.
      *
      * @param e Excepción de usuario
      * @param request Request HTTP
-     * @return Response con error de usuario
+     * @return Sobre de error de usuario
      */
     @ExceptionHandler({UserException.class})
-    public Response<Object> handleUserException(UserException e, HttpServletRequest request) {
+    public ErrorEnvelope handleUserException(UserException e, HttpServletRequest request) {
         log.error("UserException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
@@ -51,13 +60,7 @@ public class ExceptionHandlerController {
                 ? HttpStatus.NOT_FOUND
                 : HttpStatus.BAD_REQUEST;
 
-        return Response.builder()
-                .failure(true)
-                .code(status.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(status, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -65,10 +68,10 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de producto
      * @param request Request HTTP
-     * @return Response con error de producto
+     * @return Sobre de error de producto
      */
     @ExceptionHandler({ProductException.class})
-    public Response<Object> handleProductException(ProductException e, HttpServletRequest request) {
+    public ErrorEnvelope handleProductException(ProductException e, HttpServletRequest request) {
         log.error("ProductException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
@@ -77,13 +80,7 @@ public class ExceptionHandlerController {
                 ? HttpStatus.NOT_FOUND
                 : HttpStatus.BAD_REQUEST;
 
-        return Response.builder()
-                .failure(true)
-                .code(status.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(status, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -91,22 +88,16 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de carrito
      * @param request Request HTTP
-     * @return Response con error de carrito
+     * @return Sobre de error de carrito
      */
     @ExceptionHandler({CartException.class})
-    public Response<Object> handleCartException(CartException e, HttpServletRequest request) {
+    public ErrorEnvelope handleCartException(CartException e, HttpServletRequest request) {
         log.error("CartException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
         HttpStatus status = determineCartExceptionStatus(e.getErrorCode());
 
-        return Response.builder()
-                .failure(true)
-                .code(status.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(status, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -141,21 +132,15 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de tipo de documento
      * @param request Request HTTP
-     * @return Response con error de tipo de documento
+     * @return Sobre de error de tipo de documento
      */
     @ExceptionHandler({DocumentTypeException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<Object> handleDocumentTypeException(DocumentTypeException e, HttpServletRequest request) {
+    public ErrorEnvelope handleDocumentTypeException(DocumentTypeException e, HttpServletRequest request) {
         log.error("DocumentTypeException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.BAD_REQUEST.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -163,21 +148,15 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de rol
      * @param request Request HTTP
-     * @return Response con error de rol
+     * @return Sobre de error de rol
      */
     @ExceptionHandler({RoleException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<Object> handleRoleException(RoleException e, HttpServletRequest request) {
+    public ErrorEnvelope handleRoleException(RoleException e, HttpServletRequest request) {
         log.error("RoleException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.BAD_REQUEST.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -205,14 +184,7 @@ public class ExceptionHandlerController {
                 .productsWithIssues(e.getInsufficientStockProducts().size())
                 .build();
 
-        return Response.<StockValidationResponseDto>builder()
-                .failure(true)
-                .code(HttpStatus.BAD_REQUEST.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .body(responseBody)
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage(), responseBody);
     }
 
     /**
@@ -220,21 +192,15 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de stock
      * @param request Request HTTP
-     * @return Response con error de stock
+     * @return Sobre de error de stock
      */
     @ExceptionHandler({StockException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<Object> handleStockException(StockException e, HttpServletRequest request) {
+    public ErrorEnvelope handleStockException(StockException e, HttpServletRequest request) {
         log.error("StockException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.BAD_REQUEST.value())
-                .errorCode(e.getErrorCode())
-                .message(e.getMessage())
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -242,11 +208,11 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de validación
      * @param request Request HTTP
-     * @return Response con errores de validación
+     * @return Sobre de error con errores de validación
      */
     @ExceptionHandler({MethodArgumentNotValidException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<Object> handleValidationException(
+    public ErrorEnvelope handleValidationException(
             MethodArgumentNotValidException e, 
             HttpServletRequest request) {
         
@@ -256,13 +222,8 @@ public class ExceptionHandlerController {
 
         log.error("ValidationException: URL={} | Errors={}", request.getRequestURI(), errors);
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.BAD_REQUEST.value())
-                .errorCode(Constants.CODE_VALIDATION_EXCEPTION)
-                .message("Errores de validación: " + errors)
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, Constants.CODE_VALIDATION_EXCEPTION,
+                "Errores de validación: " + errors);
     }
 
     /**
@@ -270,26 +231,37 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de integridad
      * @param request Request HTTP
-     * @return Response con error de integridad
+     * @return Sobre de error de integridad
      */
     @ExceptionHandler({DataIntegrityViolationException.class})
     @ResponseStatus(HttpStatus.CONFLICT)
-    public Response<Object> handleDataIntegrityViolation(
+    public ErrorEnvelope handleDataIntegrityViolation(
             DataIntegrityViolationException e, 
             HttpServletRequest request) {
         
         log.error("DataIntegrityViolationException: URL={} | Message={}", 
                 request.getRequestURI(), e.getMessage());
 
-        String message = "Error de integridad de datos. Posible duplicado o violación de constraint.";
+        return errorResponseFactory.failure(HttpStatus.CONFLICT, Constants.CODE_DATA_INTEGRITY_VIOLATION,
+                Constants.ERROR_DATA_INTEGRITY_VIOLATION);
+    }
+
+    /**
+     * Maneja la falta de conexiones del pool dentro del connection-timeout de Hikari.
+     * El pool es el límite de concurrencia hacia la base de datos: al saturarse se responde 503
+     * en lugar de acumular peticiones en espera.
+     *
+     * @param e Excepción de transacción o de acceso a datos
+     * @param request Request HTTP
+     * @return Sobre de error de saturación
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorEnvelope handleDatabaseBusy(NestedRuntimeException e, HttpServletRequest request) {
+        log.error("DatabaseBusy: URL={} | Message={}", request.getRequestURI(), e.getMostSpecificCause().getMessage());
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.CONFLICT.value())
-                .errorCode(Constants.CODE_DATA_INTEGRITY_VIOLATION)
-                .message(message)
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.SERVICE_UNAVAILABLE, Constants.CODE_DATABASE_BUSY,
+                Constants.ERROR_DATABASE_BUSY);
     }
 
     /**
@@ -297,24 +269,19 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción de acceso
      * @param request Request HTTP
-     * @return Response con error de acceso
+     * @return Sobre de error de acceso
      */
     @ExceptionHandler({AccessDeniedException.class})
     @ResponseStatus(HttpStatus.FORBIDDEN)
-    public Response<Object> handleAccessDeniedException(
+    public ErrorEnvelope handleAccessDeniedException(
             AccessDeniedException e, 
             HttpServletRequest request) {
         
         log.error("AccessDeniedException: URL={} | Message={}", 
                 request.getRequestURI(), e.getMessage());
 
-        return Response.builder()
-                .failure(true)
-                .code(HttpStatus.FORBIDDEN.value())
-                .errorCode(Constants.CODE_ACCESS_DENIED)
-                .message("Acceso denegado: no tiene permisos para esta operación")
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.FORBIDDEN, Constants.CODE_ACCESS_DENIED,
+                Constants.ERROR_ACCESS_DENIED_OPERATION);
     }
 
     /**
@@ -322,23 +289,31 @@ public class ExceptionHandlerController {
      *
      * @param e PaymentException
      * @param request Request HTTP
-     * @return Response con error de pago
+     * @return Sobre de error de pago
      */
     @ExceptionHandler({PaymentException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response<Object> handlePaymentException(PaymentException e, HttpServletRequest request) {
+    public ErrorEnvelope handlePaymentException(PaymentException e, HttpServletRequest request) {
         log.error("PaymentException: URL={} | ErrorCode={} | Message={}", 
                 request.getRequestURI(), e.getErrorCode(), e.getMessage());
 
-        String messageWithCode = String.format("[%s] %s", e.getErrorCode(), e.getMessage());
+        return errorResponseFactory.failureWithCodePrefix(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
+    }
 
-        return Response.builder()
-                .failure(true)
-                .errorCode(e.getErrorCode())
-                .code(HttpStatus.BAD_REQUEST.value())
-                .message(messageWithCode)
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+    /**
+     * Maneja excepciones de consultas de analítica de ventas.
+     *
+     * @param e AnalyticsException
+     * @param request Request HTTP
+     * @return Sobre de error de analítica
+     */
+    @ExceptionHandler({AnalyticsException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorEnvelope handleAnalyticsException(AnalyticsException e, HttpServletRequest request) {
+        log.warn("AnalyticsException: URL={} | ErrorCode={} | Message={}",
+                request.getRequestURI(), e.getErrorCode(), e.getMessage());
+
+        return errorResponseFactory.failure(HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
     }
 
     /**
@@ -346,21 +321,16 @@ public class ExceptionHandlerController {
      *
      * @param e Excepción genérica
      * @param request Request HTTP
-     * @return Response con error interno
+     * @return Sobre de error interno
      */
     @ExceptionHandler({Exception.class})
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public Response<Object> handleGenericException(Exception e, HttpServletRequest request) {
+    public ErrorEnvelope handleGenericException(Exception e, HttpServletRequest request) {
         log.error("Exception: URL={} | Message={} | Type={}", 
                 request.getRequestURI(), e.getMessage(), e.getClass().getSimpleName(), e);
 
-        return Response.builder()
-                .failure(true)
-                .errorCode(Constants.CODE_GENERIC_ERROR)
-                .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .message("Error interno del servidor")
-                .timestamp(String.valueOf(System.currentTimeMillis()))
-                .build();
+        return errorResponseFactory.failure(HttpStatus.INTERNAL_SERVER_ERROR, Constants.CODE_GENERIC_ERROR,
+                Constants.ERROR_INTERNAL_SERVER);
     }
 }
 
@@ -0,0 +1,23 @@
+package com.ecommerce.davivienda.exception.analytics;
+
+import com.ecommerce.davivienda.exception.BusinessException;
+
+/**
+ * Excepción personalizada para las consultas y el rebuild de agregados de ventas.
+ * Se lanza ante rangos de fechas inválidos o fuera de los límites configurados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class AnalyticsException extends BusinessException {
+
+    /**
+     * Constructor para crear una excepción con mensaje y código de error.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param errorCode Código de error específico (ver Constants.CODE_*)
+     */
+    public AnalyticsException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
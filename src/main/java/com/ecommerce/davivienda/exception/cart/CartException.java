@@ -1,6 +1,6 @@
 package com.ecommerce.davivienda.exception.cart;
 
-import lombok.Getter;
+import com.ecommerce.davivienda.exception.BusinessException;
 
 /**
  * Excepción personalizada para operaciones de carritos de compras.
@@ -10,13 +10,7 @@ import lombok.Getter;
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
-@Getter
-public class CartException extends RuntimeException {
-
-    /**
-     * Código de error específico de la excepción.
-     */
-    private final String errorCode;
+public class CartException extends BusinessException {
 
     /**
      * Constructor para crear una excepción con mensaje y código de error.
@@ -25,8 +19,7 @@ public class CartException extends RuntimeException {
      * @param errorCode Código de error específico (ver Constants.CODE_CART_*)
      */
     public CartException(String message, String errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 
     /**
@@ -37,8 +30,7 @@ public class CartException extends RuntimeException {
      * @param cause Excepción original que causó este error
      */
     public CartException(String message, String errorCode, Throwable cause) {
-        super(message, cause);
-        this.errorCode = errorCode;
+        super(message, errorCode, cause);
     }
 }
 
@@ -1,6 +1,6 @@
 package com.ecommerce.davivienda.exception.document;
 
-import lombok.Getter;
+import com.ecommerce.davivienda.exception.BusinessException;
 
 /**
  * Excepción personalizada para operaciones relacionadas con tipos de documento.
@@ -10,13 +10,7 @@ import lombok.Getter;
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
-@Getter
-public class DocumentTypeException extends RuntimeException {
-
-    /**
-     * Código de error específico de la excepción.
-     */
-    private final String errorCode;
+public class DocumentTypeException extends BusinessException {
 
     /**
      * Constructor para crear una excepción con mensaje y código de error.
@@ -25,8 +19,7 @@ public class DocumentTypeException extends RuntimeException {
      * @param errorCode Código de error específico (ver Constants.CODE_*)
      */
     public DocumentTypeException(String message, String errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 
     /**
@@ -37,8 +30,7 @@ public class DocumentTypeException extends RuntimeException {
      * @param cause Excepción original que causó este error
      */
     public DocumentTypeException(String message, String errorCode, Throwable cause) {
-        super(message, cause);
-        this.errorCode = errorCode;
+        super(message, errorCode, cause);
     }
 }
 
@@ -1,6 +1,7 @@
 package com.ecommerce.davivienda.exception.stock;
 
 import com.ecommerce.davivienda.dto.stock.ProductStockDetailDto;
+import com.ecommerce.davivienda.exception.BusinessException;
 import lombok.Getter;
 
 import java.util.List;
@@ -13,12 +14,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Getter
-public class InsufficientStockException extends RuntimeException {
-
-    /**
-     * Código de error específico de la excepción.
-     */
-    private final String errorCode;
+public class InsufficientStockException extends BusinessException {
 
     /**
      * Lista de productos con stock insuficiente.
@@ -34,8 +30,7 @@ public class InsufficientStockException extends RuntimeException {
      */
     public InsufficientStockException(String message, String errorCode, 
                                      List<ProductStockDetailDto> insufficientStockProducts) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
         this.insufficientStockProducts = insufficientStockProducts;
     }
 
@@ -50,8 +45,7 @@ public class InsufficientStockException extends RuntimeException {
     public InsufficientStockException(String message, String errorCode, 
                                      List<ProductStockDetailDto> insufficientStockProducts, 
                                      Throwable cause) {
-        super(message, cause);
-        this.errorCode = errorCode;
+        super(message, errorCode, cause);
         this.insufficientStockProducts = insufficientStockProducts;
     }
 }
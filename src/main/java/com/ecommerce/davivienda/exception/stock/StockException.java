@@ -1,6 +1,6 @@
 package com.ecommerce.davivienda.exception.stock;
 
-import lombok.Getter;
+import com.ecommerce.davivienda.exception.BusinessException;
 
 /**
  * Excepción personalizada genérica para operaciones de stock.
@@ -9,13 +9,7 @@ import lombok.Getter;
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
-@Getter
-public class StockException extends RuntimeException {
-
-    /**
-     * Código de error específico de la excepción.
-     */
-    private final String errorCode;
+public class StockException extends BusinessException {
 
     /**
      * Constructor para crear una excepción con mensaje y código de error.
@@ -24,8 +18,7 @@ public class StockException extends RuntimeException {
      * @param errorCode Código de error específico (ver Constants.CODE_*)
      */
     public StockException(String message, String errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 
     /**
@@ -36,8 +29,7 @@ public class StockException extends RuntimeException {
      * @param cause Excepción original que causó este error
      */
     public StockException(String message, String errorCode, Throwable cause) {
-        super(message, cause);
-        this.errorCode = errorCode;
+        super(message, errorCode, cause);
     }
 }
 
@@ -1,6 +1,6 @@
 package com.ecommerce.davivienda.exception.user;
 
-import lombok.Getter;
+import com.ecommerce.davivienda.exception.BusinessException;
 
 /**
  * Excepción personalizada para operaciones sobre usuarios.
@@ -10,14 +10,7 @@ import lombok.Getter;
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
-@Getter
-public class UserException extends RuntimeException {
-
-    /**
-     * Código de error específico de la excepción.
-     * Formato: ED-USR-XX (Ecommerce Davivienda - User - Número)
-     */
-    private final String errorCode;
+public class UserException extends BusinessException {
 
     /**
      * Constructor para crear una excepción con mensaje y código de error.
@@ -26,8 +19,7 @@ public class UserException extends RuntimeException {
      * @param errorCode Código de error específico (ver Constants.CODE_*)
      */
     public UserException(String message, String errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 
     /**
@@ -38,8 +30,7 @@ public class UserException extends RuntimeException {
      * @param cause Excepción original que causó este error
      */
     public UserException(String message, String errorCode, Throwable cause) {
-        super(message, cause);
-        this.errorCode = errorCode;
+        super(message, errorCode, cause);
     }
 }
 
@@ -39,6 +39,21 @@ public interface CartItemMapper {
     @Mapping(target = "cantidad", source = "request.quantity")
     CartItem toEntity(CartItemRequest request, Cart cart, Product product);
 
+    /**
+     * Construye un CartItem a partir de sus entidades asociadas y la cantidad.
+     * Usado para carritos invitados (items transitorios) y su fusión al iniciar sesión.
+     *
+     * @param cart Carrito asociado (null para items transitorios de invitado)
+     * @param product Producto asociado
+     * @param quantity Cantidad del producto
+     * @return CartItem construido
+     */
+    @Mapping(target = "productosCarritoId", ignore = true)
+    @Mapping(target = "cart", source = "cart")
+    @Mapping(target = "product", source = "product")
+    @Mapping(target = "cantidad", source = "quantity")
+    CartItem toEntity(Cart cart, Product product, Integer quantity);
+
     /**
      * Actualiza la cantidad de un CartItem existente.
      * Este método reemplaza el BuilderService eliminado.
@@ -1,18 +1,27 @@
 package com.ecommerce.davivienda.mapper.payment;
 
 import com.ecommerce.davivienda.dto.payment.CardDataDto;
+import com.ecommerce.davivienda.dto.payment.OrderLineDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
 import com.ecommerce.davivienda.entity.payment.*;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRollupDelta;
 import com.ecommerce.davivienda.util.Base64DecryptionService;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+
+import static com.ecommerce.davivienda.constants.Constants.PAYMENT_STATUS_PROCESSING;
 
 /**
- * Mapper para transformaciones de Payment, PaymentDebit, PaymentCredit y DTOs.
+ * Mapper para transformaciones de Payment, PaymentDebit, PaymentCredit, OrderLine y DTOs.
  * Utiliza MapStruct para mapeo compile-time type-safe.
  *
  * @author Team Ecommerce Davivienda
@@ -22,7 +31,8 @@ import java.time.LocalDate;
 public interface PaymentMapper {
 
     /**
-     * Construye la entidad Payment principal.
+     * Construye la entidad Payment principal. La fecha del pago es la de la referencia,
+     * así ambas filas quedan en la misma partición mensual.
      *
      * @param cart Carrito asociado al pago
      * @param paymentType Tipo de pago
@@ -35,7 +45,7 @@ public interface PaymentMapper {
     @Mapping(target = "paymentType", source = "paymentType")
     @Mapping(target = "reference", source = "reference")
     @Mapping(target = "paymentStatus", source = "status")
-    @Mapping(target = "paymentDate", expression = "java(java.time.LocalDateTime.now())")
+    @Mapping(target = "paymentDate", source = "reference.paymentDate")
     Payment toPayment(Cart cart, PaymentType paymentType, PaymentReference reference, PaymentStatus status);
 
     /**
@@ -49,6 +59,7 @@ public interface PaymentMapper {
      */
     @Mapping(target = "paymentDebitId", ignore = true)
     @Mapping(target = "payment", source = "payment")
+    @Mapping(target = "paymentDate", source = "payment.paymentDate")
     @Mapping(target = "cardHolderName", expression = "java(encryptCardHolderName(cardData.getCardHolderName(), encryptionService))")
     @Mapping(target = "cardNumber", expression = "java(encryptCardNumber(cardData.getCardNumber(), encryptionService))")
     @Mapping(target = "expirationDate", expression = "java(parseExpirationDate(cardData.getExpirationDate()))")
@@ -66,6 +77,7 @@ public interface PaymentMapper {
      */
     @Mapping(target = "paymentCreditId", ignore = true)
     @Mapping(target = "payment", source = "payment")
+    @Mapping(target = "paymentDate", source = "payment.paymentDate")
     @Mapping(target = "installments", source = "installments")
     @Mapping(target = "cardHolderName", expression = "java(encryptCardHolderName(cardData.getCardHolderName(), encryptionService))")
     @Mapping(target = "cardNumber", expression = "java(encryptCardNumber(cardData.getCardNumber(), encryptionService))")
@@ -91,6 +103,72 @@ public interface PaymentMapper {
                 .build();
     }
 
+    /**
+     * Construye el DTO de consulta de estado del pago.
+     *
+     * @param payment Pago consultado
+     * @return PaymentStatusResponseDto
+     */
+    default PaymentStatusResponseDto toPaymentStatusResponseDto(Payment payment) {
+        if (payment == null) {
+            return null;
+        }
+
+        String status = payment.getPaymentStatus().getName();
+        return PaymentStatusResponseDto.builder()
+                .paymentId(payment.getPaymentId())
+                .referenceNumber(payment.getReference().getReferenceNumber())
+                .status(status)
+                .paymentType(payment.getPaymentType().getPaymentType())
+                .paymentDate(payment.getPaymentDate())
+                .completed(!PAYMENT_STATUS_PROCESSING.equals(status))
+                .build();
+    }
+
+    /**
+     * Construye el snapshot de líneas de pedido de un pago con los valores cobrados.
+     *
+     * @param payment Pago completado
+     * @param cartItems Items del carrito pagado
+     * @return Líneas de pedido, una por item
+     */
+    default List<OrderLine> toOrderLines(Payment payment, List<CartItem> cartItems) {
+        Integer userRoleId = payment.getCart().getUsuarioRolId();
+        String referenceNumber = payment.getReference().getReferenceNumber();
+        String paymentType = payment.getPaymentType().getPaymentType();
+
+        return cartItems.stream()
+                .map(item -> {
+                    Product product = item.getProduct();
+                    return OrderLine.builder()
+                            .userRoleId(userRoleId)
+                            .paymentId(payment.getPaymentId())
+                            .referenceNumber(referenceNumber)
+                            .paymentType(paymentType)
+                            .paymentDate(payment.getPaymentDate())
+                            .productId(product.getProductoId())
+                            .categoryId(product.getCategoria() != null
+                                    ? product.getCategoria().getCategoriaId()
+                                    : SalesRollupDelta.NO_CATEGORY_ID)
+                            .productName(product.getNombre())
+                            .quantity(item.getCantidad())
+                            .unitPrice(product.getValorUnitario())
+                            .ivaRate(product.getIva() != null ? product.getIva() : BigDecimal.ZERO)
+                            .ivaAmount(item.calculateIvaAmount())
+                            .total(item.calculateTotal())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Construye el DTO de una línea del historial de compras.
+     *
+     * @param orderLine Línea de pedido
+     * @return OrderLineDto
+     */
+    OrderLineDto toOrderLineDto(OrderLine orderLine);
+
     /**
      * Encripta el nombre del titular de la tarjeta usando Base64.
      *
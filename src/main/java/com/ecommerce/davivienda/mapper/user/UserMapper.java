@@ -1,11 +1,26 @@
 package com.ecommerce.davivienda.mapper.user;
 
+import com.ecommerce.davivienda.dto.user.UserRoleNameDto;
+import com.ecommerce.davivienda.dto.user.UserSummaryDto;
 import com.ecommerce.davivienda.entity.user.*;
 import com.ecommerce.davivienda.models.user.UserRequest;
 import com.ecommerce.davivienda.models.user.UserResponse;
 import com.ecommerce.davivienda.models.user.UserUpdateRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.ecommerce.davivienda.constants.Constants.USER_PAGE_MAX_SIZE;
 
 /**
  * Mapper MapStruct para User.
@@ -18,6 +33,17 @@ import org.mapstruct.Mapping;
 @Mapper(componentModel = "spring")
 public interface UserMapper {
 
+    /**
+     * Propiedades de User por las que se permite ordenar el listado paginado.
+     */
+    Set<String> SORTABLE_FIELDS = Set.of(
+            "usuarioId", "nombre", "apellido", "numeroDeDoc", "creationDate");
+
+    /**
+     * Orden por defecto del listado paginado.
+     */
+    String DEFAULT_SORT_FIELD = "usuarioId";
+
     // ==================== CONSTRUCCIÓN ====================
 
     /**
@@ -70,12 +96,12 @@ public interface UserMapper {
      * @param roles Lista de roles a asignar
      * @return Lista de UserRole construidos
      */
-    default java.util.List<UserRole> buildUserRoles(Integer userId, java.util.List<Role> roles) {
+    default List<UserRole> buildUserRoles(Integer userId, List<Role> roles) {
         if (roles == null || roles.isEmpty()) {
-            return java.util.Collections.emptyList();
+            return Collections.emptyList();
         }
         
-        java.util.List<UserRole> userRoles = new java.util.ArrayList<>();
+        List<UserRole> userRoles = new ArrayList<>();
         for (Role role : roles) {
             UserRole userRole = UserRole.builder()
                     .usuarioId(userId)
@@ -125,14 +151,75 @@ public interface UserMapper {
      * @param users Lista de entidades User
      * @return Lista de UserResponse
      */
-    default java.util.List<UserResponse> toResponseList(java.util.List<User> users) {
+    default List<UserResponse> toResponseList(List<User> users) {
         if (users == null || users.isEmpty()) {
-            return java.util.Collections.emptyList();
+            return Collections.emptyList();
         }
         
         return users.stream()
                 .map(this::toResponse)
-                .collect(java.util.stream.Collectors.toList());
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte la proyección plana de un usuario a UserResponse.
+     *
+     * @param summary Proyección del usuario
+     * @param roleNames Nombres de los roles del usuario
+     * @return UserResponse con datos públicos del usuario
+     */
+    default UserResponse toResponse(UserSummaryDto summary, List<String> roleNames) {
+        if (summary == null) {
+            return null;
+        }
+
+        return UserResponse.builder()
+                .usuarioId(summary.getUsuarioId())
+                .nombre(summary.getNombre())
+                .apellido(summary.getApellido())
+                .documentType(summary.getDocumentType())
+                .documentNumber(summary.getDocumentNumber())
+                .email(summary.getEmail())
+                .status(summary.getStatus())
+                .roles(roleNames != null ? roleNames : Collections.emptyList())
+                .usuarioRolId(summary.getUsuarioRolId())
+                .build();
+    }
+
+    /**
+     * Agrupa los nombres de rol por ID de usuario, conservando el orden de asignación.
+     *
+     * @param roleNames Pares (ID de usuario, nombre de rol)
+     * @return Mapa ID de usuario a lista de nombres de rol
+     */
+    default Map<Integer, List<String>> groupRoleNamesByUser(List<UserRoleNameDto> roleNames) {
+        Map<Integer, List<String>> rolesByUser = new HashMap<>();
+        for (UserRoleNameDto roleName : roleNames) {
+            rolesByUser.computeIfAbsent(roleName.getUsuarioId(), id -> new ArrayList<>())
+                    .add(roleName.getRoleName());
+        }
+        return rolesByUser;
+    }
+
+    /**
+     * Construye la paginación del listado de usuarios.
+     * El tamaño se limita a USER_PAGE_MAX_SIZE y un campo de orden no permitido se reemplaza por usuarioId.
+     *
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de página
+     * @param sortBy Campo de ordenamiento
+     * @param sortDir Dirección (asc/desc)
+     * @return Pageable configurado
+     */
+    default Pageable buildPageable(int page, int size, String sortBy, String sortDir) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir)
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        String sortField = sortBy != null && SORTABLE_FIELDS.contains(sortBy) ? sortBy : DEFAULT_SORT_FIELD;
+        int pageSize = Math.min(Math.max(size, 1), USER_PAGE_MAX_SIZE);
+
+        return PageRequest.of(Math.max(page, 0), pageSize, Sort.by(direction, sortField));
     }
 
     /**
@@ -141,15 +228,15 @@ public interface UserMapper {
      * @param userRoles Lista de UserRole
      * @return Lista de nombres de roles
      */
-    default java.util.List<String> extractRoleNames(java.util.List<UserRole> userRoles) {
+    default List<String> extractRoleNames(List<UserRole> userRoles) {
         if (userRoles == null || userRoles.isEmpty()) {
-            return java.util.Collections.emptyList();
+            return Collections.emptyList();
         }
         
         return userRoles.stream()
                 .filter(ur -> ur.getRole() != null)
                 .map(ur -> ur.getRole().getNombreRol())
-                .collect(java.util.stream.Collectors.toList());
+                .collect(Collectors.toList());
     }
 
     /**
@@ -160,7 +247,7 @@ public interface UserMapper {
      * @param savedUserRoles Lista de roles guardados
      * @return true si se asignó el rol primario, false si la lista está vacía
      */
-    default boolean assignPrimaryRole(User user, java.util.List<UserRole> savedUserRoles) {
+    default boolean assignPrimaryRole(User user, List<UserRole> savedUserRoles) {
         if (savedUserRoles != null && !savedUserRoles.isEmpty()) {
             user.setUsuarioRolId(savedUserRoles.get(0).getUsuarioRolId());
             return true;
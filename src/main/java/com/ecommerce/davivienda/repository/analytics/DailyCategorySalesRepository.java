@@ -0,0 +1,114 @@
+package com.ecommerce.davivienda.repository.analytics;
+
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.entity.analytics.DailyCategorySales;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio del agregado diario de ventas por categoría (ventas_categoria_diarias).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Repository
+public interface DailyCategorySalesRepository extends JpaRepository<DailyCategorySales, DailyCategorySales.Key> {
+
+    /**
+     * Query space de las escrituras nativas (ver {@link DailySalesRepository#TABLE}).
+     */
+    String TABLE = "ventas_categoria_diarias";
+
+    /**
+     * Suma un incremento al agregado del día y categoría, creando la fila si no existe.
+     *
+     * @param fecha Día
+     * @param categoriaId ID de la categoría (0 = sin categoría)
+     * @param unidades Unidades a sumar
+     * @param total Ingresos con IVA a sumar
+     * @return Filas afectadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = """
+            INSERT INTO ventas_categoria_diarias (fecha, categoria_id, unidades, total)
+            VALUES (:fecha, :categoriaId, :unidades, :total)
+            ON CONFLICT (fecha, categoria_id) DO UPDATE SET
+                unidades = ventas_categoria_diarias.unidades + EXCLUDED.unidades,
+                total = ventas_categoria_diarias.total + EXCLUDED.total
+            """, nativeQuery = true)
+    int upsert(@Param("fecha") LocalDate fecha,
+               @Param("categoriaId") int categoriaId,
+               @Param("unidades") int unidades,
+               @Param("total") BigDecimal total);
+
+    /**
+     * Elimina el agregado de un rango de días.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Filas eliminadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = "DELETE FROM ventas_categoria_diarias WHERE fecha BETWEEN :from AND :to", nativeQuery = true)
+    int deleteBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recalcula el agregado de un rango desde lineas_pedido, con los precios e IVA cobrados.
+     * El join con pago (misma partición por fecha_pago) aplica el estado actual del pago.
+     *
+     * @param from Inicio del rango (inclusive)
+     * @param to Fin del rango (exclusivo)
+     * @param statuses Estados de pago que cuentan como venta
+     * @return Filas insertadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = """
+            INSERT INTO ventas_categoria_diarias (fecha, categoria_id, unidades, total)
+            SELECT CAST(lp.fecha_pago AS DATE),
+                   lp.categoria_id,
+                   SUM(lp.cantidad),
+                   SUM(lp.total)
+            FROM lineas_pedido lp
+            JOIN pago p ON p.pago_id = lp.pago_id AND p.fecha_pago = lp.fecha_pago
+            JOIN estado_pago ep ON ep.estado_pago_id = p.estado_pago_id
+            WHERE lp.fecha_pago >= :from AND lp.fecha_pago < :to
+              AND p.fecha_pago >= :from AND p.fecha_pago < :to
+              AND ep.nombre IN (:statuses)
+            GROUP BY CAST(lp.fecha_pago AS DATE), lp.categoria_id
+            """, nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to,
+                       @Param("statuses") Collection<String> statuses);
+
+    /**
+     * Unidades e ingresos por categoría en un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por categoría, de mayor a menor ingreso
+     */
+    @Query("""
+            SELECT new com.ecommerce.davivienda.dto.analytics.CategorySalesDto(
+                c.categoriaId, SUM(c.unidades), SUM(c.total))
+            FROM DailyCategorySales c
+            WHERE c.fecha BETWEEN :from AND :to
+            GROUP BY c.categoriaId
+            ORDER BY SUM(c.total) DESC
+            """)
+    List<CategorySalesDto> findCategorySales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,201 @@
+package com.ecommerce.davivienda.repository.analytics;
+
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.entity.analytics.DailySales;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio del agregado diario de ventas por tipo de pago (ventas_diarias).
+ * Las escrituras son sentencias nativas (upsert y rebuild); las lecturas agrupan solo sobre el agregado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, DailySales.Key> {
+
+    /**
+     * Tabla que escriben las sentencias nativas. Se declara como query space en cada escritura:
+     * sin él Hibernate supone que una sentencia nativa toca todas las tablas y, en cada flush del
+     * registro incremental, vacía todas las regiones de la caché de segundo nivel y la de consultas.
+     */
+    String TABLE = "ventas_diarias";
+
+    /**
+     * Tabla de días recalculados por el rebuild.
+     */
+    String REBUILT_DAYS_TABLE = "ventas_dias_reconstruidos";
+
+    /**
+     * Suma un incremento al agregado del día y tipo de pago, creando la fila si no existe.
+     *
+     * @param fecha Día
+     * @param tipoPagoId Tipo de pago
+     * @param pagos Pagos a sumar
+     * @param unidades Unidades a sumar
+     * @param subtotal Ingresos sin IVA a sumar
+     * @param iva IVA a sumar
+     * @param total Ingresos con IVA a sumar
+     * @return Filas afectadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = """
+            INSERT INTO ventas_diarias (fecha, tipo_pago_id, pagos, unidades, subtotal, iva, total)
+            VALUES (:fecha, :tipoPagoId, :pagos, :unidades, :subtotal, :iva, :total)
+            ON CONFLICT (fecha, tipo_pago_id) DO UPDATE SET
+                pagos = ventas_diarias.pagos + EXCLUDED.pagos,
+                unidades = ventas_diarias.unidades + EXCLUDED.unidades,
+                subtotal = ventas_diarias.subtotal + EXCLUDED.subtotal,
+                iva = ventas_diarias.iva + EXCLUDED.iva,
+                total = ventas_diarias.total + EXCLUDED.total
+            """, nativeQuery = true)
+    int upsert(@Param("fecha") LocalDate fecha,
+               @Param("tipoPagoId") String tipoPagoId,
+               @Param("pagos") int pagos,
+               @Param("unidades") int unidades,
+               @Param("subtotal") BigDecimal subtotal,
+               @Param("iva") BigDecimal iva,
+               @Param("total") BigDecimal total);
+
+    /**
+     * Elimina el agregado de un rango de días.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Filas eliminadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = "DELETE FROM ventas_diarias WHERE fecha BETWEEN :from AND :to", nativeQuery = true)
+    int deleteBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recalcula el agregado de un rango desde lineas_pedido, con los precios e IVA cobrados.
+     * El join con pago (misma partición por fecha_pago) aplica el estado actual del pago.
+     *
+     * @param from Inicio del rango (inclusive)
+     * @param to Fin del rango (exclusivo)
+     * @param statuses Estados de pago que cuentan como venta
+     * @return Filas insertadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = TABLE))
+    @Query(value = """
+            INSERT INTO ventas_diarias (fecha, tipo_pago_id, pagos, unidades, subtotal, iva, total)
+            SELECT CAST(lp.fecha_pago AS DATE),
+                   lp.tipo_pago_id,
+                   COUNT(DISTINCT lp.pago_id),
+                   SUM(lp.cantidad),
+                   SUM(lp.total - lp.valor_iva),
+                   SUM(lp.valor_iva),
+                   SUM(lp.total)
+            FROM lineas_pedido lp
+            JOIN pago p ON p.pago_id = lp.pago_id AND p.fecha_pago = lp.fecha_pago
+            JOIN estado_pago ep ON ep.estado_pago_id = p.estado_pago_id
+            WHERE lp.fecha_pago >= :from AND lp.fecha_pago < :to
+              AND p.fecha_pago >= :from AND p.fecha_pago < :to
+              AND ep.nombre IN (:statuses)
+            GROUP BY CAST(lp.fecha_pago AS DATE), lp.tipo_pago_id
+            """, nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to,
+                       @Param("statuses") Collection<String> statuses);
+
+    /**
+     * Adquiere el advisory lock de los agregados de ventas en modo compartido, con alcance de
+     * transacción. Lo toman los flushes del registro incremental: corren en paralelo entre sí
+     * pero no con un rebuild.
+     *
+     * @param namespace Espacio de nombres del lock (primera clave)
+     * @param key Segunda clave del lock
+     * @return Siempre 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(:namespace, :key)", nativeQuery = true)
+    int advisoryXactLockShared(@Param("namespace") int namespace, @Param("key") int key);
+
+    /**
+     * Adquiere el advisory lock de los agregados de ventas en modo exclusivo, con alcance de
+     * transacción. Lo toma el rebuild y espera a que terminen los flushes en curso.
+     *
+     * @param namespace Espacio de nombres del lock (primera clave)
+     * @param key Segunda clave del lock
+     * @return Siempre 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:namespace, :key)", nativeQuery = true)
+    int advisoryXactLock(@Param("namespace") int namespace, @Param("key") int key);
+
+    /**
+     * Indica si el rebuild ya recalculó un día.
+     *
+     * @param fecha Día
+     * @return true si el día está en ventas_dias_reconstruidos
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM ventas_dias_reconstruidos WHERE fecha = :fecha)", nativeQuery = true)
+    boolean isRebuilt(@Param("fecha") LocalDate fecha);
+
+    /**
+     * Marca como recalculados los días de un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Filas escritas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REBUILT_DAYS_TABLE))
+    @Query(value = """
+            INSERT INTO ventas_dias_reconstruidos (fecha, reconstruido_en)
+            SELECT CAST(d AS DATE), LOCALTIMESTAMP
+            FROM generate_series(CAST(:from AS DATE), CAST(:to AS DATE), INTERVAL '1 day') d
+            ON CONFLICT (fecha) DO UPDATE SET reconstruido_en = EXCLUDED.reconstruido_en
+            """, nativeQuery = true)
+    int markRebuilt(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Ingresos por día de un rango, sumando los tipos de pago.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por día con ventas, en orden cronológico
+     */
+    @Query("""
+            SELECT new com.ecommerce.davivienda.dto.analytics.DailyRevenueDto(
+                d.fecha, SUM(d.pagos), SUM(d.unidades), SUM(d.subtotal), SUM(d.iva), SUM(d.total))
+            FROM DailySales d
+            WHERE d.fecha BETWEEN :from AND :to
+            GROUP BY d.fecha
+            ORDER BY d.fecha
+            """)
+    List<DailyRevenueDto> findDailyRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Pagos e ingresos por tipo de pago en un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por tipo de pago, de mayor a menor ingreso
+     */
+    @Query("""
+            SELECT new com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto(
+                d.tipoPagoId, SUM(d.pagos), SUM(d.total))
+            FROM DailySales d
+            WHERE d.fecha BETWEEN :from AND :to
+            GROUP BY d.tipoPagoId
+            ORDER BY SUM(d.total) DESC
+            """)
+    List<PaymentTypeSalesDto> findPaymentTypeMix(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,13 +1,19 @@
 package com.ecommerce.davivienda.repository.cart;
 
 import com.ecommerce.davivienda.entity.cart.CartItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para operaciones de persistencia de items del carrito.
@@ -53,5 +59,71 @@ public interface CartItemRepository extends JpaRepository<CartItem, Integer> {
     @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product WHERE ci.product.productoId = :productId AND ci.cart.usuarioRolId = :userRoleId AND ci.cart.estadoCarritoId = 1")
     Optional<CartItem> findByProductIdAndUserRole(@Param("productId") Integer productId, 
                                                   @Param("userRoleId") Integer userRoleId);
-}
 
+    /**
+     * Elimina todos los items del carrito ACTIVO de un usuario en una sola sentencia.
+     * El ownership se valida en el propio WHERE, sin cargar entidades.
+     *
+     * @param userRoleId ID del usuario_rol propietario del carrito
+     * @return Cantidad de items eliminados
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM CartItem ci
+            WHERE ci.cart.carritoId IN (
+                SELECT c.carritoId FROM Cart c
+                WHERE c.usuarioRolId = :userRoleId AND c.estadoCarritoId = 1
+            )
+            """)
+    int deleteAllByUserRole(@Param("userRoleId") Integer userRoleId);
+
+    /**
+     * Elimina los items de los productos indicados del carrito ACTIVO de un usuario en una sola sentencia.
+     * El ownership se valida en el propio WHERE, sin cargar entidades.
+     *
+     * @param userRoleId ID del usuario_rol propietario del carrito
+     * @param productIds IDs de los productos a eliminar
+     * @return Cantidad de items eliminados
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM CartItem ci
+            WHERE ci.product.productoId IN :productIds
+            AND ci.cart.carritoId IN (
+                SELECT c.carritoId FROM Cart c
+                WHERE c.usuarioRolId = :userRoleId AND c.estadoCarritoId = 1
+            )
+            """)
+    int deleteByUserRoleAndProductIds(@Param("userRoleId") Integer userRoleId,
+                                      @Param("productIds") Collection<Integer> productIds);
+
+    /**
+     * Busca todos los items del carrito ACTIVO de un usuario con su producto.
+     * Valida ownership y estado activo del carrito en una sola query.
+     *
+     * @param userRoleId ID del usuario_rol propietario del carrito
+     * @return Lista de items del carrito activo del usuario
+     */
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product WHERE ci.cart.usuarioRolId = :userRoleId AND ci.cart.estadoCarritoId = 1")
+    List<CartItem> findByUserRole(@Param("userRoleId") Integer userRoleId);
+
+    /**
+     * Recorre (carrito, producto) de todos los carritos con un pago en los estados indicados,
+     * ordenado por carrito para que los productos de cada carrito lleguen juntos.
+     * Debe consumirse dentro de una transacción y cerrarse; el driver trae 1000 filas por ida
+     * en lugar de cargar el resultado completo en memoria.
+     *
+     * @param statuses Nombres de estados de pago que cuentan como venta
+     * @return Stream de pares [carritoId, productoId]
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT ci.cart.carritoId, ci.product.productoId FROM CartItem ci
+            WHERE EXISTS (
+                SELECT 1 FROM Payment p
+                WHERE p.cart = ci.cart AND p.paymentStatus.name IN :statuses
+            )
+            ORDER BY ci.cart.carritoId
+            """)
+    Stream<Object[]> streamPaidCartProductIds(@Param("statuses") Collection<String> statuses);
+}
@@ -62,5 +62,27 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
             )
             """)
     Optional<Cart> findByUserEmail(@Param("correo") String correo);
-}
 
+    /**
+     * Obtiene el estado actual del carrito directamente desde la base de datos.
+     * Al ser una consulta escalar no se resuelve desde el contexto de persistencia,
+     * por lo que refleja el último estado confirmado por otras transacciones.
+     *
+     * @param carritoId ID del carrito
+     * @return Optional con el ID del estado del carrito
+     */
+    @Query("SELECT c.estadoCarritoId FROM Cart c WHERE c.carritoId = :carritoId")
+    Optional<Integer> findEstadoCarritoIdByCarritoId(@Param("carritoId") Integer carritoId);
+
+    /**
+     * Intenta adquirir un advisory lock de PostgreSQL con alcance de transacción.
+     * No bloquea: retorna false si otra sesión ya lo tiene. Se libera automáticamente
+     * al confirmar o revertir la transacción actual.
+     *
+     * @param namespace Espacio de nombres del lock (primera clave)
+     * @param carritoId ID del carrito (segunda clave)
+     * @return true si se adquirió el lock
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:namespace, :carritoId)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("namespace") int namespace, @Param("carritoId") int carritoId);
+}
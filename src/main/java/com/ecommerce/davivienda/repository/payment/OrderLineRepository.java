@@ -0,0 +1,60 @@
+package com.ecommerce.davivienda.repository.payment;
+
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio JPA para la entidad OrderLine (historial de compras).
+ *
+ * <p>Las páginas se leen con paginación keyset sobre idx_lineas_pedido_historial
+ * (usuario_rol_id, fecha_pago DESC, linea_pedido_id DESC): cada página es un solo rango del índice
+ * que empieza justo después de la última línea entregada, sin OFFSET ni joins.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Repository
+public interface OrderLineRepository extends JpaRepository<OrderLine, Integer> {
+
+    /**
+     * Primera página del historial de un usuario, de la compra más reciente a la más antigua.
+     *
+     * @param userRoleId ID del UserRole del comprador
+     * @param limit Máximo de líneas
+     * @return Líneas de la página
+     */
+    @Query(value = """
+            SELECT * FROM lineas_pedido
+            WHERE usuario_rol_id = :userRoleId
+            ORDER BY fecha_pago DESC, linea_pedido_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderLine> findFirstHistoryPage(@Param("userRoleId") Integer userRoleId, @Param("limit") int limit);
+
+    /**
+     * Página del historial que sigue a la línea (paymentDate, orderLineId) ya entregada.
+     *
+     * @param userRoleId ID del UserRole del comprador
+     * @param paymentDate Fecha de pago de la última línea entregada
+     * @param orderLineId ID de la última línea entregada
+     * @param limit Máximo de líneas
+     * @return Líneas de la página
+     */
+    @Query(value = """
+            SELECT * FROM lineas_pedido
+            WHERE usuario_rol_id = :userRoleId
+              AND (fecha_pago, linea_pedido_id) < (:paymentDate, :orderLineId)
+            ORDER BY fecha_pago DESC, linea_pedido_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OrderLine> findHistoryPageAfter(@Param("userRoleId") Integer userRoleId,
+                                         @Param("paymentDate") LocalDateTime paymentDate,
+                                         @Param("orderLineId") Integer orderLineId,
+                                         @Param("limit") int limit);
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.davivienda.repository.payment;
+
+import com.ecommerce.davivienda.entity.payment.PaymentIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para la entidad PaymentIdempotency.
+ * Almacena los resultados de pagos asociados a claves de idempotencia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Repository
+public interface PaymentIdempotencyRepository extends JpaRepository<PaymentIdempotency, Integer> {
+
+    /**
+     * Busca un registro vigente por usuario y clave.
+     *
+     * @param userEmail Correo del usuario
+     * @param idempotencyKey Clave de idempotencia
+     * @param now Fecha actual
+     * @return Optional con el registro si existe y no ha expirado
+     */
+    Optional<PaymentIdempotency> findByUserEmailAndIdempotencyKeyAndExpiresAtAfter(
+            String userEmail, String idempotencyKey, LocalDateTime now);
+
+    /**
+     * Elimina el registro expirado de una clave, para que pueda reclamarse de nuevo antes de
+     * que la purga periódica lo borre.
+     *
+     * @param userEmail Correo del usuario
+     * @param idempotencyKey Clave de idempotencia
+     * @param now Fecha actual
+     * @return Número de registros eliminados (0 o 1)
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM PaymentIdempotency pi
+            WHERE pi.userEmail = :userEmail AND pi.idempotencyKey = :idempotencyKey AND pi.expiresAt <= :now
+            """)
+    int deleteExpiredKey(@Param("userEmail") String userEmail,
+                         @Param("idempotencyKey") String idempotencyKey,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Elimina en bloque los registros expirados.
+     *
+     * @param now Fecha actual
+     * @return Número de registros eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM PaymentIdempotency pi WHERE pi.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
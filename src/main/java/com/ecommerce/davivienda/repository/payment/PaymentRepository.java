@@ -1,19 +1,244 @@
 package com.ecommerce.davivienda.repository.payment;
 
 import com.ecommerce.davivienda.entity.payment.Payment;
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para la entidad Payment.
  * Proporciona operaciones CRUD y consultas personalizadas.
  *
+ * <p>pago y referencias están particionadas por mes de fecha_pago: las consultas del flujo de
+ * pago acotan la fecha en ambas tablas para que PostgreSQL lea solo las particiones del rango.</p>
+ *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
  */
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
-}
+    /**
+     * Busca un pago por ID y fecha con sus relaciones de lectura; la fecha limita la lectura
+     * a una partición.
+     *
+     * @param paymentId ID del pago
+     * @param paymentDate Fecha del pago
+     * @return Optional con el pago si existe
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.reference r
+            JOIN FETCH p.paymentStatus
+            JOIN FETCH p.paymentType
+            WHERE p.paymentId = :paymentId AND p.paymentDate = :paymentDate AND r.paymentDate = :paymentDate
+            """)
+    Optional<Payment> findByIdAndPaymentDate(@Param("paymentId") Integer paymentId,
+                                             @Param("paymentDate") LocalDateTime paymentDate);
+
+    /**
+     * Busca un pago por número de referencia dentro de un rango de fechas.
+     *
+     * @param referenceNumber Número de referencia
+     * @param from Fecha inicial (inclusive)
+     * @param to Fecha final (exclusiva)
+     * @return Optional con el pago si existe
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.reference r
+            JOIN FETCH p.paymentStatus
+            JOIN FETCH p.paymentType
+            WHERE r.referenceNumber = :referenceNumber
+              AND p.paymentDate >= :from AND p.paymentDate < :to
+              AND r.paymentDate >= :from AND r.paymentDate < :to
+            """)
+    Optional<Payment> findByReferenceNumberBetween(@Param("referenceNumber") String referenceNumber,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+
+    /**
+     * Busca un pago por número de referencia con sus relaciones de lectura.
+     * Recorre todas las particiones: solo para referencias sin fecha codificada.
+     *
+     * @param referenceNumber Número de referencia
+     * @return Optional con el pago si existe
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.reference r
+            JOIN FETCH p.paymentStatus
+            JOIN FETCH p.paymentType
+            WHERE r.referenceNumber = :referenceNumber
+            """)
+    Optional<Payment> findByReferenceNumber(@Param("referenceNumber") String referenceNumber);
+
+    /**
+     * Busca un pago por número de referencia dentro de un rango de fechas solo si pertenece al usuario.
+     *
+     * @param referenceNumber Número de referencia
+     * @param correo Correo electrónico del usuario
+     * @param from Fecha inicial (inclusive)
+     * @param to Fecha final (exclusiva)
+     * @return Optional con el pago si existe y pertenece al usuario
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.reference r
+            JOIN FETCH p.paymentStatus
+            JOIN FETCH p.paymentType
+            WHERE r.referenceNumber = :referenceNumber
+              AND p.paymentDate >= :from AND p.paymentDate < :to
+              AND r.paymentDate >= :from AND r.paymentDate < :to
+              AND p.cart.usuarioRolId IN (
+                SELECT ur.usuarioRolId FROM UserRole ur
+                WHERE ur.usuarioId IN (
+                    SELECT u.usuarioId FROM User u
+                    WHERE u.credenciales.correo = :correo
+                )
+            )
+            """)
+    Optional<Payment> findByReferenceNumberAndUserEmailBetween(@Param("referenceNumber") String referenceNumber,
+                                                               @Param("correo") String correo,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
+
+    /**
+     * Busca un pago por número de referencia solo si pertenece al usuario indicado.
+     * Navega desde carrito → usuario_rol → usuarios → credenciales.
+     * Recorre todas las particiones: solo para referencias sin fecha codificada.
+     *
+     * @param referenceNumber Número de referencia
+     * @param correo Correo electrónico del usuario
+     * @return Optional con el pago si existe y pertenece al usuario
+     */
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.reference r
+            JOIN FETCH p.paymentStatus
+            JOIN FETCH p.paymentType
+            WHERE r.referenceNumber = :referenceNumber AND p.cart.usuarioRolId IN (
+                SELECT ur.usuarioRolId FROM UserRole ur
+                WHERE ur.usuarioId IN (
+                    SELECT u.usuarioId FROM User u
+                    WHERE u.credenciales.correo = :correo
+                )
+            )
+            """)
+    Optional<Payment> findByReferenceNumberAndUserEmail(@Param("referenceNumber") String referenceNumber,
+                                                        @Param("correo") String correo);
+
+    /**
+     * Verifica si el carrito tiene un pago en el estado indicado.
+     * Sin fecha que acotar: consulta idx_pago_carrito en cada partición.
+     *
+     * @param carritoId ID del carrito
+     * @param statusName Nombre del estado de pago
+     * @return true si existe al menos un pago
+     */
+    @Query("""
+            SELECT COUNT(p) > 0 FROM Payment p
+            WHERE p.cart.carritoId = :carritoId AND p.paymentStatus.name = :statusName
+            """)
+    boolean existsByCartIdAndStatusName(@Param("carritoId") Integer carritoId,
+                                        @Param("statusName") String statusName);
 
+    /**
+     * Cambia en bloque el estado de los pagos que permanecen en un estado entre {@code since} y la fecha de corte.
+     *
+     * @param source Estado actual
+     * @param target Estado destino
+     * @param since Fecha inicial (inclusive), acota las particiones recorridas
+     * @param cutoff Fecha de corte (exclusiva)
+     * @return Número de pagos actualizados
+     */
+    @Modifying
+    @Query("""
+            UPDATE Payment p SET p.paymentStatus = :target
+            WHERE p.paymentStatus = :source AND p.paymentDate >= :since AND p.paymentDate < :cutoff
+            """)
+    int updateStatusOlderThan(@Param("source") PaymentStatus source,
+                              @Param("target") PaymentStatus target,
+                              @Param("since") LocalDateTime since,
+                              @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Igual que {@link #updateStatusOlderThan} pero omite los pagos indicados (los que siguen en la
+     * cola o en proceso en esta instancia).
+     *
+     * @param source Estado actual
+     * @param target Estado destino
+     * @param since Fecha inicial (inclusive), acota las particiones recorridas
+     * @param cutoff Fecha de corte (exclusiva)
+     * @param excludedPaymentIds IDs de pagos que no se modifican (no vacío)
+     * @return Número de pagos actualizados
+     */
+    @Modifying
+    @Query("""
+            UPDATE Payment p SET p.paymentStatus = :target
+            WHERE p.paymentStatus = :source AND p.paymentDate >= :since AND p.paymentDate < :cutoff
+              AND p.paymentId NOT IN :excludedPaymentIds
+            """)
+    int updateStatusOlderThanExcluding(@Param("source") PaymentStatus source,
+                                       @Param("target") PaymentStatus target,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("cutoff") LocalDateTime cutoff,
+                                       @Param("excludedPaymentIds") Collection<Integer> excludedPaymentIds);
+
+    /**
+     * Cambia el estado de un pago solo si sigue en el estado esperado. El UPDATE bloquea la fila,
+     * así dos transacciones que compiten por el mismo pago no pueden cambiarlo ambas.
+     *
+     * @param paymentId ID del pago
+     * @param paymentDate Fecha del pago (partición)
+     * @param expected Estado que debe tener el pago
+     * @param target Estado destino
+     * @return 1 si el pago cambió, 0 si ya no estaba en el estado esperado
+     */
+    @Modifying
+    @Query("""
+            UPDATE Payment p SET p.paymentStatus = :target
+            WHERE p.paymentId = :paymentId AND p.paymentDate = :paymentDate AND p.paymentStatus = :expected
+            """)
+    int updateStatusIfCurrent(@Param("paymentId") Integer paymentId,
+                              @Param("paymentDate") LocalDateTime paymentDate,
+                              @Param("expected") PaymentStatus expected,
+                              @Param("target") PaymentStatus target);
+
+    /**
+     * Crea las particiones mensuales de las tablas de pago que falten (función crear_particiones_pago).
+     *
+     * @param from Primer mes
+     * @param months Número de meses desde {@code from}
+     * @return Número de particiones creadas
+     */
+    @Query(value = "SELECT crear_particiones_pago(CAST(:from AS DATE), :months)", nativeQuery = true)
+    int createPartitions(@Param("from") LocalDate from, @Param("months") int months);
+
+    /**
+     * Separa las particiones de los meses anteriores a {@code before} y las mueve al esquema de archivo
+     * (función archivar_particiones_pago).
+     *
+     * @param before Primer mes que se conserva
+     * @param archiveSchema Esquema de archivo
+     * @return Número de meses archivados
+     */
+    @Query(value = "SELECT archivar_particiones_pago(CAST(:before AS DATE), :archiveSchema)", nativeQuery = true)
+    int archivePartitions(@Param("before") LocalDate before, @Param("archiveSchema") String archiveSchema);
+
+    /**
+     * Cuenta los pagos que cayeron en la partición por defecto (fecha sin partición mensual).
+     *
+     * @return Número de pagos en pago_default
+     */
+    @Query(value = "SELECT COUNT(*) FROM pago_default", nativeQuery = true)
+    long countInDefaultPartition();
+}
@@ -1,7 +1,10 @@
 package com.ecommerce.davivienda.repository.payment;
 
 import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,6 +25,7 @@ public interface PaymentStatusRepository extends JpaRepository<PaymentStatus, In
      * @param name Nombre del estado (ej: "Pendiente", "Aprobado")
      * @return Optional con el estado si existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PaymentStatus> findByName(String name);
 }
 
@@ -1,7 +1,10 @@
 package com.ecommerce.davivienda.repository.product;
 
 import com.ecommerce.davivienda.entity.product.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,6 +24,7 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
      * @param nombre Nombre de la categoría
      * @return Optional con la categoría si existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByNombre(String nombre);
 
     /**
@@ -29,6 +33,7 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
      * @param nombre Nombre de la categoría (case insensitive)
      * @return Optional con la categoría si existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByNombreIgnoreCase(String nombre);
 
 }
@@ -1,8 +1,11 @@
 package com.ecommerce.davivienda.repository.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,6 +25,7 @@ public interface ProductRepository extends JpaRepository<Product, Integer>, JpaS
      *
      * @return Lista de productos activos
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByEstadoProductoId(Integer estadoProductoId);
 
 
@@ -4,6 +4,8 @@ import com.ecommerce.davivienda.entity.product.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,5 +33,13 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @return true si existe registro de stock
      */
     boolean existsByProductoId(Integer productoId);
+
+    /**
+     * Busca el stock de varios productos en una sola consulta.
+     *
+     * @param productoIds IDs de los productos
+     * @return Lista de registros de stock encontrados
+     */
+    List<Stock> findByProductoIdIn(Collection<Integer> productoIds);
 }
 
@@ -1,7 +1,10 @@
 package com.ecommerce.davivienda.repository.user;
 
 import com.ecommerce.davivienda.entity.user.DocumentType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,6 +24,7 @@ public interface DocumentTypeRepository extends JpaRepository<DocumentType, Inte
      * @param codigo Código del tipo de documento (ej: "CC", "PA", "CE")
      * @return Optional con el tipo de documento encontrado, o vacío si no existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<DocumentType> findByCodigo(String codigo);
 
     /**
@@ -29,6 +33,7 @@ public interface DocumentTypeRepository extends JpaRepository<DocumentType, Inte
      * @param nombre Nombre del tipo de documento
      * @return Optional con el tipo de documento encontrado, o vacío si no existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<DocumentType> findByNombre(String nombre);
 
 }
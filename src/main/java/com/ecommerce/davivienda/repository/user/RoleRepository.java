@@ -1,7 +1,10 @@
 package com.ecommerce.davivienda.repository.user;
 
 import com.ecommerce.davivienda.entity.user.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,6 +24,7 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
      * @param nombreRol Nombre del rol a buscar
      * @return Optional con el rol encontrado, o vacío si no existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByNombreRol(String nombreRol);
 
 }
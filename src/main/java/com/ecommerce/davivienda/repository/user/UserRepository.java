@@ -1,13 +1,21 @@
 package com.ecommerce.davivienda.repository.user;
 
+import com.ecommerce.davivienda.dto.user.UserSummaryDto;
 import com.ecommerce.davivienda.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 /**
  * Repositorio para operaciones CRUD sobre la entidad User.
+ * Las búsquedas de un usuario cargan sus asociaciones EAGER con un único fetch join
+ * ({@link EntityGraph}) en lugar de una consulta adicional por asociación.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -22,6 +30,7 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @param correo Correo electrónico del usuario
      * @return Optional con el usuario encontrado, o vacío si no existe
      */
+    @EntityGraph(attributePaths = {"documentType", "credenciales", "userStatus", "roles", "roles.role"})
     Optional<User> findByCredenciales_Correo(String correo);
 
     /**
@@ -39,6 +48,7 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @param numeroDeDoc Número de documento
      * @return Optional con el usuario encontrado, o vacío si no existe
      */
+    @EntityGraph(attributePaths = {"documentType", "credenciales", "userStatus", "roles", "roles.role"})
     Optional<User> findByDocumentType_DocumentoIdAndNumeroDeDoc(Integer documentoId, String numeroDeDoc);
 
     /**
@@ -47,6 +57,56 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @param usuarioRolId ID del rol de usuario
      * @return Optional con el usuario encontrado, o vacío si no existe
      */
+    @EntityGraph(attributePaths = {"documentType", "credenciales", "userStatus", "roles", "roles.role"})
     Optional<User> findByUsuarioRolId(Integer usuarioRolId);
-}
 
+    /**
+     * Busca un usuario por ID cargando documento, credenciales, estado y roles en una sola consulta.
+     *
+     * @param usuarioId ID del usuario
+     * @return Optional con el usuario encontrado, o vacío si no existe
+     */
+    @Override
+    @EntityGraph(attributePaths = {"documentType", "credenciales", "userStatus", "roles", "roles.role"})
+    Optional<User> findById(Integer usuarioId);
+
+    /**
+     * Lista usuarios como proyección plana, paginada y filtrada.
+     * Cada filtro nulo se ignora. Ejecuta una consulta para la página y otra para el conteo,
+     * sin importar el número de usuarios ni de roles.
+     *
+     * @param statusId ID del estado de usuario (opcional)
+     * @param roleId ID de rol que el usuario debe tener asignado (opcional)
+     * @param documentTypeId ID del tipo de documento (opcional)
+     * @param documentNumber Número de documento exacto (opcional)
+     * @param pageable Paginación y orden (propiedades de User)
+     * @return Página de proyecciones de usuario
+     */
+    @Query(value = """
+            SELECT new com.ecommerce.davivienda.dto.user.UserSummaryDto(
+                u.usuarioId, u.nombre, u.apellido, d.nombre, u.numeroDeDoc, c.correo, s.nombre, u.usuarioRolId)
+            FROM User u
+            JOIN u.documentType d
+            LEFT JOIN u.credenciales c
+            LEFT JOIN u.userStatus s
+            WHERE (:statusId IS NULL OR s.estadoUsuarioId = :statusId)
+              AND (:documentTypeId IS NULL OR d.documentoId = :documentTypeId)
+              AND (:documentNumber IS NULL OR u.numeroDeDoc = :documentNumber)
+              AND (:roleId IS NULL OR EXISTS (
+                    SELECT 1 FROM UserRole ur WHERE ur.usuarioId = u.usuarioId AND ur.role.rolId = :roleId))
+            """,
+            countQuery = """
+            SELECT COUNT(u)
+            FROM User u
+            WHERE (:statusId IS NULL OR u.userStatus.estadoUsuarioId = :statusId)
+              AND (:documentTypeId IS NULL OR u.documentType.documentoId = :documentTypeId)
+              AND (:documentNumber IS NULL OR u.numeroDeDoc = :documentNumber)
+              AND (:roleId IS NULL OR EXISTS (
+                    SELECT 1 FROM UserRole ur WHERE ur.usuarioId = u.usuarioId AND ur.role.rolId = :roleId))
+            """)
+    Page<UserSummaryDto> findUserSummaries(@Param("statusId") Integer statusId,
+                                           @Param("roleId") Integer roleId,
+                                           @Param("documentTypeId") Integer documentTypeId,
+                                           @Param("documentNumber") String documentNumber,
+                                           Pageable pageable);
+}
@@ -1,9 +1,13 @@
 package com.ecommerce.davivienda.repository.user;
 
+import com.ecommerce.davivienda.dto.user.UserRoleNameDto;
 import com.ecommerce.davivienda.entity.user.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,5 +35,19 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Integer> {
      */
     void deleteByUsuarioId(Integer usuarioId);
 
+    /**
+     * Obtiene los nombres de rol de varios usuarios en una sola consulta.
+     *
+     * @param usuarioIds IDs de los usuarios
+     * @return Pares (ID de usuario, nombre de rol)
+     */
+    @Query("""
+            SELECT new com.ecommerce.davivienda.dto.user.UserRoleNameDto(ur.usuarioId, r.nombreRol)
+            FROM UserRole ur
+            JOIN ur.role r
+            WHERE ur.usuarioId IN :usuarioIds
+            ORDER BY ur.usuarioRolId
+            """)
+    List<UserRoleNameDto> findRoleNamesByUsuarioIds(@Param("usuarioIds") Collection<Integer> usuarioIds);
 }
 
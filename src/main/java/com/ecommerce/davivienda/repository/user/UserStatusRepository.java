@@ -1,7 +1,10 @@
 package com.ecommerce.davivienda.repository.user;
 
 import com.ecommerce.davivienda.entity.user.UserStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,6 +24,7 @@ public interface UserStatusRepository extends JpaRepository<UserStatus, Integer>
      * @param nombre Nombre del estado (ej: "Activo", "Inactivo")
      * @return Optional con el estado encontrado, o vacío si no existe
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserStatus> findByNombre(String nombre);
 
 }
@@ -39,6 +39,11 @@ public final class SecurityEndpoints {
      * Endpoints de monitoreo (actuator)
      */
     public static final String ENDPOINT_ACTUATOR = "/actuator/**";
+
+    /**
+     * Endpoint actuator de verbosidad de logs: escribe configuración, requiere rol administrador
+     */
+    public static final String ENDPOINT_ACTUATOR_LOG_VERBOSITY = "/actuator/logverbosity/**";
     
     /**
      * Endpoints de debug - ⚠️ TEMPORAL - Eliminar en producción
@@ -72,6 +77,11 @@ public final class SecurityEndpoints {
      */
     public static final String ENDPOINT_PRODUCT_GET_BY_ID = "/api/v1/products/get-by-id/**";
     
+    /**
+     * Productos comprados frecuentemente junto con un producto
+     */
+    public static final String ENDPOINT_PRODUCT_RELATED = "/api/v1/products/*/related";
+    
     // ==================== USER ENDPOINTS ====================
     
     /**
@@ -98,6 +108,23 @@ public final class SecurityEndpoints {
      */
     public static final String ENDPOINT_CATEGORIES = "/api/v1/categories/**";
     
+    // ==================== GUEST CART ENDPOINTS ====================
+    
+    /**
+     * Endpoints del carrito invitado (el carrito viaja en un token firmado del cliente)
+     */
+    public static final String ENDPOINT_GUEST_CART = "/api/v1/guest-cart/**";
+    
+    // ==================== ADMIN ENDPOINTS ARRAY ====================
+
+    /**
+     * Endpoints que requieren rol administrador aunque estén dentro de un prefijo público
+     * (ej: /actuator/**). Tienen prioridad sobre {@link #PUBLIC_ENDPOINTS}: el token JWT se valida.
+     */
+    public static final String[] ADMIN_ENDPOINTS = {
+        ENDPOINT_ACTUATOR_LOG_VERBOSITY
+    };
+
     // ==================== PUBLIC ENDPOINTS ARRAY ====================
     
     /**
@@ -117,10 +144,12 @@ public final class SecurityEndpoints {
         ENDPOINT_PRODUCT_SEARCH_PAGINATED,
         ENDPOINT_PRODUCT_SEARCH,
         ENDPOINT_PRODUCT_GET_BY_ID,
+        ENDPOINT_PRODUCT_RELATED,
         ENDPOINT_USERS_CREATE,
         ENDPOINT_USERS_CHANGE_PASSWORD,
         ENDPOINT_DOCUMENT_TYPES,
-        ENDPOINT_CATEGORIES
+        ENDPOINT_CATEGORIES,
+        ENDPOINT_GUEST_CART
     };
 }
 
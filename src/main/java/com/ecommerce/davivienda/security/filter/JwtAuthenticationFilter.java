@@ -5,7 +5,9 @@ import com.ecommerce.davivienda.mapper.user.UserProfileMapper;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.security.credentials.CredentialsExtractor;
 import com.ecommerce.davivienda.security.response.AuthenticationResponseBuilder;
+import com.ecommerce.davivienda.security.token.GuestCartTokenExtractor;
 import com.ecommerce.davivienda.security.token.JwtTokenGenerator;
+import com.ecommerce.davivienda.service.guestcart.GuestCartService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +32,7 @@ import java.util.Map;
  * - {@link JwtTokenGenerator}: Generación de tokens JWT
  * - {@link AuthenticationResponseBuilder}: Construcción de respuestas HTTP con perfil de usuario
  * - {@link UserProfileMapper}: Transformación de entidad User a DTO de perfil
+ * - {@link GuestCartService}: Fusión del carrito invitado con el carrito del usuario
  *
  * @author Team Tienda Digital
  * @since 1.0.0
@@ -49,6 +52,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final AuthenticationResponseBuilder responseBuilder;
     private final UserRepository userRepository;
     private final UserProfileMapper userProfileMapper;
+    private final GuestCartService guestCartService;
+    private final GuestCartTokenExtractor guestCartTokenExtractor;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) 
@@ -82,6 +87,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         // Obtener perfil completo del usuario desde BD
         UserProfileDto userProfile = getUserProfile(userName);
 
+        // Fusionar carrito invitado (si existe) con el carrito del usuario
+        mergeGuestCart(request, response, userName);
+
         // Generar token JWT
         String token = tokenGenerator.generateToken(userName, authorities);
         
@@ -104,6 +112,29 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                 .orElse(null);
     }
 
+    /**
+     * Fusiona el carrito invitado del request en el carrito persistido del usuario.
+     * Un fallo en la fusión no impide el login: el carrito invitado se conserva en el cliente.
+     *
+     * @param request Request HTTP con el token del carrito invitado
+     * @param response Response HTTP donde se elimina la cookie del carrito invitado
+     * @param email Email del usuario autenticado
+     */
+    private void mergeGuestCart(HttpServletRequest request, HttpServletResponse response, String email) {
+        String guestCartToken = guestCartTokenExtractor.extractToken(request);
+        if (guestCartToken == null) {
+            return;
+        }
+
+        try {
+            int merged = guestCartService.mergeIntoUserCart(email, guestCartToken);
+            guestCartTokenExtractor.clearToken(response);
+            log.info("Carrito invitado fusionado para usuario {}: {} items", email, merged);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible fusionar el carrito invitado para usuario {}: {}", email, e.getMessage());
+        }
+    }
+
     @Override
     protected void unsuccessfulAuthentication(
             HttpServletRequest request, 
@@ -120,7 +120,7 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
 
             setAuthenticationInContext(authenticationToken);
 
-            log.info("✅ Token JWT válido para el usuario: {} con authorities: {}", userName, authorities);
+            log.debug("✅ Token JWT válido para el usuario: {}", userName);
 
             chain.doFilter(request, response);
 
@@ -138,13 +138,22 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
      * 
      * <p><b>⚠️ Endpoints públicos centralizados en {@link SecurityEndpoints}</b></p>
      * <p>Omite validación para todos los endpoints públicos, permitiendo que funcionen
-     * incluso si el cliente envía un token JWT expirado o inválido.</p>
+     * incluso si el cliente envía un token JWT expirado o inválido. Los endpoints de
+     * {@link SecurityEndpoints#ADMIN_ENDPOINTS} siempre se validan.</p>
+     *
+     * <p>Visible en el paquete para el benchmark JMH del filtro.</p>
      *
      * @param request Request HTTP
      * @return true si debe omitir validación, false en caso contrario
      */
-    private boolean shouldSkipValidation(HttpServletRequest request) {
+    boolean shouldSkipValidation(HttpServletRequest request) {
         String requestUri = request.getRequestURI();
+
+        for (String adminEndpoint : SecurityEndpoints.ADMIN_ENDPOINTS) {
+            if (matchesPublicEndpoint(requestUri, adminEndpoint)) {
+                return false;
+            }
+        }
         
         for (String publicEndpoint : SecurityEndpoints.PUBLIC_ENDPOINTS) {
             // Comparar con el endpoint público, soportando wildcards (**)
@@ -159,7 +168,8 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
 
     /**
      * Verifica si una URI coincide con un patrón de endpoint público.
-     * Soporta wildcards (**) al final de los patrones.
+     * Soporta wildcards (**) al final de los patrones y (*) para un único segmento intermedio
+     * (ej: /api/v1/products/*/related).
      *
      * @param requestUri URI del request
      * @param publicEndpoint Patrón de endpoint público
@@ -171,6 +181,19 @@ public class JwtValidationFilter extends BasicAuthenticationFilter {
             String prefix = publicEndpoint.substring(0, publicEndpoint.length() - 3);
             return requestUri.equals(prefix) || requestUri.startsWith(prefix + "/");
         }
+
+        // Si el patrón tiene /*/, el segmento intermedio debe ser uno solo y no vacío
+        int wildcard = publicEndpoint.indexOf("/*/");
+        if (wildcard >= 0) {
+            String prefix = publicEndpoint.substring(0, wildcard + 1);
+            String suffix = publicEndpoint.substring(wildcard + 2);
+            if (requestUri.length() <= prefix.length() + suffix.length()
+                    || !requestUri.startsWith(prefix) || !requestUri.endsWith(suffix)) {
+                return false;
+            }
+            int segmentEnd = requestUri.length() - suffix.length();
+            return requestUri.indexOf('/', prefix.length()) == segmentEnd;
+        }
         
         // Comparación exacta
         return requestUri.equals(publicEndpoint);
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.security.service.detailsservice;
 
+import com.ecommerce.davivienda.config.ReadWriteRoutingDataSource;
 import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.security.service.detailsservice.builder.UserDetailsBuilderService;
@@ -61,13 +62,15 @@ public class JpaUserDetailsServiceImpl implements UserDetailsService, JpaUserDet
 
     /**
      * Busca un usuario en la base de datos por su email.
+     * Se lee del primario: el login llega anónimo y puede seguir a un registro o a un cambio
+     * de contraseña que la réplica aún no tiene.
      *
      * @param email Email del usuario
      * @return Usuario encontrado
      * @throws UsernameNotFoundException si el usuario no existe
      */
     private User findUserByEmail(String email) {
-        return userRepository.findByCredenciales_Correo(email)
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> userRepository.findByCredenciales_Correo(email))
                 .orElseThrow(() -> {
                     log.warn("[{}] Usuario no encontrado: {}", CODE_USER_NOT_FOUND, email);
                     return new UsernameNotFoundException(
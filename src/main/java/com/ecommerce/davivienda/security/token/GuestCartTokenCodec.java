@@ -0,0 +1,134 @@
+package com.ecommerce.davivienda.security.token;
+
+import com.ecommerce.davivienda.config.properties.GuestCartProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.GUEST_CART_EXPIRATION_TIME;
+
+/**
+ * Componente responsable de codificar y decodificar el carrito invitado en un token firmado.
+ * El carrito viaja en el cliente como JWT comprimido (DEFLATE) con las líneas
+ * en formato compacto {@code productId:cantidad,productId:cantidad}.
+ *
+ * <p>La clave de firma viene de {@code guest-cart.secret}, compartida por todas las instancias, y es
+ * distinta a la de los tokens de sesión para que un token de carrito nunca se acepte como sesión.
+ * Sin clave configurada la aplicación no arranca.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GuestCartTokenCodec {
+
+    private static final String GUEST_CART_SUBJECT = "guest-cart";
+    private static final String FIELD_ITEMS = "items";
+    private static final String LINE_SEPARATOR = ",";
+    private static final String QUANTITY_SEPARATOR = ":";
+
+    private final SecretKey secretKey;
+
+    public GuestCartTokenCodec(GuestCartProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("guest-cart.secret es obligatorio (GUEST_CART_SECRET, Base64 de al menos 32 bytes)");
+        }
+        // hmacShaKeyFor rechaza claves de menos de 256 bits
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+    }
+
+    /**
+     * Codifica las líneas del carrito invitado en un token firmado y comprimido.
+     *
+     * @param lines Mapa productId → cantidad
+     * @return Token firmado con el carrito
+     */
+    public String encode(Map<Integer, Integer> lines) {
+        return Jwts.builder()
+                .subject(GUEST_CART_SUBJECT)
+                .claim(FIELD_ITEMS, serializeLines(lines))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + GUEST_CART_EXPIRATION_TIME))
+                .compressWith(Jwts.ZIP.DEF)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * Decodifica un token de carrito invitado.
+     * Un token ausente, expirado, alterado o mal formado se trata como carrito vacío.
+     *
+     * @param token Token del carrito (puede ser null)
+     * @return Mapa mutable productId → cantidad, en orden de inserción
+     */
+    public Map<Integer, Integer> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            if (!GUEST_CART_SUBJECT.equals(claims.getSubject())) {
+                log.warn("Token de carrito invitado con subject inesperado, se ignora");
+                return new LinkedHashMap<>();
+            }
+
+            return deserializeLines(claims.get(FIELD_ITEMS, String.class));
+
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Token de carrito invitado inválido, se inicia un carrito vacío: {}", e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Serializa las líneas al formato compacto.
+     *
+     * @param lines Mapa productId → cantidad
+     * @return Cadena compacta con las líneas
+     */
+    private String serializeLines(Map<Integer, Integer> lines) {
+        return lines.entrySet().stream()
+                .map(entry -> entry.getKey() + QUANTITY_SEPARATOR + entry.getValue())
+                .collect(Collectors.joining(LINE_SEPARATOR));
+    }
+
+    /**
+     * Deserializa las líneas desde el formato compacto.
+     *
+     * @param items Cadena compacta con las líneas
+     * @return Mapa productId → cantidad
+     * @throws IllegalArgumentException si el formato es inválido
+     */
+    private Map<Integer, Integer> deserializeLines(String items) {
+        Map<Integer, Integer> lines = new LinkedHashMap<>();
+        if (items == null || items.isBlank()) {
+            return lines;
+        }
+
+        for (String line : items.split(LINE_SEPARATOR)) {
+            String[] parts = line.split(QUANTITY_SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Línea de carrito mal formada: " + line);
+            }
+            lines.put(Integer.valueOf(parts[0]), Integer.valueOf(parts[1]));
+        }
+        return lines;
+    }
+}
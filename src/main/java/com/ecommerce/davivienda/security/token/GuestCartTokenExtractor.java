@@ -0,0 +1,91 @@
+package com.ecommerce.davivienda.security.token;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.*;
+
+/**
+ * Componente responsable de leer y escribir el token del carrito invitado en el request/response.
+ * El token se lee del header {@code X-Guest-Cart} o, en su defecto, de la cookie {@code GUEST_CART}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GuestCartTokenExtractor {
+
+    private static final String COOKIE_PATH = "/";
+    private static final String COOKIE_SAME_SITE = "Lax";
+
+    /**
+     * Extrae el token del carrito invitado del request.
+     *
+     * @param request Request HTTP
+     * @return Token del carrito, o null si no existe
+     */
+    public String extractToken(HttpServletRequest request) {
+        String header = request.getHeader(HEADER_GUEST_CART);
+        if (header != null && !header.isBlank()) {
+            return header;
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (GUEST_CART_COOKIE.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Escribe el token del carrito invitado en la cookie y en el header de respuesta.
+     *
+     * @param response Response HTTP
+     * @param token Token del carrito
+     */
+    public void writeToken(HttpServletResponse response, String token) {
+        response.addHeader(HttpHeaders.SET_COOKIE,
+                buildCookie(token, Duration.ofMillis(GUEST_CART_EXPIRATION_TIME)).toString());
+        response.setHeader(HEADER_GUEST_CART, token);
+    }
+
+    /**
+     * Elimina la cookie del carrito invitado (por ejemplo, después de fusionarlo en el login).
+     *
+     * @param response Response HTTP
+     */
+    public void clearToken(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, buildCookie("", Duration.ZERO).toString());
+        log.debug("Cookie de carrito invitado eliminada");
+    }
+
+    /**
+     * Construye la cookie del carrito invitado.
+     *
+     * @param value Valor de la cookie
+     * @param maxAge Tiempo de vida de la cookie
+     * @return Cookie construida
+     */
+    private ResponseCookie buildCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(GUEST_CART_COOKIE, value)
+                .httpOnly(true)
+                .path(COOKIE_PATH)
+                .sameSite(COOKIE_SAME_SITE)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -41,15 +41,8 @@ public class JwtTokenValidator {
      * @throws JwtException si el token es inválido o ha expirado
      */
     public Claims validateAndParseToken(String token) throws JwtException {
-        log.debug("Validando token JWT...");
-
         Claims claims = parseToken(token);
-        
-        String userName = claims.getSubject();
-        Object authoritiesClaims = claims.get(FIELD_AUTHORITIES);
-        
-        log.info("🔍 JWT Claims - Usuario: {}, Authorities raw: {}", userName, authoritiesClaims);
-        log.debug("Token JWT válido");
+        log.trace("🔍 JWT Claims - Usuario: {}, Authorities raw: {}", claims.getSubject(), claims.get(FIELD_AUTHORITIES));
 
         return claims;
     }
@@ -62,12 +55,10 @@ public class JwtTokenValidator {
      * @throws IOException si hay error al deserializar
      */
     public Collection<? extends GrantedAuthority> extractAuthorities(Claims claims) throws IOException {
-        log.debug("Deserializando authorities del token...");
-
         Object authoritiesClaims = claims.get(FIELD_AUTHORITIES);
         Collection<? extends GrantedAuthority> authorities = deserializeAuthorities(authoritiesClaims);
 
-        log.info("🔍 JWT Authorities deserialized: {}", authorities);
+        log.trace("🔍 JWT Authorities deserialized: {}", authorities);
         
         return authorities;
     }
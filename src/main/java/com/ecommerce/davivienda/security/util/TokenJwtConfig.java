@@ -38,6 +38,26 @@ public class TokenJwtConfig {
      * Tiempo de expiración del token en milisegundos (1 hora).
      */
     public static final long EXPIRATION_TIME = 3600000; // 1 hora
+
+    /**
+     * Nombre de la cookie que transporta el carrito invitado.
+     */
+    public static final String GUEST_CART_COOKIE = "GUEST_CART";
+
+    /**
+     * Header alternativo a la cookie para clientes que no manejan cookies.
+     */
+    public static final String HEADER_GUEST_CART = "X-Guest-Cart";
+
+    /**
+     * Tiempo de expiración del carrito invitado en milisegundos (7 días).
+     */
+    public static final long GUEST_CART_EXPIRATION_TIME = 604800000L; // 7 días
+
+    /**
+     * Cantidad máxima de productos distintos en un carrito invitado (acota el tamaño de la cookie).
+     */
+    public static final int GUEST_CART_MAX_LINES = 50;
     
     /**
      * Constructor privado para evitar instanciación.
@@ -0,0 +1,66 @@
+package com.ecommerce.davivienda.service.analytics;
+
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.dto.analytics.ProductSalesDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Servicio de analítica de ventas para administradores.
+ * Todas las consultas leen solo los agregados diarios: su costo depende del número de días
+ * (y de productos o categorías vendidos), no del número de pedidos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface SalesAnalyticsService {
+
+    /**
+     * Ingresos por día.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por día con ventas, en orden cronológico
+     */
+    List<DailyRevenueDto> getDailyRevenue(LocalDate from, LocalDate to);
+
+    /**
+     * Participación de cada tipo de pago.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por tipo de pago con su porcentaje de pagos
+     */
+    List<PaymentTypeSalesDto> getPaymentTypeMix(LocalDate from, LocalDate to);
+
+    /**
+     * Unidades e ingresos por categoría.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por categoría, de mayor a menor ingreso
+     */
+    List<CategorySalesDto> getCategorySales(LocalDate from, LocalDate to);
+
+    /**
+     * Productos más vendidos por unidades.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @param limit Máximo de productos (opcional)
+     * @return Productos de mayor a menor número de unidades
+     */
+    List<ProductSalesDto> getTopProducts(LocalDate from, LocalDate to, Integer limit);
+
+    /**
+     * Recalcula los agregados de un rango de días cerrados desde las tablas transaccionales.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive), anterior al día en curso
+     * @return Filas de agregados escritas
+     */
+    int rebuild(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.davivienda.service.analytics;
+
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.dto.analytics.ProductSalesDto;
+import com.ecommerce.davivienda.service.analytics.rebuild.SalesRollupRebuildService;
+import com.ecommerce.davivienda.service.analytics.transactional.SalesRollupTransactionalService;
+import com.ecommerce.davivienda.service.analytics.validation.SalesAnalyticsValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementación del servicio de analítica de ventas.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final SalesAnalyticsValidationService validationService;
+    private final SalesRollupTransactionalService rollupTransactionalService;
+    private final SalesRollupRebuildService rebuildService;
+
+    @Override
+    public List<DailyRevenueDto> getDailyRevenue(LocalDate from, LocalDate to) {
+        validationService.validateRange(from, to);
+        return rollupTransactionalService.findDailyRevenue(from, to);
+    }
+
+    @Override
+    public List<PaymentTypeSalesDto> getPaymentTypeMix(LocalDate from, LocalDate to) {
+        validationService.validateRange(from, to);
+
+        List<PaymentTypeSalesDto> mix = rollupTransactionalService.findPaymentTypeMix(from, to);
+        long totalPayments = mix.stream().mapToLong(PaymentTypeSalesDto::getPayments).sum();
+        for (PaymentTypeSalesDto type : mix) {
+            type.setShare(totalPayments == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(type.getPayments())
+                    .multiply(ONE_HUNDRED)
+                    .divide(BigDecimal.valueOf(totalPayments), 2, RoundingMode.HALF_UP));
+        }
+        return mix;
+    }
+
+    @Override
+    public List<CategorySalesDto> getCategorySales(LocalDate from, LocalDate to) {
+        validationService.validateRange(from, to);
+        return rollupTransactionalService.findCategorySales(from, to);
+    }
+
+    @Override
+    public List<ProductSalesDto> getTopProducts(LocalDate from, LocalDate to, Integer limit) {
+        validationService.validateRange(from, to);
+        return rollupTransactionalService.findTopProducts(from, to, validationService.resolveTopProductsLimit(limit));
+    }
+
+    @Override
+    public int rebuild(LocalDate from, LocalDate to) {
+        validationService.validateRebuildRange(from, to);
+        log.info("Rebuild manual de agregados de ventas {} a {}", from, to);
+        return rebuildService.rebuild(from, to);
+    }
+}
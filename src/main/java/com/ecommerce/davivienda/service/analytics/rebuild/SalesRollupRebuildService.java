@@ -0,0 +1,29 @@
+package com.ecommerce.davivienda.service.analytics.rebuild;
+
+import java.time.LocalDate;
+
+/**
+ * Servicio que recalcula los agregados de ventas desde las tablas transaccionales.
+ * Corrige cualquier desviación del registro incremental (incrementos perdidos en un reinicio,
+ * cambios manuales de estado de pagos) y sirve para la carga inicial del histórico.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface SalesRollupRebuildService {
+
+    /**
+     * Recalcula los agregados de un rango de días cerrados.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive), anterior al día en curso
+     * @return Filas de agregados escritas
+     */
+    int rebuild(LocalDate from, LocalDate to);
+
+    /**
+     * Recalcula los últimos analytics.sales.rebuild-days días cerrados. Se ejecuta según
+     * analytics.sales.rebuild-cron.
+     */
+    void rebuildRecentDays();
+}
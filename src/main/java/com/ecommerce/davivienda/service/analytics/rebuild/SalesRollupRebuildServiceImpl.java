@@ -0,0 +1,54 @@
+package com.ecommerce.davivienda.service.analytics.rebuild;
+
+import com.ecommerce.davivienda.config.properties.SalesAnalyticsProperties;
+import com.ecommerce.davivienda.service.analytics.transactional.SalesRollupTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementación del rebuild de agregados de ventas.
+ *
+ * <p>Solo recalcula días cerrados. La exclusión con los flushes de todas las instancias y el
+ * descarte de incrementos tardíos de los días recalculados los hace
+ * {@link SalesRollupTransactionalService}, así un pago no se cuenta dos veces aunque su incremento
+ * siga en el buffer de otra instancia.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupRebuildServiceImpl implements SalesRollupRebuildService {
+
+    private final SalesRollupTransactionalService rollupTransactionalService;
+    private final SalesAnalyticsProperties properties;
+
+    @Override
+    public int rebuild(LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+
+        int rows = rollupTransactionalService.rebuild(from, to);
+
+        log.info("Agregados de ventas reconstruidos {} a {}: {} filas en {} ms", from, to, rows,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rows;
+    }
+
+    @Override
+    @Scheduled(cron = "${analytics.sales.rebuild-cron:0 30 2 * * *}")
+    public void rebuildRecentDays() {
+        LocalDate to = LocalDate.now().minusDays(1);
+        LocalDate from = to.minusDays(properties.getRebuildDays() - 1L);
+        try {
+            rebuild(from, to);
+        } catch (RuntimeException e) {
+            log.error("Fallo el rebuild programado de agregados de ventas {} a {}: {}", from, to, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.davivienda.service.analytics.recorder;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.payment.Payment;
+
+import java.util.List;
+
+/**
+ * Servicio que mantiene incrementalmente los agregados de ventas a partir de los pagos completados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface SalesRecorderService {
+
+    /**
+     * Calcula el incremento del pago y lo deja pendiente de flush cuando la transacción actual confirma.
+     * Si la transacción se revierte el pago no se cuenta.
+     *
+     * @param payment Pago completado
+     * @param items Items del carrito pagado
+     */
+    void recordAfterCommit(Payment payment, List<CartItem> items);
+
+    /**
+     * Aplica los incrementos pendientes a los agregados, salvo los de días ya reconstruidos.
+     */
+    void flush();
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.davivienda.service.analytics.recorder;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.payment.Payment;
+import com.ecommerce.davivienda.service.analytics.transactional.SalesRollupTransactionalService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_ANALYTICS_SALES_PENDING;
+
+/**
+ * Implementación del registro incremental de ventas.
+ *
+ * <p>El checkout no escribe en los agregados: al confirmar su transacción suma su incremento a un
+ * buffer en memoria y un flush periódico lo aplica con un upsert por clave. Así los pagos no compiten
+ * por el bloqueo de la fila del día y el costo en el checkout es solo calcular el incremento.
+ * Lo que quede en el buffer si el proceso muere sin flush lo corrige el rebuild programado.</p>
+ *
+ * <p>Los incrementos de días que el rebuild ya recalculó (en cualquier instancia) se descartan al
+ * aplicar el flush: ver {@link SalesRollupTransactionalService#apply(SalesRollupDelta)}.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class SalesRecorderServiceImpl implements SalesRecorderService {
+
+    private final SalesRollupTransactionalService rollupTransactionalService;
+
+    // Protege el buffer; se toma solo para sumar o intercambiar, nunca durante E/S
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    // Serializa los flushes de esta instancia (programado y de apagado)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private SalesRollupDelta pending = new SalesRollupDelta();
+
+    public SalesRecorderServiceImpl(SalesRollupTransactionalService rollupTransactionalService,
+                                    MeterRegistry meterRegistry) {
+        this.rollupTransactionalService = rollupTransactionalService;
+
+        Gauge.builder(METRIC_ANALYTICS_SALES_PENDING, this, SalesRecorderServiceImpl::pendingSize)
+                .description("Claves de agregados de ventas pendientes de flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAfterCommit(Payment payment, List<CartItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        SalesRollupDelta delta = new SalesRollupDelta();
+        delta.addPayment(payment.getPaymentDate().toLocalDate(), payment.getPaymentType().getPaymentType(), items);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(delta);
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.sales.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Aplica lo pendiente antes de apagar para no depender del rebuild.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushPending() {
+        SalesRollupDelta drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            int rebuiltDays = rollupTransactionalService.apply(drained);
+            log.debug("Agregados de ventas actualizados: {} claves, {} días ya reconstruidos descartados",
+                    drained.size(), rebuiltDays);
+        } catch (RuntimeException e) {
+            // Se devuelven al buffer y se reintentan en el siguiente flush
+            log.error("Fallo al actualizar agregados de ventas ({} claves), se reintentará: {}",
+                    drained.size(), e.getMessage());
+            merge(drained);
+        }
+    }
+
+    private void merge(SalesRollupDelta delta) {
+        bufferLock.lock();
+        try {
+            pending.merge(delta);
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private SalesRollupDelta drain() {
+        bufferLock.lock();
+        try {
+            SalesRollupDelta drained = pending;
+            pending = new SalesRollupDelta();
+            return drained;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    private int pendingSize() {
+        bufferLock.lock();
+        try {
+            return pending.size();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.ecommerce.davivienda.service.analytics.recorder;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incrementos pendientes de aplicar a los agregados de ventas, acumulados por clave
+ * (día y tipo de pago, día y categoría, día y producto).
+ *
+ * <p>Varios pagos del mismo día y producto se suman en una sola entrada, así cada flush hace un
+ * upsert por clave y no uno por pago. No es thread-safe: el recorder la protege con su lock.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public class SalesRollupDelta {
+
+    /**
+     * Categoría usada para productos sin categoría.
+     */
+    public static final int NO_CATEGORY_ID = 0;
+
+    private final Map<DayKey, Totals> byPaymentType = new HashMap<>();
+    private final Map<DayKey, Totals> byCategory = new HashMap<>();
+    private final Map<DayKey, Totals> byProduct = new HashMap<>();
+
+    /**
+     * Suma un pago con sus items. Los importes usan el mismo cálculo (IVA redondeado por unidad)
+     * que {@link CartItem#calculateTotal()} y que el rebuild.
+     *
+     * @param day Día del pago
+     * @param paymentType Tipo de pago
+     * @param items Items del carrito pagado
+     */
+    public void addPayment(LocalDate day, String paymentType, List<CartItem> items) {
+        Totals payment = byPaymentType.computeIfAbsent(new DayKey(day, paymentType), key -> new Totals());
+        payment.payments++;
+
+        for (CartItem item : items) {
+            Product product = item.getProduct();
+            int categoryId = product.getCategoria() != null ? product.getCategoria().getCategoriaId() : NO_CATEGORY_ID;
+            int units = item.getCantidad();
+            BigDecimal subtotal = item.calculateSubtotal();
+            BigDecimal tax = item.calculateIvaAmount();
+            BigDecimal total = subtotal.add(tax);
+
+            payment.add(units, subtotal, tax, total);
+            byCategory.computeIfAbsent(new DayKey(day, categoryId), key -> new Totals())
+                    .add(units, subtotal, tax, total);
+            Totals productTotals = byProduct.computeIfAbsent(new DayKey(day, product.getProductoId()), key -> new Totals());
+            productTotals.categoryId = categoryId;
+            productTotals.add(units, subtotal, tax, total);
+        }
+    }
+
+    /**
+     * Suma otro delta a este.
+     *
+     * @param other Delta a sumar
+     */
+    public void merge(SalesRollupDelta other) {
+        other.byPaymentType.forEach((key, totals) -> byPaymentType.computeIfAbsent(key, k -> new Totals()).add(totals));
+        other.byCategory.forEach((key, totals) -> byCategory.computeIfAbsent(key, k -> new Totals()).add(totals));
+        other.byProduct.forEach((key, totals) -> byProduct.computeIfAbsent(key, k -> new Totals()).add(totals));
+    }
+
+    /**
+     * Copia del delta sin las claves de los días indicados.
+     *
+     * @param excludedDays Días a descartar
+     * @return Nuevo delta con el resto de claves
+     */
+    public SalesRollupDelta excludingDays(Set<LocalDate> excludedDays) {
+        SalesRollupDelta kept = new SalesRollupDelta();
+        copyExcluding(byPaymentType, kept.byPaymentType, excludedDays);
+        copyExcluding(byCategory, kept.byCategory, excludedDays);
+        copyExcluding(byProduct, kept.byProduct, excludedDays);
+        return kept;
+    }
+
+    /**
+     * Días con incrementos pendientes.
+     *
+     * @return Días distintos del delta
+     */
+    public Set<LocalDate> getDays() {
+        Set<LocalDate> days = new HashSet<>();
+        byPaymentType.keySet().forEach(key -> days.add(key.getDay()));
+        return days;
+    }
+
+    public boolean isEmpty() {
+        return byPaymentType.isEmpty();
+    }
+
+    /**
+     * Número de upserts que aplicaría un flush.
+     *
+     * @return Claves acumuladas
+     */
+    public int size() {
+        return byPaymentType.size() + byCategory.size() + byProduct.size();
+    }
+
+    /**
+     * Totales por día y tipo de pago (dimensión: código del tipo de pago).
+     */
+    public Map<DayKey, Totals> getByPaymentType() {
+        return Collections.unmodifiableMap(byPaymentType);
+    }
+
+    /**
+     * Totales por día y categoría (dimensión: ID de la categoría).
+     */
+    public Map<DayKey, Totals> getByCategory() {
+        return Collections.unmodifiableMap(byCategory);
+    }
+
+    /**
+     * Totales por día y producto (dimensión: ID del producto).
+     */
+    public Map<DayKey, Totals> getByProduct() {
+        return Collections.unmodifiableMap(byProduct);
+    }
+
+    private static void copyExcluding(Map<DayKey, Totals> source, Map<DayKey, Totals> target, Set<LocalDate> excludedDays) {
+        source.forEach((key, totals) -> {
+            if (!excludedDays.contains(key.getDay())) {
+                target.computeIfAbsent(key, k -> new Totals()).add(totals);
+            }
+        });
+    }
+
+    /**
+     * Clave de un agregado: día y dimensión (tipo de pago, categoría o producto).
+     */
+    @Getter
+    public static final class DayKey {
+
+        private final LocalDate day;
+        private final Object dimension;
+
+        public DayKey(LocalDate day, Object dimension) {
+            this.day = day;
+            this.dimension = dimension;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DayKey other && day.equals(other.day) && dimension.equals(other.dimension);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * day.hashCode() + dimension.hashCode();
+        }
+    }
+
+    /**
+     * Totales acumulados de una clave.
+     */
+    @Getter
+    public static final class Totals {
+
+        private int payments;
+        private int units;
+        private BigDecimal subtotal = BigDecimal.ZERO;
+        private BigDecimal tax = BigDecimal.ZERO;
+        private BigDecimal total = BigDecimal.ZERO;
+        private int categoryId = NO_CATEGORY_ID;
+
+        private void add(int units, BigDecimal subtotal, BigDecimal tax, BigDecimal total) {
+            this.units += units;
+            this.subtotal = this.subtotal.add(subtotal);
+            this.tax = this.tax.add(tax);
+            this.total = this.total.add(total);
+        }
+
+        private void add(Totals other) {
+            payments += other.payments;
+            categoryId = other.categoryId;
+            add(other.units, other.subtotal, other.tax, other.total);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.davivienda.service.analytics.transactional;
+
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.dto.analytics.ProductSalesDto;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRollupDelta;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Servicio transaccional de los agregados de ventas.
+ * Centraliza las escrituras (incrementos y rebuild) y las lecturas, que solo tocan los agregados.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface SalesRollupTransactionalService {
+
+    /**
+     * Aplica los incrementos acumulados con un upsert por clave, en una sola transacción.
+     * Descarta los de días que el rebuild ya recalculó, que los cuenta desde lineas_pedido.
+     *
+     * @param delta Incrementos a aplicar
+     * @return Días descartados por estar reconstruidos
+     */
+    int apply(SalesRollupDelta delta);
+
+    /**
+     * Reemplaza los agregados de un rango de días por los recalculados desde lineas_pedido y los
+     * marca como reconstruidos. Excluye los flushes de todas las instancias mientras corre.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Filas de agregados escritas
+     */
+    int rebuild(LocalDate from, LocalDate to);
+
+    /**
+     * Ingresos por día de un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por día con ventas
+     */
+    List<DailyRevenueDto> findDailyRevenue(LocalDate from, LocalDate to);
+
+    /**
+     * Pagos e ingresos por tipo de pago de un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por tipo de pago
+     */
+    List<PaymentTypeSalesDto> findPaymentTypeMix(LocalDate from, LocalDate to);
+
+    /**
+     * Unidades e ingresos por categoría de un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @return Un elemento por categoría
+     */
+    List<CategorySalesDto> findCategorySales(LocalDate from, LocalDate to);
+
+    /**
+     * Productos más vendidos de un rango.
+     *
+     * @param from Primer día (inclusive)
+     * @param to Último día (inclusive)
+     * @param limit Máximo de productos
+     * @return Productos de mayor a menor número de unidades
+     */
+    List<ProductSalesDto> findTopProducts(LocalDate from, LocalDate to, int limit);
+}
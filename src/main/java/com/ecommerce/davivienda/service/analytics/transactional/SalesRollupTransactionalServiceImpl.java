@@ -0,0 +1,116 @@
+package com.ecommerce.davivienda.service.analytics.transactional;
+
+import com.ecommerce.davivienda.dto.analytics.CategorySalesDto;
+import com.ecommerce.davivienda.dto.analytics.DailyRevenueDto;
+import com.ecommerce.davivienda.dto.analytics.PaymentTypeSalesDto;
+import com.ecommerce.davivienda.dto.analytics.ProductSalesDto;
+import com.ecommerce.davivienda.repository.analytics.DailyCategorySalesRepository;
+import com.ecommerce.davivienda.repository.analytics.DailyProductSalesRepository;
+import com.ecommerce.davivienda.repository.analytics.DailySalesRepository;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRollupDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ecommerce.davivienda.constants.Constants.SALE_PAYMENT_STATUSES;
+
+/**
+ * Implementación del servicio transaccional de los agregados de ventas.
+ *
+ * <p>Flushes y rebuild se coordinan entre instancias con un advisory lock de PostgreSQL: los
+ * flushes lo toman compartido y el rebuild exclusivo. El rebuild marca sus días en
+ * ventas_dias_reconstruidos y los flushes descartan los incrementos de esos días, que ya vienen
+ * contados desde lineas_pedido. Un pago de un día ya reconstruido que confirma después del rebuild
+ * lo cuenta el siguiente rebuild programado.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupTransactionalServiceImpl implements SalesRollupTransactionalService {
+
+    private static final int SALES_ROLLUP_LOCK_NAMESPACE = 1002; // Primera clave del advisory lock de agregados
+    private static final int SALES_ROLLUP_LOCK_KEY = 0;
+
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyCategorySalesRepository dailyCategorySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Override
+    @Transactional
+    public int apply(SalesRollupDelta pending) {
+        dailySalesRepository.advisoryXactLockShared(SALES_ROLLUP_LOCK_NAMESPACE, SALES_ROLLUP_LOCK_KEY);
+
+        Set<LocalDate> rebuiltDays = new HashSet<>();
+        for (LocalDate day : pending.getDays()) {
+            if (dailySalesRepository.isRebuilt(day)) {
+                rebuiltDays.add(day);
+            }
+        }
+        SalesRollupDelta delta = rebuiltDays.isEmpty() ? pending : pending.excludingDays(rebuiltDays);
+
+        delta.getByPaymentType().forEach((key, totals) -> dailySalesRepository.upsert(
+                key.getDay(), (String) key.getDimension(), totals.getPayments(), totals.getUnits(),
+                totals.getSubtotal(), totals.getTax(), totals.getTotal()));
+
+        delta.getByCategory().forEach((key, totals) -> dailyCategorySalesRepository.upsert(
+                key.getDay(), (Integer) key.getDimension(), totals.getUnits(), totals.getTotal()));
+
+        delta.getByProduct().forEach((key, totals) -> dailyProductSalesRepository.upsert(
+                key.getDay(), (Integer) key.getDimension(), totals.getCategoryId(), totals.getUnits(),
+                totals.getTotal()));
+        return rebuiltDays.size();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // Espera a los flushes en curso; los siguientes ya verán los días marcados
+        dailySalesRepository.advisoryXactLock(SALES_ROLLUP_LOCK_NAMESPACE, SALES_ROLLUP_LOCK_KEY);
+        dailySalesRepository.markRebuilt(from, to);
+
+        dailySalesRepository.deleteBetween(from, to);
+        dailyCategorySalesRepository.deleteBetween(from, to);
+        dailyProductSalesRepository.deleteBetween(from, to);
+
+        int rows = dailySalesRepository.rebuildBetween(start, end, SALE_PAYMENT_STATUSES);
+        rows += dailyCategorySalesRepository.rebuildBetween(start, end, SALE_PAYMENT_STATUSES);
+        rows += dailyProductSalesRepository.rebuildBetween(start, end, SALE_PAYMENT_STATUSES);
+        return rows;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyRevenueDto> findDailyRevenue(LocalDate from, LocalDate to) {
+        return dailySalesRepository.findDailyRevenue(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentTypeSalesDto> findPaymentTypeMix(LocalDate from, LocalDate to) {
+        return dailySalesRepository.findPaymentTypeMix(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategorySalesDto> findCategorySales(LocalDate from, LocalDate to) {
+        return dailyCategorySalesRepository.findCategorySales(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSalesDto> findTopProducts(LocalDate from, LocalDate to, int limit) {
+        return dailyProductSalesRepository.findTopProducts(from, to, PageRequest.of(0, limit));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.davivienda.service.analytics.validation;
+
+import java.time.LocalDate;
+
+/**
+ * Servicio de validación de los parámetros de consultas y rebuild de agregados de ventas.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface SalesAnalyticsValidationService {
+
+    /**
+     * Valida un rango de consulta: fechas presentes, inicio no posterior al fin y dentro del máximo de días.
+     *
+     * @param from Primer día
+     * @param to Último día
+     * @throws com.ecommerce.davivienda.exception.analytics.AnalyticsException si el rango no es válido
+     */
+    void validateRange(LocalDate from, LocalDate to);
+
+    /**
+     * Valida un rango de rebuild: además del rango, que solo incluya días cerrados y cuyos pagos
+     * no hayan sido archivados.
+     *
+     * @param from Primer día
+     * @param to Último día
+     * @throws com.ecommerce.davivienda.exception.analytics.AnalyticsException si el rango no es válido
+     */
+    void validateRebuildRange(LocalDate from, LocalDate to);
+
+    /**
+     * Resuelve el número de productos del ranking: el valor por defecto si es nulo o no positivo,
+     * acotado al máximo configurado.
+     *
+     * @param limit Límite solicitado
+     * @return Límite a aplicar
+     */
+    int resolveTopProductsLimit(Integer limit);
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.davivienda.service.analytics.validation;
+
+import com.ecommerce.davivienda.config.properties.PaymentPartitioningProperties;
+import com.ecommerce.davivienda.config.properties.SalesAnalyticsProperties;
+import com.ecommerce.davivienda.exception.analytics.AnalyticsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de validación de analítica de ventas.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesAnalyticsValidationServiceImpl implements SalesAnalyticsValidationService {
+
+    private final SalesAnalyticsProperties properties;
+    private final PaymentPartitioningProperties partitioningProperties;
+
+    @Override
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            log.warn("Rango de analítica inválido: {} a {}", from, to);
+            throw new AnalyticsException(ERROR_ANALYTICS_INVALID_RANGE, CODE_ANALYTICS_INVALID_RANGE);
+        }
+
+        if (ChronoUnit.DAYS.between(from, to) + 1 > properties.getMaxRangeDays()) {
+            log.warn("Rango de analítica de {} a {} supera {} días", from, to, properties.getMaxRangeDays());
+            throw new AnalyticsException(ERROR_ANALYTICS_RANGE_TOO_LARGE, CODE_ANALYTICS_RANGE_TOO_LARGE);
+        }
+    }
+
+    @Override
+    public void validateRebuildRange(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        if (!to.isBefore(LocalDate.now())) {
+            log.warn("Rebuild de analítica incluye el día en curso: {} a {}", from, to);
+            throw new AnalyticsException(ERROR_ANALYTICS_REBUILD_OPEN_DAY, CODE_ANALYTICS_REBUILD_OPEN_DAY);
+        }
+
+        // El rebuild reemplaza los agregados del rango: sin los pagos archivados los dejaría en cero
+        LocalDate retainedSince = partitioningProperties.retainedSince(LocalDate.now());
+        if (retainedSince != null && from.isBefore(retainedSince)) {
+            log.warn("Rebuild de analítica desde {} incluye pagos archivados (conservados desde {})", from, retainedSince);
+            throw new AnalyticsException(ERROR_ANALYTICS_REBUILD_ARCHIVED, CODE_ANALYTICS_REBUILD_ARCHIVED);
+        }
+    }
+
+    @Override
+    public int resolveTopProductsLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return properties.getDefaultTopProducts();
+        }
+        return Math.min(limit, properties.getMaxTopProducts());
+    }
+}
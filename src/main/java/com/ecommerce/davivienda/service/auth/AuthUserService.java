@@ -17,5 +17,14 @@ public interface AuthUserService {
      * @return userRoleId del usuario autenticado con rol de cliente
      */
     Integer getAuthenticatedUserRoleId();
+
+    /**
+     * Obtiene y valida el userRoleId de un usuario a partir de su email.
+     * Útil cuando aún no existe autenticación en el contexto de seguridad (por ejemplo, durante el login).
+     *
+     * @param email Email del usuario
+     * @return userRoleId del usuario con rol de cliente
+     */
+    Integer getUserRoleIdByEmail(String email);
 }
 
@@ -1,11 +1,13 @@
 package com.ecommerce.davivienda.service.auth;
 
+import com.ecommerce.davivienda.config.ReadWriteRoutingDataSource;
 import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.entity.user.UserRole;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import com.ecommerce.davivienda.repository.user.UserRoleRepository;
 import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
+import com.ecommerce.davivienda.util.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,7 +28,15 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class AuthUserServiceImpl implements AuthUserService {
 
+    private static final String MEMO_USER_ROLE_ID_BY_EMAIL = "userRoleIdByEmail";
+
+    /**
+     * Consultas que evita cada acierto: usuario por correo y UserRole con su rol.
+     */
+    private static final int USER_ROLE_ID_QUERIES = 2;
+
     private final AuthenticatedUserUtil authenticatedUserUtil;
+    private final RequestMemo requestMemo;
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
 
@@ -37,12 +47,7 @@ public class AuthUserServiceImpl implements AuthUserService {
             String userEmail = authenticatedUserUtil.getCurrentUsername();
             log.debug("Email extraído del token: {}", userEmail);
             
-            Integer userRoleId = getUserRoleIdFromEmail(userEmail);
-            validateUserHasClientRole(userRoleId);
-            
-            log.debug("Usuario autenticado con userRoleId: {}", userRoleId);
-            
-            return userRoleId;
+            return getUserRoleIdByEmail(userEmail);
             
         } catch (IllegalStateException e) {
             log.error("Error de autenticación: {}", e.getMessage());
@@ -50,6 +55,21 @@ public class AuthUserServiceImpl implements AuthUserService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Integer getUserRoleIdByEmail(String email) {
+        // Del primario: el registro fue una escritura anónima, sin ventana read-your-writes
+        return requestMemo.get(MEMO_USER_ROLE_ID_BY_EMAIL, email, USER_ROLE_ID_QUERIES,
+                () -> ReadWriteRoutingDataSource.readFromPrimary(() -> {
+                    Integer userRoleId = getUserRoleIdFromEmail(email);
+                    validateUserHasClientRole(userRoleId);
+
+                    log.debug("Usuario autenticado con userRoleId: {}", userRoleId);
+
+                    return userRoleId;
+                }));
+    }
+
     /**
      * Obtiene el userRoleId del usuario basado en su email (username del JWT).
      * Valida que el usuario exista y que tenga roles asignados.
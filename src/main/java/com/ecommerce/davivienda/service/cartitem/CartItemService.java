@@ -4,6 +4,8 @@ import com.ecommerce.davivienda.dto.cart.summary.CartSummaryDto;
 import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.cart.CartItemRequest;
 
+import java.util.List;
+
 
 /**
  * Servicio para gestión de items del carrito de compras.
@@ -24,6 +26,16 @@ public interface CartItemService {
      */
     Response<String> addItemToCart(CartItemRequest request);
 
+    /**
+     * Agrega un producto al carrito y retorna el resumen resultante.
+     * El resumen se calcula dentro de la misma transacción a partir de los items
+     * ya cargados en el contexto de persistencia, sin una segunda query de items.
+     *
+     * @param request DTO con datos del item a agregar
+     * @return DTO con resumen del carrito después de la operación
+     */
+    CartSummaryDto addItemToCartWithSummary(CartItemRequest request);
+
 
     /**
      * Elimina un item del carrito.
@@ -33,6 +45,32 @@ public interface CartItemService {
      */
     Response<String> removeItemFromCart(Integer itemId);
 
+    /**
+     * Elimina un item del carrito y retorna el resumen resultante.
+     * El resumen se calcula dentro de la misma transacción a partir de los items
+     * ya cargados en el contexto de persistencia, sin una segunda query de items.
+     *
+     * @param itemId ID del item a eliminar
+     * @return DTO con resumen del carrito después de la operación
+     */
+    CartSummaryDto removeItemFromCartWithSummary(Integer itemId);
+
+    /**
+     * Vacía el carrito ACTIVO del usuario autenticado con una única sentencia DELETE.
+     *
+     * @return Response con la cantidad de items eliminados
+     */
+    Response<Integer> clearCart();
+
+    /**
+     * Elimina del carrito ACTIVO del usuario autenticado los productos indicados
+     * con una única sentencia DELETE.
+     *
+     * @param productIds IDs de los productos a eliminar
+     * @return Response con la cantidad de items eliminados
+     */
+    Response<Integer> removeItemsFromCart(List<Integer> productIds);
+
     /**
      * Obtiene un resumen completo del carrito del usuario autenticado con totales agregados.
      * El usuario se obtiene automáticamente del token JWT.
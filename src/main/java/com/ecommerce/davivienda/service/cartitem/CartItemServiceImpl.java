@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,7 +45,7 @@ public class CartItemServiceImpl implements CartItemService {
     @Override
     @Transactional
     public Response<String> addItemToCart(CartItemRequest request) {
-        log.info("Iniciando proceso para agregar producto {} al carrito", request.getProductId());
+        log.debug("Iniciando proceso para agregar producto {} al carrito", request.getProductId());
         
         Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
         Cart cart = transactionalService.findOrCreateCart(userRoleId);
@@ -59,10 +60,29 @@ public class CartItemServiceImpl implements CartItemService {
         return Response.success(SUCCESS_CART_ITEM_ADDED);
     }
 
+    @Override
+    @Transactional
+    public CartSummaryDto addItemToCartWithSummary(CartItemRequest request) {
+        log.debug("Agregando producto {} al carrito con resumen", request.getProductId());
+        
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        Cart cart = transactionalService.findOrCreateCart(userRoleId);
+        
+        Product product = productValidationService.validateProductExists(request.getProductId());
+        productValidationService.validateProductActive(product);
+        commonValidationService.validateQuantity(request.getQuantity());
+        
+        List<CartItem> items = new ArrayList<>(transactionalService.findCartItemsByCartId(cart.getCarritoId()));
+        CartItem cartItem = createOrUpdateLoadedCartItem(items, request, cart, product);
+        transactionalService.saveCartItem(cartItem);
+        
+        return cartItemMapper.toCartSummaryDto(items);
+    }
+
     @Override
     @Transactional
     public Response<String> removeItemFromCart(Integer itemId) {
-        log.info("Eliminando item {} del carrito", itemId);
+        log.debug("Eliminando item {} del carrito", itemId);
         
         Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
         
@@ -75,18 +95,62 @@ public class CartItemServiceImpl implements CartItemService {
         return Response.success(SUCCESS_CART_ITEM_DELETED);
     }
 
+    @Override
+    @Transactional
+    public CartSummaryDto removeItemFromCartWithSummary(Integer itemId) {
+        log.debug("Eliminando item {} del carrito con resumen", itemId);
+        
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        List<CartItem> items = new ArrayList<>(transactionalService.findCartItemsByUser(userRoleId));
+        
+        CartItem cartItem = cartValidationService.validateItemInCart(items, itemId);
+        transactionalService.deleteCartItem(cartItem);
+        items.remove(cartItem);
+        
+        log.info("Item {} eliminado exitosamente, quedan {} items", itemId, items.size());
+        
+        return cartItemMapper.toCartSummaryDto(items);
+    }
+
+    @Override
+    @Transactional
+    public Response<Integer> clearCart() {
+        log.debug("Vaciando el carrito del usuario autenticado");
+        
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        int deleted = transactionalService.deleteAllCartItemsByUser(userRoleId);
+        
+        log.info("{} items eliminados del carrito del usuario {}", deleted, userRoleId);
+        
+        return buildDeletedCountResponse(SUCCESS_CART_CLEARED, deleted);
+    }
+
+    @Override
+    @Transactional
+    public Response<Integer> removeItemsFromCart(List<Integer> productIds) {
+        log.debug("Eliminando productos {} del carrito", productIds);
+        
+        commonValidationService.validateProductIds(productIds);
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        int deleted = transactionalService.deleteCartItemsByUserAndProducts(userRoleId, productIds);
+        
+        log.info("{} items eliminados del carrito del usuario {}", deleted, userRoleId);
+        
+        return buildDeletedCountResponse(SUCCESS_CART_ITEMS_DELETED, deleted);
+    }
+
 
     @Override
     @Transactional(readOnly = true)
     public CartSummaryDto getCartSummary() {
-        log.info("Obteniendo resumen del carrito del usuario autenticado");
+        log.debug("Obteniendo resumen del carrito del usuario autenticado");
         
         Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
         Cart cart = transactionalService.findOrCreateCart(userRoleId);
         
         List<CartItem> items = transactionalService.findCartItemsByCartId(cart.getCarritoId());
         
-        log.info("Generando resumen del carrito {} con {} items para usuario {}", 
+        log.debug("Generando resumen del carrito {} con {} items para usuario {}", 
                 cart.getCarritoId(), items.size(), userRoleId);
         
         return cartItemMapper.toCartSummaryDto(items);
@@ -119,5 +183,48 @@ public class CartItemServiceImpl implements CartItemService {
             return cartItem;
         }
     }
-}
 
+    /**
+     * Crea o actualiza un CartItem sobre la lista de items ya cargada del carrito.
+     * Reemplaza la búsqueda por carrito y producto, dejando la lista lista para el resumen.
+     *
+     * @param items Items cargados del carrito (se modifica al agregar un item nuevo)
+     * @param request DTO con datos del item
+     * @param cart Carrito al que pertenece el item
+     * @param product Producto a agregar
+     * @return CartItem creado o actualizado
+     */
+    private CartItem createOrUpdateLoadedCartItem(List<CartItem> items, CartItemRequest request,
+                                                  Cart cart, Product product) {
+        Optional<CartItem> existingItem = items.stream()
+                .filter(item -> request.getProductId().equals(item.getProduct().getProductoId()))
+                .findFirst();
+        
+        if (existingItem.isPresent()) {
+            CartItem cartItem = existingItem.get();
+            cartItemMapper.updateQuantity(cartItem, request.getQuantity());
+            return cartItem;
+        }
+        
+        CartItem cartItem = cartItemMapper.toEntity(request, cart, product);
+        items.add(cartItem);
+        return cartItem;
+    }
+
+    /**
+     * Construye la respuesta de una eliminación masiva con la cantidad de filas afectadas.
+     *
+     * @param message Mensaje de éxito
+     * @param deleted Cantidad de items eliminados
+     * @return Response con la cantidad de items eliminados en el body
+     */
+    private Response<Integer> buildDeletedCountResponse(String message, int deleted) {
+        return Response.<Integer>builder()
+                .failure(false)
+                .code(200)
+                .message(message)
+                .body(deleted)
+                .timestamp(String.valueOf(System.currentTimeMillis()))
+                .build();
+    }
+}
@@ -69,5 +69,40 @@ public interface CartItemCartTransactionalService {
      * @return Optional con el CartItem si existe, pertenece al usuario y carrito está activo
      */
     Optional<CartItem> findCartItemByIdAndUser(Integer itemId, Integer userRoleId);
-}
 
+    /**
+     * Elimina todos los items del carrito ACTIVO del usuario con una única sentencia DELETE.
+     * No carga entidades: el ownership y el estado del carrito se validan en el WHERE.
+     *
+     * @param userRoleId ID del usuario_rol propietario
+     * @return Cantidad de items eliminados
+     */
+    int deleteAllCartItemsByUser(Integer userRoleId);
+
+    /**
+     * Elimina los items de los productos indicados del carrito ACTIVO del usuario con una única sentencia DELETE.
+     * No carga entidades: el ownership y el estado del carrito se validan en el WHERE.
+     *
+     * @param userRoleId ID del usuario_rol propietario
+     * @param productIds IDs de los productos a eliminar
+     * @return Cantidad de items eliminados
+     */
+    int deleteCartItemsByUserAndProducts(Integer userRoleId, List<Integer> productIds);
+
+    /**
+     * Obtiene todos los items del carrito ACTIVO del usuario (con producto cargado).
+     * Valida ownership y estado activo del carrito en una sola query.
+     *
+     * @param userRoleId ID del usuario_rol propietario
+     * @return Lista de CartItem del carrito activo del usuario
+     */
+    List<CartItem> findCartItemsByUser(Integer userRoleId);
+
+    /**
+     * Guarda varios CartItem en una sola operación.
+     *
+     * @param cartItems Items a guardar
+     * @return Items guardados
+     */
+    List<CartItem> saveAllCartItems(List<CartItem> cartItems);
+}
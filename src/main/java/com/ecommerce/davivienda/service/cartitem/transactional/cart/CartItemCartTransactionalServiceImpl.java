@@ -86,5 +86,32 @@ public class CartItemCartTransactionalServiceImpl implements CartItemCartTransac
         log.debug("Buscando CartItem con ID {} para usuario {} en carrito ACTIVO (con validación ownership)", itemId, userRoleId);
         return cartItemRepository.findByProductIdAndUserRole(itemId, userRoleId);
     }
-}
 
+    @Override
+    @Transactional
+    public int deleteAllCartItemsByUser(Integer userRoleId) {
+        log.debug("Eliminando todos los items del carrito ACTIVO del usuario {}", userRoleId);
+        return cartItemRepository.deleteAllByUserRole(userRoleId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteCartItemsByUserAndProducts(Integer userRoleId, List<Integer> productIds) {
+        log.debug("Eliminando productos {} del carrito ACTIVO del usuario {}", productIds, userRoleId);
+        return cartItemRepository.deleteByUserRoleAndProductIds(userRoleId, productIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CartItem> findCartItemsByUser(Integer userRoleId) {
+        log.debug("Obteniendo items del carrito ACTIVO del usuario {}", userRoleId);
+        return cartItemRepository.findByUserRole(userRoleId);
+    }
+
+    @Override
+    @Transactional
+    public List<CartItem> saveAllCartItems(List<CartItem> cartItems) {
+        log.debug("Guardando {} CartItems en una sola operación", cartItems.size());
+        return cartItemRepository.saveAll(cartItems);
+    }
+}
@@ -2,6 +2,8 @@ package com.ecommerce.davivienda.service.cartitem.transactional.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,5 +22,13 @@ public interface CartItemProductTransactionalService {
      * @return Optional con el producto si existe
      */
     Optional<Product> findProductById(Integer productId);
-}
 
+    /**
+     * Busca varios productos por ID: los que están en la caché de segundo nivel del catálogo
+     * no consultan la base de datos y el resto se carga en una sola query.
+     *
+     * @param productIds IDs de los productos
+     * @return Lista de productos encontrados (los inexistentes se omiten)
+     */
+    List<Product> findProductsByIds(Collection<Integer> productIds);
+}
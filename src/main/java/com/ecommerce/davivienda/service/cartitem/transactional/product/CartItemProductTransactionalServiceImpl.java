@@ -2,11 +2,17 @@ package com.ecommerce.davivienda.service.cartitem.transactional.product;
 
 import com.ecommerce.davivienda.entity.product.Product;
 import com.ecommerce.davivienda.repository.product.ProductRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -22,6 +28,7 @@ import java.util.Optional;
 public class CartItemProductTransactionalServiceImpl implements CartItemProductTransactionalService {
 
     private final ProductRepository productRepository;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional(readOnly = true)
@@ -29,5 +36,20 @@ public class CartItemProductTransactionalServiceImpl implements CartItemProductT
         log.debug("Buscando producto con ID: {}", productId);
         return productRepository.findById(productId);
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findProductsByIds(Collection<Integer> productIds) {
+        log.debug("Buscando productos con IDs: {}", productIds);
+        // multiLoad resuelve primero desde la caché de segundo nivel (región ecommerce.product)
+        // y carga solo los que falten en una query; findAllById siempre iría a la base de datos
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .with(CacheMode.NORMAL)
+                .enableSessionCheck(true)
+                .multiLoad(List.copyOf(productIds))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,13 +1,12 @@
 package com.ecommerce.davivienda.service.cartitem.transactional.user;
 
-import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.entity.user.User;
 
 import java.util.Optional;
 
 /**
  * Servicio transaccional para operaciones de consulta de User y UserRole.
- * Responsabilidad: Acceso a datos de usuarios, roles y tipos de documento.
+ * Responsabilidad: Acceso a datos de usuarios y roles.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -15,14 +14,6 @@ import java.util.Optional;
 public interface CartItemUserTransactionalService {
 
 
-    /**
-     * Busca un tipo de documento por código.
-     *
-     * @param codigo Código del tipo de documento (ej: "CC", "TI", "CE")
-     * @return Optional con el DocumentType si existe
-     */
-    Optional<DocumentType> findDocumentTypeByCodigo(String codigo);
-
     /**
      * Busca un usuario por tipo de documento y número.
      *
@@ -1,8 +1,6 @@
 package com.ecommerce.davivienda.service.cartitem.transactional.user;
 
-import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.entity.user.User;
-import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +11,7 @@ import java.util.Optional;
 
 /**
  * Implementación del servicio transaccional para operaciones de User y UserRole.
- * Centraliza el acceso a datos de usuarios, roles y tipos de documento.
+ * Centraliza el acceso a datos de usuarios y roles.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -23,17 +21,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CartItemUserTransactionalServiceImpl implements CartItemUserTransactionalService {
 
-    private final DocumentTypeRepository documentTypeRepository;
     private final UserRepository userRepository;
 
 
-    @Override
-    @Transactional(readOnly = true)
-    public Optional<DocumentType> findDocumentTypeByCodigo(String codigo) {
-        log.debug("Buscando tipo de documento con código: {}", codigo);
-        return documentTypeRepository.findByCodigo(codigo);
-    }
-
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findUserByDocumentTypeAndNumber(Integer documentoId, String numeroDeDoc) {
@@ -2,6 +2,8 @@ package com.ecommerce.davivienda.service.cartitem.validation.cart;
 
 import com.ecommerce.davivienda.entity.cart.CartItem;
 
+import java.util.List;
+
 /**
  * Servicio de validación de carritos para items del carrito.
  * Responsabilidad: Validar existencia, ownership y duplicados en carritos.
@@ -23,5 +25,14 @@ public interface CartItemCartValidationService {
      */
     CartItem validateItemBelongsToUser(Integer itemId, Integer userRoleId);
 
+    /**
+     * Valida que el item existe entre los items ya cargados del carrito ACTIVO del usuario.
+     * Evita una query adicional cuando los items del carrito ya están en el contexto de persistencia.
+     *
+     * @param cartItems Items del carrito activo del usuario
+     * @param itemId ID del item (producto) a validar
+     * @return CartItem encontrado en el carrito del usuario
+     * @throws com.ecommerce.davivienda.exception.CartException si el item no está en el carrito del usuario
+     */
+    CartItem validateItemInCart(List<CartItem> cartItems, Integer itemId);
 }
-
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
@@ -44,5 +46,20 @@ public class CartItemCartValidationServiceImpl implements CartItemCartValidation
         
     }
 
+    @Override
+    public CartItem validateItemInCart(List<CartItem> cartItems, Integer itemId) {
+        log.debug("Validando que el item {} está en el carrito ACTIVO cargado", itemId);
+        
+        if (itemId == null) {
+            throw new CartException(ERROR_CART_ITEM_NOT_FOUND, CODE_CART_ITEM_NOT_FOUND);
+        }
+        
+        return cartItems.stream()
+                .filter(item -> itemId.equals(item.getProduct().getProductoId()))
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.warn("El item {} no existe en el carrito activo del usuario", itemId);
+                    return new CartException(ERROR_CART_ITEM_UNAUTHORIZED, CODE_CART_ITEM_UNAUTHORIZED);
+                });
+    }
 }
-
@@ -1,5 +1,7 @@
 package com.ecommerce.davivienda.service.cartitem.validation.common;
 
+import java.util.List;
+
 /**
  * Servicio de validaciones genéricas para items del carrito.
  * Responsabilidad: Validaciones comunes que no pertenecen a un dominio específico.
@@ -17,5 +19,20 @@ public interface CartItemCommonValidationService {
      * @throws com.ecommerce.davivienda.exception.CartException si la cantidad es inválida
      */
     void validateQuantity(Integer quantity);
-}
 
+    /**
+     * Valida que la lista de productos a eliminar no esté vacía ni contenga IDs nulos.
+     *
+     * @param productIds IDs de los productos a validar
+     * @throws com.ecommerce.davivienda.exception.CartException si la lista es inválida
+     */
+    void validateProductIds(List<Integer> productIds);
+
+    /**
+     * Valida que el carrito invitado no supere la cantidad máxima de productos distintos.
+     *
+     * @param lineCount Cantidad de productos distintos en el carrito invitado
+     * @throws com.ecommerce.davivienda.exception.CartException si se supera el máximo
+     */
+    void validateGuestCartSize(int lineCount);
+}
@@ -4,8 +4,15 @@ import com.ecommerce.davivienda.exception.cart.CartException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 import static com.ecommerce.davivienda.constants.Constants.CODE_CART_INVALID_QUANTITY;
+import static com.ecommerce.davivienda.constants.Constants.CODE_CART_PRODUCT_IDS_REQUIRED;
+import static com.ecommerce.davivienda.constants.Constants.CODE_GUEST_CART_LIMIT_EXCEEDED;
 import static com.ecommerce.davivienda.constants.Constants.ERROR_CART_INVALID_QUANTITY;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_CART_PRODUCT_IDS_REQUIRED;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_GUEST_CART_LIMIT_EXCEEDED;
+import static com.ecommerce.davivienda.security.util.TokenJwtConfig.GUEST_CART_MAX_LINES;
 
 /**
  * Implementación del servicio de validaciones genéricas para items del carrito.
@@ -25,5 +32,20 @@ public class CartItemCommonValidationServiceImpl implements CartItemCommonValida
             throw new CartException(ERROR_CART_INVALID_QUANTITY, CODE_CART_INVALID_QUANTITY);
         }
     }
-}
 
+    @Override
+    public void validateProductIds(List<Integer> productIds) {
+        if (productIds == null || productIds.isEmpty() || productIds.contains(null)) {
+            log.warn("Lista de productos a eliminar inválida: {}", productIds);
+            throw new CartException(ERROR_CART_PRODUCT_IDS_REQUIRED, CODE_CART_PRODUCT_IDS_REQUIRED);
+        }
+    }
+
+    @Override
+    public void validateGuestCartSize(int lineCount) {
+        if (lineCount > GUEST_CART_MAX_LINES) {
+            log.warn("Carrito invitado con {} productos supera el máximo de {}", lineCount, GUEST_CART_MAX_LINES);
+            throw new CartException(ERROR_GUEST_CART_LIMIT_EXCEEDED, CODE_GUEST_CART_LIMIT_EXCEEDED);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.entity.user.UserRole;
 import com.ecommerce.davivienda.exception.cart.CartException;
 import com.ecommerce.davivienda.service.cartitem.transactional.user.CartItemUserTransactionalService;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,12 +25,13 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 public class CartItemUserValidationServiceImpl implements CartItemUserValidationService {
 
     private final CartItemUserTransactionalService transactionalService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public Integer getUserRoleIdFromDocument(String documentType, String documentNumber) {
         log.debug("Obteniendo userRoleId para documento: {} {}", documentType, documentNumber);
         
-        DocumentType docType = transactionalService.findDocumentTypeByCodigo(documentType)
+        DocumentType docType = referenceDataRegistry.findDocumentTypeByCode(documentType)
                 .orElseThrow(() -> {
                     log.warn("Tipo de documento no encontrado: {}", documentType);
                     return new CartException(ERROR_DOCUMENT_TYPE_NOT_FOUND, CODE_DOCUMENT_TYPE_NOT_FOUND);
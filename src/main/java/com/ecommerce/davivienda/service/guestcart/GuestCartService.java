@@ -0,0 +1,53 @@
+package com.ecommerce.davivienda.service.guestcart;
+
+import com.ecommerce.davivienda.dto.cart.guest.GuestCartResultDto;
+import com.ecommerce.davivienda.models.cart.CartItemRequest;
+
+/**
+ * Servicio para gestión del carrito de usuarios invitados (no autenticados).
+ * El carrito viaja en un token firmado del cliente: navegar y agregar productos
+ * no genera escrituras en base de datos. Al iniciar sesión se fusiona con el carrito persistido.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface GuestCartService {
+
+    /**
+     * Agrega un producto al carrito invitado.
+     * Si el producto ya existe, actualiza la cantidad con el nuevo valor.
+     *
+     * @param token Token actual del carrito invitado (puede ser null)
+     * @param request DTO con datos del item a agregar
+     * @return Nuevo token y resumen del carrito
+     */
+    GuestCartResultDto addItem(String token, CartItemRequest request);
+
+    /**
+     * Elimina un producto del carrito invitado.
+     *
+     * @param token Token actual del carrito invitado
+     * @param productId ID del producto a eliminar
+     * @return Nuevo token y resumen del carrito
+     */
+    GuestCartResultDto removeItem(String token, Integer productId);
+
+    /**
+     * Obtiene el resumen del carrito invitado con totales calculados contra el catálogo.
+     * Los productos inexistentes o inactivos se descartan del carrito.
+     *
+     * @param token Token actual del carrito invitado
+     * @return Token (depurado) y resumen del carrito
+     */
+    GuestCartResultDto getSummary(String token);
+
+    /**
+     * Fusiona el carrito invitado en el carrito ACTIVO persistido del usuario en una sola operación.
+     * Las cantidades del carrito invitado reemplazan las existentes para el mismo producto.
+     *
+     * @param email Email del usuario que inició sesión
+     * @param token Token del carrito invitado
+     * @return Cantidad de items fusionados
+     */
+    int mergeIntoUserCart(String email, String token);
+}
@@ -0,0 +1,156 @@
+package com.ecommerce.davivienda.service.guestcart;
+
+import com.ecommerce.davivienda.dto.cart.guest.GuestCartResultDto;
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.mapper.cart.CartItemMapper;
+import com.ecommerce.davivienda.models.cart.CartItemRequest;
+import com.ecommerce.davivienda.security.token.GuestCartTokenCodec;
+import com.ecommerce.davivienda.service.auth.AuthUserService;
+import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCartTransactionalService;
+import com.ecommerce.davivienda.service.cartitem.transactional.product.CartItemProductTransactionalService;
+import com.ecommerce.davivienda.service.cartitem.validation.common.CartItemCommonValidationService;
+import com.ecommerce.davivienda.service.cartitem.validation.product.CartItemProductValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del servicio de carrito invitado.
+ * Reutiliza las subcapacidades de validación y acceso a datos de cartitem.
+ * Solo la fusión al iniciar sesión escribe en base de datos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartServiceImpl implements GuestCartService {
+
+    private final GuestCartTokenCodec tokenCodec;
+    private final CartItemCartTransactionalService cartTransactionalService;
+    private final CartItemProductTransactionalService productTransactionalService;
+    private final CartItemProductValidationService productValidationService;
+    private final CartItemCommonValidationService commonValidationService;
+    private final CartItemMapper cartItemMapper;
+    private final AuthUserService authUserService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public GuestCartResultDto addItem(String token, CartItemRequest request) {
+        log.debug("Agregando producto {} al carrito invitado", request.getProductId());
+        
+        Product product = productValidationService.validateProductExists(request.getProductId());
+        productValidationService.validateProductActive(product);
+        commonValidationService.validateQuantity(request.getQuantity());
+        
+        Map<Integer, Integer> lines = tokenCodec.decode(token);
+        lines.put(request.getProductId(), request.getQuantity());
+        commonValidationService.validateGuestCartSize(lines.size());
+        
+        return buildResult(lines);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GuestCartResultDto removeItem(String token, Integer productId) {
+        log.debug("Eliminando producto {} del carrito invitado", productId);
+        
+        Map<Integer, Integer> lines = tokenCodec.decode(token);
+        lines.remove(productId);
+        
+        return buildResult(lines);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GuestCartResultDto getSummary(String token) {
+        return buildResult(tokenCodec.decode(token));
+    }
+
+    @Override
+    @Transactional
+    public int mergeIntoUserCart(String email, String token) {
+        Map<Integer, Integer> lines = tokenCodec.decode(token);
+        if (lines.isEmpty()) {
+            return 0;
+        }
+        
+        log.info("Fusionando carrito invitado con {} productos para usuario {}", lines.size(), email);
+        
+        Integer userRoleId = authUserService.getUserRoleIdByEmail(email);
+        Cart cart = cartTransactionalService.findOrCreateCart(userRoleId);
+        
+        Map<Integer, Product> products = findActiveProducts(lines);
+        Map<Integer, CartItem> existingItems = cartTransactionalService.findCartItemsByCartId(cart.getCarritoId())
+                .stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getProductoId(), Function.identity()));
+        
+        List<CartItem> itemsToSave = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> line : lines.entrySet()) {
+            Product product = products.get(line.getKey());
+            if (product == null) {
+                continue;
+            }
+            CartItem existingItem = existingItems.get(line.getKey());
+            if (existingItem != null) {
+                cartItemMapper.updateQuantity(existingItem, line.getValue());
+                itemsToSave.add(existingItem);
+            } else {
+                itemsToSave.add(cartItemMapper.toEntity(cart, product, line.getValue()));
+            }
+        }
+        
+        cartTransactionalService.saveAllCartItems(itemsToSave);
+        
+        log.info("{} items del carrito invitado fusionados en carrito {}", itemsToSave.size(), cart.getCarritoId());
+        
+        return itemsToSave.size();
+    }
+
+    /**
+     * Calcula el resumen del carrito invitado con items transitorios (no persistidos)
+     * y genera el nuevo token, descartando productos inexistentes o inactivos.
+     *
+     * @param lines Mapa productId → cantidad (se depura in-place)
+     * @return Nuevo token y resumen del carrito
+     */
+    private GuestCartResultDto buildResult(Map<Integer, Integer> lines) {
+        Map<Integer, Product> products = findActiveProducts(lines);
+        lines.keySet().retainAll(products.keySet());
+        
+        List<CartItem> items = lines.entrySet().stream()
+                .map(line -> cartItemMapper.toEntity(null, products.get(line.getKey()), line.getValue()))
+                .toList();
+        
+        return GuestCartResultDto.builder()
+                .token(tokenCodec.encode(lines))
+                .summary(cartItemMapper.toCartSummaryDto(items))
+                .build();
+    }
+
+    /**
+     * Obtiene los productos activos referenciados por el carrito desde la caché del catálogo
+     * (solo los que no estén en caché se consultan, en una sola query).
+     *
+     * @param lines Mapa productId → cantidad
+     * @return Mapa productId → producto activo
+     */
+    private Map<Integer, Product> findActiveProducts(Map<Integer, Integer> lines) {
+        if (lines.isEmpty()) {
+            return Map.of();
+        }
+        return productTransactionalService.findProductsByIds(lines.keySet()).stream()
+                .filter(Product::isActive)
+                .collect(Collectors.toMap(Product::getProductoId, Function.identity()));
+    }
+}
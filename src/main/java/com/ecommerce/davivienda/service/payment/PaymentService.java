@@ -26,5 +26,20 @@ public interface PaymentService {
      * @return PaymentProcessResponseDto con información del pago creado
      */
     PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request);
-}
 
+    /**
+     * Acepta un pago para procesamiento asíncrono.
+     * 
+     * Flujo en la solicitud (rápido):
+     * 1. Desencripta y valida los datos de la tarjeta y el carrito
+     * 2. Genera la referencia y crea el pago en estado "Procesando"
+     * 3. Encola el trabajo restante para un worker tras el commit
+     * 
+     * El worker guarda los detalles de débito/crédito, disminuye el stock, actualiza el carrito
+     * y deja el pago en "Pendiente" (o "Rechazado" si falla).
+     * 
+     * @param request Solicitud con cartId y datos encriptados de tarjeta
+     * @return PaymentProcessResponseDto con la referencia y estado "Procesando"
+     */
+    PaymentProcessResponseDto acceptPayment(PaymentProcessRequestDto request);
+}
@@ -3,19 +3,19 @@ package com.ecommerce.davivienda.service.payment;
 import com.ecommerce.davivienda.dto.payment.CardDataDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
 import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.dto.payment.PaymentWorkItemDto;
 import com.ecommerce.davivienda.entity.cart.Cart;
-import com.ecommerce.davivienda.entity.cart.CartItem;
 import com.ecommerce.davivienda.entity.payment.*;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
 import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.payment.async.PaymentAsyncService;
+import com.ecommerce.davivienda.service.payment.fulfillment.PaymentFulfillmentService;
+import com.ecommerce.davivienda.service.payment.guard.PaymentCheckoutGuardService;
 import com.ecommerce.davivienda.service.payment.reference.PaymentReferenceService;
-import com.ecommerce.davivienda.service.payment.transactional.cart.PaymentCartTransactionalService;
-import com.ecommerce.davivienda.service.payment.transactional.cartitem.PaymentCartItemTransactionalService;
 import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
 import com.ecommerce.davivienda.service.payment.validation.cart.PaymentCartValidationService;
 import com.ecommerce.davivienda.service.payment.validation.common.PaymentCommonValidationService;
 import com.ecommerce.davivienda.service.payment.validation.payment.PaymentPaymentValidationService;
-import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
 import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
 import com.ecommerce.davivienda.util.Base64DecryptionService;
 import com.ecommerce.davivienda.util.JsonUtils;
@@ -25,8 +25,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 import static com.ecommerce.davivienda.constants.Constants.*;
 
 /**
@@ -41,9 +39,6 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
 
-    private static final String PAYMENT_TYPE_DEBIT = "debito";
-    private static final String PAYMENT_TYPE_CREDIT = "credito";
-
     // Validation subcapacidades por dominio
     private final PaymentCartValidationService cartValidationService;
     private final PaymentPaymentValidationService paymentValidationService;
@@ -51,9 +46,13 @@ public class PaymentServiceImpl implements PaymentService {
 
     // Transactional subcapacidades
     private final PaymentPaymentTransactionalService paymentTransactionalService;
-    private final PaymentCartTransactionalService cartTransactionalService;
-    private final PaymentCartItemTransactionalService cartItemTransactionalService;
-    private final StockStockTransactionalService stockTransactionalService;
+
+    // Completado del pago (detalles, stock, carrito) y encolado asíncrono
+    private final PaymentFulfillmentService fulfillmentService;
+    private final PaymentAsyncService paymentAsyncService;
+
+    // Guard de concurrencia por carrito
+    private final PaymentCheckoutGuardService checkoutGuardService;
 
     // Reference service (lógica de negocio)
     private final PaymentReferenceService paymentReferenceService;
@@ -62,7 +61,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentMapper paymentMapper;
 
     // Utilities
-    private final Base64DecryptionService base64DecryptionService; // Usado para desencriptar request y encriptar BD
+    private final Base64DecryptionService base64DecryptionService; // Usado para desencriptar request
     private final JsonUtils jsonUtils;
     private final AuthenticatedUserUtil authenticatedUserUtil;
 
@@ -70,38 +69,22 @@ public class PaymentServiceImpl implements PaymentService {
     @Transactional
     public PaymentProcessResponseDto processPayment(PaymentProcessRequestDto request) {
         String userEmail = authenticatedUserUtil.getCurrentUsername();
-        log.info("Iniciando procesamiento de pago para usuario: {}", userEmail);
+        log.debug("Iniciando procesamiento de pago para usuario: {}", userEmail);
 
         try {
-            CardDataDto cardData = decryptAndParseCardData(request.getEncryptedCardData());
-            
-            Cart cart = resolveCart(request.getCartId(), userEmail);
-            
-            commonValidationService.validateCardData(cardData);
-            
-            PaymentType paymentType = paymentValidationService.validatePaymentType(cardData.getPaymentType());
-            Integer installments = paymentValidationService.validateInstallments(
-                    cardData.getInstallments(), 
-                    cardData.getPaymentType()
-            );
+            PreparedCheckout checkout = prepareCheckout(request, userEmail);
             PaymentStatus pendingStatus = paymentValidationService.findPendingStatus();
             
-            PaymentReference reference = paymentReferenceService.generateUniqueReference();
-            Payment payment = paymentMapper.toPayment(cart, paymentType, reference, pendingStatus);
-            Payment savedPayment = paymentTransactionalService.savePayment(payment);
+            Payment savedPayment = createPayment(checkout, pendingStatus);
             
-            savePaymentDetails(savedPayment, cardData, installments);
-            
-            decreaseProductsStock(cart.getCarritoId());
-            
-            cartTransactionalService.updateCartStatusToProcessing(cart.getCarritoId());
+            fulfillmentService.fulfill(savedPayment, checkout.cardData, checkout.installments);
             
             PaymentProcessResponseDto response = paymentMapper.toPaymentProcessResponseDto(savedPayment);
 
             log.info("Pago procesado exitosamente - ID: {}, Referencia: {}, Tipo: {}, Carrito actualizado a 'Procesando'", 
                     savedPayment.getPaymentId(), 
-                    reference.getReferenceNumber(),
-                    paymentType.getPaymentType());
+                    response.getReferenceNumber(),
+                    response.getPaymentType());
 
             return response;
 
@@ -118,6 +101,89 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    @Override
+    @Transactional
+    public PaymentProcessResponseDto acceptPayment(PaymentProcessRequestDto request) {
+        String userEmail = authenticatedUserUtil.getCurrentUsername();
+        log.debug("Aceptando pago asíncrono para usuario: {}", userEmail);
+
+        try {
+            paymentAsyncService.ensureCapacity();
+
+            PreparedCheckout checkout = prepareCheckout(request, userEmail);
+            PaymentStatus processingStatus = paymentValidationService.findProcessingStatus();
+
+            Payment savedPayment = createPayment(checkout, processingStatus);
+
+            paymentAsyncService.enqueueAfterCommit(PaymentWorkItemDto.builder()
+                    .paymentId(savedPayment.getPaymentId())
+                    .paymentDate(savedPayment.getPaymentDate())
+                    .referenceNumber(savedPayment.getReference().getReferenceNumber())
+                    .cardData(checkout.cardData)
+                    .installments(checkout.installments)
+                    .build());
+
+            PaymentProcessResponseDto response = paymentMapper.toPaymentProcessResponseDto(savedPayment);
+
+            log.info("Pago aceptado para procesamiento asíncrono - ID: {}, Referencia: {}",
+                    savedPayment.getPaymentId(),
+                    response.getReferenceNumber());
+
+            return response;
+
+        } catch (PaymentException e) {
+            log.error("Error de negocio al aceptar pago: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Error inesperado al aceptar pago: {}", e.getMessage(), e);
+            throw new PaymentException(
+                    ERROR_PAYMENT_PROCESSING_FAILED + ": " + e.getMessage(),
+                    CODE_PAYMENT_PROCESSING_FAILED,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Ejecuta los pasos comunes a ambos modos, sin escrituras:
+     * desencripta la tarjeta, resuelve el carrito, adquiere el guard y valida tipo y cuotas.
+     *
+     * @param request Solicitud de pago
+     * @param userEmail Email del usuario autenticado
+     * @return PreparedCheckout con los datos validados
+     */
+    private PreparedCheckout prepareCheckout(PaymentProcessRequestDto request, String userEmail) {
+        CardDataDto cardData = decryptAndParseCardData(request.getEncryptedCardData());
+        
+        Cart cart = resolveCart(request.getCartId(), userEmail);
+        
+        // Serializa pagos concurrentes del mismo carrito antes de cualquier escritura
+        checkoutGuardService.acquire(cart.getCarritoId());
+        
+        commonValidationService.validateCardData(cardData);
+        
+        PaymentType paymentType = paymentValidationService.validatePaymentType(cardData.getPaymentType());
+        Integer installments = paymentValidationService.validateInstallments(
+                cardData.getInstallments(), 
+                cardData.getPaymentType()
+        );
+
+        return new PreparedCheckout(cart, cardData, paymentType, installments);
+    }
+
+    /**
+     * Genera la referencia y persiste el pago principal en el estado indicado.
+     *
+     * @param checkout Datos validados del checkout
+     * @param status Estado inicial del pago
+     * @return Payment guardado
+     */
+    private Payment createPayment(PreparedCheckout checkout, PaymentStatus status) {
+        PaymentReference reference = paymentReferenceService.generateUniqueReference();
+        Payment payment = paymentMapper.toPayment(checkout.cart, checkout.paymentType, reference, status);
+        return paymentTransactionalService.savePayment(payment);
+    }
+
     /**
      * Resuelve el carrito a utilizar: por ID específico o por email del usuario.
      *
@@ -127,10 +193,10 @@ public class PaymentServiceImpl implements PaymentService {
      */
     private Cart resolveCart(Integer cartId, String userEmail) {
         if (cartId != null) {
-            log.info("Usando carrito especificado - ID: {}", cartId);
+            log.debug("Usando carrito especificado - ID: {}", cartId);
             return cartValidationService.validateCart(cartId);
         } else {
-            log.info("CartId no proporcionado, buscando carrito del usuario autenticado: {}", userEmail);
+            log.debug("CartId no proporcionado, buscando carrito del usuario autenticado: {}", userEmail);
             return cartValidationService.validateCartByUserEmail(userEmail);
         }
     }
@@ -158,7 +224,7 @@ public class PaymentServiceImpl implements PaymentService {
                 );
             }
 
-            log.info("Datos de tarjeta desencriptados y parseados exitosamente");
+            log.debug("Datos de tarjeta desencriptados y parseados exitosamente");
             return cardData;
 
         } catch (IllegalArgumentException e) {
@@ -179,69 +245,20 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     /**
-     * Guarda los detalles específicos del pago según el tipo (débito o crédito).
-     * Los datos sensibles (nombre titular y número tarjeta) se encriptan antes de guardar.
-     *
-     * @param payment Pago guardado
-     * @param cardData Datos de la tarjeta
-     * @param installments Número de cuotas validado
+     * Datos validados de un checkout, previos a cualquier escritura.
      */
-    private void savePaymentDetails(Payment payment, CardDataDto cardData, Integer installments) {
-        String paymentType = cardData.getPaymentType().trim().toLowerCase();
-
-        if (PAYMENT_TYPE_DEBIT.equals(paymentType)) {
-            log.debug("Guardando detalles de pago débito (datos encriptados)");
-            PaymentDebit paymentDebit = paymentMapper.toPaymentDebit(payment, cardData, base64DecryptionService);
-            paymentTransactionalService.savePaymentDebit(paymentDebit);
-            log.info("Detalles de pago débito guardados exitosamente (encriptado)");
-
-        } else if (PAYMENT_TYPE_CREDIT.equals(paymentType)) {
-            log.debug("Guardando detalles de pago crédito con {} cuotas (datos encriptados)", installments);
-            PaymentCredit paymentCredit = paymentMapper.toPaymentCredit(payment, cardData, installments, base64DecryptionService);
-            paymentTransactionalService.savePaymentCredit(paymentCredit);
-            log.info("Detalles de pago crédito guardados exitosamente (encriptado) - Cuotas: {}", installments);
+    private static final class PreparedCheckout {
+
+        private final Cart cart;
+        private final CardDataDto cardData;
+        private final PaymentType paymentType;
+        private final Integer installments;
+
+        private PreparedCheckout(Cart cart, CardDataDto cardData, PaymentType paymentType, Integer installments) {
+            this.cart = cart;
+            this.cardData = cardData;
+            this.paymentType = paymentType;
+            this.installments = installments;
         }
     }
-
-    /**
-     * Disminuye el stock de cada producto en el carrito según la cantidad comprada.
-     *
-     * @param cartId ID del carrito
-     */
-    private void decreaseProductsStock(Integer cartId) {
-        log.debug("Disminuyendo stock de productos del carrito: {}", cartId);
-
-        List<CartItem> cartItems = cartItemTransactionalService.findByCartId(cartId);
-
-        if (cartItems.isEmpty()) {
-            log.warn("No se encontraron items en el carrito: {}", cartId);
-            return;
-        }
-
-        int productsProcessed = 0;
-        for (CartItem item : cartItems) {
-            Integer productId = item.getProduct().getProductoId();
-            Integer quantity = item.getCantidad();
-            String productName = item.getProduct().getNombre();
-
-            try {
-                stockTransactionalService.decreaseStock(productId, quantity);
-                productsProcessed++;
-                log.debug("Stock disminuido para producto '{}' (ID: {}) - Cantidad: {}",
-                        productName, productId, quantity);
-
-            } catch (IllegalStateException e) {
-                log.error("Error al disminuir stock para producto '{}' (ID: {}): {}",
-                        productName, productId, e.getMessage());
-                throw new PaymentException(
-                        "Error al disminuir stock del producto: " + productName,
-                        CODE_PAYMENT_PROCESSING_FAILED,
-                        e
-                );
-            }
-        }
-
-        log.info("Stock actualizado para {} productos del carrito {}", productsProcessed, cartId);
-    }
 }
-
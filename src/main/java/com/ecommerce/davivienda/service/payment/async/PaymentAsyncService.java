@@ -0,0 +1,40 @@
+package com.ecommerce.davivienda.service.payment.async;
+
+import com.ecommerce.davivienda.dto.payment.PaymentWorkItemDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de encolado de pagos aceptados en modo asíncrono.
+ * Controla la admisión (backpressure) y despacha el trabajo al pool de workers.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentAsyncService {
+
+    /**
+     * Verifica sin reservar que haya capacidad en la cola, para rechazar antes de escribir.
+     *
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la cola está llena
+     */
+    void ensureCapacity();
+
+    /**
+     * Reserva un lugar en la cola y despacha el trabajo cuando la transacción actual confirma.
+     * Si la transacción se revierte, el lugar se libera y el trabajo se descarta.
+     *
+     * @param workItem Trabajo del pago aceptado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si la cola está llena
+     */
+    void enqueueAfterCommit(PaymentWorkItemDto workItem);
+
+    /**
+     * Retorna una señal que se completa cuando termina el procesamiento del pago.
+     * Si el pago no está en la cola de esta instancia, la señal ya está completa.
+     *
+     * @param referenceNumber Número de referencia del pago
+     * @return CompletableFuture que se completa al terminar el procesamiento
+     */
+    CompletableFuture<Void> completionOf(String referenceNumber);
+}
@@ -0,0 +1,187 @@
+package com.ecommerce.davivienda.service.payment.async;
+
+import com.ecommerce.davivienda.config.properties.PaymentAsyncProperties;
+import com.ecommerce.davivienda.dto.payment.PaymentWorkItemDto;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.fulfillment.PaymentFulfillmentService;
+import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import com.ecommerce.davivienda.service.payment.validation.payment.PaymentPaymentValidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de encolado asíncrono de pagos.
+ * La admisión usa un semáforo con tantos permisos como workers + capacidad de cola:
+ * un pago solo se acepta si tiene lugar garantizado en el executor.
+ * Métricas en /actuator/metrics: {@code payment.async.queue}, {@code payment.async.processed} (tag {@code result}).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class PaymentAsyncServiceImpl implements PaymentAsyncService {
+
+    private final ThreadPoolExecutor paymentWorkerExecutor;
+    private final PaymentFulfillmentService fulfillmentService;
+    private final PaymentPaymentValidationService paymentValidationService;
+    private final PaymentPaymentTransactionalService paymentTransactionalService;
+    private final PaymentAsyncProperties properties;
+    private final Semaphore admissionPermits;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> completions = new ConcurrentHashMap<>();
+    private final Set<Integer> inFlightPaymentIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+
+    public PaymentAsyncServiceImpl(ThreadPoolExecutor paymentWorkerExecutor,
+                                   PaymentFulfillmentService fulfillmentService,
+                                   PaymentPaymentValidationService paymentValidationService,
+                                   PaymentPaymentTransactionalService paymentTransactionalService,
+                                   PaymentAsyncProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.paymentWorkerExecutor = paymentWorkerExecutor;
+        this.fulfillmentService = fulfillmentService;
+        this.paymentValidationService = paymentValidationService;
+        this.paymentTransactionalService = paymentTransactionalService;
+        this.properties = properties;
+        this.admissionPermits = new Semaphore(properties.getWorkers() + properties.getQueueCapacity());
+
+        Gauge.builder("payment.async.queue", paymentWorkerExecutor, executor -> executor.getQueue().size())
+                .description("Pagos aceptados en espera de un worker")
+                .register(meterRegistry);
+        this.completedCounter = processedCounter(meterRegistry, "completed");
+        this.failedCounter = processedCounter(meterRegistry, "failed");
+    }
+
+    @Override
+    public void ensureCapacity() {
+        if (admissionPermits.availablePermits() == 0) {
+            throw queueFull();
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAfterCommit(PaymentWorkItemDto workItem) {
+        if (!admissionPermits.tryAcquire()) {
+            throw queueFull();
+        }
+        inFlightPaymentIds.add(workItem.getPaymentId());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatch(workItem);
+                } else {
+                    inFlightPaymentIds.remove(workItem.getPaymentId());
+                    admissionPermits.release();
+                }
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> completionOf(String referenceNumber) {
+        CompletableFuture<Void> completion = completions.get(referenceNumber);
+        return completion != null ? completion : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Rechaza los pagos que quedaron en "Procesando" sin worker (p. ej. tras un reinicio,
+     * ya que los datos de tarjeta solo viven en memoria). Omite los que esta instancia tiene en
+     * cola o en proceso; los de otras instancias los protege el UPDATE condicional del worker.
+     */
+    @Scheduled(fixedDelayString = "${payment.async.stale-sweep-interval-ms:60000}")
+    public void rejectStalePayments() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(properties.getStaleAfterMinutes());
+        // El barrido corre cada minuto: basta con el mes del corte y el anterior (dos particiones)
+        LocalDateTime since = cutoff.toLocalDate().withDayOfMonth(1).minusMonths(1).atStartOfDay();
+        int rejected = paymentTransactionalService.updateStatusOlderThan(
+                paymentValidationService.findProcessingStatus(),
+                paymentValidationService.findRejectedStatus(),
+                since,
+                cutoff,
+                Set.copyOf(inFlightPaymentIds));
+        if (rejected > 0) {
+            log.warn("Pagos asíncronos huérfanos marcados como 'Rechazado': {}", rejected);
+        }
+    }
+
+    private void dispatch(PaymentWorkItemDto workItem) {
+        completions.put(workItem.getReferenceNumber(), new CompletableFuture<>());
+        try {
+            paymentWorkerExecutor.execute(() -> process(workItem));
+        } catch (RejectedExecutionException e) {
+            // No debería ocurrir: la admisión garantiza capacidad. Se trata como fallo del pago.
+            log.error("Executor rechazó el pago {}", workItem.getReferenceNumber(), e);
+            failedCounter.increment();
+            rejectQuietly(workItem);
+            finish(workItem);
+        }
+    }
+
+    private void process(PaymentWorkItemDto workItem) {
+        try {
+            fulfillmentService.fulfillAccepted(workItem);
+            completedCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("Fallo al procesar pago asíncrono {}: {}", workItem.getReferenceNumber(), e.getMessage());
+            failedCounter.increment();
+            rejectQuietly(workItem);
+        } finally {
+            finish(workItem);
+        }
+    }
+
+    /**
+     * Libera el lugar en la cola y notifica a los clientes en long-poll.
+     */
+    private void finish(PaymentWorkItemDto workItem) {
+        inFlightPaymentIds.remove(workItem.getPaymentId());
+        admissionPermits.release();
+        CompletableFuture<Void> completion = completions.remove(workItem.getReferenceNumber());
+        if (completion != null) {
+            completion.complete(null);
+        }
+    }
+
+    private void rejectQuietly(PaymentWorkItemDto workItem) {
+        try {
+            fulfillmentService.rejectAccepted(workItem);
+        } catch (RuntimeException e) {
+            log.error("No se pudo marcar como rechazado el pago {}: {}", workItem.getReferenceNumber(), e.getMessage());
+        }
+    }
+
+    private PaymentException queueFull() {
+        log.warn("Cola de pagos asíncronos llena, solicitud rechazada");
+        return new PaymentException(ERROR_PAYMENT_QUEUE_FULL, CODE_PAYMENT_QUEUE_FULL);
+    }
+
+    private Counter processedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.async.processed")
+                .description("Pagos asíncronos procesados por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.davivienda.service.payment.fulfillment;
+
+import com.ecommerce.davivienda.dto.payment.CardDataDto;
+import com.ecommerce.davivienda.dto.payment.PaymentWorkItemDto;
+import com.ecommerce.davivienda.entity.payment.Payment;
+
+/**
+ * Servicio que completa un pago ya registrado: detalles de tarjeta, inventario y estado del carrito.
+ * Compartido por el flujo síncrono y por los workers del flujo asíncrono.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentFulfillmentService {
+
+    /**
+     * Completa un pago dentro de la transacción actual.
+     * 1. Guarda los detalles de débito o crédito (encriptados)
+     * 2. Disminuye el stock de los productos del carrito
+     * 3. Actualiza el carrito a "Procesando"
+     *
+     * @param payment Pago ya persistido
+     * @param cardData Datos de la tarjeta validados
+     * @param installments Número de cuotas validado
+     */
+    void fulfill(Payment payment, CardDataDto cardData, Integer installments);
+
+    /**
+     * Completa un pago aceptado en modo asíncrono y lo deja en estado "Pendiente",
+     * el mismo estado final del flujo síncrono. Si el pago ya no está en "Procesando"
+     * (p. ej. el barrido de huérfanos lo rechazó) no hace nada.
+     *
+     * @param workItem Trabajo pendiente del pago aceptado
+     */
+    void fulfillAccepted(PaymentWorkItemDto workItem);
+
+    /**
+     * Marca como "Rechazado" un pago aceptado cuyo procesamiento falló, si sigue en "Procesando".
+     *
+     * @param workItem Trabajo pendiente del pago aceptado
+     */
+    void rejectAccepted(PaymentWorkItemDto workItem);
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.davivienda.service.payment.fulfillment;
+
+import com.ecommerce.davivienda.dto.payment.CardDataDto;
+import com.ecommerce.davivienda.dto.payment.PaymentWorkItemDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.payment.Payment;
+import com.ecommerce.davivienda.entity.payment.PaymentCredit;
+import com.ecommerce.davivienda.entity.payment.PaymentDebit;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRecorderService;
+import com.ecommerce.davivienda.service.payment.guard.PaymentCheckoutGuardService;
+import com.ecommerce.davivienda.service.payment.transactional.cart.PaymentCartTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.cartitem.PaymentCartItemTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.orderline.PaymentOrderLineTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import com.ecommerce.davivienda.service.payment.validation.payment.PaymentPaymentValidationService;
+import com.ecommerce.davivienda.service.recommendation.RecommendationService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.util.Base64DecryptionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de completado de pagos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentFulfillmentServiceImpl implements PaymentFulfillmentService {
+
+    private static final String PAYMENT_TYPE_DEBIT = "debito";
+    private static final String PAYMENT_TYPE_CREDIT = "credito";
+
+    private final PaymentPaymentValidationService paymentValidationService;
+    private final PaymentPaymentTransactionalService paymentTransactionalService;
+    private final PaymentCartTransactionalService cartTransactionalService;
+    private final PaymentCartItemTransactionalService cartItemTransactionalService;
+    private final PaymentOrderLineTransactionalService orderLineTransactionalService;
+    private final StockStockTransactionalService stockTransactionalService;
+    private final PaymentCheckoutGuardService checkoutGuardService;
+    private final SalesRecorderService salesRecorderService;
+    private final RecommendationService recommendationService;
+    private final PaymentMapper paymentMapper;
+    private final Base64DecryptionService base64DecryptionService;
+
+    @Override
+    @Transactional
+    public void fulfill(Payment payment, CardDataDto cardData, Integer installments) {
+        Integer cartId = payment.getCart().getCarritoId();
+
+        savePaymentDetails(payment, cardData, installments);
+
+        List<CartItem> cartItems = cartItemTransactionalService.findByCartId(cartId);
+        decreaseProductsStock(cartId, cartItems);
+
+        cartTransactionalService.updateCartStatusToProcessing(cartId);
+
+        // Snapshot de lo cobrado para el historial de compras
+        orderLineTransactionalService.saveOrderLines(paymentMapper.toOrderLines(payment, cartItems));
+
+        // Agregados de ventas y recomendaciones: se suman solo si esta transacción confirma
+        salesRecorderService.recordAfterCommit(payment, cartItems);
+        recommendationService.recordPurchaseAfterCommit(cartItems);
+    }
+
+    @Override
+    @Transactional
+    public void fulfillAccepted(PaymentWorkItemDto workItem) {
+        log.debug("Worker procesando pago aceptado - Referencia: {}", workItem.getReferenceNumber());
+
+        // Primero el cambio de estado condicional: si el barrido ya lo rechazó no se completa,
+        // y mientras esta transacción siga abierta el barrido no puede rechazarlo
+        if (!paymentTransactionalService.updatePaymentStatusIfCurrent(workItem.getPaymentId(),
+                workItem.getPaymentDate(), paymentValidationService.findProcessingStatus(),
+                paymentValidationService.findPendingStatus())) {
+            log.warn("Pago asíncrono {} ya no está en 'Procesando', se omite", workItem.getReferenceNumber());
+            return;
+        }
+
+        Payment payment = paymentTransactionalService.findPayment(workItem.getPaymentId(), workItem.getPaymentDate());
+
+        checkoutGuardService.acquireForAcceptedPayment(payment.getCart().getCarritoId());
+
+        fulfill(payment, workItem.getCardData(), workItem.getInstallments());
+
+        log.info("Pago asíncrono completado - ID: {}, Referencia: {}",
+                payment.getPaymentId(), workItem.getReferenceNumber());
+    }
+
+    @Override
+    @Transactional
+    public void rejectAccepted(PaymentWorkItemDto workItem) {
+        if (paymentTransactionalService.updatePaymentStatusIfCurrent(workItem.getPaymentId(),
+                workItem.getPaymentDate(), paymentValidationService.findProcessingStatus(),
+                paymentValidationService.findRejectedStatus())) {
+            log.warn("Pago asíncrono {} marcado como 'Rechazado'", workItem.getPaymentId());
+        }
+    }
+
+    /**
+     * Guarda los detalles específicos del pago según el tipo (débito o crédito).
+     * Los datos sensibles (nombre titular y número tarjeta) se encriptan antes de guardar.
+     *
+     * @param payment Pago guardado
+     * @param cardData Datos de la tarjeta
+     * @param installments Número de cuotas validado
+     */
+    private void savePaymentDetails(Payment payment, CardDataDto cardData, Integer installments) {
+        String paymentType = cardData.getPaymentType().trim().toLowerCase();
+
+        if (PAYMENT_TYPE_DEBIT.equals(paymentType)) {
+            log.debug("Guardando detalles de pago débito (datos encriptados)");
+            PaymentDebit paymentDebit = paymentMapper.toPaymentDebit(payment, cardData, base64DecryptionService);
+            paymentTransactionalService.savePaymentDebit(paymentDebit);
+            log.info("Detalles de pago débito guardados exitosamente (encriptado)");
+
+        } else if (PAYMENT_TYPE_CREDIT.equals(paymentType)) {
+            log.debug("Guardando detalles de pago crédito con {} cuotas (datos encriptados)", installments);
+            PaymentCredit paymentCredit = paymentMapper.toPaymentCredit(payment, cardData, installments, base64DecryptionService);
+            paymentTransactionalService.savePaymentCredit(paymentCredit);
+            log.info("Detalles de pago crédito guardados exitosamente (encriptado) - Cuotas: {}", installments);
+        }
+    }
+
+    /**
+     * Disminuye el stock de los productos del carrito según la cantidad comprada.
+     * Las cantidades se agrupan por producto y se actualizan en un único lote.
+     *
+     * @param cartId ID del carrito
+     * @param cartItems Items del carrito
+     */
+    private void decreaseProductsStock(Integer cartId, List<CartItem> cartItems) {
+        log.debug("Disminuyendo stock de productos del carrito: {}", cartId);
+
+        if (cartItems.isEmpty()) {
+            log.warn("No se encontraron items en el carrito: {}", cartId);
+            return;
+        }
+
+        Map<Integer, Integer> quantitiesByProductId = new LinkedHashMap<>();
+        for (CartItem item : cartItems) {
+            quantitiesByProductId.merge(item.getProduct().getProductoId(), item.getCantidad(), Integer::sum);
+        }
+
+        try {
+            stockTransactionalService.decreaseStockBatch(quantitiesByProductId);
+        } catch (IllegalStateException e) {
+            log.error("Error al disminuir stock del carrito {}: {}", cartId, e.getMessage());
+            throw new PaymentException(
+                    "Error al disminuir stock del producto: " + e.getMessage(),
+                    CODE_PAYMENT_PROCESSING_FAILED,
+                    e
+            );
+        }
+
+        log.info("Stock actualizado para {} productos del carrito {}", quantitiesByProductId.size(), cartId);
+    }
+}
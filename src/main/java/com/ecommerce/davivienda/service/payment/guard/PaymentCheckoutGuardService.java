@@ -0,0 +1,32 @@
+package com.ecommerce.davivienda.service.payment.guard;
+
+/**
+ * Servicio que serializa los intentos de pago concurrentes sobre un mismo carrito.
+ * Garantiza que un segundo intento se rechace antes de realizar cualquier escritura.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentCheckoutGuardService {
+
+    /**
+     * Adquiere el guard de checkout del carrito para la transacción actual.
+     * El guard se libera automáticamente al finalizar la transacción (commit o rollback).
+     * Tras adquirirlo, verifica que el carrito siga activo y que no tenga un pago asíncrono en curso.
+     *
+     * @param cartId ID del carrito a pagar
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si hay un pago en curso
+     *         o el carrito ya fue procesado
+     */
+    void acquire(Integer cartId);
+
+    /**
+     * Adquiere el guard para completar un pago ya aceptado en modo asíncrono.
+     * No rechaza por el propio pago en curso; solo verifica que el carrito siga activo.
+     *
+     * @param cartId ID del carrito del pago aceptado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si hay otro pago en curso
+     *         o el carrito ya fue procesado
+     */
+    void acquireForAcceptedPayment(Integer cartId);
+}
@@ -0,0 +1,179 @@
+package com.ecommerce.davivienda.service.payment.guard;
+
+import com.ecommerce.davivienda.config.properties.PaymentCheckoutGuardProperties;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.transactional.cart.PaymentCartTransactionalService;
+import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del guard de checkout por carrito.
+ * Combina dos niveles:
+ * <ul>
+ *   <li>Locks en memoria por stripes: el segundo intento en la misma instancia espera
+ *       a que termine el primero (hasta {@code wait-timeout-ms}) y luego encuentra el carrito procesado.</li>
+ *   <li>Advisory lock de PostgreSQL con alcance de transacción: rechaza de inmediato
+ *       intentos simultáneos que llegan a otra instancia.</li>
+ * </ul>
+ * Un carrito con un pago asíncrono aceptado (estado "Procesando") tampoco admite un nuevo checkout.
+ * Métricas expuestas en /actuator/metrics: {@code payment.checkout.guard} (tag {@code result})
+ * y {@code payment.checkout.guard.wait}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class PaymentCheckoutGuardServiceImpl implements PaymentCheckoutGuardService {
+
+    private static final String METRIC_GUARD = "payment.checkout.guard";
+    private static final String METRIC_GUARD_WAIT = "payment.checkout.guard.wait";
+
+    private final PaymentCartTransactionalService cartTransactionalService;
+    private final PaymentPaymentTransactionalService paymentTransactionalService;
+    private final PaymentCheckoutGuardProperties properties;
+    private final ReentrantLock[] stripes;
+
+    private final Counter acquiredCounter;
+    private final Counter rejectedLocalCounter;
+    private final Counter rejectedAdvisoryCounter;
+    private final Counter rejectedCheckedOutCounter;
+    private final Counter rejectedInFlightCounter;
+    private final Timer waitTimer;
+
+    public PaymentCheckoutGuardServiceImpl(PaymentCartTransactionalService cartTransactionalService,
+                                           PaymentPaymentTransactionalService paymentTransactionalService,
+                                           PaymentCheckoutGuardProperties properties,
+                                           MeterRegistry meterRegistry) {
+        this.cartTransactionalService = cartTransactionalService;
+        this.paymentTransactionalService = paymentTransactionalService;
+        this.properties = properties;
+        this.stripes = new ReentrantLock[Math.max(1, properties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.acquiredCounter = guardCounter(meterRegistry, "acquired");
+        this.rejectedLocalCounter = guardCounter(meterRegistry, "rejected_local");
+        this.rejectedAdvisoryCounter = guardCounter(meterRegistry, "rejected_advisory");
+        this.rejectedCheckedOutCounter = guardCounter(meterRegistry, "rejected_checked_out");
+        this.rejectedInFlightCounter = guardCounter(meterRegistry, "rejected_in_flight");
+        this.waitTimer = Timer.builder(METRIC_GUARD_WAIT)
+                .description("Tiempo de espera por el lock local de checkout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquire(Integer cartId) {
+        lockAndVerifyCart(cartId);
+
+        if (paymentTransactionalService.existsPaymentInStatus(cartId, PAYMENT_STATUS_PROCESSING)) {
+            log.warn("Carrito {} tiene un pago asíncrono en curso, intento rechazado", cartId);
+            rejectedInFlightCounter.increment();
+            throw new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS);
+        }
+
+        acquiredCounter.increment();
+        log.debug("Guard de checkout adquirido para carrito {}", cartId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquireForAcceptedPayment(Integer cartId) {
+        lockAndVerifyCart(cartId);
+
+        acquiredCounter.increment();
+        log.debug("Guard de checkout adquirido por worker para carrito {}", cartId);
+    }
+
+    /**
+     * Adquiere ambos locks y verifica que el carrito siga activo.
+     *
+     * @param cartId ID del carrito
+     */
+    private void lockAndVerifyCart(Integer cartId) {
+        ReentrantLock lock = stripeFor(cartId);
+
+        acquireLocalLock(lock, cartId);
+        registerRelease(lock);
+
+        if (properties.isAdvisoryLockEnabled() && !cartTransactionalService.tryAcquireCheckoutLock(cartId)) {
+            log.warn("Advisory lock de checkout ocupado para carrito {}", cartId);
+            rejectedAdvisoryCounter.increment();
+            throw new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS);
+        }
+
+        if (!CART_STATUS_ACTIVE.equals(cartTransactionalService.findCartStatusId(cartId))) {
+            log.warn("Carrito {} ya no está activo, intento de pago duplicado rechazado", cartId);
+            rejectedCheckedOutCounter.increment();
+            throw new PaymentException(ERROR_CART_ALREADY_CHECKED_OUT, CODE_CART_ALREADY_CHECKED_OUT);
+        }
+    }
+
+    /**
+     * Espera el lock local del stripe hasta el timeout configurado.
+     *
+     * @param lock Lock del stripe
+     * @param cartId ID del carrito (para logging)
+     */
+    private void acquireLocalLock(ReentrantLock lock, Integer cartId) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            log.warn("Timeout esperando lock local de checkout para carrito {}", cartId);
+            rejectedLocalCounter.increment();
+            throw new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * Libera el lock local al terminar la transacción. afterCompletion se ejecuta
+     * en el mismo hilo que adquirió el lock, requisito de ReentrantLock.
+     *
+     * @param lock Lock del stripe adquirido
+     */
+    private void registerRelease(ReentrantLock lock) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock stripeFor(Integer cartId) {
+        int hash = cartId.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private Counter guardCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_GUARD)
+                .description("Intentos de adquirir el guard de checkout por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.davivienda.service.payment.history;
+
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_HISTORY_INVALID_CURSOR;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_PAYMENT_HISTORY_INVALID_CURSOR;
+
+/**
+ * Cursor opaco del historial de compras: la posición (fecha_pago, linea_pedido_id) de la última
+ * línea entregada, en Base64 URL-safe. No es un secreto; el filtro por usuario sigue aplicando.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+final class PaymentHistoryCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime paymentDate;
+    private final Integer orderLineId;
+
+    private PaymentHistoryCursor(LocalDateTime paymentDate, Integer orderLineId) {
+        this.paymentDate = paymentDate;
+        this.orderLineId = orderLineId;
+    }
+
+    /**
+     * Cursor que apunta justo después de una línea.
+     *
+     * @param last Última línea entregada
+     * @return Cursor codificado
+     */
+    static String encode(OrderLine last) {
+        String position = last.getPaymentDate().toString() + SEPARATOR + last.getOrderLineId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente.
+     *
+     * @param cursor Cursor codificado
+     * @return Posición del cursor
+     * @throws PaymentException si el cursor no es válido
+     */
+    static PaymentHistoryCursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = position.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new PaymentException(ERROR_PAYMENT_HISTORY_INVALID_CURSOR, CODE_PAYMENT_HISTORY_INVALID_CURSOR);
+            }
+            return new PaymentHistoryCursor(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    Integer.valueOf(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PaymentException(ERROR_PAYMENT_HISTORY_INVALID_CURSOR, CODE_PAYMENT_HISTORY_INVALID_CURSOR, e);
+        }
+    }
+
+    LocalDateTime getPaymentDate() {
+        return paymentDate;
+    }
+
+    Integer getOrderLineId() {
+        return orderLineId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.davivienda.service.payment.history;
+
+import com.ecommerce.davivienda.dto.payment.PaymentHistoryResponseDto;
+
+/**
+ * Servicio de consulta del historial de compras del usuario autenticado.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentHistoryService {
+
+    /**
+     * Página del historial de compras, de la más reciente a la más antigua.
+     *
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size Líneas por página (opcional, acotado por payment.history.max-page-size)
+     * @return Página con las líneas y el cursor de la siguiente
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si el cursor no es válido
+     */
+    PaymentHistoryResponseDto getHistory(String cursor, Integer size);
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.davivienda.service.payment.history;
+
+import com.ecommerce.davivienda.config.properties.PaymentHistoryProperties;
+import com.ecommerce.davivienda.dto.payment.PaymentHistoryResponseDto;
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.auth.AuthUserService;
+import com.ecommerce.davivienda.service.payment.transactional.orderline.PaymentOrderLineTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del historial de compras sobre el snapshot lineas_pedido.
+ *
+ * <p>Pide una línea más que el tamaño de página para saber si hay página siguiente sin contar
+ * el total; el cursor es la posición de la última línea entregada.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentHistoryServiceImpl implements PaymentHistoryService {
+
+    private final PaymentOrderLineTransactionalService orderLineTransactionalService;
+    private final AuthUserService authUserService;
+    private final PaymentMapper paymentMapper;
+    private final PaymentHistoryProperties properties;
+
+    @Override
+    public PaymentHistoryResponseDto getHistory(String cursor, Integer size) {
+        int pageSize = size == null || size < 1
+                ? properties.getDefaultPageSize()
+                : Math.min(size, properties.getMaxPageSize());
+        PaymentHistoryCursor after = cursor == null || cursor.isBlank() ? null : PaymentHistoryCursor.decode(cursor);
+
+        Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
+        log.debug("Consultando historial de compras - UserRoleId: {}, tamaño: {}", userRoleId, pageSize);
+
+        List<OrderLine> lines = after == null
+                ? orderLineTransactionalService.findHistoryPage(userRoleId, null, null, pageSize + 1)
+                : orderLineTransactionalService.findHistoryPage(userRoleId, after.getPaymentDate(),
+                        after.getOrderLineId(), pageSize + 1);
+
+        boolean hasMore = lines.size() > pageSize;
+        List<OrderLine> page = hasMore ? lines.subList(0, pageSize) : lines;
+
+        return PaymentHistoryResponseDto.builder()
+                .content(page.stream().map(paymentMapper::toOrderLineDto).toList())
+                .nextCursor(hasMore ? PaymentHistoryCursor.encode(page.get(pageSize - 1)) : null)
+                .build();
+    }
+}
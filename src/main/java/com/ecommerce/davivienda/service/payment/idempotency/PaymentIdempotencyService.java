@@ -0,0 +1,29 @@
+package com.ecommerce.davivienda.service.payment.idempotency;
+
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+
+/**
+ * Servicio que aplica semántica de idempotencia al procesamiento de pagos.
+ * Una clave repetida retorna el resultado almacenado sin volver a ejecutar el pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentIdempotencyService {
+
+    /**
+     * Procesa un pago respetando la Idempotency-Key del cliente.
+     * Sin clave, delega directamente en PaymentService (síncrono o asíncrono).
+     * Con clave:
+     * - Si ya existe un resultado vigente, lo retorna.
+     * - Si hay un pago en curso con la misma clave (en esta u otra instancia), espera su resultado.
+     * - En otro caso reclama la clave, procesa el pago y guarda el resultado en la misma transacción.
+     *
+     * @param idempotencyKey Valor del header Idempotency-Key (puede ser null)
+     * @param request Solicitud de pago
+     * @param async true para aceptar el pago y procesarlo en segundo plano
+     * @return Resultado del pago (original o reproducido)
+     */
+    PaymentProcessResponseDto processPayment(String idempotencyKey, PaymentProcessRequestDto request, boolean async);
+}
@@ -0,0 +1,254 @@
+package com.ecommerce.davivienda.service.payment.idempotency;
+
+import com.ecommerce.davivienda.config.properties.PaymentIdempotencyProperties;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessRequestDto;
+import com.ecommerce.davivienda.dto.payment.PaymentProcessResponseDto;
+import com.ecommerce.davivienda.entity.payment.PaymentIdempotency;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.service.payment.PaymentService;
+import com.ecommerce.davivienda.service.payment.transactional.idempotency.PaymentIdempotencyTransactionalService;
+import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
+import com.ecommerce.davivienda.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de idempotencia de pagos.
+ * Usa dos niveles:
+ * <ul>
+ *   <li>Caché en memoria ({@code ConcurrentHashMap}) con un {@code CompletableFuture} por clave:
+ *       los duplicados concurrentes esperan el resultado en curso y los repetidos recientes
+ *       se responden sin consultar la base de datos.</li>
+ *   <li>Tabla {@code idempotencia_pago}: la clave se reclama con un insert al inicio de la
+ *       transacción del pago y el resultado se escribe en esa misma fila al final, de modo que
+ *       sobrevive a reinicios y es visible para otras instancias. Un duplicado en otra instancia
+ *       espera en el índice único a que la primera transacción termine y reproduce su resultado,
+ *       sin llegar al guard de checkout (que lo rechazaría como pago en curso).</li>
+ * </ul>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyServiceImpl implements PaymentIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String PENDING_RESPONSE = ""; // Respuesta de la fila reclamada mientras el pago está en curso
+
+    private final PaymentService paymentService;
+    private final PaymentIdempotencyTransactionalService idempotencyTransactionalService;
+    private final PaymentIdempotencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthenticatedUserUtil authenticatedUserUtil;
+    private final JsonUtils jsonUtils;
+
+    private final ConcurrentHashMap<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public PaymentProcessResponseDto processPayment(String idempotencyKey, PaymentProcessRequestDto request, boolean async) {
+        if (idempotencyKey == null) {
+            return execute(request, async);
+        }
+
+        validateKey(idempotencyKey);
+        String userEmail = authenticatedUserUtil.getCurrentUsername();
+        String cacheKey = userEmail + ":" + idempotencyKey;
+        String requestHash = hashRequest(request, async);
+
+        CachedResult candidate = new CachedResult(requestHash);
+        CachedResult existing = cache.putIfAbsent(cacheKey, candidate);
+        if (existing != null && existing.isExpired()) {
+            cache.remove(cacheKey, existing);
+            existing = cache.putIfAbsent(cacheKey, candidate);
+        }
+
+        if (existing != null) {
+            log.info("Idempotency-Key repetida, reutilizando resultado - Clave: {}", idempotencyKey);
+            validateSameRequest(existing.requestHash, requestHash);
+            return awaitResult(existing);
+        }
+
+        evictIfFull();
+
+        try {
+            PaymentProcessResponseDto response = executeOnce(userEmail, idempotencyKey, requestHash, request, async);
+            candidate.complete(response, ttlMillis());
+            return response;
+        } catch (RuntimeException e) {
+            cache.remove(cacheKey, candidate);
+            candidate.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Elimina periódicamente las entradas expiradas de memoria y de base de datos.
+     */
+    @Scheduled(fixedDelayString = "${payment.idempotency.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        cache.values().removeIf(CachedResult::isExpired);
+        int deleted = idempotencyTransactionalService.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Claves de idempotencia expiradas eliminadas: {}", deleted);
+        }
+    }
+
+    /**
+     * Ejecuta el pago una sola vez para la clave, o reproduce el resultado guardado
+     * si otra instancia (o una ejecución anterior) ya lo procesó o lo está procesando.
+     */
+    private PaymentProcessResponseDto executeOnce(String userEmail, String idempotencyKey, String requestHash,
+                                                  PaymentProcessRequestDto request, boolean async) {
+        PaymentIdempotency stored = idempotencyTransactionalService.findValid(userEmail, idempotencyKey).orElse(null);
+        if (stored != null) {
+            log.info("Resultado de pago reproducido desde base de datos - Clave: {}", idempotencyKey);
+            validateSameRequest(stored.getRequestHash(), requestHash);
+            return readResponse(stored.getResponseJson());
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // Reclama la clave antes de pagar (reemplazando un registro expirado aún sin purgar): un insert
+                // con la misma clave en otra instancia espera en el índice único hasta que esta transacción termine
+                PaymentIdempotency claim = idempotencyTransactionalService.claim(PaymentIdempotency.builder()
+                        .userEmail(userEmail)
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .responseJson(PENDING_RESPONSE)
+                        .expiresAt(LocalDateTime.now().plusMinutes(properties.getTtlMinutes()))
+                        .build());
+                PaymentProcessResponseDto response = execute(request, async);
+                claim.setResponseJson(writeResponse(response));
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Otra instancia reclamó la misma clave primero y su transacción ya confirmó: no se pagó aquí.
+            // Si su registro ya no está vigente (expiró o se reemplazó otra vez) el cliente debe reintentar
+            log.warn("Idempotency-Key registrada concurrentemente por otra instancia - Clave: {}", idempotencyKey);
+            PaymentIdempotency winner = idempotencyTransactionalService.findValidOnPrimary(userEmail, idempotencyKey)
+                    .orElseThrow(() -> new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS, e));
+            validateSameRequest(winner.getRequestHash(), requestHash);
+            return readResponse(winner.getResponseJson());
+        }
+    }
+
+    private PaymentProcessResponseDto execute(PaymentProcessRequestDto request, boolean async) {
+        return async ? paymentService.acceptPayment(request) : paymentService.processPayment(request);
+    }
+
+    private PaymentProcessResponseDto awaitResult(CachedResult entry) {
+        try {
+            return entry.result.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentException(ERROR_PAYMENT_IN_PROGRESS, CODE_PAYMENT_IN_PROGRESS, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PaymentException(ERROR_PAYMENT_PROCESSING_FAILED, CODE_PAYMENT_PROCESSING_FAILED, e.getCause());
+        }
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new PaymentException(ERROR_IDEMPOTENCY_KEY_INVALID, CODE_IDEMPOTENCY_KEY_INVALID);
+        }
+    }
+
+    private void validateSameRequest(String storedHash, String requestHash) {
+        if (!Objects.equals(storedHash, requestHash)) {
+            throw new PaymentException(ERROR_IDEMPOTENCY_KEY_REUSED, CODE_IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    /**
+     * Si la caché supera el máximo configurado, descarta primero las entradas expiradas
+     * y luego las completadas. Las entradas en curso nunca se descartan.
+     */
+    private void evictIfFull() {
+        if (cache.size() <= properties.getMaxCachedEntries()) {
+            return;
+        }
+        cache.values().removeIf(CachedResult::isExpired);
+        if (cache.size() > properties.getMaxCachedEntries()) {
+            cache.values().removeIf(entry -> entry.result.isDone());
+        }
+    }
+
+    private String hashRequest(PaymentProcessRequestDto request, boolean async) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String canonical = request.getCartId() + "|" + request.getEncryptedCardData() + "|" + async;
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private String writeResponse(PaymentProcessResponseDto response) {
+        try {
+            return jsonUtils.serializeToJson(response);
+        } catch (JsonProcessingException e) {
+            throw new PaymentException(ERROR_PAYMENT_PROCESSING_FAILED, CODE_PAYMENT_PROCESSING_FAILED, e);
+        }
+    }
+
+    private PaymentProcessResponseDto readResponse(String json) {
+        try {
+            return jsonUtils.deserializeFromJson(json, PaymentProcessResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new PaymentException(ERROR_PAYMENT_PROCESSING_FAILED, CODE_PAYMENT_PROCESSING_FAILED, e);
+        }
+    }
+
+    private long ttlMillis() {
+        return TimeUnit.MINUTES.toMillis(properties.getTtlMinutes());
+    }
+
+    /**
+     * Resultado (en curso o completado) asociado a una clave en memoria.
+     */
+    private static final class CachedResult {
+
+        private final String requestHash;
+        private final CompletableFuture<PaymentProcessResponseDto> result = new CompletableFuture<>();
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        private CachedResult(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private void complete(PaymentProcessResponseDto response, long ttlMillis) {
+            expiresAtMillis = System.currentTimeMillis() + ttlMillis;
+            result.complete(response);
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.davivienda.service.payment.partition;
+
+/**
+ * Servicio de mantenimiento de las particiones mensuales de las tablas de pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentPartitionMaintenanceService {
+
+    /**
+     * Crea las particiones del mes actual y de los payment.partitioning.months-ahead siguientes,
+     * y archiva las que superan payment.partitioning.retention-months.
+     */
+    void maintainPartitions();
+}
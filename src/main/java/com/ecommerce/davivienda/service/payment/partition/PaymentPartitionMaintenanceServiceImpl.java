@@ -0,0 +1,82 @@
+package com.ecommerce.davivienda.service.payment.partition;
+
+import com.ecommerce.davivienda.config.properties.PaymentPartitioningProperties;
+import com.ecommerce.davivienda.service.payment.transactional.partition.PaymentPartitionTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Implementación del mantenimiento de particiones de pago.
+ *
+ * <p>Se ejecuta al quedar lista la aplicación (por si estuvo detenida en un cambio de mes) y
+ * después según payment.partitioning.maintenance-cron. Las funciones SQL toman un advisory lock,
+ * así que varias instancias pueden ejecutarlo a la vez sin crear particiones duplicadas.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentPartitionMaintenanceServiceImpl implements PaymentPartitionMaintenanceService {
+
+    private final PaymentPartitionTransactionalService partitionTransactionalService;
+    private final PaymentPartitioningProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * Programa el mantenimiento inicial.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleInitialMaintenance() {
+        taskScheduler.schedule(this::scheduledMaintenance, Instant.now());
+    }
+
+    /**
+     * Mantenimiento periódico.
+     */
+    @Scheduled(cron = "${payment.partitioning.maintenance-cron:0 15 1 * * *}")
+    public void scheduledMaintenance() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            maintainPartitions();
+        } catch (RuntimeException e) {
+            log.error("Falló el mantenimiento de particiones de pago: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+
+        int created = partitionTransactionalService.createPartitions(today.withDayOfMonth(1),
+                properties.getMonthsAhead() + 1);
+        if (created > 0) {
+            log.info("Particiones de pago creadas: {}", created);
+        }
+
+        LocalDate retainedSince = properties.retainedSince(today);
+        if (retainedSince != null) {
+            int archived = partitionTransactionalService.archivePartitions(retainedSince, properties.getArchiveSchema());
+            if (archived > 0) {
+                log.info("Meses de pagos anteriores a {} archivados en {}: {}",
+                        retainedSince, properties.getArchiveSchema(), archived);
+            }
+        }
+
+        long outOfRange = partitionTransactionalService.countPaymentsInDefaultPartition();
+        if (outOfRange > 0) {
+            log.warn("Hay {} pagos en pago_default: crear su partición mensual requiere moverlos antes", outOfRange);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.ecommerce.davivienda.service.payment.reference;
+
+import com.ecommerce.davivienda.config.properties.PaymentReferenceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Generador de números de referencia ordenados por tiempo y conscientes del nodo (estilo Snowflake).
+ *
+ * <p>Cada referencia es un entero de 63 bits:</p>
+ * <ul>
+ *   <li>41 bits: milisegundos desde {@link #EPOCH_MILLIS} (~69 años)</li>
+ *   <li>10 bits: nodo (0 a 1023, {@code payment.reference.node-id})</li>
+ *   <li>12 bits: secuencia dentro del milisegundo (4096 por ms y nodo)</li>
+ * </ul>
+ * Se codifica en Crockford Base32 de ancho fijo (13 caracteres), por lo que el orden lexicográfico
+ * coincide con el orden de generación: las inserciones caen al final del índice único de
+ * {@code referencias.numero} en lugar de repartirse aleatoriamente como con UUID.
+ *
+ * <p>Es libre de colisiones por construcción mientras cada instancia tenga un nodo distinto:
+ * si el reloj retrocede o la secuencia se agota, el generador avanza un reloj lógico
+ * en lugar de repetir valores o bloquear.</p>
+ *
+ * <p>El instante de generación se puede recuperar de la referencia ({@link #issuedAt(String)}):
+ * es la fecha_pago del pago y permite ubicar su partición mensual sin consultar otra tabla.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PaymentReferenceGenerator {
+
+    /**
+     * Epoch propio: 2024-01-01T00:00:00Z.
+     */
+    static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] CROCKFORD_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    @Autowired
+    public PaymentReferenceGenerator(PaymentReferenceProperties properties) {
+        this(requireNodeId(properties), System::currentTimeMillis);
+    }
+
+    PaymentReferenceGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("payment.reference.node-id debe estar entre 0 y " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("Generador de referencias de pago inicializado - Nodo: {}", nodeId);
+    }
+
+    /**
+     * Sin node-id no hay default seguro: un valor fijo compartido entre instancias produce
+     * referencias duplicadas, así que la aplicación no arranca.
+     */
+    private static long requireNodeId(PaymentReferenceProperties properties) {
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException(
+                    "payment.reference.node-id es obligatorio (PAYMENT_REFERENCE_NODE_ID, 0 a " + MAX_NODE_ID + ", único por instancia)");
+        }
+        return properties.getNodeId();
+    }
+
+    /**
+     * Genera el siguiente número de referencia codificado.
+     *
+     * @return Referencia de 13 caracteres en Crockford Base32
+     */
+    public String nextReference() {
+        return encode(nextId());
+    }
+
+    /**
+     * Genera el siguiente identificador numérico monotónico.
+     *
+     * @return Identificador de 63 bits
+     */
+    synchronized long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0L;
+        } else {
+            // Mismo milisegundo o reloj atrasado: se continúa sobre el reloj lógico
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0L) {
+                lastTimestamp++;
+            }
+        }
+
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Codifica un identificador en Crockford Base32 de ancho fijo.
+     *
+     * @param id Identificador no negativo
+     * @return Cadena de 13 caracteres
+     */
+    static String encode(long id) {
+        char[] buffer = new char[ENCODED_LENGTH];
+        long value = id;
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            buffer[i] = CROCKFORD_ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * Referencia que este generador habría emitido en el instante, nodo y secuencia indicados.
+     * Permite construir datos históricos (datos sintéticos, migraciones) con el mismo formato.
+     *
+     * @param issuedAt Instante de generación, en la zona del sistema
+     * @param nodeId Nodo (0 a 1023)
+     * @param sequence Secuencia dentro del milisegundo (0 a 4095)
+     * @return Referencia de 13 caracteres en Crockford Base32
+     * @throws IllegalArgumentException si el nodo, la secuencia o el instante están fuera de rango
+     */
+    public static String referenceAt(LocalDateTime issuedAt, long nodeId, long sequence) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID || sequence < 0 || sequence > SEQUENCE_MASK) {
+            throw new IllegalArgumentException("Nodo o secuencia fuera de rango");
+        }
+        long millis = issuedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - EPOCH_MILLIS;
+        if (millis < 0) {
+            throw new IllegalArgumentException("Instante anterior a la época de las referencias");
+        }
+        return encode((millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence);
+    }
+
+    /**
+     * Instante de generación codificado en la referencia, en la zona del sistema
+     * (la misma de {@link LocalDateTime#now()}).
+     *
+     * @param referenceNumber Número de referencia
+     * @return Instante de generación, vacío si la referencia no fue emitida por este generador
+     */
+    public static Optional<LocalDateTime> issuedAt(String referenceNumber) {
+        if (referenceNumber == null || referenceNumber.length() != ENCODED_LENGTH) {
+            return Optional.empty();
+        }
+
+        long id = 0L;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int digit = decodeDigit(referenceNumber.charAt(i));
+            // 13 dígitos base 32 son 65 bits: el primero solo puede aportar los 3 bits bajos
+            if (digit < 0 || (i == 0 && digit > 7)) {
+                return Optional.empty();
+            }
+            id = (id << 5) | digit;
+        }
+
+        long millis = (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+    }
+
+    private static int decodeDigit(char c) {
+        for (int i = 0; i < CROCKFORD_ALPHABET.length; i++) {
+            if (CROCKFORD_ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -4,7 +4,7 @@ import com.ecommerce.davivienda.entity.payment.PaymentReference;
 
 /**
  * Servicio para generación de referencias únicas de pago.
- * Maneja la lógica de negocio para crear referencias UUID únicas.
+ * Maneja la lógica de negocio para crear referencias únicas ordenadas por tiempo.
  *
  * @author Team Ecommerce Davivienda
  * @since 1.0.0
@@ -12,8 +12,8 @@ import com.ecommerce.davivienda.entity.payment.PaymentReference;
 public interface PaymentReferenceService {
 
     /**
-     * Genera un número de referencia único para el pago usando UUID.
-     * Verifica unicidad en base de datos con reintentos.
+     * Genera un número de referencia único para el pago y lo persiste.
+     * La unicidad la garantiza el generador (tiempo + nodo + secuencia), sin consulta previa.
      *
      * @return PaymentReference con número único generado y guardado
      */
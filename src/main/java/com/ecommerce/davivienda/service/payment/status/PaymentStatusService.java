@@ -0,0 +1,35 @@
+package com.ecommerce.davivienda.service.payment.status;
+
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de consulta del estado de pagos por número de referencia.
+ * Soporta long-poll para pagos aceptados en modo asíncrono.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentStatusService {
+
+    /**
+     * Obtiene el estado actual de un pago del usuario autenticado.
+     *
+     * @param referenceNumber Número de referencia del pago
+     * @return PaymentStatusResponseDto con el estado actual
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si el pago no existe o no pertenece al usuario
+     */
+    PaymentStatusResponseDto getPaymentStatus(String referenceNumber);
+
+    /**
+     * Espera hasta {@code waitMs} a que el pago termine su procesamiento y retorna su estado.
+     * Si el pago ya terminó (o waitMs es 0) responde de inmediato.
+     * La propiedad del pago se verifica antes de esperar.
+     *
+     * @param referenceNumber Número de referencia del pago
+     * @param waitMs Espera máxima en milisegundos (acotada por configuración)
+     * @return CompletableFuture con el estado del pago
+     */
+    CompletableFuture<PaymentStatusResponseDto> awaitPaymentStatus(String referenceNumber, long waitMs);
+}
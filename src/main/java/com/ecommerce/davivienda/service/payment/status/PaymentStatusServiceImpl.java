@@ -0,0 +1,70 @@
+package com.ecommerce.davivienda.service.payment.status;
+
+import com.ecommerce.davivienda.config.properties.PaymentAsyncProperties;
+import com.ecommerce.davivienda.dto.payment.PaymentStatusResponseDto;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import com.ecommerce.davivienda.mapper.payment.PaymentMapper;
+import com.ecommerce.davivienda.service.payment.async.PaymentAsyncService;
+import com.ecommerce.davivienda.service.payment.transactional.payment.PaymentPaymentTransactionalService;
+import com.ecommerce.davivienda.util.AuthenticatedUserUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
+/**
+ * Implementación del servicio de consulta de estado de pagos.
+ * El long-poll no bloquea hilos HTTP: se encadena a la señal de finalización del worker
+ * (solo disponible en la instancia que aceptó el pago; en otra instancia responde de inmediato).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentStatusServiceImpl implements PaymentStatusService {
+
+    private final PaymentPaymentTransactionalService paymentTransactionalService;
+    private final PaymentAsyncService paymentAsyncService;
+    private final PaymentAsyncProperties properties;
+    private final PaymentMapper paymentMapper;
+    private final AuthenticatedUserUtil authenticatedUserUtil;
+
+    @Override
+    public PaymentStatusResponseDto getPaymentStatus(String referenceNumber) {
+        String userEmail = authenticatedUserUtil.getCurrentUsername();
+        log.debug("Consultando estado del pago {} para usuario {}", referenceNumber, userEmail);
+
+        return paymentTransactionalService.findPaymentByReferenceAndUser(referenceNumber, userEmail)
+                .map(paymentMapper::toPaymentStatusResponseDto)
+                .orElseThrow(() -> new PaymentException(ERROR_PAYMENT_NOT_FOUND, CODE_PAYMENT_NOT_FOUND));
+    }
+
+    @Override
+    public CompletableFuture<PaymentStatusResponseDto> awaitPaymentStatus(String referenceNumber, long waitMs) {
+        PaymentStatusResponseDto current = getPaymentStatus(referenceNumber);
+        if (Boolean.TRUE.equals(current.getCompleted()) || waitMs <= 0) {
+            return CompletableFuture.completedFuture(current);
+        }
+
+        long boundedWait = Math.min(waitMs, properties.getMaxWaitMs());
+        return paymentAsyncService.completionOf(referenceNumber)
+                .copy()
+                .completeOnTimeout(null, boundedWait, TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> reloadStatus(referenceNumber, current));
+    }
+
+    /**
+     * Relee el estado tras la espera. La propiedad ya fue verificada en el hilo de la solicitud.
+     */
+    private PaymentStatusResponseDto reloadStatus(String referenceNumber, PaymentStatusResponseDto fallback) {
+        return paymentTransactionalService.findPaymentByReference(referenceNumber)
+                .map(paymentMapper::toPaymentStatusResponseDto)
+                .orElse(fallback);
+    }
+}
@@ -15,5 +15,20 @@ public interface PaymentCartTransactionalService {
      * @param cartId ID del carrito a actualizar
      */
     void updateCartStatusToProcessing(Integer cartId);
-}
 
+    /**
+     * Consulta el estado actual del carrito en base de datos.
+     *
+     * @param cartId ID del carrito
+     * @return ID del estado del carrito
+     */
+    Integer findCartStatusId(Integer cartId);
+
+    /**
+     * Intenta adquirir el advisory lock de checkout del carrito en la transacción actual.
+     *
+     * @param cartId ID del carrito
+     * @return true si se adquirió el lock
+     */
+    boolean tryAcquireCheckoutLock(Integer cartId);
+}
@@ -6,6 +6,7 @@ import com.ecommerce.davivienda.repository.cart.CartRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static com.ecommerce.davivienda.constants.Constants.*;
@@ -23,6 +24,8 @@ public class PaymentCartTransactionalServiceImpl implements PaymentCartTransacti
 
     private static final Integer PROCESSING_STATUS_ID = 2; // Estado "Procesando" (según init-ecommerce.sql)
 
+    private static final int CHECKOUT_LOCK_NAMESPACE = 1001; // Primera clave del advisory lock de checkout
+
     private final CartRepository cartRepository;
 
     @Override
@@ -41,5 +44,20 @@ public class PaymentCartTransactionalServiceImpl implements PaymentCartTransacti
 
         log.info("Carrito {} actualizado a estado 'Procesando'", cartId);
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public Integer findCartStatusId(Integer cartId) {
+        return cartRepository.findEstadoCarritoIdByCarritoId(cartId)
+                .orElseThrow(() -> new PaymentException(
+                        ERROR_CART_NOT_FOUND,
+                        CODE_CART_NOT_FOUND
+                ));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAcquireCheckoutLock(Integer cartId) {
+        return cartRepository.tryAdvisoryXactLock(CHECKOUT_LOCK_NAMESPACE, cartId);
+    }
+}
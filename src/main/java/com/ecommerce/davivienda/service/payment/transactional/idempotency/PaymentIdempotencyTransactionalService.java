@@ -0,0 +1,53 @@
+package com.ecommerce.davivienda.service.payment.transactional.idempotency;
+
+import com.ecommerce.davivienda.entity.payment.PaymentIdempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Servicio transaccional para operaciones de persistencia de claves de idempotencia de pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentIdempotencyTransactionalService {
+
+    /**
+     * Busca un registro vigente por usuario y clave.
+     *
+     * @param userEmail Correo del usuario
+     * @param idempotencyKey Clave de idempotencia
+     * @return Optional con el registro si existe y no ha expirado
+     */
+    Optional<PaymentIdempotency> findValid(String userEmail, String idempotencyKey);
+
+    /**
+     * Busca un registro vigente por usuario y clave en la base primaria, sin pasar por la réplica.
+     * Se usa tras un conflicto de clave, cuando la fila recién confirmada puede no haber llegado
+     * aún a la réplica.
+     *
+     * @param userEmail Correo del usuario
+     * @param idempotencyKey Clave de idempotencia
+     * @return Optional con el registro si existe y no ha expirado
+     */
+    Optional<PaymentIdempotency> findValidOnPrimary(String userEmail, String idempotencyKey);
+
+    /**
+     * Reclama una clave: elimina el registro expirado de la misma clave, si la purga aún no lo
+     * borró, y guarda el nuevo forzando el flush para detectar de inmediato una clave duplicada
+     * insertada por otra instancia. Si la otra transacción sigue abierta, el insert espera a que termine.
+     *
+     * @param idempotency Registro a guardar
+     * @return Registro guardado
+     */
+    PaymentIdempotency claim(PaymentIdempotency idempotency);
+
+    /**
+     * Elimina los registros expirados.
+     *
+     * @param now Fecha de corte
+     * @return Número de registros eliminados
+     */
+    int deleteExpired(LocalDateTime now);
+}
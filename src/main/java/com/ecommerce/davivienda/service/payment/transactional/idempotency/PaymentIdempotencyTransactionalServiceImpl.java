@@ -0,0 +1,59 @@
+package com.ecommerce.davivienda.service.payment.transactional.idempotency;
+
+import com.ecommerce.davivienda.entity.payment.PaymentIdempotency;
+import com.ecommerce.davivienda.repository.payment.PaymentIdempotencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementación del servicio transaccional de claves de idempotencia de pago.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyTransactionalServiceImpl implements PaymentIdempotencyTransactionalService {
+
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaymentIdempotency> findValid(String userEmail, String idempotencyKey) {
+        return paymentIdempotencyRepository.findByUserEmailAndIdempotencyKeyAndExpiresAtAfter(
+                userEmail, idempotencyKey, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public Optional<PaymentIdempotency> findValidOnPrimary(String userEmail, String idempotencyKey) {
+        return paymentIdempotencyRepository.findByUserEmailAndIdempotencyKeyAndExpiresAtAfter(
+                userEmail, idempotencyKey, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public PaymentIdempotency claim(PaymentIdempotency idempotency) {
+        log.debug("Reclamando clave de idempotencia: {}", idempotency.getIdempotencyKey());
+        int replaced = paymentIdempotencyRepository.deleteExpiredKey(
+                idempotency.getUserEmail(), idempotency.getIdempotencyKey(), LocalDateTime.now());
+        if (replaced > 0) {
+            log.debug("Registro expirado reemplazado para clave: {}", idempotency.getIdempotencyKey());
+        }
+        return paymentIdempotencyRepository.saveAndFlush(idempotency);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        int deleted = paymentIdempotencyRepository.deleteExpired(now);
+        log.debug("Registros de idempotencia expirados eliminados: {}", deleted);
+        return deleted;
+    }
+}
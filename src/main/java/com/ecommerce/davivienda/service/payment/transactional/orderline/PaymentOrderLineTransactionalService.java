@@ -0,0 +1,33 @@
+package com.ecommerce.davivienda.service.payment.transactional.orderline;
+
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio transaccional para el snapshot de líneas de pedido (historial de compras).
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentOrderLineTransactionalService {
+
+    /**
+     * Guarda las líneas de un pago. Se insertan en lote dentro de la transacción del pago.
+     *
+     * @param orderLines Líneas a guardar
+     */
+    void saveOrderLines(List<OrderLine> orderLines);
+
+    /**
+     * Página del historial de un usuario, de la más reciente a la más antigua.
+     *
+     * @param userRoleId ID del UserRole del comprador
+     * @param afterPaymentDate Fecha de pago de la última línea entregada (null para la primera página)
+     * @param afterOrderLineId ID de la última línea entregada (null para la primera página)
+     * @param limit Máximo de líneas
+     * @return Líneas de la página
+     */
+    List<OrderLine> findHistoryPage(Integer userRoleId, LocalDateTime afterPaymentDate, Integer afterOrderLineId, int limit);
+}
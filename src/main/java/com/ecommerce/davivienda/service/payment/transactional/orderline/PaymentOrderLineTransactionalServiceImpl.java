@@ -0,0 +1,42 @@
+package com.ecommerce.davivienda.service.payment.transactional.orderline;
+
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+import com.ecommerce.davivienda.repository.payment.OrderLineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementación del servicio transaccional de líneas de pedido.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOrderLineTransactionalServiceImpl implements PaymentOrderLineTransactionalService {
+
+    private final OrderLineRepository orderLineRepository;
+
+    @Override
+    @Transactional
+    public void saveOrderLines(List<OrderLine> orderLines) {
+        log.debug("Guardando {} líneas de pedido", orderLines.size());
+        orderLineRepository.saveAll(orderLines);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderLine> findHistoryPage(Integer userRoleId, LocalDateTime afterPaymentDate, Integer afterOrderLineId,
+                                           int limit) {
+        if (afterPaymentDate == null) {
+            return orderLineRepository.findFirstHistoryPage(userRoleId, limit);
+        }
+        return orderLineRepository.findHistoryPageAfter(userRoleId, afterPaymentDate, afterOrderLineId, limit);
+    }
+}
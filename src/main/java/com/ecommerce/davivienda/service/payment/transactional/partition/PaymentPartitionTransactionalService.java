@@ -0,0 +1,38 @@
+package com.ecommerce.davivienda.service.payment.transactional.partition;
+
+import java.time.LocalDate;
+
+/**
+ * Servicio transaccional para el mantenimiento de las particiones mensuales de
+ * referencias, pago, pago_debito y pago_credito.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface PaymentPartitionTransactionalService {
+
+    /**
+     * Crea las particiones mensuales que falten.
+     *
+     * @param from Primer mes
+     * @param months Número de meses desde {@code from}
+     * @return Número de particiones creadas
+     */
+    int createPartitions(LocalDate from, int months);
+
+    /**
+     * Separa las particiones de los meses anteriores a {@code before} y las mueve al esquema de archivo.
+     *
+     * @param before Primer mes que se conserva
+     * @param archiveSchema Esquema de archivo
+     * @return Número de meses archivados
+     */
+    int archivePartitions(LocalDate before, String archiveSchema);
+
+    /**
+     * Cuenta los pagos que cayeron en la partición por defecto.
+     *
+     * @return Número de pagos fuera de las particiones mensuales
+     */
+    long countPaymentsInDefaultPartition();
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.davivienda.service.payment.transactional.partition;
+
+import com.ecommerce.davivienda.repository.payment.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Implementación del servicio transaccional de particiones de pago.
+ * La DDL vive en las funciones crear_particiones_pago y archivar_particiones_pago de
+ * init-ecommerce.sql; cada llamada corre en su propia transacción sobre la BD primaria.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentPartitionTransactionalServiceImpl implements PaymentPartitionTransactionalService {
+
+    private final PaymentRepository paymentRepository;
+
+    @Override
+    @Transactional
+    public int createPartitions(LocalDate from, int months) {
+        log.debug("Verificando particiones de pago desde {} ({} meses)", from, months);
+        return paymentRepository.createPartitions(from, months);
+    }
+
+    @Override
+    @Transactional
+    public int archivePartitions(LocalDate before, String archiveSchema) {
+        log.debug("Archivando particiones de pago anteriores a {} en {}", before, archiveSchema);
+        return paymentRepository.archivePartitions(before, archiveSchema);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPaymentsInDefaultPartition() {
+        return paymentRepository.countInDefaultPartition();
+    }
+}
@@ -3,6 +3,11 @@ package com.ecommerce.davivienda.service.payment.transactional.payment;
 import com.ecommerce.davivienda.entity.payment.Payment;
 import com.ecommerce.davivienda.entity.payment.PaymentCredit;
 import com.ecommerce.davivienda.entity.payment.PaymentDebit;
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Servicio transaccional para operaciones de consulta y persistencia de Payment.
@@ -37,5 +42,76 @@ public interface PaymentPaymentTransactionalService {
      * @return PaymentCredit guardado
      */
     PaymentCredit savePaymentCredit(PaymentCredit paymentCredit);
-}
 
+    /**
+     * Busca un pago por ID y fecha (clave de partición).
+     *
+     * @param paymentId ID del pago
+     * @param paymentDate Fecha del pago
+     * @return Payment encontrado
+     * @throws com.ecommerce.davivienda.exception.payment.PaymentException si no existe
+     */
+    Payment findPayment(Integer paymentId, LocalDateTime paymentDate);
+
+    /**
+     * Busca un pago por número de referencia. La fecha codificada en la referencia limita
+     * la búsqueda a sus particiones; las referencias anteriores al generador actual recorren todas.
+     *
+     * @param referenceNumber Número de referencia
+     * @return Optional con el pago si existe
+     */
+    Optional<Payment> findPaymentByReference(String referenceNumber);
+
+    /**
+     * Busca un pago por número de referencia solo si pertenece al usuario.
+     *
+     * @param referenceNumber Número de referencia
+     * @param userEmail Correo del usuario
+     * @return Optional con el pago si existe y pertenece al usuario
+     */
+    Optional<Payment> findPaymentByReferenceAndUser(String referenceNumber, String userEmail);
+
+    /**
+     * Verifica si el carrito tiene algún pago en el estado indicado.
+     *
+     * @param cartId ID del carrito
+     * @param statusName Nombre del estado de pago
+     * @return true si existe
+     */
+    boolean existsPaymentInStatus(Integer cartId, String statusName);
+
+    /**
+     * Actualiza el estado de un pago.
+     *
+     * @param payment Pago a actualizar
+     * @param status Nuevo estado
+     * @return Payment actualizado
+     */
+    Payment updatePaymentStatus(Payment payment, PaymentStatus status);
+
+    /**
+     * Cambia el estado de un pago solo si sigue en el estado esperado (UPDATE condicional).
+     *
+     * @param paymentId ID del pago
+     * @param paymentDate Fecha del pago
+     * @param expected Estado que debe tener el pago
+     * @param target Estado destino
+     * @return true si el pago cambió de estado
+     */
+    boolean updatePaymentStatusIfCurrent(Integer paymentId, LocalDateTime paymentDate,
+                                         PaymentStatus expected, PaymentStatus target);
+
+    /**
+     * Cambia en bloque el estado de los pagos que siguen en {@code source} con fecha entre
+     * {@code since} y {@code cutoff}, salvo los excluidos.
+     *
+     * @param source Estado actual
+     * @param target Estado destino
+     * @param since Fecha inicial (inclusive)
+     * @param cutoff Fecha de corte (exclusiva)
+     * @param excludedPaymentIds IDs de pagos que no se modifican (puede estar vacío)
+     * @return Número de pagos actualizados
+     */
+    int updateStatusOlderThan(PaymentStatus source, PaymentStatus target, LocalDateTime since, LocalDateTime cutoff,
+                              Collection<Integer> excludedPaymentIds);
+}
@@ -3,14 +3,24 @@ package com.ecommerce.davivienda.service.payment.transactional.payment;
 import com.ecommerce.davivienda.entity.payment.Payment;
 import com.ecommerce.davivienda.entity.payment.PaymentCredit;
 import com.ecommerce.davivienda.entity.payment.PaymentDebit;
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
 import com.ecommerce.davivienda.repository.payment.PaymentCreditRepository;
 import com.ecommerce.davivienda.repository.payment.PaymentDebitRepository;
 import com.ecommerce.davivienda.repository.payment.PaymentRepository;
+import com.ecommerce.davivienda.service.payment.reference.PaymentReferenceGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.ecommerce.davivienda.constants.Constants.*;
+
 /**
  * Implementación del servicio transaccional para operaciones de consulta y persistencia de Payment.
  * Centraliza todas las operaciones de acceso a datos de pagos.
@@ -23,6 +33,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PaymentPaymentTransactionalServiceImpl implements PaymentPaymentTransactionalService {
 
+    /**
+     * Margen alrededor de la fecha de la referencia: los pagos creados antes de que la fecha del
+     * pago se tomara de la referencia pueden diferir en unos milisegundos.
+     */
+    private static final Duration REFERENCE_DATE_MARGIN = Duration.ofDays(1);
+
     private final PaymentRepository paymentRepository;
     private final PaymentDebitRepository paymentDebitRepository;
     private final PaymentCreditRepository paymentCreditRepository;
@@ -67,5 +83,68 @@ public class PaymentPaymentTransactionalServiceImpl implements PaymentPaymentTra
                 savedCredit.getInstallments());
         return savedCredit;
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public Payment findPayment(Integer paymentId, LocalDateTime paymentDate) {
+        return paymentRepository.findByIdAndPaymentDate(paymentId, paymentDate)
+                .orElseThrow(() -> new PaymentException(ERROR_PAYMENT_NOT_FOUND, CODE_PAYMENT_NOT_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Payment> findPaymentByReference(String referenceNumber) {
+        Optional<LocalDateTime> issuedAt = PaymentReferenceGenerator.issuedAt(referenceNumber);
+        if (issuedAt.isEmpty()) {
+            return paymentRepository.findByReferenceNumber(referenceNumber);
+        }
+        return paymentRepository.findByReferenceNumberBetween(referenceNumber,
+                issuedAt.get().minus(REFERENCE_DATE_MARGIN), issuedAt.get().plus(REFERENCE_DATE_MARGIN));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Payment> findPaymentByReferenceAndUser(String referenceNumber, String userEmail) {
+        Optional<LocalDateTime> issuedAt = PaymentReferenceGenerator.issuedAt(referenceNumber);
+        if (issuedAt.isEmpty()) {
+            return paymentRepository.findByReferenceNumberAndUserEmail(referenceNumber, userEmail);
+        }
+        return paymentRepository.findByReferenceNumberAndUserEmailBetween(referenceNumber, userEmail,
+                issuedAt.get().minus(REFERENCE_DATE_MARGIN), issuedAt.get().plus(REFERENCE_DATE_MARGIN));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsPaymentInStatus(Integer cartId, String statusName) {
+        return paymentRepository.existsByCartIdAndStatusName(cartId, statusName);
+    }
+
+    @Override
+    @Transactional
+    public Payment updatePaymentStatus(Payment payment, PaymentStatus status) {
+        log.debug("Actualizando estado del pago {} a '{}'", payment.getPaymentId(), status.getName());
+        payment.setPaymentStatus(status);
+        return paymentRepository.save(payment);
+    }
+
+    @Override
+    @Transactional
+    public boolean updatePaymentStatusIfCurrent(Integer paymentId, LocalDateTime paymentDate,
+                                                PaymentStatus expected, PaymentStatus target) {
+        boolean updated = paymentRepository.updateStatusIfCurrent(paymentId, paymentDate, expected, target) == 1;
+        log.debug("Pago {} de '{}' a '{}': {}", paymentId, expected.getName(), target.getName(),
+                updated ? "actualizado" : "ya no estaba en el estado esperado");
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int updateStatusOlderThan(PaymentStatus source, PaymentStatus target, LocalDateTime since,
+                                     LocalDateTime cutoff, Collection<Integer> excludedPaymentIds) {
+        int updated = excludedPaymentIds.isEmpty()
+                ? paymentRepository.updateStatusOlderThan(source, target, since, cutoff)
+                : paymentRepository.updateStatusOlderThanExcluding(source, target, since, cutoff, excludedPaymentIds);
+        log.debug("Pagos actualizados de '{}' a '{}': {}", source.getName(), target.getName(), updated);
+        return updated;
+    }
+}
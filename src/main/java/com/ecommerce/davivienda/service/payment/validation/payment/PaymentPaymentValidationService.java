@@ -27,6 +27,20 @@ public interface PaymentPaymentValidationService {
      */
     PaymentStatus findPendingStatus();
 
+    /**
+     * Busca el estado de pago "Procesando" (pago aceptado en modo asíncrono).
+     *
+     * @return PaymentStatus con estado Procesando
+     */
+    PaymentStatus findProcessingStatus();
+
+    /**
+     * Busca el estado de pago "Rechazado".
+     *
+     * @return PaymentStatus con estado Rechazado
+     */
+    PaymentStatus findRejectedStatus();
+
     /**
      * Valida el número de cuotas según el tipo de pago.
      *
@@ -3,8 +3,7 @@ package com.ecommerce.davivienda.service.payment.validation.payment;
 import com.ecommerce.davivienda.entity.payment.PaymentStatus;
 import com.ecommerce.davivienda.entity.payment.PaymentType;
 import com.ecommerce.davivienda.exception.payment.PaymentException;
-import com.ecommerce.davivienda.repository.payment.PaymentStatusRepository;
-import com.ecommerce.davivienda.repository.payment.PaymentTypeRepository;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,10 +24,8 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
 
     private static final String PAYMENT_TYPE_DEBIT = "debito";
     private static final String PAYMENT_TYPE_CREDIT = "credito";
-    private static final String PAYMENT_STATUS_PENDING = "Pendiente";
 
-    private final PaymentTypeRepository paymentTypeRepository;
-    private final PaymentStatusRepository paymentStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public PaymentType validatePaymentType(String paymentTypeStr) {
@@ -46,7 +43,7 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
             throw new PaymentException(ERROR_INVALID_PAYMENT_TYPE, CODE_INVALID_PAYMENT_TYPE);
         }
 
-        PaymentType paymentType = paymentTypeRepository.findByPaymentType(normalizedType)
+        PaymentType paymentType = referenceDataRegistry.findPaymentType(normalizedType)
                 .orElseThrow(() -> {
                     log.error("Tipo de pago no encontrado en BD: {}", normalizedType);
                     return new PaymentException(ERROR_INVALID_PAYMENT_TYPE, CODE_INVALID_PAYMENT_TYPE);
@@ -60,7 +57,7 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
     public PaymentStatus findPendingStatus() {
         log.debug("Buscando estado de pago 'Pendiente'");
 
-        PaymentStatus status = paymentStatusRepository.findByName(PAYMENT_STATUS_PENDING)
+        PaymentStatus status = referenceDataRegistry.findPaymentStatusByName(PAYMENT_STATUS_PENDING)
                 .orElseThrow(() -> {
                     log.error("Estado de pago 'Pendiente' no encontrado en BD");
                     return new PaymentException(ERROR_PAYMENT_STATUS_NOT_FOUND, CODE_PAYMENT_STATUS_NOT_FOUND);
@@ -70,6 +67,16 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
         return status;
     }
 
+    @Override
+    public PaymentStatus findProcessingStatus() {
+        return findStatusByName(PAYMENT_STATUS_PROCESSING);
+    }
+
+    @Override
+    public PaymentStatus findRejectedStatus() {
+        return findStatusByName(PAYMENT_STATUS_REJECTED);
+    }
+
     @Override
     public Integer validateInstallments(Integer installments, String paymentType) {
         log.debug("Validando cuotas: {} para tipo: {}", installments, paymentType);
@@ -100,5 +107,18 @@ public class PaymentPaymentValidationServiceImpl implements PaymentPaymentValida
 
         return 1;
     }
-}
 
+    /**
+     * Busca un estado de pago por nombre.
+     *
+     * @param statusName Nombre del estado
+     * @return PaymentStatus encontrado
+     */
+    private PaymentStatus findStatusByName(String statusName) {
+        return referenceDataRegistry.findPaymentStatusByName(statusName)
+                .orElseThrow(() -> {
+                    log.error("Estado de pago '{}' no encontrado en BD", statusName);
+                    return new PaymentException(ERROR_PAYMENT_STATUS_NOT_FOUND, CODE_PAYMENT_STATUS_NOT_FOUND);
+                });
+    }
+}
@@ -50,10 +50,9 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public ProductResponse createProduct(ProductRequest request) {
-        log.info("Creando producto: {}", request.getName());
+        log.debug("Creando producto: {}", request.getName());
 
-        validateCreateRequest(request);
-        Category category = categoryValidationService.findCategoryByNameOrThrow(request.getCategoryName());
+        Category category = validateCreateRequest(request);
 
         Product product = productMapper.toEntity(request);
         product.setCategoria(category);
@@ -68,17 +67,18 @@ public class ProductServiceImpl implements ProductService {
         return productMapper.toResponseDto(savedProduct);
     }
 
-    private void validateCreateRequest(ProductRequest request) {
+    private Category validateCreateRequest(ProductRequest request) {
         productValidationService.validateProductNameNotExists(request.getName());
         commonValidationService.validatePrices(request);
         Category category = categoryValidationService.findCategoryByNameOrThrow(request.getCategoryName());
         categoryValidationService.validateCategoryActive(category);
+        return category;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductById(Integer id) {
-        log.info("Obteniendo producto por ID: {}", id);
+        log.debug("Obteniendo producto por ID: {}", id);
 
         Product product = productValidationService.findProductByIdOrThrow(id);
         return productMapper.toResponseDto(product);
@@ -87,7 +87,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
-        log.info("Listando todos los productos");
+        log.debug("Listando todos los productos");
 
         List<Product> products = transactionalService.findAllProducts();
         return products.stream()
@@ -98,7 +98,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getActiveProducts() {
-        log.info("Listando productos activos");
+        log.debug("Listando productos activos");
 
         List<Product> products = transactionalService.findProductsByStatus(1); 
         return products.stream()
@@ -109,7 +109,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> searchProducts(ProductFilterDto filter) {
-        log.info("Buscando productos con filtros: {}", filter);
+        log.debug("Buscando productos con filtros: {}", filter);
 
         Specification<Product> spec = productMapper.buildSpecificationFromFilter(filter);
         List<Product> products = transactionalService.findAllProducts(spec);
@@ -132,7 +132,7 @@ public class ProductServiceImpl implements ProductService {
             String sortBy,
             String sortDir) {
 
-        log.info("Buscando productos paginados: page={}, size={}", page, size);
+        log.debug("Buscando productos paginados: page={}, size={}", page, size);
 
         Specification<Product> spec = productMapper.buildSpecificationFromParams(
                 categoryId, minPrice, maxPrice, active, searchTerm);
@@ -145,7 +145,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public void updateProduct(Integer id, ProductUpdateRequest request) {
-        log.info("Actualizando producto con ID: {}", id);
+        log.debug("Actualizando producto con ID: {}", id);
 
         Product existingProduct = productValidationService.findProductByIdOrThrow(id);
         validateUpdateRequest(request, id);
@@ -3,7 +3,7 @@ package com.ecommerce.davivienda.service.product.validation.category;
 import com.ecommerce.davivienda.constants.Constants;
 import com.ecommerce.davivienda.entity.product.Category;
 import com.ecommerce.davivienda.exception.product.ProductException;
-import com.ecommerce.davivienda.service.product.transactional.category.ProductCategoryTransactionalService;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,13 +20,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ProductCategoryValidationServiceImpl implements ProductCategoryValidationService {
 
-    private final ProductCategoryTransactionalService transactionalService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
 
 
     @Override
     public Category findCategoryByNameOrThrow(String categoryName) {
-        return transactionalService.findCategoryByName(categoryName)
+        return referenceDataRegistry.findCategoryByName(categoryName)
                 .orElseThrow(() -> {
                     log.warn("Categoría no encontrada con nombre: {}", categoryName);
                     return new ProductException(Constants.ERROR_CATEGORY_NOT_FOUND, Constants.CODE_CATEGORY_NOT_FOUND);
@@ -0,0 +1,37 @@
+package com.ecommerce.davivienda.service.recommendation;
+
+import com.ecommerce.davivienda.dto.product.RelatedProductDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+
+import java.util.List;
+
+/**
+ * Servicio de recomendaciones "comprados frecuentemente juntos".
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface RecommendationService {
+
+    /**
+     * Productos comprados frecuentemente junto con un producto. Solo lee la tabla en memoria, sin BD.
+     *
+     * @param productId ID del producto
+     * @param limit Máximo de productos (opcional, por defecto y como tope recommendation.top-k)
+     * @return Productos relacionados de mayor a menor conteo; vacía si no hay datos del producto
+     */
+    List<RelatedProductDto> getRelatedProducts(Integer productId, Integer limit);
+
+    /**
+     * Suma un carrito pagado a los conteos cuando confirma la transacción actual.
+     * Debe llamarse dentro de la transacción del pago.
+     *
+     * @param items Items del carrito pagado
+     */
+    void recordPurchaseAfterCommit(List<CartItem> items);
+
+    /**
+     * Publica los productos cuyos conteos cambiaron desde la última publicación.
+     */
+    void publishPending();
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.davivienda.service.recommendation;
+
+import com.ecommerce.davivienda.config.properties.RecommendationProperties;
+import com.ecommerce.davivienda.dto.product.RelatedProductDto;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.service.recommendation.index.RelatedProductsIndex;
+import com.ecommerce.davivienda.service.recommendation.index.RelatedProductsTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del servicio de recomendaciones sobre {@link RelatedProductsIndex}.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final RelatedProductsIndex relatedProductsIndex;
+    private final RecommendationProperties properties;
+
+    @Override
+    public List<RelatedProductDto> getRelatedProducts(Integer productId, Integer limit) {
+        int max = limit == null || limit < 1 ? properties.getTopK() : Math.min(limit, properties.getTopK());
+
+        RelatedProductsTable table = relatedProductsIndex.table();
+        int[] ids = table.relatedIds(productId, max);
+        int[] scores = table.scores(productId, max);
+
+        List<RelatedProductDto> related = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            related.add(new RelatedProductDto(ids[i], scores[i]));
+        }
+        return related;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPurchaseAfterCommit(List<CartItem> items) {
+        if (items.size() < 2) {
+            return;
+        }
+
+        int[] productIds = items.stream()
+                .mapToInt(item -> item.getProduct().getProductoId())
+                .toArray();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relatedProductsIndex.recordCart(productIds);
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${recommendation.publish-interval-ms:30000}")
+    public void publishPending() {
+        relatedProductsIndex.publishChanged();
+    }
+}
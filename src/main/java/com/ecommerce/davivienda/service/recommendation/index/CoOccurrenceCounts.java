@@ -0,0 +1,79 @@
+package com.ecommerce.davivienda.service.recommendation.index;
+
+import com.ecommerce.davivienda.util.IntIntHashMap;
+import com.ecommerce.davivienda.util.IntObjectHashMap;
+
+/**
+ * Conteos de co-ocurrencia entre productos: cuántos carritos pagados contienen a la vez cada par.
+ *
+ * <p>Por producto guarda un {@link IntIntHashMap} vecino → conteo, sin objetos por par.
+ * Es mutable y no thread-safe: la construye el rebuild en un solo hilo y luego la protege
+ * {@link RelatedProductsIndex}.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class CoOccurrenceCounts {
+
+    private final IntObjectHashMap<IntIntHashMap> neighbors;
+    private long carts;
+
+    public CoOccurrenceCounts() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedProducts Número de productos esperado
+     */
+    public CoOccurrenceCounts(int expectedProducts) {
+        this.neighbors = new IntObjectHashMap<>(expectedProducts);
+    }
+
+    /**
+     * Cuenta un carrito: suma 1 a cada par de productos distintos que contiene.
+     *
+     * @param productIds IDs de producto del carrito (sin repetidos)
+     * @param length Número de posiciones usadas de productIds
+     */
+    public void addCart(int[] productIds, int length) {
+        if (length < 2) {
+            return;
+        }
+        carts++;
+        for (int i = 0; i < length; i++) {
+            IntIntHashMap row = neighbors.computeIfAbsent(productIds[i], key -> new IntIntHashMap());
+            for (int j = 0; j < length; j++) {
+                if (i != j) {
+                    row.addTo(productIds[j], 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Vecinos de un producto.
+     *
+     * @param productId ID del producto
+     * @return Mapa vecino → conteo, o null si el producto no co-ocurre con ninguno
+     */
+    public IntIntHashMap neighborsOf(int productId) {
+        return neighbors.get(productId);
+    }
+
+    /**
+     * Recorre los productos con al menos un vecino.
+     *
+     * @param consumer Receptor de cada producto y sus vecinos
+     */
+    public void forEachProduct(IntObjectHashMap.IntObjectConsumer<IntIntHashMap> consumer) {
+        neighbors.forEach(consumer);
+    }
+
+    public int productCount() {
+        return neighbors.size();
+    }
+
+    public long cartCount() {
+        return carts;
+    }
+}
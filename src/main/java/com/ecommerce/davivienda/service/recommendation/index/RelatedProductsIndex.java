@@ -0,0 +1,163 @@
+package com.ecommerce.davivienda.service.recommendation.index;
+
+import com.ecommerce.davivienda.config.properties.RecommendationProperties;
+import com.ecommerce.davivienda.util.IntIntHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.ecommerce.davivienda.constants.Constants.METRIC_RECOMMENDATION_PRODUCTS;
+
+/**
+ * Índice en memoria de productos relacionados.
+ *
+ * <p>Las lecturas solo leen la {@link RelatedProductsTable} publicada (campo volatile, sin lock ni BD).
+ * Las escrituras (carritos pagados, rebuild) actualizan los conteos bajo un lock y marcan los
+ * productos afectados; {@link #publishChanged()} recalcula solo esas filas y publica una tabla nueva.</p>
+ *
+ * <p>Durante un rebuild los carritos nuevos se cuentan en los conteos vigentes y se guardan para
+ * repetirlos sobre los conteos nuevos. Un carrito pagado mientras el rebuild lee puede quedar contado
+ * dos veces; para recomendaciones esa diferencia es despreciable.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RelatedProductsIndex {
+
+    private final RecommendationProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile RelatedProductsTable table = RelatedProductsTable.EMPTY;
+
+    // Protegidos por lock
+    private CoOccurrenceCounts counts = new CoOccurrenceCounts();
+    private IntIntHashMap changed = new IntIntHashMap();
+    private boolean rebuilding;
+    private final List<int[]> cartsDuringRebuild = new ArrayList<>();
+
+    public RelatedProductsIndex(RecommendationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder(METRIC_RECOMMENDATION_PRODUCTS, this, index -> index.table.productCount())
+                .description("Productos con recomendaciones publicadas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tabla publicada.
+     *
+     * @return Tabla vigente (vacía antes del primer rebuild)
+     */
+    public RelatedProductsTable table() {
+        return table;
+    }
+
+    /**
+     * Cuenta un carrito pagado. Se publica en el siguiente {@link #publishChanged()}.
+     *
+     * @param productIds IDs de producto del carrito (sin repetidos)
+     */
+    public void recordCart(int[] productIds) {
+        if (productIds.length < 2 || productIds.length > properties.getMaxItemsPerCart()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            counts.addCart(productIds, productIds.length);
+            for (int productId : productIds) {
+                changed.addTo(productId, 1);
+            }
+            if (rebuilding) {
+                cartsDuringRebuild.add(productIds);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publica una tabla nueva con las filas de los productos cambiados desde la última publicación.
+     */
+    public void publishChanged() {
+        lock.lock();
+        try {
+            if (changed.isEmpty()) {
+                return;
+            }
+            int[] ids = new int[changed.size()];
+            int[] position = {0};
+            changed.forEach((productId, ignored) -> ids[position[0]++] = productId);
+            Arrays.sort(ids);
+            changed = new IntIntHashMap();
+
+            table = table.withChanged(counts, ids, properties.getTopK(), properties.getMinSupport());
+            log.debug("Recomendaciones actualizadas para {} productos", ids.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marca el inicio de un rebuild: desde aquí los carritos nuevos se guardan para repetirlos.
+     */
+    public void startRebuild() {
+        lock.lock();
+        try {
+            rebuilding = true;
+            cartsDuringRebuild.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta un rebuild fallido; los conteos vigentes siguen en uso.
+     */
+    public void abortRebuild() {
+        lock.lock();
+        try {
+            rebuilding = false;
+            cartsDuringRebuild.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reemplaza los conteos por los del rebuild y publica una tabla completa. La tabla se arma fuera
+     * del lock (los conteos nuevos aún no son compartidos); los carritos llegados mientras corría el
+     * rebuild se suman después y sus productos se publican en el siguiente {@link #publishChanged()}.
+     *
+     * @param rebuilt Conteos recalculados desde la BD
+     */
+    public void replace(CoOccurrenceCounts rebuilt) {
+        RelatedProductsTable rebuiltTable =
+                RelatedProductsTable.build(rebuilt, properties.getTopK(), properties.getMinSupport());
+
+        lock.lock();
+        try {
+            changed = new IntIntHashMap();
+            for (int[] cart : cartsDuringRebuild) {
+                rebuilt.addCart(cart, cart.length);
+                for (int productId : cart) {
+                    changed.addTo(productId, 1);
+                }
+            }
+            cartsDuringRebuild.clear();
+            rebuilding = false;
+            counts = rebuilt;
+            table = rebuiltTable;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
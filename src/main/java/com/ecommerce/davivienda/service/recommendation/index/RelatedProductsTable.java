@@ -0,0 +1,229 @@
+package com.ecommerce.davivienda.service.recommendation.index;
+
+import com.ecommerce.davivienda.util.IntIntHashMap;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Tabla inmutable de productos relacionados ("comprados juntos frecuentemente").
+ *
+ * <p>Por cada producto guarda sus top-k vecinos ordenados de mayor a menor conteo (empate: menor ID).
+ * Los IDs de producto van ordenados en un int[] y la búsqueda es binaria, sin objetos por consulta.
+ * Se publica completa en un campo volatile; las filas no cambiadas se comparten entre versiones.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class RelatedProductsTable {
+
+    private static final int[] NO_VALUES = new int[0];
+
+    /**
+     * Tabla vacía (antes del primer rebuild).
+     */
+    public static final RelatedProductsTable EMPTY =
+            new RelatedProductsTable(NO_VALUES, new int[0][], new int[0][], Instant.EPOCH);
+
+    private final int[] productIds;
+    private final int[][] relatedIds;
+    private final int[][] scores;
+    private final Instant builtAt;
+
+    private RelatedProductsTable(int[] productIds, int[][] relatedIds, int[][] scores, Instant builtAt) {
+        this.productIds = productIds;
+        this.relatedIds = relatedIds;
+        this.scores = scores;
+        this.builtAt = builtAt;
+    }
+
+    /**
+     * Construye la tabla completa a partir de los conteos.
+     *
+     * @param counts Conteos de co-ocurrencia
+     * @param topK Vecinos por producto
+     * @param minSupport Conteo mínimo para publicar un vecino
+     * @return Tabla nueva
+     */
+    public static RelatedProductsTable build(CoOccurrenceCounts counts, int topK, int minSupport) {
+        int[] ids = new int[counts.productCount()];
+        int[] position = {0};
+        counts.forEachProduct((productId, neighbors) -> ids[position[0]++] = productId);
+        Arrays.sort(ids);
+
+        int[][] related = new int[ids.length][];
+        int[][] relatedScores = new int[ids.length][];
+        for (int i = 0; i < ids.length; i++) {
+            int[][] row = topK(counts.neighborsOf(ids[i]), topK, minSupport);
+            related[i] = row[0];
+            relatedScores[i] = row[1];
+        }
+        return new RelatedProductsTable(ids, related, relatedScores, Instant.now());
+    }
+
+    /**
+     * Nueva versión de la tabla recalculando solo los productos indicados; el resto de filas se reutiliza.
+     *
+     * @param counts Conteos de co-ocurrencia actuales
+     * @param changed IDs de producto con conteos cambiados, ordenados y sin repetidos
+     * @param topK Vecinos por producto
+     * @param minSupport Conteo mínimo para publicar un vecino
+     * @return Tabla nueva
+     */
+    public RelatedProductsTable withChanged(CoOccurrenceCounts counts, int[] changed, int topK, int minSupport) {
+        // Unión ordenada de los productos actuales y los cambiados
+        int[] ids = new int[productIds.length + changed.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < productIds.length || j < changed.length) {
+            int next;
+            if (j == changed.length || (i < productIds.length && productIds[i] < changed[j])) {
+                next = productIds[i++];
+            } else if (i == productIds.length || changed[j] < productIds[i]) {
+                next = changed[j++];
+            } else {
+                next = productIds[i++];
+                j++;
+            }
+            ids[size++] = next;
+        }
+        ids = Arrays.copyOf(ids, size);
+
+        int[][] related = new int[size][];
+        int[][] relatedScores = new int[size][];
+        for (int k = 0; k < size; k++) {
+            int productId = ids[k];
+            int previous = Arrays.binarySearch(productIds, productId);
+            if (previous >= 0 && Arrays.binarySearch(changed, productId) < 0) {
+                related[k] = relatedIds[previous];
+                relatedScores[k] = scores[previous];
+            } else {
+                int[][] row = topK(counts.neighborsOf(productId), topK, minSupport);
+                related[k] = row[0];
+                relatedScores[k] = row[1];
+            }
+        }
+        return new RelatedProductsTable(ids, related, relatedScores, Instant.now());
+    }
+
+    /**
+     * Productos relacionados de un producto.
+     *
+     * @param productId ID del producto
+     * @param limit Máximo de productos a devolver
+     * @return IDs relacionados de mayor a menor conteo (copia)
+     */
+    public int[] relatedIds(int productId, int limit) {
+        int index = Arrays.binarySearch(productIds, productId);
+        return index < 0 ? NO_VALUES : Arrays.copyOf(relatedIds[index], Math.min(limit, relatedIds[index].length));
+    }
+
+    /**
+     * Conteos de co-ocurrencia alineados con {@link #relatedIds(int, int)}.
+     *
+     * @param productId ID del producto
+     * @param limit Máximo de valores a devolver
+     * @return Conteos de mayor a menor (copia)
+     */
+    public int[] scores(int productId, int limit) {
+        int index = Arrays.binarySearch(productIds, productId);
+        return index < 0 ? NO_VALUES : Arrays.copyOf(scores[index], Math.min(limit, scores[index].length));
+    }
+
+    public int productCount() {
+        return productIds.length;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Top-k vecinos por conteo con un min-heap acotado de k posiciones sobre arrays primitivos:
+     * O(n log k) y sin ordenar todos los vecinos.
+     *
+     * @return {ids, conteos} de mayor a menor conteo
+     */
+    static int[][] topK(IntIntHashMap neighbors, int k, int minSupport) {
+        if (neighbors == null || neighbors.isEmpty() || k <= 0) {
+            return new int[][]{NO_VALUES, NO_VALUES};
+        }
+
+        int[] heapIds = new int[k];
+        int[] heapScores = new int[k];
+        int[] heapSize = {0};
+
+        neighbors.forEach((neighborId, score) -> {
+            if (score < minSupport) {
+                return;
+            }
+            if (heapSize[0] < k) {
+                heapIds[heapSize[0]] = neighborId;
+                heapScores[heapSize[0]] = score;
+                siftUp(heapIds, heapScores, heapSize[0]++);
+            } else if (better(score, neighborId, heapScores[0], heapIds[0])) {
+                heapIds[0] = neighborId;
+                heapScores[0] = score;
+                siftDown(heapIds, heapScores, heapSize[0]);
+            }
+        });
+
+        // Extraer del heap deja el peor al final: se llena de atrás hacia adelante
+        int size = heapSize[0];
+        int[] ids = new int[size];
+        int[] values = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            ids[last] = heapIds[0];
+            values[last] = heapScores[0];
+            heapIds[0] = heapIds[last];
+            heapScores[0] = heapScores[last];
+            siftDown(heapIds, heapScores, last);
+        }
+        return new int[][]{ids, values};
+    }
+
+    /**
+     * true si (score, id) va antes que (otherScore, otherId): mayor conteo, y ante empate menor ID.
+     */
+    private static boolean better(int score, int id, int otherScore, int otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private static void siftUp(int[] ids, int[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(ids, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] ids, int[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && better(scores[left], ids[left], scores[right], ids[right]) ? right : left;
+            if (!better(scores[index], ids[index], scores[worst], ids[worst])) {
+                return;
+            }
+            swap(ids, scores, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] ids, int[] scores, int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        int score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
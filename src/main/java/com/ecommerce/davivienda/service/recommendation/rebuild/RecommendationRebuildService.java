@@ -0,0 +1,18 @@
+package com.ecommerce.davivienda.service.recommendation.rebuild;
+
+/**
+ * Servicio que recalcula desde la BD los conteos de co-ocurrencia y publica la tabla completa.
+ * Entre rebuilds la tabla se mantiene con los pagos nuevos de forma incremental.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface RecommendationRebuildService {
+
+    /**
+     * Ejecuta un rebuild completo. Si ya hay uno en curso no hace nada.
+     *
+     * @return true si se ejecutó
+     */
+    boolean rebuild();
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.davivienda.service.recommendation.rebuild;
+
+import com.ecommerce.davivienda.config.properties.RecommendationProperties;
+import com.ecommerce.davivienda.service.recommendation.index.CoOccurrenceCounts;
+import com.ecommerce.davivienda.service.recommendation.index.RelatedProductsIndex;
+import com.ecommerce.davivienda.service.recommendation.transactional.RecommendationTransactionalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementación del rebuild de recomendaciones.
+ *
+ * <p>El primer rebuild se programa al quedar lista la aplicación, en el scheduler, para no retrasar
+ * el arranque; hasta que termina el endpoint responde sin recomendaciones. Después se repite según
+ * recommendation.rebuild-cron.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationRebuildServiceImpl implements RecommendationRebuildService {
+
+    private final RecommendationTransactionalService recommendationTransactionalService;
+    private final RelatedProductsIndex relatedProductsIndex;
+    private final RecommendationProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Programa el rebuild inicial.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleInitialRebuild() {
+        taskScheduler.schedule(this::scheduledRebuild, Instant.now());
+    }
+
+    /**
+     * Rebuild periódico.
+     */
+    @Scheduled(cron = "${recommendation.rebuild-cron:0 0 3 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Fallo el rebuild de recomendaciones: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Rebuild de recomendaciones omitido: ya hay uno en curso");
+            return false;
+        }
+
+        long start = System.nanoTime();
+        relatedProductsIndex.startRebuild();
+        try {
+            CoOccurrenceCounts counts = recommendationTransactionalService.loadCoOccurrences(properties.getMaxItemsPerCart());
+            relatedProductsIndex.replace(counts);
+        } catch (RuntimeException e) {
+            relatedProductsIndex.abortRebuild();
+            throw e;
+        } finally {
+            running.set(false);
+        }
+
+        log.info("Recomendaciones publicadas para {} productos en {} ms",
+                relatedProductsIndex.table().productCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.davivienda.service.recommendation.transactional;
+
+import com.ecommerce.davivienda.service.recommendation.index.CoOccurrenceCounts;
+
+/**
+ * Servicio transaccional de lectura para las recomendaciones.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface RecommendationTransactionalService {
+
+    /**
+     * Recorre en streaming los productos de todos los carritos pagados y cuenta sus co-ocurrencias.
+     * Ignora los carritos con más de maxItemsPerCart productos.
+     *
+     * @param maxItemsPerCart Máximo de productos por carrito
+     * @return Conteos nuevos
+     */
+    CoOccurrenceCounts loadCoOccurrences(int maxItemsPerCart);
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.davivienda.service.recommendation.transactional;
+
+import com.ecommerce.davivienda.repository.cart.CartItemRepository;
+import com.ecommerce.davivienda.service.recommendation.index.CoOccurrenceCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.ecommerce.davivienda.constants.Constants.SALE_PAYMENT_STATUSES;
+
+/**
+ * Implementación del servicio transaccional de recomendaciones.
+ * La lectura es de solo lectura, así que con réplica configurada se ejecuta contra ella.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationTransactionalServiceImpl implements RecommendationTransactionalService {
+
+    private final CartItemRepository cartItemRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CoOccurrenceCounts loadCoOccurrences(int maxItemsPerCart) {
+        CoOccurrenceCounts counts = new CoOccurrenceCounts();
+        // Una posición más que el máximo para detectar los carritos que lo superan
+        int[] cart = new int[maxItemsPerCart + 1];
+        int size = 0;
+        int currentCartId = 0;
+        long rows = 0;
+        long skippedCarts = 0;
+
+        try (Stream<Object[]> stream = cartItemRepository.streamPaidCartProductIds(SALE_PAYMENT_STATUSES)) {
+            Iterator<Object[]> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                int cartId = (Integer) row[0];
+                int productId = (Integer) row[1];
+                rows++;
+
+                if (cartId != currentCartId) {
+                    skippedCarts += flushCart(counts, cart, size, maxItemsPerCart);
+                    currentCartId = cartId;
+                    size = 0;
+                }
+                if (size < cart.length) {
+                    cart[size++] = productId;
+                }
+            }
+            skippedCarts += flushCart(counts, cart, size, maxItemsPerCart);
+        }
+
+        log.info("Co-ocurrencias calculadas: {} filas, {} carritos, {} productos, {} carritos ignorados por tamaño",
+                rows, counts.cartCount(), counts.productCount(), skippedCarts);
+        return counts;
+    }
+
+    private static int flushCart(CoOccurrenceCounts counts, int[] cart, int size, int maxItemsPerCart) {
+        if (size > maxItemsPerCart) {
+            return 1;
+        }
+        counts.addCart(cart, size);
+        return 0;
+    }
+}
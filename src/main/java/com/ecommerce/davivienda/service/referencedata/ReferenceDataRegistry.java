@@ -0,0 +1,109 @@
+package com.ecommerce.davivienda.service.referencedata;
+
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+
+import java.util.Optional;
+
+/**
+ * Registro en memoria de los datos de referencia (roles, tipos de documento, estados de usuario,
+ * categorías, tipos y estados de pago).
+ * Se carga al iniciar la aplicación y se reemplaza completo en cada recarga; las búsquedas
+ * por nombre o código no distinguen mayúsculas ni espacios al inicio o final.
+ * Cada búsqueda devuelve una copia desacoplada de la instantánea: el llamador puede asociarla
+ * a otras entidades o modificarla sin afectar al registro ni a otros hilos.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public interface ReferenceDataRegistry {
+
+    /**
+     * Busca un rol por ID.
+     *
+     * @param roleId ID del rol
+     * @return Optional con el rol si existe
+     */
+    Optional<Role> findRoleById(Integer roleId);
+
+    /**
+     * Busca un rol por nombre.
+     *
+     * @param roleName Nombre del rol
+     * @return Optional con el rol si existe
+     */
+    Optional<Role> findRoleByName(String roleName);
+
+    /**
+     * Busca un tipo de documento por ID.
+     *
+     * @param documentTypeId ID del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeById(Integer documentTypeId);
+
+    /**
+     * Busca un tipo de documento por código (ej: CC).
+     *
+     * @param code Código del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeByCode(String code);
+
+    /**
+     * Busca un tipo de documento por código y, si no existe, por nombre.
+     *
+     * @param codeOrName Código o nombre del tipo de documento
+     * @return Optional con el tipo de documento si existe
+     */
+    Optional<DocumentType> findDocumentTypeByCodeOrName(String codeOrName);
+
+    /**
+     * Busca un estado de usuario por ID.
+     *
+     * @param statusId ID del estado
+     * @return Optional con el estado si existe
+     */
+    Optional<UserStatus> findUserStatusById(Integer statusId);
+
+    /**
+     * Busca un estado de usuario por nombre.
+     *
+     * @param statusName Nombre del estado
+     * @return Optional con el estado si existe
+     */
+    Optional<UserStatus> findUserStatusByName(String statusName);
+
+    /**
+     * Busca una categoría por nombre.
+     *
+     * @param categoryName Nombre de la categoría
+     * @return Optional con la categoría si existe
+     */
+    Optional<Category> findCategoryByName(String categoryName);
+
+    /**
+     * Busca un tipo de pago por su código (debito o credito).
+     *
+     * @param paymentType Código del tipo de pago
+     * @return Optional con el tipo de pago si existe
+     */
+    Optional<PaymentType> findPaymentType(String paymentType);
+
+    /**
+     * Busca un estado de pago por nombre.
+     *
+     * @param statusName Nombre del estado de pago
+     * @return Optional con el estado si existe
+     */
+    Optional<PaymentStatus> findPaymentStatusByName(String statusName);
+
+    /**
+     * Recarga todos los datos de referencia desde base de datos y reemplaza el registro actual.
+     */
+    void refresh();
+}
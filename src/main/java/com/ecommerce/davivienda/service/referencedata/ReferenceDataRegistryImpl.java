@@ -0,0 +1,245 @@
+package com.ecommerce.davivienda.service.referencedata;
+
+import com.ecommerce.davivienda.entity.payment.PaymentStatus;
+import com.ecommerce.davivienda.entity.payment.PaymentType;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.user.DocumentType;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.UserStatus;
+import com.ecommerce.davivienda.repository.payment.PaymentStatusRepository;
+import com.ecommerce.davivienda.repository.payment.PaymentTypeRepository;
+import com.ecommerce.davivienda.repository.product.CategoryRepository;
+import com.ecommerce.davivienda.repository.user.DocumentTypeRepository;
+import com.ecommerce.davivienda.repository.user.RoleRepository;
+import com.ecommerce.davivienda.repository.user.UserStatusRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Implementación del registro de datos de referencia.
+ * Mantiene una instantánea inmutable en una referencia volátil: las lecturas no se bloquean
+ * y cada recarga construye una instantánea nueva que reemplaza a la anterior de forma atómica.
+ * Las entidades de la instantánea nunca salen del registro: cada búsqueda devuelve una copia.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataRegistryImpl implements ReferenceDataRegistry {
+
+    private final RoleRepository roleRepository;
+    private final DocumentTypeRepository documentTypeRepository;
+    private final UserStatusRepository userStatusRepository;
+    private final CategoryRepository categoryRepository;
+    private final PaymentTypeRepository paymentTypeRepository;
+    private final PaymentStatusRepository paymentStatusRepository;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    @Override
+    public Optional<Role> findRoleById(Integer roleId) {
+        return Optional.ofNullable(snapshot.rolesById.get(roleId)).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<Role> findRoleByName(String roleName) {
+        return lookup(snapshot.rolesByName, roleName).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeById(Integer documentTypeId) {
+        return Optional.ofNullable(snapshot.documentTypesById.get(documentTypeId))
+                .map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeByCode(String code) {
+        return lookup(snapshot.documentTypesByCode, code).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<DocumentType> findDocumentTypeByCodeOrName(String codeOrName) {
+        Snapshot current = snapshot;
+        return lookup(current.documentTypesByCode, codeOrName)
+                .or(() -> lookup(current.documentTypesByName, codeOrName))
+                .map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<UserStatus> findUserStatusById(Integer statusId) {
+        return Optional.ofNullable(snapshot.userStatusesById.get(statusId)).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<UserStatus> findUserStatusByName(String statusName) {
+        return lookup(snapshot.userStatusesByName, statusName).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<Category> findCategoryByName(String categoryName) {
+        return lookup(snapshot.categoriesByName, categoryName).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<PaymentType> findPaymentType(String paymentType) {
+        return lookup(snapshot.paymentTypesByCode, paymentType).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    public Optional<PaymentStatus> findPaymentStatusByName(String statusName) {
+        return lookup(snapshot.paymentStatusesByName, statusName).map(ReferenceDataRegistryImpl::copy);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${reference-data.refresh-interval-ms:300000}",
+            fixedDelayString = "${reference-data.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<Role> roles = roleRepository.findAll();
+        List<DocumentType> documentTypes = documentTypeRepository.findAll();
+        List<UserStatus> userStatuses = userStatusRepository.findAll();
+        List<Category> categories = categoryRepository.findAll();
+        List<PaymentType> paymentTypes = paymentTypeRepository.findAll();
+        List<PaymentStatus> paymentStatuses = paymentStatusRepository.findAll();
+
+        snapshot = new Snapshot(
+                index(roles, Role::getRolId),
+                index(roles, role -> normalize(role.getNombreRol())),
+                index(documentTypes, DocumentType::getDocumentoId),
+                index(documentTypes, documentType -> normalize(documentType.getCodigo())),
+                index(documentTypes, documentType -> normalize(documentType.getNombre())),
+                index(userStatuses, UserStatus::getEstadoUsuarioId),
+                index(userStatuses, status -> normalize(status.getNombre())),
+                index(categories, category -> normalize(category.getNombre())),
+                index(paymentTypes, paymentType -> normalize(paymentType.getPaymentType())),
+                index(paymentStatuses, status -> normalize(status.getName()))
+        );
+
+        log.debug("Datos de referencia cargados: {} roles, {} tipos de documento, {} estados de usuario, "
+                        + "{} categorías, {} tipos de pago, {} estados de pago",
+                roles.size(), documentTypes.size(), userStatuses.size(),
+                categories.size(), paymentTypes.size(), paymentStatuses.size());
+    }
+
+    private static Role copy(Role role) {
+        return Role.builder()
+                .rolId(role.getRolId())
+                .nombreRol(role.getNombreRol())
+                .build();
+    }
+
+    private static DocumentType copy(DocumentType documentType) {
+        return DocumentType.builder()
+                .documentoId(documentType.getDocumentoId())
+                .nombre(documentType.getNombre())
+                .codigo(documentType.getCodigo())
+                .build();
+    }
+
+    private static UserStatus copy(UserStatus status) {
+        return UserStatus.builder()
+                .estadoUsuarioId(status.getEstadoUsuarioId())
+                .nombre(status.getNombre())
+                .build();
+    }
+
+    private static Category copy(Category category) {
+        return Category.builder()
+                .categoriaId(category.getCategoriaId())
+                .nombre(category.getNombre())
+                .descripcion(category.getDescripcion())
+                .build();
+    }
+
+    private static PaymentType copy(PaymentType paymentType) {
+        return PaymentType.builder()
+                .paymentType(paymentType.getPaymentType())
+                .name(paymentType.getName())
+                .build();
+    }
+
+    private static PaymentStatus copy(PaymentStatus status) {
+        return PaymentStatus.builder()
+                .paymentStatusId(status.getPaymentStatusId())
+                .name(status.getName())
+                .build();
+    }
+
+    private static <T> Optional<T> lookup(Map<String, T> index, String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index.get(normalize(key)));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <K, T> Map<K, T> index(List<T> values, Function<T, K> keyExtractor) {
+        Map<K, T> index = new HashMap<>();
+        for (T value : values) {
+            K key = keyExtractor.apply(value);
+            if (key != null) {
+                index.putIfAbsent(key, value);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Instantánea inmutable de todos los índices de datos de referencia.
+     */
+    private static final class Snapshot {
+
+        private final Map<Integer, Role> rolesById;
+        private final Map<String, Role> rolesByName;
+        private final Map<Integer, DocumentType> documentTypesById;
+        private final Map<String, DocumentType> documentTypesByCode;
+        private final Map<String, DocumentType> documentTypesByName;
+        private final Map<Integer, UserStatus> userStatusesById;
+        private final Map<String, UserStatus> userStatusesByName;
+        private final Map<String, Category> categoriesByName;
+        private final Map<String, PaymentType> paymentTypesByCode;
+        private final Map<String, PaymentStatus> paymentStatusesByName;
+
+        private Snapshot(Map<Integer, Role> rolesById,
+                         Map<String, Role> rolesByName,
+                         Map<Integer, DocumentType> documentTypesById,
+                         Map<String, DocumentType> documentTypesByCode,
+                         Map<String, DocumentType> documentTypesByName,
+                         Map<Integer, UserStatus> userStatusesById,
+                         Map<String, UserStatus> userStatusesByName,
+                         Map<String, Category> categoriesByName,
+                         Map<String, PaymentType> paymentTypesByCode,
+                         Map<String, PaymentStatus> paymentStatusesByName) {
+            this.rolesById = rolesById;
+            this.rolesByName = rolesByName;
+            this.documentTypesById = documentTypesById;
+            this.documentTypesByCode = documentTypesByCode;
+            this.documentTypesByName = documentTypesByName;
+            this.userStatusesById = userStatusesById;
+            this.userStatusesByName = userStatusesByName;
+            this.categoriesByName = categoriesByName;
+            this.paymentTypesByCode = paymentTypesByCode;
+            this.paymentStatusesByName = paymentStatusesByName;
+        }
+    }
+}
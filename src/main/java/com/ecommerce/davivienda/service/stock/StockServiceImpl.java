@@ -39,7 +39,7 @@ public class StockServiceImpl implements StockService {
     @Override
     @Transactional
     public void createOrUpdateStock(Integer productoId, Integer cantidad) {
-        log.info("Creando/Actualizando stock para producto ID: {}, cantidad: {}", productoId, cantidad);
+        log.debug("Creando/Actualizando stock para producto ID: {}, cantidad: {}", productoId, cantidad);
         stockTransactionalService.createOrUpdateStock(productoId, cantidad);
         log.info("Stock actualizado exitosamente para producto ID: {}", productoId);
     }
@@ -47,7 +47,7 @@ public class StockServiceImpl implements StockService {
     @Override
     @Transactional
     public void updateStock(Integer productoId, Integer newQuantity) {
-        log.info("Actualizando stock para producto ID: {} a cantidad: {}", productoId, newQuantity);
+        log.debug("Actualizando stock para producto ID: {} a cantidad: {}", productoId, newQuantity);
         createOrUpdateStock(productoId, newQuantity);
     }
 
@@ -66,7 +66,7 @@ public class StockServiceImpl implements StockService {
     @Override
     @Transactional(readOnly = true)
     public StockValidationResponseDto validateCartStock() {
-        log.info("Iniciando validación de stock para usuario autenticado");
+        log.debug("Iniciando validación de stock para usuario autenticado");
 
         Integer userRoleId = authUserService.getAuthenticatedUserRoleId();
         log.debug("UserRoleId obtenido del token: {}", userRoleId);
@@ -89,7 +89,7 @@ public class StockServiceImpl implements StockService {
             );
         }
 
-        log.info("Stock suficiente para todos los productos del carrito");
+        log.debug("Stock suficiente para todos los productos del carrito");
         return stockMapper.buildSuccessResponse(cartItems.size());
     }
 
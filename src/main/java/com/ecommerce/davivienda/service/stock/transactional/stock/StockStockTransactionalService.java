@@ -2,6 +2,7 @@ package com.ecommerce.davivienda.service.stock.transactional.stock;
 
 import com.ecommerce.davivienda.entity.product.Stock;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -54,5 +55,14 @@ public interface StockStockTransactionalService {
      * @throws IllegalStateException si no hay suficiente stock
      */
     void decreaseStock(Integer productoId, Integer quantity);
+
+    /**
+     * Disminuye el stock de varios productos cargándolos en una sola consulta.
+     * Las actualizaciones se envían en un único lote JDBC al hacer flush.
+     *
+     * @param quantitiesByProductId Cantidad a disminuir por ID de producto
+     * @throws IllegalStateException si algún producto no tiene stock suficiente
+     */
+    void decreaseStockBatch(Map<Integer, Integer> quantitiesByProductId);
 }
 
@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -98,5 +100,39 @@ public class StockStockTransactionalServiceImpl implements StockStockTransaction
         log.info("Stock actualizado para producto ID: {}. Cantidad anterior: {}, Nueva cantidad: {}",
                 productoId, stock.getCantidad() + quantity, newQuantity);
     }
-}
 
+    @Override
+    @Transactional
+    public void decreaseStockBatch(Map<Integer, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+
+        log.debug("Disminuyendo stock en lote para {} productos", quantitiesByProductId.size());
+
+        List<Stock> stocks = stockRepository.findByProductoIdIn(quantitiesByProductId.keySet());
+
+        if (stocks.size() != quantitiesByProductId.size()) {
+            Integer missingId = quantitiesByProductId.keySet().stream()
+                    .filter(id -> stocks.stream().noneMatch(stock -> stock.getProductoId().equals(id)))
+                    .findFirst()
+                    .orElse(null);
+            throw new IllegalStateException("No existe stock para el producto ID: " + missingId);
+        }
+
+        for (Stock stock : stocks) {
+            Integer quantity = quantitiesByProductId.get(stock.getProductoId());
+            if (!stock.hasEnoughStock(quantity)) {
+                throw new IllegalStateException(
+                        String.format("Stock insuficiente para producto ID: %d. Disponible: %d, Solicitado: %d",
+                                stock.getProductoId(), stock.getCantidad(), quantity)
+                );
+            }
+            stock.setCantidad(stock.getCantidad() - quantity);
+        }
+
+        stockRepository.saveAll(stocks);
+
+        log.info("Stock actualizado en lote para {} productos", stocks.size());
+    }
+}
@@ -4,6 +4,7 @@ import com.ecommerce.davivienda.models.Response;
 import com.ecommerce.davivienda.models.user.UserRequest;
 import com.ecommerce.davivienda.models.user.UserResponse;
 import com.ecommerce.davivienda.models.user.UserUpdateRequest;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -27,7 +28,6 @@ public interface UserService {
     Response<String> createUser(UserRequest request);
 
 
-
     /**
      * Actualiza un usuario existente de forma parcial.
      * Solo actualiza los campos que no sean null en el request.
@@ -39,7 +39,6 @@ public interface UserService {
      */
     Response<String> updateUser(Integer id, UserUpdateRequest request);
 
-
     /**
      * Recuperación de contraseña (PÚBLICO - sin autenticación).
      * Cambia la contraseña y envía correo de notificación si envioCorreo=true.
@@ -64,13 +63,32 @@ public interface UserService {
     Response<String> changePasswordAuthenticated(String email, String newPassword);
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Obtiene los usuarios del sistema ordenados por ID, hasta USER_LIST_ALL_MAX_SIZE.
      * Retorna información pública sin datos sensibles.
      *
      * @return Response con lista de usuarios
+     * @deprecated Usar {@link #searchUsers}, que pagina sin límite de resultados.
      */
+    @Deprecated
     Response<List<UserResponse>> getAllUsers();
 
+    /**
+     * Lista usuarios paginados y filtrados por estado, rol y documento.
+     * Ejecuta un número constante de consultas por página (página, conteo y roles).
+     *
+     * @param status Nombre del estado de usuario (opcional)
+     * @param role Nombre del rol (opcional)
+     * @param documentType Código o nombre del tipo de documento (opcional)
+     * @param documentNumber Número de documento (opcional)
+     * @param page Número de página (0-indexed)
+     * @param size Tamaño de página (máximo USER_PAGE_MAX_SIZE)
+     * @param sortBy Campo de ordenamiento
+     * @param sortDir Dirección de orden (asc/desc)
+     * @return Página de usuarios
+     */
+    Page<UserResponse> searchUsers(String status, String role, String documentType, String documentNumber,
+                                   int page, int size, String sortBy, String sortDir);
+
     /**
      * Busca un usuario por su ID (usuarioId).
      *
@@ -1,5 +1,6 @@
 package com.ecommerce.davivienda.service.user;
 
+import com.ecommerce.davivienda.dto.user.UserSummaryDto;
 import com.ecommerce.davivienda.entity.user.*;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.mapper.user.UserMapper;
@@ -18,8 +19,13 @@ import com.ecommerce.davivienda.service.user.validation.user.UserUserValidationS
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,7 +62,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public Response<String> createUser(UserRequest request) {
-        log.info("Creando usuario: {}", request.getEmail());
+        log.debug("Creando usuario: {}", request.getEmail());
 
         validateUserCreateRequest(request);
 
@@ -189,11 +195,11 @@ public class UserServiceImpl implements UserService {
         
         Integer userId;
         if (id == null) {
-            log.info("Actualizando usuario autenticado (userRoleId: {})", authenticatedUserRoleId);
+            log.debug("Actualizando usuario autenticado (userRoleId: {})", authenticatedUserRoleId);
             User authenticatedUser = userValidationService.findUserByUserRoleId(authenticatedUserRoleId);
             userId = authenticatedUser.getUsuarioId();
         } else {
-            log.info("Actualizando usuario ID: {}", id);
+            log.debug("Actualizando usuario ID: {}", id);
             userValidationService.validateUserOwnership(id, authenticatedUserRoleId);
             userId = id;
         }
@@ -355,14 +361,24 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Deprecated
     @Transactional(readOnly = true)
     public Response<List<UserResponse>> getAllUsers() {
-        log.info("Obteniendo todos los usuarios del sistema");
-
-        List<User> users = userTransactionalService.findAllUsers();
-        List<UserResponse> userResponses = userMapper.toResponseList(users);
-
-        log.info("Se encontraron {} usuarios", userResponses.size());
+        log.debug("Obteniendo usuarios del sistema (máximo {})", USER_LIST_ALL_MAX_SIZE);
+
+        List<UserResponse> userResponses = new ArrayList<>();
+        Pageable pageable = userMapper.buildPageable(0, USER_PAGE_MAX_SIZE, null, null);
+        Page<UserResponse> page;
+        do {
+            page = toUserResponsePage(userTransactionalService.findUserSummaries(null, null, null, null, pageable));
+            userResponses.addAll(page.getContent());
+            pageable = page.nextPageable();
+        } while (page.hasNext() && userResponses.size() < USER_LIST_ALL_MAX_SIZE);
+
+        if (page.hasNext()) {
+            log.warn("Listado de usuarios truncado en {} de {}; usar GET /api/v1/users",
+                    userResponses.size(), page.getTotalElements());
+        }
         return Response.<List<UserResponse>>builder()
                 .failure(false)
                 .code(200)
@@ -372,10 +388,35 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponse> searchUsers(String status, String role, String documentType, String documentNumber,
+                                          int page, int size, String sortBy, String sortDir) {
+        log.debug("Listando usuarios: estado={}, rol={}, tipoDoc={}, página={}, tamaño={}",
+                status, role, documentType, page, size);
+
+        Integer statusId = hasText(status)
+                ? statusValidationService.findUserStatusByName(status).getEstadoUsuarioId()
+                : null;
+        Integer roleId = hasText(role)
+                ? roleValidationService.findRoleByName(role).getRolId()
+                : null;
+        Integer documentTypeId = hasText(documentType)
+                ? documentValidationService.validateDocumentTypeByName(documentType).getDocumentoId()
+                : null;
+        String normalizedDocumentNumber = hasText(documentNumber) ? documentNumber.trim() : null;
+
+        Pageable pageable = userMapper.buildPageable(page, size, sortBy, sortDir);
+        Page<UserSummaryDto> summaries = userTransactionalService.findUserSummaries(
+                statusId, roleId, documentTypeId, normalizedDocumentNumber, pageable);
+
+        return toUserResponsePage(summaries);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Response<UserResponse> getUserById(Integer userId) {
-        log.info("Buscando usuario con ID: {}", userId);
+        log.debug("Buscando usuario con ID: {}", userId);
 
         User user = userTransactionalService.findUserById(userId)
                 .orElseThrow(() -> new UserException(
@@ -385,7 +426,7 @@ public class UserServiceImpl implements UserService {
 
         UserResponse userResponse = userMapper.toResponse(user);
 
-        log.info("Usuario encontrado: {}", userResponse.getEmail());
+        log.debug("Usuario encontrado: {}", userResponse.getEmail());
         return Response.<UserResponse>builder()
                 .failure(false)
                 .code(200)
@@ -399,7 +440,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public Response<UserResponse> getAuthenticatedUser() {
         Integer authenticatedUserRoleId = authUserService.getAuthenticatedUserRoleId();
-        log.info("Obteniendo usuario autenticado con userRoleId: {}", authenticatedUserRoleId);
+        log.debug("Obteniendo usuario autenticado con userRoleId: {}", authenticatedUserRoleId);
 
         User user = userTransactionalService.findUserByUserRoleId(authenticatedUserRoleId)
                 .orElseThrow(() -> new UserException(
@@ -409,7 +450,7 @@ public class UserServiceImpl implements UserService {
 
         UserResponse userResponse = userMapper.toResponse(user);
 
-        log.info("Usuario autenticado encontrado: {}", userResponse.getEmail());
+        log.debug("Usuario autenticado encontrado: {}", userResponse.getEmail());
         return Response.<UserResponse>builder()
                 .failure(false)
                 .code(200)
@@ -418,5 +459,29 @@ public class UserServiceImpl implements UserService {
                 .timestamp(String.valueOf(System.currentTimeMillis()))
                 .build();
     }
-}
 
+    /**
+     * Completa una página de proyecciones con los roles de sus usuarios (una sola consulta).
+     *
+     * @param summaries Página de proyecciones de usuario
+     * @return Página de UserResponse
+     */
+    private Page<UserResponse> toUserResponsePage(Page<UserSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries.map(summary -> userMapper.toResponse(summary, Collections.emptyList()));
+        }
+
+        List<Integer> userIds = summaries.getContent().stream()
+                .map(UserSummaryDto::getUsuarioId)
+                .toList();
+        Map<Integer, List<String>> rolesByUser = userMapper.groupRoleNamesByUser(
+                roleTransactionalService.findRoleNamesByUserIds(userIds));
+
+        return summaries.map(summary -> userMapper.toResponse(
+                summary, rolesByUser.getOrDefault(summary.getUsuarioId(), Collections.emptyList())));
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -1,13 +1,14 @@
 package com.ecommerce.davivienda.service.user.transactional.role;
 
-import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.dto.user.UserRoleNameDto;
 import com.ecommerce.davivienda.entity.user.UserRole;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
- * Servicio transaccional para operaciones de consulta y persistencia de Role y UserRole.
+ * Servicio transaccional para operaciones de persistencia de UserRole.
+ * Los roles se consultan desde ReferenceDataRegistry.
  * Capacidad interna que NO debe ser expuesta como API REST.
  *
  * @author Team Ecommerce Davivienda
@@ -15,22 +16,6 @@ import java.util.Optional;
  */
 public interface UserRoleTransactionalService {
 
-    /**
-     * Busca un rol por ID.
-     *
-     * @param roleId ID del rol
-     * @return Optional con el Role si existe
-     */
-    Optional<Role> findRoleById(Integer roleId);
-
-    /**
-     * Busca un rol por nombre.
-     *
-     * @param nombreRol Nombre del rol (ej: "Cliente", "Administrador")
-     * @return Optional con el Role si existe
-     */
-    Optional<Role> findRoleByNombre(String nombreRol);
-
     /**
      * Guarda una lista de UserRole.
      *
@@ -47,5 +32,12 @@ public interface UserRoleTransactionalService {
      */
     void deleteAllUserRolesByUserId(Integer userId);
 
-}
 
+    /**
+     * Obtiene los nombres de rol de varios usuarios en una sola consulta.
+     *
+     * @param userIds IDs de los usuarios
+     * @return Pares (ID de usuario, nombre de rol)
+     */
+    List<UserRoleNameDto> findRoleNamesByUserIds(Collection<Integer> userIds);
+}
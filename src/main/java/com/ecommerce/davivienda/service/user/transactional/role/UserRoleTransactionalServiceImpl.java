@@ -1,20 +1,19 @@
 package com.ecommerce.davivienda.service.user.transactional.role;
 
-import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.dto.user.UserRoleNameDto;
 import com.ecommerce.davivienda.entity.user.UserRole;
-import com.ecommerce.davivienda.repository.user.RoleRepository;
 import com.ecommerce.davivienda.repository.user.UserRoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
- * Implementación del servicio transaccional para Role y UserRole.
- * Centraliza operaciones de acceso a datos de roles y relaciones usuario-rol.
+ * Implementación del servicio transaccional para UserRole.
+ * Centraliza operaciones de acceso a datos de relaciones usuario-rol.
  * Capacidad interna que NO debe ser expuesta como API REST.
  *
  * @author Team Ecommerce Davivienda
@@ -25,23 +24,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRoleTransactionalServiceImpl implements UserRoleTransactionalService {
 
-    private final RoleRepository roleRepository;
     private final UserRoleRepository userRoleRepository;
 
-    @Override
-    @Transactional(readOnly = true)
-    public Optional<Role> findRoleById(Integer roleId) {
-        log.debug("Buscando rol por ID: {}", roleId);
-        return roleRepository.findById(roleId);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public Optional<Role> findRoleByNombre(String nombreRol) {
-        log.debug("Buscando rol por nombre: {}", nombreRol);
-        return roleRepository.findByNombreRol(nombreRol);
-    }
-
     @Override
     @Transactional
     public List<UserRole> saveAllUserRoles(List<UserRole> userRoles) {
@@ -56,5 +40,11 @@ public class UserRoleTransactionalServiceImpl implements UserRoleTransactionalSe
         userRoleRepository.deleteByUsuarioId(userId);
         log.info("Todos los roles del usuario {} eliminados exitosamente", userId);
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserRoleNameDto> findRoleNamesByUserIds(Collection<Integer> userIds) {
+        log.debug("Buscando roles de {} usuarios", userIds.size());
+        return userRoleRepository.findRoleNamesByUsuarioIds(userIds);
+    }
+}
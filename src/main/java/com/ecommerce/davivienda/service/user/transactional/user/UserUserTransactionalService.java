@@ -1,8 +1,10 @@
 package com.ecommerce.davivienda.service.user.transactional.user;
 
+import com.ecommerce.davivienda.dto.user.UserSummaryDto;
 import com.ecommerce.davivienda.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -56,11 +58,17 @@ public interface UserUserTransactionalService {
     Optional<User> findByDocumentTypeAndNumber(Integer documentTypeId, String documentNumber);
 
     /**
-     * Obtiene todos los usuarios del sistema.
+     * Lista usuarios como proyección plana, paginada y filtrada. Los filtros nulos se ignoran.
      *
-     * @return Lista de todos los usuarios
+     * @param statusId ID del estado de usuario (opcional)
+     * @param roleId ID de rol asignado (opcional)
+     * @param documentTypeId ID del tipo de documento (opcional)
+     * @param documentNumber Número de documento (opcional)
+     * @param pageable Paginación y orden
+     * @return Página de proyecciones de usuario
      */
-    List<User> findAllUsers();
+    Page<UserSummaryDto> findUserSummaries(Integer statusId, Integer roleId, Integer documentTypeId,
+                                           String documentNumber, Pageable pageable);
 
     /**
      * Guarda un usuario.
@@ -1,13 +1,15 @@
 package com.ecommerce.davivienda.service.user.transactional.user;
 
+import com.ecommerce.davivienda.dto.user.UserSummaryDto;
 import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -62,9 +64,11 @@ public class UserUserTransactionalServiceImpl implements UserUserTransactionalSe
 
     @Override
     @Transactional(readOnly = true)
-    public List<User> findAllUsers() {
-        log.debug("Obteniendo todos los usuarios del sistema");
-        return userRepository.findAll();
+    public Page<UserSummaryDto> findUserSummaries(Integer statusId, Integer roleId, Integer documentTypeId,
+                                                  String documentNumber, Pageable pageable) {
+        log.debug("Listando usuarios: estado={}, rol={}, tipoDoc={}, página={}",
+                statusId, roleId, documentTypeId, pageable);
+        return userRepository.findUserSummaries(statusId, roleId, documentTypeId, documentNumber, pageable);
     }
 
     @Override
@@ -2,7 +2,7 @@ package com.ecommerce.davivienda.service.user.validation.document;
 
 import com.ecommerce.davivienda.entity.user.DocumentType;
 import com.ecommerce.davivienda.exception.user.UserException;
-import com.ecommerce.davivienda.service.user.transactional.document.UserDocumentTransactionalService;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,11 +21,11 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class UserDocumentValidationServiceImpl implements UserDocumentValidationService {
 
-    private final UserDocumentTransactionalService transactionalService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public DocumentType validateDocumentType(Integer documentTypeId) {
-        return transactionalService.findDocumentTypeById(documentTypeId)
+        return referenceDataRegistry.findDocumentTypeById(documentTypeId)
                 .orElseThrow(() -> {
                     log.error("Tipo de documento no encontrado con ID: {}", documentTypeId);
                     return new UserException(ERROR_DOCUMENT_TYPE_NOT_FOUND, CODE_DOCUMENT_TYPE_NOT_FOUND);
@@ -34,7 +34,7 @@ public class UserDocumentValidationServiceImpl implements UserDocumentValidation
 
     @Override
     public DocumentType validateDocumentTypeByName(String documentType) {
-        return transactionalService.findDocumentTypeByNameOrCode(documentType)
+        return referenceDataRegistry.findDocumentTypeByCodeOrName(documentType)
                 .orElseThrow(() -> {
                     log.error("Tipo de documento no encontrado: {}", documentType);
                     return new UserException(ERROR_DOCUMENT_TYPE_NOT_FOUND, CODE_DOCUMENT_TYPE_NOT_FOUND);
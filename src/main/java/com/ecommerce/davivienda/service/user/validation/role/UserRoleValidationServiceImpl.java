@@ -5,6 +5,7 @@ import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.entity.user.UserRole;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.mapper.user.UserMapper;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import com.ecommerce.davivienda.service.user.transactional.role.UserRoleTransactionalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,11 +28,12 @@ import java.util.List;
 public class UserRoleValidationServiceImpl implements UserRoleValidationService {
 
     private final UserRoleTransactionalService transactionalService;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final UserMapper userMapper;
 
     @Override
     public Role findRoleById(Integer roleId) {
-        return transactionalService.findRoleById(roleId)
+        return referenceDataRegistry.findRoleById(roleId)
                 .orElseThrow(() -> {
                     log.error("Rol no encontrado con ID: {}", roleId);
                     return new UserException(ERROR_ROLE_NOT_FOUND, CODE_ROLE_NOT_FOUND);
@@ -40,7 +42,7 @@ public class UserRoleValidationServiceImpl implements UserRoleValidationService
 
     @Override
     public Role findRoleByName(String nombreRol) {
-        return transactionalService.findRoleByNombre(nombreRol)
+        return referenceDataRegistry.findRoleByName(nombreRol)
                 .orElseThrow(() -> {
                     log.error("Rol no encontrado con nombre: {}", nombreRol);
                     return new UserException(ERROR_ROLE_NOT_FOUND, CODE_ROLE_NOT_FOUND);
@@ -2,7 +2,7 @@ package com.ecommerce.davivienda.service.user.validation.status;
 
 import com.ecommerce.davivienda.entity.user.UserStatus;
 import com.ecommerce.davivienda.exception.user.UserException;
-import com.ecommerce.davivienda.service.user.transactional.status.UserStatusTransactionalService;
+import com.ecommerce.davivienda.service.referencedata.ReferenceDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,11 +21,11 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class UserStatusValidationServiceImpl implements UserStatusValidationService {
 
-    private final UserStatusTransactionalService transactionalService;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public UserStatus findUserStatusByName(String statusName) {
-        return transactionalService.findUserStatusByName(statusName)
+        return referenceDataRegistry.findUserStatusByName(statusName)
                 .orElseThrow(() -> {
                     log.error("Estado de usuario no encontrado: {}", statusName);
                     return new UserException(ERROR_STATUS_NOT_FOUND, CODE_STATUS_NOT_FOUND);
@@ -34,7 +34,7 @@ public class UserStatusValidationServiceImpl implements UserStatusValidationServ
 
     @Override
     public UserStatus findUserStatusById(Integer statusId) {
-        return transactionalService.findUserStatusById(statusId)
+        return referenceDataRegistry.findUserStatusById(statusId)
                 .orElseThrow(() -> {
                     log.error("Estado de usuario no encontrado con ID: {}", statusId);
                     return new UserException(ERROR_STATUS_NOT_FOUND, CODE_STATUS_NOT_FOUND);
@@ -3,6 +3,7 @@ package com.ecommerce.davivienda.service.user.validation.user;
 import com.ecommerce.davivienda.entity.user.User;
 import com.ecommerce.davivienda.exception.user.UserException;
 import com.ecommerce.davivienda.service.user.transactional.user.UserUserTransactionalService;
+import com.ecommerce.davivienda.util.RequestMemo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,7 +24,11 @@ import static com.ecommerce.davivienda.constants.Constants.*;
 @RequiredArgsConstructor
 public class UserUserValidationServiceImpl implements UserUserValidationService {
 
+    private static final String MEMO_USER_BY_EMAIL = "userByEmail";
+    private static final String MEMO_USER_BY_USER_ROLE_ID = "userByUserRoleId";
+
     private final UserUserTransactionalService transactionalService;
+    private final RequestMemo requestMemo;
 
     @Override
     public void validateEmailNotExists(String email) {
@@ -44,20 +49,20 @@ public class UserUserValidationServiceImpl implements UserUserValidationService
 
     @Override
     public User findUserByEmailOrThrow(String email) {
-        return transactionalService.findUserByEmail(email)
+        return requestMemo.get(MEMO_USER_BY_EMAIL, email, () -> transactionalService.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.error("Usuario no encontrado con email: {}", email);
                     return new UserException(ERROR_USER_NOT_FOUND, CODE_USER_NOT_FOUND);
-                });
+                }));
     }
 
     @Override
     public User findUserByUserRoleId(Integer userRoleId) {
-        return transactionalService.findUserByUserRoleId(userRoleId)
+        return requestMemo.get(MEMO_USER_BY_USER_ROLE_ID, userRoleId, () -> transactionalService.findUserByUserRoleId(userRoleId)
                 .orElseThrow(() -> {
                     log.error("Usuario no encontrado con userRoleId: {}", userRoleId);
                     return new UserException(ERROR_USER_NOT_FOUND, CODE_USER_NOT_FOUND);
-                });
+                }));
     }
 
     @Override
@@ -0,0 +1,174 @@
+package com.ecommerce.davivienda.util;
+
+/**
+ * Mapa int → int de direccionamiento abierto (sondeo lineal), sin objetos por entrada.
+ *
+ * <p>Pensado para contadores grandes en memoria (p. ej. co-ocurrencias de productos), donde un
+ * {@code HashMap<Integer, Integer>} crearía un Integer y un nodo por par. No admite eliminar claves.
+ * No es thread-safe.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class IntIntHashMap {
+
+    private static final int FREE_KEY = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    // La clave 0 marca posición libre; su valor se guarda aparte
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(8);
+    }
+
+    /**
+     * @param expectedSize Número de entradas esperado
+     */
+    public IntIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Valor de una clave.
+     *
+     * @param key Clave
+     * @param defaultValue Valor si la clave no existe
+     * @return Valor asociado o defaultValue
+     */
+    public int get(int key, int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Suma un incremento al valor de la clave (0 si no existe).
+     *
+     * @param key Clave
+     * @param delta Incremento
+     * @return Nuevo valor
+     */
+    public int addTo(int key, int delta) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Recorre las entradas sin crear objetos por entrada.
+     *
+     * @param consumer Receptor de cada clave y valor
+     */
+    public void forEach(IntIntConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE_KEY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int slotOf(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    /**
+     * Potencia de dos suficiente para expectedSize entradas sin superar el factor de carga.
+     */
+    static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        int capacity = 4;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Dispersa la clave (hash de Fibonacci) para que ids consecutivos no formen racimos.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Receptor de pares int/int.
+     */
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+}
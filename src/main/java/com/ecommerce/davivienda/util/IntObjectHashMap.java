@@ -0,0 +1,141 @@
+package com.ecommerce.davivienda.util;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Mapa int → objeto de direccionamiento abierto (sondeo lineal) con claves primitivas.
+ *
+ * <p>Evita el Integer por búsqueda de un {@code HashMap<Integer, V>} en bucles calientes.
+ * Las claves deben ser distintas de {@link Integer#MIN_VALUE}, que marca posición libre.
+ * No admite eliminar claves ni valores nulos. No es thread-safe.</p>
+ *
+ * @param <V> Tipo de los valores
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class IntObjectHashMap<V> {
+
+    private static final int FREE_KEY = Integer.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    public IntObjectHashMap() {
+        this(8);
+    }
+
+    /**
+     * @param expectedSize Número de entradas esperado
+     */
+    public IntObjectHashMap(int expectedSize) {
+        allocate(IntIntHashMap.capacityFor(expectedSize));
+    }
+
+    /**
+     * Valor de una clave.
+     *
+     * @param key Clave
+     * @return Valor asociado o null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int mask = keys.length - 1;
+        int slot = IntIntHashMap.mix(key) & mask;
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Valor de una clave, creándolo si no existe.
+     *
+     * @param key Clave (distinta de Integer.MIN_VALUE)
+     * @param factory Crea el valor a partir de la clave
+     * @return Valor existente o creado
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(int key, IntFunction<V> factory) {
+        if (key == FREE_KEY) {
+            throw new IllegalArgumentException("Clave no soportada: " + key);
+        }
+
+        int mask = keys.length - 1;
+        int slot = IntIntHashMap.mix(key) & mask;
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        V value = factory.apply(key);
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Recorre las entradas sin crear objetos por entrada.
+     *
+     * @param consumer Receptor de cada clave y valor
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjectConsumer<V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = IntIntHashMap.mix(key) & mask;
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE_KEY);
+        values = new Object[capacity];
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    /**
+     * Receptor de pares int/objeto.
+     *
+     * @param <V> Tipo del valor
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+}
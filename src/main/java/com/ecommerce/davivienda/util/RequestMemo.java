@@ -0,0 +1,107 @@
+package com.ecommerce.davivienda.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoización de consultas con alcance de petición HTTP (unit of work).
+ * Guarda resultados por (tipo, clave) en un atributo de la petición, de modo que
+ * búsquedas repetidas entre servicios de validación y transaccionales dentro de una
+ * misma petición se resuelven desde memoria.
+ * Fuera de una petición (workers asíncronos, tareas programadas) siempre ejecuta el loader.
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RequestMemo {
+
+    private static final String STORE_ATTRIBUTE = RequestMemo.class.getName() + ".STORE";
+
+    /**
+     * Obtiene un valor memoizado o lo carga. Cada acierto cuenta como una consulta evitada.
+     *
+     * @param type Tipo de dato (ej: "userByEmail")
+     * @param key Clave de búsqueda
+     * @param loader Carga el valor si no está memoizado
+     * @param <T> Tipo del valor
+     * @return Valor memoizado o cargado
+     */
+    public <T> T get(String type, Object key, Supplier<T> loader) {
+        return get(type, key, 1, loader);
+    }
+
+    /**
+     * Obtiene un valor memoizado o lo carga.
+     * Los valores nulos y las excepciones del loader no se memoizan.
+     *
+     * @param type Tipo de dato (ej: "userRoleIdByEmail")
+     * @param key Clave de búsqueda
+     * @param queriesPerLoad Consultas que ejecuta el loader (para el conteo de consultas evitadas)
+     * @param loader Carga el valor si no está memoizado
+     * @param <T> Tipo del valor
+     * @return Valor memoizado o cargado
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String type, Object key, int queriesPerLoad, Supplier<T> loader) {
+        Store store = currentStore();
+        if (store == null || key == null) {
+            return loader.get();
+        }
+
+        List<Object> memoKey = List.of(type, key);
+        Object cached = store.values.get(memoKey);
+        if (cached != null) {
+            store.savedQueries += queriesPerLoad;
+            log.debug("Memo hit {}:{} ({} consultas evitadas en la petición)", type, key, store.savedQueries);
+            return (T) cached;
+        }
+
+        T value = loader.get();
+        if (value != null) {
+            store.values.put(memoKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * Número de consultas evitadas en la petición actual.
+     *
+     * @return Consultas evitadas, 0 fuera de una petición
+     */
+    public int getSavedQueries() {
+        Store store = currentStore();
+        return store == null ? 0 : store.savedQueries;
+    }
+
+    private Store currentStore() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Store store = (Store) attributes.getAttribute(STORE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (store == null) {
+            store = new Store();
+            attributes.setAttribute(STORE_ATTRIBUTE, store, RequestAttributes.SCOPE_REQUEST);
+        }
+        return store;
+    }
+
+    /**
+     * Valores memoizados y contador de la petición. Una petición se atiende en un hilo a la vez.
+     */
+    private static final class Store {
+
+        private final Map<List<Object>, Object> values = new HashMap<>();
+        private int savedQueries;
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.davivienda.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contabilidad de tiempos y sentencias SQL de la petición HTTP en curso.
+ *
+ * <p>La inicia {@code RequestTimingFilter} y la alimentan los hooks de Hibernate (sentencias y
+ * tiempo de ejecución JDBC) y el interceptor MVC (inicio del handler). Vive en un ThreadLocal
+ * porque los hooks de Hibernate no tienen acceso a la petición; el trabajo hecho en otros hilos
+ * (workers de pago, tareas programadas) no se cuenta.</p>
+ *
+ * @author Team Ecommerce Davivienda
+ * @since 1.0.0
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final int maxRecordedStatements;
+    private final List<String> statements = new ArrayList<>();
+    private long handlerStartedAt;
+    private long dbNanos;
+    private int queries;
+
+    private RequestTimings(int maxRecordedStatements) {
+        this.maxRecordedStatements = maxRecordedStatements;
+    }
+
+    /**
+     * Inicia la contabilidad de la petición en el hilo actual.
+     *
+     * @param maxRecordedStatements Máximo de sentencias SQL guardadas para el log de umbral
+     * @return Contabilidad iniciada
+     */
+    public static RequestTimings start(int maxRecordedStatements) {
+        RequestTimings timings = new RequestTimings(maxRecordedStatements);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Contabilidad de la petición del hilo actual.
+     *
+     * @return Contabilidad, o null fuera de una petición
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Termina la contabilidad del hilo actual.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Registra una sentencia SQL preparada por Hibernate.
+     *
+     * @param sql Sentencia SQL
+     */
+    public static void recordStatement(String sql) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return;
+        }
+        timings.queries++;
+        if (timings.statements.size() < timings.maxRecordedStatements) {
+            timings.statements.add(sql);
+        }
+    }
+
+    /**
+     * Suma tiempo de ejecución JDBC a la petición.
+     *
+     * @param nanos Duración en nanosegundos
+     */
+    public static void recordDbTime(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.dbNanos += nanos;
+        }
+    }
+
+    /**
+     * Marca el fin de los filtros (seguridad incluida) y el inicio del handler MVC.
+     */
+    public static void markHandlerStart() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.handlerStartedAt == 0) {
+            timings.handlerStartedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Valor del header Server-Timing hasta este momento: filtros/seguridad, aplicación (handler
+     * sin BD), BD y total. Sin handler (ej: login en el filtro JWT) todo lo que no es BD cuenta
+     * como filtros.
+     *
+     * @return Valor del header
+     */
+    public String toServerTiming() {
+        long now = System.nanoTime();
+        long filtersEnd = handlerStartedAt == 0 ? now : handlerStartedAt;
+        long filters = Math.max(0, filtersEnd - startedAt - (handlerStartedAt == 0 ? dbNanos : 0));
+        long app = handlerStartedAt == 0 ? 0 : Math.max(0, now - handlerStartedAt - dbNanos);
+
+        return String.format(Locale.ROOT,
+                "filters;dur=%.1f;desc=\"filtros y seguridad\", app;dur=%.1f;desc=\"aplicacion\", "
+                        + "db;dur=%.1f;desc=\"%d consultas\", total;dur=%.1f",
+                millis(filters), millis(app), millis(dbNanos), queries, millis(now - startedAt));
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    public long getFiltersMillis() {
+        long filtersEnd = handlerStartedAt == 0 ? System.nanoTime() : handlerStartedAt;
+        return TimeUnit.NANOSECONDS.toMillis(filtersEnd - startedAt);
+    }
+
+    public long getDbMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(dbNanos);
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    /**
+     * Sentencias registradas, como máximo maxRecordedStatements.
+     *
+     * @return Sentencias en orden de ejecución
+     */
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -5,6 +5,12 @@
 -- ============================================
 
 -- Eliminar tablas si existen (en orden inverso por dependencias)
+DROP TABLE IF EXISTS lineas_pedido CASCADE;
+DROP TABLE IF EXISTS ventas_producto_diarias CASCADE;
+DROP TABLE IF EXISTS ventas_categoria_diarias CASCADE;
+DROP TABLE IF EXISTS ventas_diarias CASCADE;
+DROP TABLE IF EXISTS ventas_dias_reconstruidos CASCADE;
+DROP TABLE IF EXISTS idempotencia_pago CASCADE;
 DROP TABLE IF EXISTS pago_debito CASCADE;
 DROP TABLE IF EXISTS pago_credito CASCADE;
 DROP TABLE IF EXISTS tipo_pago CASCADE;
@@ -151,18 +157,19 @@ CREATE TABLE carrito (
     FOREIGN KEY (usuario_rol_id) REFERENCES usuario_rol(usuario_rol_id) ON DELETE CASCADE
 );
 
--- Tabla: pago
+-- Tabla: pago (particionada por mes de fecha_pago, ver PARTICIONAMIENTO DE PAGOS)
 CREATE TABLE pago (
-    pago_id SERIAL PRIMARY KEY,
+    pago_id SERIAL,
     carrito_id INTEGER,
     tipo_pago_id VARCHAR(20),
-    fecha_pago TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    fecha_pago TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     referencia_id INTEGER,
     estado_pago_id INTEGER,
+    PRIMARY KEY (pago_id, fecha_pago),
     FOREIGN KEY (carrito_id) REFERENCES carrito(carrito_id) ON DELETE SET NULL,
     FOREIGN KEY (tipo_pago_id) REFERENCES tipo_pago(tipo_pago),
     FOREIGN KEY (estado_pago_id) REFERENCES estado_pago(estado_pago_id)
-);
+) PARTITION BY RANGE (fecha_pago);
 
 -- ============================================
 -- TABLAS CON DEPENDENCIAS DE TERCER NIVEL
@@ -179,35 +186,127 @@ CREATE TABLE productos_carrito (
     UNIQUE(carrito_id, producto_id)
 );
 
--- Tabla: referencias
+-- Tabla: referencias (particionada con la fecha de su pago; el número es único por
+-- construcción, la restricción UNIQUE debe incluir la clave de partición)
 CREATE TABLE referencias (
-    referencia_id SERIAL PRIMARY KEY,
-    numero VARCHAR(100) NOT NULL UNIQUE
-);
-
--- Actualizar la foreign key de pago a referencias
+    referencia_id SERIAL,
+    numero VARCHAR(100) NOT NULL,
+    fecha_pago TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (referencia_id, fecha_pago),
+    UNIQUE (numero, fecha_pago)
+) PARTITION BY RANGE (fecha_pago);
+
+-- Actualizar la foreign key de pago a referencias (misma fecha_pago: misma partición)
 ALTER TABLE pago 
-    ADD FOREIGN KEY (referencia_id) REFERENCES referencias(referencia_id);
+    ADD FOREIGN KEY (referencia_id, fecha_pago) REFERENCES referencias(referencia_id, fecha_pago);
 
--- Tabla: pago_debito
+-- Tabla: pago_debito (fecha_pago copiada del pago para particionar igual)
 CREATE TABLE pago_debito (
-    pago_debito_id SERIAL PRIMARY KEY,
+    pago_debito_id SERIAL,
     pago_id INTEGER NOT NULL,
+    fecha_pago TIMESTAMP NOT NULL,
     fecha_vencimiento DATE NOT NULL,
     nombre_titular VARCHAR(200) NOT NULL,
     numero_tarjeta VARCHAR(20) NOT NULL,
-    FOREIGN KEY (pago_id) REFERENCES pago(pago_id) ON DELETE CASCADE
-);
+    PRIMARY KEY (pago_debito_id, fecha_pago),
+    FOREIGN KEY (pago_id, fecha_pago) REFERENCES pago(pago_id, fecha_pago) ON DELETE CASCADE
+) PARTITION BY RANGE (fecha_pago);
 
--- Tabla: pago_credito
+-- Tabla: pago_credito (fecha_pago copiada del pago para particionar igual)
 CREATE TABLE pago_credito (
-    pago_credito_id SERIAL PRIMARY KEY,
+    pago_credito_id SERIAL,
     pago_id INTEGER NOT NULL,
+    fecha_pago TIMESTAMP NOT NULL,
     numero_de_cuotas INTEGER NOT NULL CHECK (numero_de_cuotas > 0),
     nombre_titular VARCHAR(200) NOT NULL,
     numero_tarjeta VARCHAR(20) NOT NULL,
     fecha_vencimiento DATE NOT NULL,
-    FOREIGN KEY (pago_id) REFERENCES pago(pago_id) ON DELETE CASCADE
+    PRIMARY KEY (pago_credito_id, fecha_pago),
+    FOREIGN KEY (pago_id, fecha_pago) REFERENCES pago(pago_id, fecha_pago) ON DELETE CASCADE
+) PARTITION BY RANGE (fecha_pago);
+
+-- Tabla: idempotencia_pago (Resultados de pagos por Idempotency-Key)
+CREATE TABLE idempotencia_pago (
+    idempotencia_pago_id SERIAL PRIMARY KEY,
+    correo VARCHAR(255) NOT NULL,
+    clave VARCHAR(100) NOT NULL,
+    hash_solicitud VARCHAR(64) NOT NULL,
+    respuesta TEXT NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_expiracion TIMESTAMP NOT NULL,
+    UNIQUE(correo, clave)
+);
+
+-- ============================================
+-- HISTORIAL DE COMPRAS (SNAPSHOT)
+-- Se escribe una vez al completar el pago con el precio, IVA, cantidad y
+-- nombre cobrados. El historial se lee solo de esta tabla, sin joins, y el
+-- rebuild de los agregados de ventas recalcula desde ella (categoria_id 0 = sin categoría).
+-- Sin FKs a pago/productos para conservar las líneas si esas filas cambian o se eliminan.
+-- ============================================
+
+-- Tabla: lineas_pedido (una fila por producto cobrado)
+CREATE TABLE lineas_pedido (
+    linea_pedido_id SERIAL PRIMARY KEY,
+    usuario_rol_id INTEGER NOT NULL,
+    pago_id INTEGER NOT NULL,
+    numero_referencia VARCHAR(100) NOT NULL,
+    tipo_pago_id VARCHAR(20) NOT NULL,
+    fecha_pago TIMESTAMP NOT NULL,
+    producto_id INTEGER NOT NULL,
+    categoria_id INTEGER NOT NULL DEFAULT 0,
+    nombre_producto VARCHAR(200) NOT NULL,
+    cantidad INTEGER NOT NULL CHECK (cantidad > 0),
+    valor_unitario DECIMAL(10, 2) NOT NULL,
+    iva DECIMAL(5, 2) NOT NULL,
+    valor_iva NUMERIC(14, 2) NOT NULL,
+    total NUMERIC(14, 2) NOT NULL,
+    FOREIGN KEY (usuario_rol_id) REFERENCES usuario_rol(usuario_rol_id) ON DELETE CASCADE
+);
+
+-- ============================================
+-- AGREGADOS DE VENTAS (MODELO DE LECTURA)
+-- Se actualizan de forma incremental al confirmar cada pago y se
+-- reconstruyen desde lineas_pedido (precios cobrados) con el job de rebuild.
+-- Sin FKs a productos/categorías para conservar el histórico.
+-- ============================================
+
+-- Tabla: ventas_diarias (ingresos por día y tipo de pago)
+CREATE TABLE ventas_diarias (
+    fecha DATE NOT NULL,
+    tipo_pago_id VARCHAR(20) NOT NULL,
+    pagos INTEGER NOT NULL DEFAULT 0,
+    unidades INTEGER NOT NULL DEFAULT 0,
+    subtotal NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    iva NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    total NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (fecha, tipo_pago_id),
+    FOREIGN KEY (tipo_pago_id) REFERENCES tipo_pago(tipo_pago)
+);
+
+-- Tabla: ventas_categoria_diarias (unidades e ingresos por día y categoría, 0 = sin categoría)
+CREATE TABLE ventas_categoria_diarias (
+    fecha DATE NOT NULL,
+    categoria_id INTEGER NOT NULL,
+    unidades INTEGER NOT NULL DEFAULT 0,
+    total NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (fecha, categoria_id)
+);
+
+-- Tabla: ventas_producto_diarias (unidades e ingresos por día y producto)
+CREATE TABLE ventas_producto_diarias (
+    fecha DATE NOT NULL,
+    producto_id INTEGER NOT NULL,
+    categoria_id INTEGER NOT NULL,
+    unidades INTEGER NOT NULL DEFAULT 0,
+    total NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (fecha, producto_id)
+);
+
+-- Tabla: ventas_dias_reconstruidos (días que ya recalculó el rebuild; el incremental no los toca)
+CREATE TABLE ventas_dias_reconstruidos (
+    fecha DATE PRIMARY KEY,
+    reconstruido_en TIMESTAMP NOT NULL
 );
 
 -- ============================================
@@ -229,6 +328,251 @@ CREATE INDEX idx_pago_referencia ON pago(referencia_id);
 CREATE INDEX idx_pago_estado ON pago(estado_pago_id);
 CREATE INDEX idx_usuario_rol_usuario ON usuario_rol(usuario_id);
 CREATE INDEX idx_usuario_rol_rol ON usuario_rol(rol_id);
+CREATE INDEX idx_idempotencia_pago_expiracion ON idempotencia_pago(fecha_expiracion);
+-- Rebuild de agregados por rango de fechas
+CREATE INDEX idx_pago_fecha ON pago(fecha_pago);
+CREATE INDEX idx_pago_debito_pago ON pago_debito(pago_id);
+CREATE INDEX idx_pago_credito_pago ON pago_credito(pago_id);
+-- Historial de compras: paginación keyset por usuario en un solo rango del índice
+CREATE INDEX idx_lineas_pedido_historial ON lineas_pedido(usuario_rol_id, fecha_pago DESC, linea_pedido_id DESC);
+-- Rebuild de agregados de ventas por rango de fechas
+CREATE INDEX idx_lineas_pedido_fecha ON lineas_pedido(fecha_pago);
+
+-- ============================================
+-- PARTICIONAMIENTO DE PAGOS
+-- referencias, pago, pago_debito y pago_credito se particionan por mes
+-- de fecha_pago (particiones <tabla>_YYYYMM). Las cuatro filas de un pago
+-- comparten fecha_pago, así que caen en la misma partición y las FKs
+-- compuestas (id, fecha_pago) se resuelven dentro de ella.
+-- El job PaymentPartitionMaintenanceService crea los meses siguientes y
+-- archiva los que superan la retención (payment.partitioning).
+-- ============================================
+
+-- Crea las particiones mensuales que falten desde el mes de p_desde.
+-- Retorna el número de particiones creadas.
+CREATE OR REPLACE FUNCTION crear_particiones_pago(p_desde DATE, p_meses INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_mes DATE;
+    v_tabla TEXT;
+    v_nombre TEXT;
+    v_creadas INTEGER := 0;
+BEGIN
+    -- Serializa el mantenimiento entre instancias de la aplicación
+    PERFORM pg_advisory_xact_lock(hashtext('particiones_pago'));
+
+    FOR i IN 0 .. p_meses - 1 LOOP
+        v_mes := (date_trunc('month', p_desde) + make_interval(months => i))::date;
+        FOREACH v_tabla IN ARRAY ARRAY['referencias', 'pago', 'pago_debito', 'pago_credito'] LOOP
+            v_nombre := v_tabla || '_' || to_char(v_mes, 'YYYYMM');
+            IF to_regclass(v_nombre) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                        v_nombre, v_tabla, v_mes, (v_mes + INTERVAL '1 month')::date);
+                v_creadas := v_creadas + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN v_creadas;
+END;
+$$;
+
+-- Separa las particiones de los meses anteriores a p_antes y las mueve al esquema
+-- p_esquema (respaldo y eliminación quedan a cargo de operaciones). Primero las tablas
+-- que referencian: una partición referenciada no se puede separar mientras otra
+-- partición adjunta apunte a ella. Retorna el número de meses archivados.
+CREATE OR REPLACE FUNCTION archivar_particiones_pago(p_antes DATE, p_esquema TEXT)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_sufijo TEXT;
+    v_tabla TEXT;
+    v_nombre TEXT;
+    v_fk TEXT;
+    v_archivados INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('particiones_pago'));
+    EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', p_esquema);
+
+    FOR v_sufijo IN
+        SELECT substr(c.relname, 6)
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'pago'::regclass
+          AND c.relname ~ '^pago_[0-9]{6}$'
+          AND to_date(substr(c.relname, 6), 'YYYYMM') < date_trunc('month', p_antes)
+        ORDER BY 1
+    LOOP
+        FOREACH v_tabla IN ARRAY ARRAY['pago_debito', 'pago_credito', 'pago', 'referencias'] LOOP
+            v_nombre := v_tabla || '_' || v_sufijo;
+            CONTINUE WHEN to_regclass(v_nombre) IS NULL;
+
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', v_tabla, v_nombre);
+            -- Las FKs heredadas quedan en la tabla separada y apuntarían a filas que ya no están
+            FOR v_fk IN
+                SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(v_nombre) AND contype = 'f'
+            LOOP
+                EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_nombre, v_fk);
+            END LOOP;
+            EXECUTE format('ALTER TABLE %I SET SCHEMA %I', v_nombre, p_esquema);
+        END LOOP;
+        v_archivados := v_archivados + 1;
+    END LOOP;
+    RETURN v_archivados;
+END;
+$$;
+
+-- Particiones por defecto: red de seguridad para fechas sin partición mensual.
+-- Deben permanecer vacías (el job alerta si tienen filas), porque una partición
+-- mensual no se puede crear mientras la de defecto tenga filas de ese mes.
+CREATE TABLE referencias_default PARTITION OF referencias DEFAULT;
+CREATE TABLE pago_default PARTITION OF pago DEFAULT;
+CREATE TABLE pago_debito_default PARTITION OF pago_debito DEFAULT;
+CREATE TABLE pago_credito_default PARTITION OF pago_credito DEFAULT;
+
+-- Mes en curso y los tres siguientes; el job mantiene la ventana hacia adelante
+SELECT crear_particiones_pago(CURRENT_DATE, 4);
+
+-- Migración de una BD existente con las tablas sin particionar (no se ejecuta aquí):
+--   SELECT migrar_pagos_a_particiones(3);
+-- Reconstruye las cuatro tablas como particionadas dentro de una transacción,
+-- con bloqueo exclusivo: ejecutar en ventana de mantenimiento.
+CREATE OR REPLACE FUNCTION migrar_pagos_a_particiones(p_meses_adelante INTEGER)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_desde DATE;
+    v_meses INTEGER;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = to_regclass('pago')) = 'p' THEN
+        RAISE NOTICE 'pago ya está particionada, no hay nada que migrar';
+        RETURN;
+    END IF;
+
+    LOCK TABLE referencias, pago, pago_debito, pago_credito IN ACCESS EXCLUSIVE MODE;
+
+    -- 1. Apartar las tablas actuales; PK, UNIQUE e índices se renombran o eliminan
+    --    porque sus nombres chocarían con los de las tablas nuevas
+    ALTER TABLE pago_debito RENAME TO pago_debito_legacy;
+    ALTER TABLE pago_debito_legacy RENAME CONSTRAINT pago_debito_pkey TO pago_debito_legacy_pkey;
+    ALTER TABLE pago_credito RENAME TO pago_credito_legacy;
+    ALTER TABLE pago_credito_legacy RENAME CONSTRAINT pago_credito_pkey TO pago_credito_legacy_pkey;
+    ALTER TABLE pago RENAME TO pago_legacy;
+    ALTER TABLE pago_legacy RENAME CONSTRAINT pago_pkey TO pago_legacy_pkey;
+    ALTER TABLE referencias RENAME TO referencias_legacy;
+    ALTER TABLE referencias_legacy RENAME CONSTRAINT referencias_pkey TO referencias_legacy_pkey;
+    ALTER TABLE referencias_legacy RENAME CONSTRAINT referencias_numero_key TO referencias_legacy_numero_key;
+    DROP INDEX IF EXISTS idx_pago_carrito, idx_pago_referencia, idx_pago_estado, idx_pago_fecha;
+
+    -- Las secuencias se conservan (los ids siguen donde iban)
+    ALTER SEQUENCE referencias_referencia_id_seq OWNED BY NONE;
+    ALTER SEQUENCE pago_pago_id_seq OWNED BY NONE;
+    ALTER SEQUENCE pago_debito_pago_debito_id_seq OWNED BY NONE;
+    ALTER SEQUENCE pago_credito_pago_credito_id_seq OWNED BY NONE;
+
+    -- 2. Tablas particionadas (misma definición que la sección de creación)
+    CREATE TABLE referencias (
+        referencia_id INTEGER NOT NULL DEFAULT nextval('referencias_referencia_id_seq'),
+        numero VARCHAR(100) NOT NULL,
+        fecha_pago TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        PRIMARY KEY (referencia_id, fecha_pago),
+        UNIQUE (numero, fecha_pago)
+    ) PARTITION BY RANGE (fecha_pago);
+
+    CREATE TABLE pago (
+        pago_id INTEGER NOT NULL DEFAULT nextval('pago_pago_id_seq'),
+        carrito_id INTEGER,
+        tipo_pago_id VARCHAR(20),
+        fecha_pago TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        referencia_id INTEGER,
+        estado_pago_id INTEGER,
+        PRIMARY KEY (pago_id, fecha_pago),
+        FOREIGN KEY (carrito_id) REFERENCES carrito(carrito_id) ON DELETE SET NULL,
+        FOREIGN KEY (tipo_pago_id) REFERENCES tipo_pago(tipo_pago),
+        FOREIGN KEY (estado_pago_id) REFERENCES estado_pago(estado_pago_id),
+        FOREIGN KEY (referencia_id, fecha_pago) REFERENCES referencias(referencia_id, fecha_pago)
+    ) PARTITION BY RANGE (fecha_pago);
+
+    CREATE TABLE pago_debito (
+        pago_debito_id INTEGER NOT NULL DEFAULT nextval('pago_debito_pago_debito_id_seq'),
+        pago_id INTEGER NOT NULL,
+        fecha_pago TIMESTAMP NOT NULL,
+        fecha_vencimiento DATE NOT NULL,
+        nombre_titular VARCHAR(200) NOT NULL,
+        numero_tarjeta VARCHAR(500) NOT NULL,
+        PRIMARY KEY (pago_debito_id, fecha_pago),
+        FOREIGN KEY (pago_id, fecha_pago) REFERENCES pago(pago_id, fecha_pago) ON DELETE CASCADE
+    ) PARTITION BY RANGE (fecha_pago);
+
+    CREATE TABLE pago_credito (
+        pago_credito_id INTEGER NOT NULL DEFAULT nextval('pago_credito_pago_credito_id_seq'),
+        pago_id INTEGER NOT NULL,
+        fecha_pago TIMESTAMP NOT NULL,
+        numero_de_cuotas INTEGER NOT NULL CHECK (numero_de_cuotas > 0),
+        nombre_titular VARCHAR(200) NOT NULL,
+        numero_tarjeta VARCHAR(500) NOT NULL,
+        fecha_vencimiento DATE NOT NULL,
+        PRIMARY KEY (pago_credito_id, fecha_pago),
+        FOREIGN KEY (pago_id, fecha_pago) REFERENCES pago(pago_id, fecha_pago) ON DELETE CASCADE
+    ) PARTITION BY RANGE (fecha_pago);
+
+    ALTER SEQUENCE referencias_referencia_id_seq OWNED BY referencias.referencia_id;
+    ALTER SEQUENCE pago_pago_id_seq OWNED BY pago.pago_id;
+    ALTER SEQUENCE pago_debito_pago_debito_id_seq OWNED BY pago_debito.pago_debito_id;
+    ALTER SEQUENCE pago_credito_pago_credito_id_seq OWNED BY pago_credito.pago_credito_id;
+
+    CREATE INDEX idx_pago_carrito ON pago(carrito_id);
+    CREATE INDEX idx_pago_referencia ON pago(referencia_id);
+    CREATE INDEX idx_pago_estado ON pago(estado_pago_id);
+    CREATE INDEX idx_pago_fecha ON pago(fecha_pago);
+    CREATE INDEX idx_pago_debito_pago ON pago_debito(pago_id);
+    CREATE INDEX idx_pago_credito_pago ON pago_credito(pago_id);
+
+    CREATE TABLE referencias_default PARTITION OF referencias DEFAULT;
+    CREATE TABLE pago_default PARTITION OF pago DEFAULT;
+    CREATE TABLE pago_debito_default PARTITION OF pago_debito DEFAULT;
+    CREATE TABLE pago_credito_default PARTITION OF pago_credito DEFAULT;
+
+    -- 3. Particiones mensuales desde el pago más antiguo hasta p_meses_adelante meses después del actual
+    UPDATE pago_legacy SET fecha_pago = LOCALTIMESTAMP WHERE fecha_pago IS NULL;
+    SELECT COALESCE(date_trunc('month', MIN(fecha_pago)), date_trunc('month', CURRENT_DATE))::date
+    INTO v_desde
+    FROM pago_legacy;
+    v_meses := (EXTRACT(YEAR FROM age(date_trunc('month', CURRENT_DATE), v_desde)) * 12
+            + EXTRACT(MONTH FROM age(date_trunc('month', CURRENT_DATE), v_desde)))::INTEGER
+            + 1 + p_meses_adelante;
+    PERFORM crear_particiones_pago(v_desde, v_meses);
+
+    -- 4. Copiar los datos; cada referencia y cada detalle toma la fecha de su pago
+    INSERT INTO referencias (referencia_id, numero, fecha_pago)
+    SELECT DISTINCT ON (r.referencia_id) r.referencia_id, r.numero, COALESCE(p.fecha_pago, LOCALTIMESTAMP)
+    FROM referencias_legacy r
+    LEFT JOIN pago_legacy p ON p.referencia_id = r.referencia_id
+    ORDER BY r.referencia_id, p.fecha_pago;
+
+    INSERT INTO pago (pago_id, carrito_id, tipo_pago_id, fecha_pago, referencia_id, estado_pago_id)
+    SELECT pago_id, carrito_id, tipo_pago_id, fecha_pago, referencia_id, estado_pago_id
+    FROM pago_legacy;
+
+    INSERT INTO pago_debito (pago_debito_id, pago_id, fecha_pago, fecha_vencimiento, nombre_titular, numero_tarjeta)
+    SELECT d.pago_debito_id, d.pago_id, p.fecha_pago, d.fecha_vencimiento, d.nombre_titular, d.numero_tarjeta
+    FROM pago_debito_legacy d
+    JOIN pago_legacy p ON p.pago_id = d.pago_id;
+
+    INSERT INTO pago_credito (pago_credito_id, pago_id, fecha_pago, numero_de_cuotas, nombre_titular,
+                              numero_tarjeta, fecha_vencimiento)
+    SELECT c.pago_credito_id, c.pago_id, p.fecha_pago, c.numero_de_cuotas, c.nombre_titular,
+           c.numero_tarjeta, c.fecha_vencimiento
+    FROM pago_credito_legacy c
+    JOIN pago_legacy p ON p.pago_id = c.pago_id;
+
+    -- 5. Eliminar las tablas anteriores
+    DROP TABLE pago_debito_legacy, pago_credito_legacy, pago_legacy, referencias_legacy;
+END;
+$$;
 
 -- ============================================
 -- DATOS INICIALES (SEED DATA)
@@ -302,8 +646,13 @@ INSERT INTO categorias (nombre, descripcion) VALUES
 COMMENT ON TABLE usuarios IS 'Almacena información de los usuarios del sistema';
 COMMENT ON TABLE productos IS 'Catálogo de productos disponibles';
 COMMENT ON TABLE carrito IS 'Carritos de compra de los usuarios';
-COMMENT ON TABLE pago IS 'Registro de pagos realizados';
+COMMENT ON TABLE pago IS 'Registro de pagos realizados (particionada por mes de fecha_pago)';
 COMMENT ON TABLE stock IS 'Inventario de productos';
+COMMENT ON TABLE ventas_diarias IS 'Agregado diario de ventas por tipo de pago (modelo de lectura)';
+COMMENT ON TABLE ventas_categoria_diarias IS 'Agregado diario de ventas por categoría (modelo de lectura)';
+COMMENT ON TABLE ventas_producto_diarias IS 'Agregado diario de ventas por producto (modelo de lectura)';
+COMMENT ON TABLE ventas_dias_reconstruidos IS 'Días de ventas recalculados por el rebuild; los incrementos tardíos de estos días se descartan';
+COMMENT ON TABLE lineas_pedido IS 'Snapshot de los productos cobrados en cada pago (historial de compras)';
 
 -- ============================================
 -- FIN DEL SCRIPT
@@ -384,3 +733,28 @@ CREATE INDEX idx_productos_carrito_referencia
 
 -- Comentario en la columna
 COMMENT ON COLUMN productos_carrito.numero_referencia IS 'UUID de la referencia de pago asociada al item del carrito';
+
+-- ============================================
+-- SECUENCIAS POOLED-LO (batching JDBC)
+-- Hibernate reserva bloques de 50 ids por llamada a la secuencia;
+-- el INCREMENT BY debe coincidir con allocationSize de las entidades.
+-- ============================================
+
+ALTER SEQUENCE documentos_documento_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_rol_id_seq INCREMENT BY 50;
+ALTER SEQUENCE estado_usuario_estado_usuario_id_seq INCREMENT BY 50;
+ALTER SEQUENCE categorias_categoria_id_seq INCREMENT BY 50;
+ALTER SEQUENCE estado_pago_estado_pago_id_seq INCREMENT BY 50;
+ALTER SEQUENCE usuarios_usuario_id_seq INCREMENT BY 50;
+ALTER SEQUENCE credenciales_credenciales_id_seq INCREMENT BY 50;
+ALTER SEQUENCE productos_producto_id_seq INCREMENT BY 50;
+ALTER SEQUENCE usuario_rol_usuario_rol_id_seq INCREMENT BY 50;
+ALTER SEQUENCE stock_stock_id_seq INCREMENT BY 50;
+ALTER SEQUENCE carrito_carrito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_pago_id_seq INCREMENT BY 50;
+ALTER SEQUENCE productos_carrito_productos_carrito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE referencias_referencia_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_debito_pago_debito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_credito_pago_credito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE idempotencia_pago_idempotencia_pago_id_seq INCREMENT BY 50;
+ALTER SEQUENCE lineas_pedido_linea_pedido_id_seq INCREMENT BY 50;
@@ -0,0 +1,156 @@
+package com.ecommerce.davivienda.config;
+
+import com.ecommerce.davivienda.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test del enrutamiento lectura/escritura con dos bases H2 embebidas (primario y réplica).
+ * Cada base tiene una fila con su nombre, así cada consulta revela a qué instancia fue.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long WINDOW_MS = 5000;
+    private static final String WHO_AM_I = "SELECT nombre FROM instancia";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    private ReadWriteRoutingDataSource routingDataSource;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = routing(database("primary"), database("replica"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+    }
+
+    @Test
+    void writeTransactionsGoToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+    }
+
+    @Test
+    void ownWritesAreReadFromPrimaryWithinWindow() {
+        authenticate("cliente@davivienda.com");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE instancia SET visitas = visitas + 1"));
+
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+
+        authenticate("otro@davivienda.com");
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+
+        authenticate("cliente@davivienda.com");
+        clock.addAndGet(WINDOW_MS);
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+    }
+
+    @Test
+    void anonymousWritePinsTheRestOfTheRequestToPrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE instancia SET visitas = visitas + 1"));
+
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+    }
+
+    @Test
+    void readFromPrimaryBypassesReplica() {
+        assertEquals("primary", readOnly.execute(status -> ReadWriteRoutingDataSource.readFromPrimary(
+                () -> jdbc.queryForObject(WHO_AM_I, String.class))));
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenReplicaIsUnavailable() {
+        routingDataSource = routing(database("primary"), new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/nada"));
+
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(WHO_AM_I, String.class)));
+        assertFalse(routingDataSource.isReplicaHealthy());
+
+        routingDataSource.checkReplicaHealth();
+        assertFalse(routingDataSource.isReplicaHealthy());
+    }
+
+    @Test
+    void healthCheckMarksReachableReplicaAsHealthy() {
+        routingDataSource.checkReplicaHealth();
+        assertTrue(routingDataSource.isReplicaHealthy());
+    }
+
+    @Test
+    void windowShorterThanMaxLagIsRejected() {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setMaxLagMs(10000);
+        properties.setReadYourWritesWindowMs(5000);
+
+        assertThrows(IllegalStateException.class, () -> new ReadWriteRoutingDataSource(
+                database("primary"), database("replica"), properties, new SimpleMeterRegistry(), clock::get));
+    }
+
+    private ReadWriteRoutingDataSource routing(DataSource primary, DataSource replica) {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setEnabled(true);
+        properties.setMaxLagMs(0);
+        properties.setReadYourWritesWindowMs(WINDOW_MS);
+
+        ReadWriteRoutingDataSource routing =
+                new ReadWriteRoutingDataSource(primary, replica, properties, new SimpleMeterRegistry(), clock::get);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        jdbc = new JdbcTemplate(dataSource);
+        return routing;
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS instancia");
+        jdbc.execute("CREATE TABLE instancia (nombre VARCHAR(20), visitas INT)");
+        jdbc.update("INSERT INTO instancia VALUES (?, 0)", name);
+        return dataSource;
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,213 @@
+package com.ecommerce.davivienda.entity;
+
+import com.ecommerce.davivienda.entity.cart.Cart;
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.payment.Payment;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.entity.product.Stock;
+import com.ecommerce.davivienda.entity.user.Role;
+import com.ecommerce.davivienda.entity.user.UserRole;
+import com.ecommerce.davivienda.repository.cart.CartItemRepository;
+import com.ecommerce.davivienda.repository.cart.CartRepository;
+import com.ecommerce.davivienda.repository.product.StockRepository;
+import com.ecommerce.davivienda.repository.user.UserRoleRepository;
+import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCartTransactionalService;
+import com.ecommerce.davivienda.service.cartitem.transactional.cart.CartItemCartTransactionalServiceImpl;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalService;
+import com.ecommerce.davivienda.service.stock.transactional.stock.StockStockTransactionalServiceImpl;
+import com.ecommerce.davivienda.service.user.transactional.role.UserRoleTransactionalService;
+import com.ecommerce.davivienda.service.user.transactional.role.UserRoleTransactionalServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test que verifica que las escrituras de varias filas se envían en lotes JDBC
+ * gracias a los ids por secuencia (pooled-lo) y hibernate.jdbc.batch_size.
+ * Usa una base H2 embebida y cuenta las sentencias preparadas por Hibernate, tanto con el
+ * EntityManager directo como a través de los servicios transaccionales que escriben en lote.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.default_schema=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JdbcBatchingStatementCountTest {
+
+    private static final int ROWS = 120;
+
+    /**
+     * Configuración mínima: entidades, los repositorios que usan los servicios probados y esos
+     * servicios, sin Feign ni seguridad.
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = {Role.class, Product.class, Cart.class, Payment.class})
+    @EnableJpaRepositories(
+            basePackageClasses = {StockRepository.class, CartRepository.class, UserRoleRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    StockRepository.class, CartRepository.class, CartItemRepository.class, UserRoleRepository.class
+            }))
+    @Import({
+            StockStockTransactionalServiceImpl.class,
+            CartItemCartTransactionalServiceImpl.class,
+            UserRoleTransactionalServiceImpl.class
+    })
+    static class JpaSliceConfig {
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StockStockTransactionalService stockTransactionalService;
+
+    @Autowired
+    private CartItemCartTransactionalService cartItemTransactionalService;
+
+    @Autowired
+    private UserRoleTransactionalService userRoleTransactionalService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void insertsAreBatched() {
+        List<Role> roles = IntStream.range(0, ROWS)
+                .mapToObj(i -> Role.builder().nombreRol("Rol " + i).build())
+                .toList();
+
+        roles.forEach(entityManager::persist);
+        entityManager.flush();
+
+        long prepared = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // 3 llamadas a la secuencia (allocationSize 50) + 3 lotes de INSERT
+        assertTrue(prepared <= 6, "Se esperaban como máximo 6 sentencias, se prepararon " + prepared);
+    }
+
+    @Test
+    void updatesAreBatched() {
+        List<Role> roles = IntStream.range(0, ROWS)
+                .mapToObj(i -> Role.builder().nombreRol("Rol " + i).build())
+                .toList();
+        roles.forEach(entityManager::persist);
+        entityManager.flush();
+        statistics.clear();
+
+        roles.forEach(role -> role.setNombreRol(role.getNombreRol() + " editado"));
+        entityManager.flush();
+
+        long prepared = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityUpdateCount());
+        // 3 lotes de UPDATE de 50, 50 y 20 filas
+        assertTrue(prepared <= 3, "Se esperaban como máximo 3 sentencias, se prepararon " + prepared);
+    }
+
+    @Test
+    void stockDecreaseBatchIsBatched() {
+        List<Product> products = persistProducts();
+        products.forEach(product -> entityManager.persist(
+                Stock.builder().productoId(product.getProductoId()).cantidad(10).build()));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Map<Integer, Integer> quantities = products.stream()
+                .collect(Collectors.toMap(Product::getProductoId, product -> 1));
+        stockTransactionalService.decreaseStockBatch(quantities);
+        entityManager.flush();
+
+        long prepared = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityUpdateCount());
+        // 1 SELECT ... IN + 3 lotes de UPDATE
+        assertTrue(prepared <= 4, "Se esperaban como máximo 4 sentencias, se prepararon " + prepared);
+    }
+
+    @Test
+    void cartItemsSaveAllIsBatched() {
+        List<Product> products = persistProducts();
+        UserRole userRole = persistUserRole(1);
+        Cart cart = Cart.builder().usuarioRolId(userRole.getUsuarioRolId()).build();
+        entityManager.persist(cart);
+        entityManager.flush();
+        statistics.clear();
+
+        List<CartItem> items = products.stream()
+                .map(product -> CartItem.builder().cart(cart).product(product).cantidad(1).build())
+                .toList();
+        cartItemTransactionalService.saveAllCartItems(items);
+        entityManager.flush();
+
+        long prepared = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // 3 llamadas a la secuencia + 3 lotes de INSERT
+        assertTrue(prepared <= 6, "Se esperaban como máximo 6 sentencias, se prepararon " + prepared);
+    }
+
+    @Test
+    void userRolesSaveAllIsBatched() {
+        Role role = Role.builder().nombreRol("Cliente").build();
+        entityManager.persist(role);
+        entityManager.flush();
+        statistics.clear();
+
+        List<UserRole> userRoles = IntStream.range(0, ROWS)
+                .mapToObj(i -> UserRole.builder().usuarioId(i + 1).role(role).build())
+                .toList();
+        userRoleTransactionalService.saveAllUserRoles(userRoles);
+        entityManager.flush();
+
+        long prepared = statistics.getPrepareStatementCount();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // 3 llamadas a la secuencia + 3 lotes de INSERT
+        assertTrue(prepared <= 6, "Se esperaban como máximo 6 sentencias, se prepararon " + prepared);
+    }
+
+    private List<Product> persistProducts() {
+        List<Product> products = IntStream.range(0, ROWS)
+                .mapToObj(i -> Product.builder().nombre("Producto " + i).valorUnitario(BigDecimal.TEN).build())
+                .toList();
+        products.forEach(entityManager::persist);
+        return products;
+    }
+
+    private UserRole persistUserRole(int usuarioId) {
+        Role role = Role.builder().nombreRol("Cliente").build();
+        entityManager.persist(role);
+        UserRole userRole = UserRole.builder().usuarioId(usuarioId).role(role).build();
+        entityManager.persist(userRole);
+        return userRole;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.davivienda.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.CODE_USER_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.ERROR_USER_NOT_FOUND;
+import static com.ecommerce.davivienda.constants.Constants.METRIC_ERROR_RESPONSES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica los sobres de error: status, código y mensaje de cada variante, reutilización solo
+ * para mensajes constantes y el JSON con el mismo formato que Response.
+ */
+class ErrorResponseFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorResponseFactory factory = new ErrorResponseFactory(meterRegistry);
+
+    @Test
+    void constantMessageEnvelopeCarriesStatusCodeAndMessageAndIsShared() {
+        ErrorEnvelope envelope = factory.failure(HttpStatus.NOT_FOUND, CODE_USER_NOT_FOUND, ERROR_USER_NOT_FOUND);
+
+        assertTrue(envelope.failure());
+        assertEquals(404, envelope.code());
+        assertEquals(CODE_USER_NOT_FOUND, envelope.errorCode());
+        assertEquals(ERROR_USER_NOT_FOUND, envelope.message());
+        assertSame(envelope, factory.failure(HttpStatus.NOT_FOUND, CODE_USER_NOT_FOUND, ERROR_USER_NOT_FOUND));
+        assertEquals(2, meterRegistry.get(METRIC_ERROR_RESPONSES)
+                .tag("errorCode", CODE_USER_NOT_FOUND).tag("status", "404").counter().count());
+    }
+
+    @Test
+    void dynamicMessageEnvelopeIsBuiltPerResponse() {
+        String message = "Pago 42 no encontrado";
+
+        ErrorEnvelope envelope = factory.failure(HttpStatus.BAD_REQUEST, CODE_PAYMENT_NOT_FOUND, message);
+
+        assertEquals(400, envelope.code());
+        assertEquals(CODE_PAYMENT_NOT_FOUND, envelope.errorCode());
+        assertEquals(message, envelope.message());
+        assertNotSame(envelope, factory.failure(HttpStatus.BAD_REQUEST, CODE_PAYMENT_NOT_FOUND, message));
+    }
+
+    @Test
+    void codePrefixIsAddedToTheMessage() {
+        ErrorEnvelope envelope = factory.failureWithCodePrefix(
+                HttpStatus.BAD_REQUEST, CODE_PAYMENT_NOT_FOUND, ERROR_USER_NOT_FOUND);
+
+        assertEquals(400, envelope.code());
+        assertEquals(CODE_PAYMENT_NOT_FOUND, envelope.errorCode());
+        assertEquals("[" + CODE_PAYMENT_NOT_FOUND + "] " + ERROR_USER_NOT_FOUND, envelope.message());
+    }
+
+    @Test
+    void envelopeSerializesLikeResponse() {
+        ErrorEnvelope envelope = factory.failure(HttpStatus.NOT_FOUND, CODE_USER_NOT_FOUND, ERROR_USER_NOT_FOUND);
+
+        JsonNode json = new ObjectMapper().valueToTree(envelope);
+
+        assertTrue(json.get("failure").asBoolean());
+        assertEquals(404, json.get("code").asInt());
+        assertEquals(CODE_USER_NOT_FOUND, json.get("errorCode").asText());
+        assertEquals(ERROR_USER_NOT_FOUND, json.get("message").asText());
+        assertTrue(json.hasNonNull("timestamp"));
+        assertEquals(5, json.size());
+    }
+}
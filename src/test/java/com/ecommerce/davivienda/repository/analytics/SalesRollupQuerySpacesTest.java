@@ -0,0 +1,108 @@
+package com.ecommerce.davivienda.repository.analytics;
+
+import com.ecommerce.davivienda.entity.analytics.DailySales;
+import com.ecommerce.davivienda.entity.product.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que las escrituras nativas de los agregados de ventas declaran su tabla como query space,
+ * de modo que un flush o un rebuild no vacía la región ecommerce.product de la caché de segundo nivel.
+ * Usa H2: el upsert (ON CONFLICT) es sintaxis de PostgreSQL, así que la región se comprueba con el
+ * borrado por rango del rebuild y el resto de escrituras se revisa por sus anotaciones.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.default_schema=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SalesRollupQuerySpacesTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    /**
+     * Configuración mínima: productos, agregados de ventas y sus repositorios.
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = {Product.class, DailySales.class})
+    @EnableJpaRepositories(basePackageClasses = DailySalesRepository.class)
+    static class JpaSliceConfig {
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyCategorySalesRepository dailyCategorySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Test
+    void productRegionSurvivesRollupWrites() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Product product = Product.builder().nombre("Producto cacheado").valorUnitario(BigDecimal.TEN).build();
+        transaction.executeWithoutResult(status -> entityManager.persist(product));
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, product.getProductoId()));
+
+        transaction.executeWithoutResult(status -> {
+            dailySalesRepository.deleteBetween(DAY, DAY);
+            dailyCategorySalesRepository.deleteBetween(DAY, DAY);
+            dailyProductSalesRepository.deleteBetween(DAY, DAY);
+        });
+
+        assertTrue(entityManagerFactory.getCache().contains(Product.class, product.getProductoId()));
+    }
+
+    @Test
+    void everyNativeRollupWriteDeclaresItsQuerySpace() {
+        List<Method> writes = Arrays.stream(new Class<?>[]{
+                        DailySalesRepository.class, DailyCategorySalesRepository.class, DailyProductSalesRepository.class})
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Modifying.class))
+                .toList();
+
+        assertFalse(writes.isEmpty());
+        for (Method write : writes) {
+            QueryHints hints = write.getAnnotation(QueryHints.class);
+            boolean declaresSpace = hints != null && Arrays.stream(hints.value())
+                    .map(QueryHint::name)
+                    .anyMatch(HibernateHints.HINT_NATIVE_SPACES::equals);
+            assertTrue(declaresSpace, write.getDeclaringClass().getSimpleName() + "." + write.getName()
+                    + " no declara su query space");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.davivienda.service.analytics.recorder;
+
+import com.ecommerce.davivienda.entity.cart.CartItem;
+import com.ecommerce.davivienda.entity.product.Category;
+import com.ecommerce.davivienda.entity.product.Product;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRollupDelta.DayKey;
+import com.ecommerce.davivienda.service.analytics.recorder.SalesRollupDelta.Totals;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica la acumulación de incrementos de los agregados de ventas: varios pagos del mismo día
+ * se suman en una sola clave y los importes coinciden con el cálculo del carrito.
+ */
+class SalesRollupDeltaTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    private final Category electronics = Category.builder().categoriaId(3).build();
+    private final Product phone = product(1, "100.00", "19.00", electronics);
+    private final Product cable = product(2, "9.99", "19.00", electronics);
+    private final Product book = product(3, "20.00", "0", null);
+
+    @Test
+    void samePaymentDayAndTypeAccumulatesInOneKey() {
+        SalesRollupDelta delta = new SalesRollupDelta();
+        delta.addPayment(DAY, "credito", List.of(item(phone, 1), item(cable, 3)));
+        delta.addPayment(DAY, "credito", List.of(item(cable, 1)));
+        delta.addPayment(DAY, "debito", List.of(item(book, 2)));
+
+        Totals credit = delta.getByPaymentType().get(new DayKey(DAY, "credito"));
+        assertEquals(2, credit.getPayments());
+        assertEquals(5, credit.getUnits());
+        // 100 + 4 * 9.99 = 139.96; IVA 19.00 + 4 * 1.90 = 26.60
+        assertEquals(new BigDecimal("139.96"), credit.getSubtotal());
+        assertEquals(new BigDecimal("26.60"), credit.getTax());
+        assertEquals(new BigDecimal("166.56"), credit.getTotal());
+
+        Totals debit = delta.getByPaymentType().get(new DayKey(DAY, "debito"));
+        assertEquals(1, debit.getPayments());
+        assertEquals(new BigDecimal("40.00"), debit.getTotal());
+    }
+
+    @Test
+    void categoriesAndProductsAreAggregatedPerDay() {
+        SalesRollupDelta delta = new SalesRollupDelta();
+        delta.addPayment(DAY, "credito", List.of(item(phone, 1), item(cable, 3), item(book, 1)));
+        delta.addPayment(DAY.plusDays(1), "credito", List.of(item(cable, 2)));
+
+        assertEquals(4, delta.getByCategory().get(new DayKey(DAY, 3)).getUnits());
+        assertEquals(1, delta.getByCategory().get(new DayKey(DAY, SalesRollupDelta.NO_CATEGORY_ID)).getUnits());
+        assertEquals(2, delta.getByProduct().get(new DayKey(DAY.plusDays(1), 2)).getUnits());
+        assertEquals(3, delta.getByProduct().get(new DayKey(DAY, 2)).getCategoryId());
+        assertEquals(2 + 3 + 4, delta.size());
+    }
+
+    @Test
+    void mergeAddsTotalsAndKeepsSourceIntact() {
+        SalesRollupDelta first = new SalesRollupDelta();
+        first.addPayment(DAY, "credito", List.of(item(phone, 1)));
+        SalesRollupDelta second = new SalesRollupDelta();
+        second.addPayment(DAY, "credito", List.of(item(phone, 2)));
+
+        first.merge(second);
+
+        Totals product = first.getByProduct().get(new DayKey(DAY, 1));
+        assertEquals(3, product.getUnits());
+        assertEquals(new BigDecimal("357.00"), product.getTotal());
+        assertEquals(2, first.getByPaymentType().get(new DayKey(DAY, "credito")).getPayments());
+        assertEquals(1, second.getByPaymentType().get(new DayKey(DAY, "credito")).getPayments());
+        assertTrue(new SalesRollupDelta().isEmpty());
+    }
+
+    @Test
+    void excludingDaysDropsEveryKeyOfThoseDays() {
+        SalesRollupDelta delta = new SalesRollupDelta();
+        delta.addPayment(DAY, "credito", List.of(item(phone, 1)));
+        delta.addPayment(DAY.plusDays(1), "debito", List.of(item(book, 2)));
+
+        SalesRollupDelta kept = delta.excludingDays(Set.of(DAY));
+
+        assertEquals(Set.of(DAY.plusDays(1)), kept.getDays());
+        assertEquals(3, kept.size());
+        assertEquals(new BigDecimal("40.00"), kept.getByProduct().get(new DayKey(DAY.plusDays(1), 3)).getTotal());
+        assertEquals(Set.of(DAY, DAY.plusDays(1)), delta.getDays());
+    }
+
+    private static Product product(int id, String price, String iva, Category category) {
+        return Product.builder()
+                .productoId(id)
+                .valorUnitario(new BigDecimal(price))
+                .iva(new BigDecimal(iva))
+                .categoria(category)
+                .build();
+    }
+
+    private static CartItem item(Product product, int quantity) {
+        return CartItem.builder().product(product).cantidad(quantity).build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.davivienda.service.payment.history;
+
+import com.ecommerce.davivienda.entity.payment.OrderLine;
+import com.ecommerce.davivienda.exception.payment.PaymentException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.ecommerce.davivienda.constants.Constants.CODE_PAYMENT_HISTORY_INVALID_CURSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifica que el cursor del historial conserva la posición exacta (microsegundos incluidos)
+ * y que un cursor manipulado se rechaza con ED-PAY-18.
+ */
+class PaymentHistoryCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        LocalDateTime paymentDate = LocalDateTime.of(2024, 5, 10, 14, 30, 5, 123_456_000);
+        OrderLine last = OrderLine.builder().orderLineId(4051).paymentDate(paymentDate).build();
+
+        PaymentHistoryCursor cursor = PaymentHistoryCursor.decode(PaymentHistoryCursor.encode(last));
+
+        assertEquals(paymentDate, cursor.getPaymentDate());
+        assertEquals(4051, cursor.getOrderLineId());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        PaymentException notBase64 = assertThrows(PaymentException.class, () -> PaymentHistoryCursor.decode("%%%"));
+        assertEquals(CODE_PAYMENT_HISTORY_INVALID_CURSOR, notBase64.getErrorCode());
+
+        assertThrows(PaymentException.class, () -> PaymentHistoryCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(PaymentException.class, () -> PaymentHistoryCursor.decode("MjAyNC0xMy0wMV8x"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.davivienda.service.payment.reference;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica el orden, la unicidad y el ancho de las referencias, que el instante de generación
+ * (clave de partición del pago) se recupera de la referencia y que las referencias de otro
+ * formato no se interpretan. El throughput y el llenado del índice frente a UUID se miden en
+ * {@code PaymentReferenceGeneratorBenchmark} (src/jmh).
+ */
+class PaymentReferenceGeneratorTest {
+
+    private static final long START_MILLIS = PaymentReferenceGenerator.EPOCH_MILLIS + 10_000;
+
+    @Test
+    void referencesAreMonotonicAndFixedWidth() {
+        // Reloj fijo durante 10 000 referencias: cubre el desborde de la secuencia (4096 por ms)
+        AtomicLong time = new AtomicLong(START_MILLIS);
+        PaymentReferenceGenerator generator = new PaymentReferenceGenerator(7, time::get);
+
+        String previous = "";
+        for (int i = 0; i < 20_000; i++) {
+            if (i == 10_000) {
+                time.addAndGet(1);
+            }
+            String reference = generator.nextReference();
+            assertEquals(13, reference.length());
+            assertTrue(reference.compareTo(previous) > 0, "Las referencias deben ser crecientes");
+            previous = reference;
+        }
+    }
+
+    @Test
+    void referencesStayMonotonicWhenClockMovesBackwards() {
+        AtomicLong time = new AtomicLong(START_MILLIS);
+        PaymentReferenceGenerator generator = new PaymentReferenceGenerator(1, time::get);
+
+        long first = generator.nextId();
+        time.addAndGet(-5_000);
+        long second = generator.nextId();
+
+        assertTrue(second > first, "Un retroceso del reloj no debe producir referencias menores");
+    }
+
+    @Test
+    void referencesAreUniqueAcrossThreadsAndNodes() throws Exception {
+        AtomicLong time = new AtomicLong(START_MILLIS);
+        PaymentReferenceGenerator nodeA = new PaymentReferenceGenerator(1, time::get);
+        PaymentReferenceGenerator nodeB = new PaymentReferenceGenerator(2, time::get);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                PaymentReferenceGenerator generator = t % 2 == 0 ? nodeA : nodeB;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        seen.add(generator.nextReference());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(80_000, seen.size(), "No debe haber referencias duplicadas");
+    }
+
+    @Test
+    void issuedAtRecoversGenerationInstant() {
+        long now = 1_730_000_000_123L;
+        PaymentReferenceGenerator generator = new PaymentReferenceGenerator(1023, () -> now);
+
+        Optional<LocalDateTime> issuedAt = PaymentReferenceGenerator.issuedAt(generator.nextReference());
+
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()), issuedAt.orElseThrow());
+    }
+
+    @Test
+    void referenceAtRoundTripsThroughIssuedAt() {
+        LocalDateTime issuedAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+        String reference = PaymentReferenceGenerator.referenceAt(issuedAt, 1023, 4095);
+
+        assertEquals(issuedAt, PaymentReferenceGenerator.issuedAt(reference).orElseThrow());
+    }
+
+    @Test
+    void foreignReferencesHaveNoInstant() {
+        assertTrue(PaymentReferenceGenerator.issuedAt("REF-2024-00001").isEmpty());
+        assertTrue(PaymentReferenceGenerator.issuedAt("ZZZZZZZZZZZZZ").isEmpty());
+        assertTrue(PaymentReferenceGenerator.issuedAt("0000000000O00").isEmpty());
+        assertTrue(PaymentReferenceGenerator.issuedAt(null).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.davivienda.service.recommendation.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifica la tabla de productos relacionados: vecinos ordenados por conteo (empate por ID menor),
+ * recorte a top-k y recálculo parcial con {@link RelatedProductsTable#withChanged}.
+ */
+class RelatedProductsTableTest {
+
+    @Test
+    void buildKeepsTopKNeighborsByCount() {
+        CoOccurrenceCounts counts = new CoOccurrenceCounts();
+        addCart(counts, 1, 2, 3);
+        addCart(counts, 1, 2);
+        addCart(counts, 1, 4);
+        addCart(counts, 1, 3);
+        addCart(counts, 1, 2, 5);
+
+        RelatedProductsTable table = RelatedProductsTable.build(counts, 3, 1);
+
+        assertEquals(5, table.productCount());
+        assertArrayEquals(new int[]{2, 3, 4}, table.relatedIds(1, 10));
+        assertArrayEquals(new int[]{3, 2, 1}, table.scores(1, 10));
+        assertArrayEquals(new int[]{2}, table.relatedIds(1, 1));
+        assertArrayEquals(new int[0], table.relatedIds(99, 10));
+    }
+
+    @Test
+    void minSupportFiltersRareNeighbors() {
+        CoOccurrenceCounts counts = new CoOccurrenceCounts();
+        addCart(counts, 1, 2);
+        addCart(counts, 1, 2);
+        addCart(counts, 1, 3);
+
+        RelatedProductsTable table = RelatedProductsTable.build(counts, 10, 2);
+
+        assertArrayEquals(new int[]{2}, table.relatedIds(1, 10));
+        assertArrayEquals(new int[0], table.relatedIds(3, 10));
+    }
+
+    @Test
+    void withChangedRecomputesOnlyChangedRows() {
+        CoOccurrenceCounts counts = new CoOccurrenceCounts();
+        addCart(counts, 1, 2);
+        RelatedProductsTable table = RelatedProductsTable.build(counts, 10, 1);
+
+        addCart(counts, 1, 3);
+        addCart(counts, 1, 3);
+        RelatedProductsTable updated = table.withChanged(counts, new int[]{1, 3}, 10, 1);
+
+        assertEquals(3, updated.productCount());
+        assertArrayEquals(new int[]{3, 2}, updated.relatedIds(1, 10));
+        assertArrayEquals(new int[]{1}, updated.relatedIds(3, 10));
+        assertArrayEquals(new int[]{1}, updated.relatedIds(2, 10));
+        // La versión anterior no cambia
+        assertArrayEquals(new int[]{2}, table.relatedIds(1, 10));
+    }
+
+    private static void addCart(CoOccurrenceCounts counts, int... productIds) {
+        counts.addCart(productIds, productIds.length);
+    }
+}
@@ -4,6 +4,20 @@
 -- PostgreSQL - Generación de datos realistas
 -- ============================================
 
+-- Los datos usan ids consecutivos (1, 2, 3...). Las secuencias trabajan con
+-- INCREMENT BY 50 (pooled-lo); se bajan a 1 durante la carga y se restauran al final.
+ALTER SEQUENCE credenciales_credenciales_id_seq INCREMENT BY 1;
+ALTER SEQUENCE usuarios_usuario_id_seq INCREMENT BY 1;
+ALTER SEQUENCE usuario_rol_usuario_rol_id_seq INCREMENT BY 1;
+ALTER SEQUENCE productos_producto_id_seq INCREMENT BY 1;
+ALTER SEQUENCE stock_stock_id_seq INCREMENT BY 1;
+ALTER SEQUENCE carrito_carrito_id_seq INCREMENT BY 1;
+ALTER SEQUENCE productos_carrito_productos_carrito_id_seq INCREMENT BY 1;
+ALTER SEQUENCE referencias_referencia_id_seq INCREMENT BY 1;
+ALTER SEQUENCE pago_pago_id_seq INCREMENT BY 1;
+ALTER SEQUENCE pago_debito_pago_debito_id_seq INCREMENT BY 1;
+ALTER SEQUENCE pago_credito_pago_credito_id_seq INCREMENT BY 1;
+
 -- ============================================
 -- 1. CREDENCIALES (20 usuarios)
 -- ============================================
@@ -204,17 +218,23 @@ INSERT INTO productos_carrito (carrito_id, producto_id, cantidad) VALUES
 -- 8. REFERENCIAS (10 referencias de pago)
 -- ============================================
 
-INSERT INTO referencias (numero) VALUES
-    ('REF-2024-00001'),
-    ('REF-2024-00002'),
-    ('REF-2024-00003'),
-    ('REF-2024-00004'),
-    ('REF-2024-00005'),
-    ('REF-2024-00006'),
-    ('REF-2024-00007'),
-    ('REF-2024-00008'),
-    ('REF-2024-00009'),
-    ('REF-2024-00010');
+-- Las tablas de pago están particionadas por mes de fecha_pago: se crea el mes de los datos.
+-- Con la retención por defecto (payment.partitioning.retention-months) el job de mantenimiento
+-- archiva este mes al iniciar la aplicación; usar retention-months: 0 para conservarlo.
+SELECT crear_particiones_pago(DATE '2024-06-01', 1);
+
+-- La referencia lleva la fecha de su pago (misma partición)
+INSERT INTO referencias (numero, fecha_pago) VALUES
+    ('REF-2024-00001', '2024-06-01 15:30:00'),
+    ('REF-2024-00002', '2024-06-02 10:15:00'),
+    ('REF-2024-00003', '2024-06-03 14:20:00'),
+    ('REF-2024-00004', '2024-06-04 11:45:00'),
+    ('REF-2024-00005', '2024-06-05 16:10:00'),
+    ('REF-2024-00006', '2024-06-06 09:30:00'),
+    ('REF-2024-00007', '2024-06-07 13:50:00'),
+    ('REF-2024-00008', '2024-06-08 12:25:00'),
+    ('REF-2024-00009', '2024-06-09 15:40:00'),
+    ('REF-2024-00010', '2024-06-10 10:55:00');
 
 -- ============================================
 -- 9. PAGOS (10 pagos realizados)
@@ -236,28 +256,41 @@ INSERT INTO pago (carrito_id, tipo_pago_id, fecha_pago, referencia_id, estado_pa
 -- 10. PAGOS DÉBITO (Detalles de pagos con débito)
 -- ============================================
 
-INSERT INTO pago_debito (pago_id, fecha_vencimiento, nombre_titular, numero_tarjeta) VALUES
-    (2, '2025-12-31', 'Juan Rodríguez Silva', '4532-****-****-1234'),
-    (4, '2026-03-31', 'Carlos López Fernández', '4532-****-****-5678'),
-    (6, '2025-09-30', 'Pedro Sánchez Díaz', '4532-****-****-9012'),
-    (8, '2026-01-31', 'Diego Torres Castro', '4532-****-****-3456'),
-    (10, '2025-11-30', 'Andrés Morales Herrera', '4532-****-****-7890');
+INSERT INTO pago_debito (pago_id, fecha_pago, fecha_vencimiento, nombre_titular, numero_tarjeta) VALUES
+    (2, '2024-06-02 10:15:00', '2025-12-31', 'Juan Rodríguez Silva', '4532-****-****-1234'),
+    (4, '2024-06-04 11:45:00', '2026-03-31', 'Carlos López Fernández', '4532-****-****-5678'),
+    (6, '2024-06-06 09:30:00', '2025-09-30', 'Pedro Sánchez Díaz', '4532-****-****-9012'),
+    (8, '2024-06-08 12:25:00', '2026-01-31', 'Diego Torres Castro', '4532-****-****-3456'),
+    (10, '2024-06-10 10:55:00', '2025-11-30', 'Andrés Morales Herrera', '4532-****-****-7890');
 
 -- ============================================
 -- 11. PAGOS CRÉDITO (Detalles de pagos con crédito)
 -- ============================================
 
-INSERT INTO pago_credito (pago_id, numero_de_cuotas, nombre_titular, numero_tarjeta, fecha_vencimiento) VALUES
-    (1, 12, 'María García López', '5425-****-****-2345', '2026-08-31'),
-    (3, 6, 'Ana Martínez Ruiz', '5425-****-****-6789', '2025-10-31'),
-    (5, 18, 'Laura Fernández Gómez', '5425-****-****-0123', '2026-06-30'),
-    (7, 12, 'Sofía Ramírez Torres', '5425-****-****-4567', '2025-12-31'),
-    (9, 24, 'Valentina Castro Morales', '5425-****-****-8901', '2026-04-30');
+INSERT INTO pago_credito (pago_id, fecha_pago, numero_de_cuotas, nombre_titular, numero_tarjeta, fecha_vencimiento) VALUES
+    (1, '2024-06-01 15:30:00', 12, 'María García López', '5425-****-****-2345', '2026-08-31'),
+    (3, '2024-06-03 14:20:00', 6, 'Ana Martínez Ruiz', '5425-****-****-6789', '2025-10-31'),
+    (5, '2024-06-05 16:10:00', 18, 'Laura Fernández Gómez', '5425-****-****-0123', '2026-06-30'),
+    (7, '2024-06-07 13:50:00', 12, 'Sofía Ramírez Torres', '5425-****-****-4567', '2025-12-31'),
+    (9, '2024-06-09 15:40:00', 24, 'Valentina Castro Morales', '5425-****-****-8901', '2026-04-30');
 
 -- ============================================
 -- FIN DEL SCRIPT DE DATOS DE PRUEBA
 -- ============================================
 
+-- Restaurar el incremento de las secuencias (allocationSize = 50)
+ALTER SEQUENCE credenciales_credenciales_id_seq INCREMENT BY 50;
+ALTER SEQUENCE usuarios_usuario_id_seq INCREMENT BY 50;
+ALTER SEQUENCE usuario_rol_usuario_rol_id_seq INCREMENT BY 50;
+ALTER SEQUENCE productos_producto_id_seq INCREMENT BY 50;
+ALTER SEQUENCE stock_stock_id_seq INCREMENT BY 50;
+ALTER SEQUENCE carrito_carrito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE productos_carrito_productos_carrito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE referencias_referencia_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_pago_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_debito_pago_debito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE pago_credito_pago_credito_id_seq INCREMENT BY 50;
+
 -- Verificación de datos insertados
 SELECT 
     (SELECT COUNT(*) FROM credenciales) as credenciales,